@@ -0,0 +1,8 @@
+-- 초기화가 끝난 뒤 서버가 다시 뜨면 primary 를 따라가기 시작한다
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
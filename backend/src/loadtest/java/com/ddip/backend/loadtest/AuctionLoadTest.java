@@ -0,0 +1,251 @@
+package com.ddip.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 부하 발생기 (./gradlew loadTest)
+ * - loadtest 프로필(H2 + 로컬 Redis)로 백엔드를 별도 프로세스로 띄우고 fixture 파일이 생길 때까지 기다린다
+ * - 입찰자/관전자 웹소켓을 가상 스레드로 수천 개 열어 경매 방에 고르게 나눠 넣는다
+ * - steady / sniping 패턴으로 입찰하고 처리량과 bid-to-broadcast 지연 백분위를 JSON 으로 남긴다
+ *
+ * 예) docker compose up -d redis && ./gradlew loadTest -Ploadtest.bidders=3000 -Ploadtest.pattern=sniping
+ */
+public class AuctionLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration BACKEND_STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final LoadTestOptions options;
+    private final LoadTestMetrics metrics = new LoadTestMetrics();
+
+    private AuctionLoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Process backend = options.externalBackend() ? null : startBackend(options);
+
+        try {
+            JsonNode fixture = awaitFixture(options.fixtureFile(), backend);
+            Map<String, Object> report = new AuctionLoadTest(options).run(fixture);
+
+            Files.createDirectories(options.reportFile().toAbsolutePath().getParent());
+            OBJECT_MAPPER.writeValue(options.reportFile().toFile(), report);
+            System.out.println(OBJECT_MAPPER.writeValueAsString(report));
+            System.out.println("Report written to " + options.reportFile().toAbsolutePath());
+        } finally {
+            if (backend != null) {
+                backend.destroy();
+                if (!backend.waitFor(20, TimeUnit.SECONDS)) {
+                    backend.destroyForcibly();
+                }
+            }
+        }
+        System.exit(0);
+    }
+
+    private Map<String, Object> run(JsonNode fixture) throws Exception {
+        long startPrice = fixture.path("startPrice").asLong();
+        long bidStep = fixture.path("bidStep").asLong();
+        long endAtMs = fixture.path("endAtEpochMs").asLong();
+        String emailFormat = fixture.path("emailFormat").asText();
+        int users = fixture.path("users").asInt();
+        long firstUserId = fixture.path("firstUserId").asLong();
+
+        List<AuctionView> auctions = new ArrayList<>();
+        fixture.path("auctionIds").forEach(id -> auctions.add(new AuctionView(id.asLong(), startPrice, bidStep)));
+        if (auctions.isEmpty() || users < options.bidders() + options.watchers()) {
+            throw new IllegalStateException("Fixture does not have enough auctions/users: " + fixture);
+        }
+
+        SecretKey key = Keys.hmacShaKeyFor(options.jwtSecret().getBytes());
+        URI socketUri = URI.create(options.httpBaseUrl().replaceFirst("^http", "ws") + "/ws/auctions");
+
+        // HttpClient 가 내부 작업을 계속 제출하므로 try-with-resources(close = 작업 종료 대기) 대신 shutdownNow
+        ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            HttpClient httpClient = HttpClient.newBuilder().executor(virtualThreads).build();
+
+            List<SocketClient> bidders = connectAll(httpClient, socketUri, key, emailFormat, firstUserId, auctions,
+                    0, options.bidders());
+            List<SocketClient> watchers = connectAll(httpClient, socketUri, key, emailFormat, firstUserId, auctions,
+                    options.bidders(), options.watchers());
+            System.out.printf("Connected %d clients (%d failed)%n", metrics.connected.sum(), metrics.connectFailures.sum());
+
+            long phaseStartMs = options.sniping()
+                    ? endAtMs - TimeUnit.SECONDS.toMillis(options.durationSeconds())
+                    : System.currentTimeMillis();
+            long phaseEndMs = options.sniping()
+                    ? endAtMs
+                    : phaseStartMs + TimeUnit.SECONDS.toMillis(options.durationSeconds());
+            if (phaseStartMs < System.currentTimeMillis()) {
+                System.out.println("WARN: setup took longer than setup-seconds, bidding phase is shorter than requested");
+            }
+
+            sleepUntil(phaseStartMs);
+            long measuredFrom = System.nanoTime();
+
+            List<Future<?>> loops = new ArrayList<>();
+            for (SocketClient bidder : bidders) {
+                loops.add(virtualThreads.submit(() -> bidLoop(bidder, phaseEndMs)));
+            }
+            for (Future<?> loop : loops) {
+                loop.get();
+            }
+            long measuredNanos = System.nanoTime() - measuredFrom;
+
+            // 마지막 브로드캐스트가 관전자에게 도착할 시간을 준다
+            Thread.sleep(1_000);
+            bidders.forEach(SocketClient::close);
+            watchers.forEach(SocketClient::close);
+
+            return metrics.report(options, measuredNanos);
+        } finally {
+            virtualThreads.shutdownNow();
+        }
+    }
+
+    private List<SocketClient> connectAll(HttpClient httpClient, URI uri, SecretKey key, String emailFormat, long firstUserId,
+                                          List<AuctionView> auctions, int firstUser, int count) throws Exception {
+        Semaphore handshakes = new Semaphore(options.connectConcurrency());
+        List<SocketClient> clients = new ArrayList<>(count);
+        List<Future<SocketClient>> futures = new ArrayList<>(count);
+
+        try (ExecutorService connectors = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int userIndex = firstUser + i;
+                AuctionView auction = auctions.get(userIndex % auctions.size());
+
+                futures.add(connectors.submit(() -> {
+                    SocketClient client = new SocketClient(firstUserId + userIndex, auction, metrics);
+                    handshakes.acquire();
+                    try {
+                        client.connect(httpClient, uri, token(key, emailFormat.formatted(userIndex)), CONNECT_TIMEOUT);
+                        metrics.connected.increment();
+                        return client;
+                    } catch (Exception e) {
+                        metrics.connectFailures.increment();
+                        return null;
+                    } finally {
+                        handshakes.release();
+                    }
+                }));
+            }
+            for (Future<SocketClient> future : futures) {
+                SocketClient client = future.get();
+                if (client != null) {
+                    clients.add(client);
+                }
+            }
+        }
+        return clients;
+    }
+
+    private Void bidLoop(SocketClient bidder, long phaseEndMs) throws InterruptedException {
+        AuctionView auction = bidder.getAuction();
+
+        while (System.currentTimeMillis() < phaseEndMs && !auction.isEnded()) {
+            metrics.attempts.increment();
+            String result = bidder.bid(auction.nextAmount(), options.bidTimeoutMs());
+
+            switch (result) {
+                case SocketClient.ACCEPTED -> metrics.accepted.increment();
+                case SocketClient.TIMEOUT -> metrics.timeouts.increment();
+                default -> metrics.onRejected(result);
+            }
+            if ("AUCTION_ENDED".equals(result)) {
+                break;
+            }
+
+            // sniping 은 마감 직전 구간에서 쉬지 않고 입찰한다
+            if (!options.sniping() && options.bidIntervalMs() > 0) {
+                long jitter = ThreadLocalRandom.current().nextLong(options.bidIntervalMs() / 2 + 1);
+                Thread.sleep(options.bidIntervalMs() - options.bidIntervalMs() / 4 + jitter);
+            }
+        }
+        return null;
+    }
+
+    private static String token(SecretKey key, String email) {
+        return Jwts.builder()
+                .setSubject(email)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static Process startBackend(LoadTestOptions options) throws Exception {
+        if (options.backendClasspath() == null) {
+            throw new IllegalStateException("backend-classpath is required unless base-url is given");
+        }
+        Files.deleteIfExists(options.fixtureFile());
+        Path log = options.fixtureFile().resolveSibling("backend.log");
+        Files.createDirectories(log.toAbsolutePath().getParent());
+
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = List.of(
+                java, "-cp", options.backendClasspath(), "com.ddip.backend.DdipApplication",
+                "--spring.profiles.active=loadtest",
+                "--server.port=" + options.port(),
+                "--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                "--jwt.secret=" + options.jwtSecret(),
+                "--loadtest.users=" + (options.bidders() + options.watchers()),
+                "--loadtest.auctions=" + options.auctions(),
+                "--loadtest.auction-duration-seconds=" + options.auctionDurationSeconds(),
+                "--loadtest.fixture-file=" + options.fixtureFile().toAbsolutePath()
+        );
+
+        System.out.println("Starting backend, log: " + log.toAbsolutePath());
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private static JsonNode awaitFixture(Path fixtureFile, Process backend) throws Exception {
+        long deadline = System.nanoTime() + BACKEND_STARTUP_TIMEOUT.toNanos();
+
+        while (!Files.exists(fixtureFile)) {
+            if (backend != null && !backend.isAlive()) {
+                throw new IllegalStateException("Backend exited with code " + backend.exitValue() + ", see backend.log");
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Timed out waiting for " + fixtureFile);
+            }
+            Thread.sleep(500);
+        }
+        return OBJECT_MAPPER.readTree(fixtureFile.toFile());
+    }
+
+    private static void sleepUntil(long epochMs) throws InterruptedException {
+        long remaining = epochMs - System.currentTimeMillis();
+        if (remaining > 0) {
+            Thread.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ddip.backend.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트들이 공유하는 경매 한 건의 현재가 (수신한 이벤트 기준)
+ */
+final class AuctionView {
+
+    private final long auctionId;
+    private final long startPrice;
+    private final long bidStep;
+    // 입찰이 없으면 0
+    private final AtomicLong currentPrice = new AtomicLong();
+    private volatile boolean ended;
+
+    AuctionView(long auctionId, long startPrice, long bidStep) {
+        this.auctionId = auctionId;
+        this.startPrice = startPrice;
+        this.bidStep = bidStep;
+    }
+
+    long getAuctionId() {
+        return auctionId;
+    }
+
+    long nextAmount() {
+        long price = currentPrice.get();
+        return price == 0 ? startPrice : price + bidStep;
+    }
+
+    void onPrice(long price) {
+        currentPrice.accumulateAndGet(price, Math::max);
+    }
+
+    boolean isEnded() {
+        return ended;
+    }
+
+    void markEnded() {
+        ended = true;
+    }
+}
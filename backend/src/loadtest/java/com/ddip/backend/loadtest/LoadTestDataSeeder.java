@@ -0,0 +1,113 @@
+package com.ddip.backend.loadtest;
+
+import com.ddip.backend.dto.enums.AuctionStatus;
+import com.ddip.backend.dto.enums.Role;
+import com.ddip.backend.entity.Auction;
+import com.ddip.backend.entity.User;
+import com.ddip.backend.repository.AuctionRepository;
+import com.ddip.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * loadtest 프로필 전용 데이터 준비
+ * - 입찰자 계정과 경매를 만든 뒤 fixture 파일을 쓴다. 부하 발생기는 이 파일이 생기면 백엔드가 준비된 것으로 본다
+ * - 운영 jar 에는 포함되지 않는다 (loadtest 소스셋)
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    static final String EMAIL_FORMAT = "loadtest-%d@ddip.local";
+    static final long START_PRICE = 1_000L;
+    static final long BID_STEP = 100L;
+
+    private final UserRepository userRepository;
+    private final AuctionRepository auctionRepository;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+
+    @Value("${loadtest.users:1000}")
+    private int users;
+
+    @Value("${loadtest.auctions:10}")
+    private int auctions;
+
+    @Value("${loadtest.auction-duration-seconds:120}")
+    private long auctionDurationSeconds;
+
+    @Value("${loadtest.fixture-file}")
+    private Path fixtureFile;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        // 로그인은 하지 않으므로 해시는 한 번만 계산해 재사용
+        String password = passwordEncoder.encode("loadtest");
+
+        List<User> seeded = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            seeded.add(User.builder()
+                    .email(EMAIL_FORMAT.formatted(i))
+                    .password(password)
+                    .username("loadtest" + i)
+                    .nickname("bidder" + i)
+                    .provider("LOCAL")
+                    .phoneNumber("010" + String.format("%08d", i))
+                    .role(Role.USER)
+                    .isActive(true)
+                    .build());
+        }
+        userRepository.saveAll(seeded);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endAt = now.plusSeconds(auctionDurationSeconds);
+        List<Long> auctionIds = new ArrayList<>(auctions);
+        for (int i = 0; i < auctions; i++) {
+            Auction auction = auctionRepository.save(Auction.builder()
+                    .seller(seeded.get(0))
+                    .title("loadtest auction " + i)
+                    .startPrice(START_PRICE)
+                    .currentPrice(START_PRICE)
+                    .bidStep(BID_STEP)
+                    .status(AuctionStatus.RUNNING)
+                    .startAt(now)
+                    .endAt(endAt)
+                    .build());
+            auctionIds.add(auction.getId());
+        }
+
+        Files.createDirectories(fixtureFile.toAbsolutePath().getParent());
+        Path temp = fixtureFile.resolveSibling(fixtureFile.getFileName() + ".tmp");
+        objectMapper.writeValue(temp.toFile(), Map.of(
+                "users", users,
+                // IDENTITY + 빈 DB 에 순서대로 저장하므로 i 번째 사용자 id = firstUserId + i
+                "firstUserId", seeded.get(0).getId(),
+                "emailFormat", EMAIL_FORMAT,
+                "auctionIds", auctionIds,
+                "startPrice", START_PRICE,
+                "bidStep", BID_STEP,
+                "endAtEpochMs", endAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        ));
+        Files.move(temp, fixtureFile, StandardCopyOption.ATOMIC_MOVE);
+
+        log.warn("Seeded {} users and {} auctions for load test", users, auctions);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ddip.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 측정값. 기록은 모두 lock-free (HdrHistogram Recorder, LongAdder)
+ */
+final class LoadTestMetrics {
+
+    // 입찰 전송 → 방 안의 각 수신자가 bid:placed 를 받기까지 (입찰자 본인 포함)
+    private final Recorder bidToBroadcast = new Recorder(3);
+    // 입찰 전송 → 입찰자 본인이 자신의 bid:placed 를 받기까지
+    private final Recorder bidderConfirm = new Recorder(3);
+
+    private final Map<BidKey, Long> sentAt = new ConcurrentHashMap<>();
+
+    final LongAdder attempts = new LongAdder();
+    final LongAdder accepted = new LongAdder();
+    final LongAdder timeouts = new LongAdder();
+    final LongAdder broadcastsReceived = new LongAdder();
+    final LongAdder connected = new LongAdder();
+    final LongAdder connectFailures = new LongAdder();
+    final Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+
+    void markSent(long auctionId, long bidderId, long amount) {
+        sentAt.put(new BidKey(auctionId, bidderId, amount), System.nanoTime());
+    }
+
+    void onBroadcast(long auctionId, long bidderId, long amount, boolean own) {
+        long received = System.nanoTime();
+        broadcastsReceived.increment();
+
+        Long sent = sentAt.get(new BidKey(auctionId, bidderId, amount));
+        if (sent == null) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(received - sent);
+        bidToBroadcast.recordValue(micros);
+        if (own) {
+            bidderConfirm.recordValue(micros);
+        }
+    }
+
+    void onRejected(String code) {
+        rejected.computeIfAbsent(code, c -> new LongAdder()).increment();
+    }
+
+    Map<String, Object> report(LoadTestOptions options, long measuredNanos) {
+        double seconds = measuredNanos / 1_000_000_000.0;
+
+        Map<String, Object> rejectedCounts = new LinkedHashMap<>();
+        rejected.forEach((code, count) -> rejectedCounts.put(code, count.sum()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("pattern", options.pattern());
+        report.put("bidders", options.bidders());
+        report.put("watchers", options.watchers());
+        report.put("auctions", options.auctions());
+        report.put("connected", connected.sum());
+        report.put("connectFailures", connectFailures.sum());
+        report.put("measuredSeconds", seconds);
+        report.put("bidAttempts", attempts.sum());
+        report.put("bidsAccepted", accepted.sum());
+        report.put("bidTimeouts", timeouts.sum());
+        report.put("bidsRejected", rejectedCounts);
+        report.put("attemptsPerSecond", attempts.sum() / seconds);
+        report.put("acceptedPerSecond", accepted.sum() / seconds);
+        report.put("broadcastsReceived", broadcastsReceived.sum());
+        report.put("broadcastsPerSecond", broadcastsReceived.sum() / seconds);
+        report.put("bidToBroadcastMicros", percentiles(bidToBroadcast.getIntervalHistogram()));
+        report.put("bidderConfirmMicros", percentiles(bidderConfirm.getIntervalHistogram()));
+        return report;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getTotalCount());
+        values.put("mean", histogram.getMean());
+        values.put("p50", histogram.getValueAtPercentile(50));
+        values.put("p90", histogram.getValueAtPercentile(90));
+        values.put("p99", histogram.getValueAtPercentile(99));
+        values.put("p999", histogram.getValueAtPercentile(99.9));
+        values.put("max", histogram.getMaxValue());
+        return values;
+    }
+
+    private record BidKey(long auctionId, long bidderId, long amount) {
+    }
+}
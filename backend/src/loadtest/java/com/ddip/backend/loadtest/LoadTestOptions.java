@@ -0,0 +1,96 @@
+package com.ddip.backend.loadtest;
+
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * --key=value 형태 인자. ./gradlew loadTest -Ploadtest.bidders=2000 처럼 넘기면 Gradle 이 변환한다.
+ *
+ * @param baseUrl             지정하면 백엔드를 띄우지 않고 이미 떠 있는 서버를 대상으로 한다 (fixtureFile, jwtSecret 필요)
+ * @param pattern             steady: 구간 내내 일정 간격 입찰 / sniping: 마감 직전 구간에 몰아서 입찰
+ * @param durationSeconds     steady 측정 구간 길이, sniping 이면 마감 전 입찰 구간 길이
+ * @param setupSeconds        접속/입장에 허용하는 시간. 경매 마감 시각 계산에 쓰인다
+ * @param virtualThreads      띄우는 백엔드의 spring.threads.virtual.enabled. 같은 패턴을 둘 다 돌려 보고서를 비교한다
+ */
+record LoadTestOptions(
+        String baseUrl,
+        int port,
+        int bidders,
+        int watchers,
+        int auctions,
+        String pattern,
+        long durationSeconds,
+        long setupSeconds,
+        long bidIntervalMs,
+        long bidTimeoutMs,
+        int connectConcurrency,
+        boolean virtualThreads,
+        String backendClasspath,
+        Path fixtureFile,
+        Path reportFile,
+        String jwtSecret
+) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String pattern = values.getOrDefault("pattern", "steady");
+        boolean virtualThreads = Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false"));
+        if (!pattern.equals("steady") && !pattern.equals("sniping")) {
+            throw new IllegalArgumentException("pattern must be steady or sniping: " + pattern);
+        }
+
+        return new LoadTestOptions(
+                values.get("base-url"),
+                Integer.parseInt(values.getOrDefault("port", "18080")),
+                Integer.parseInt(values.getOrDefault("bidders", "1000")),
+                Integer.parseInt(values.getOrDefault("watchers", "2000")),
+                Integer.parseInt(values.getOrDefault("auctions", "10")),
+                pattern,
+                Long.parseLong(values.getOrDefault("duration-seconds", "60")),
+                Long.parseLong(values.getOrDefault("setup-seconds", "60")),
+                Long.parseLong(values.getOrDefault("bid-interval-ms", "1000")),
+                Long.parseLong(values.getOrDefault("bid-timeout-ms", "5000")),
+                Integer.parseInt(values.getOrDefault("connect-concurrency", "200")),
+                virtualThreads,
+                values.getOrDefault("backend-classpath", System.getProperty("loadtest.backend-classpath")),
+                Path.of(values.getOrDefault("fixture-file", "build/loadtest/fixture.json")),
+                Path.of(values.getOrDefault("report-file",
+                        "build/loadtest/report-" + pattern + (virtualThreads ? "-virtual" : "") + ".json")),
+                values.getOrDefault("jwt-secret", randomSecret())
+        );
+    }
+
+    boolean externalBackend() {
+        return baseUrl != null;
+    }
+
+    boolean sniping() {
+        return pattern.equals("sniping");
+    }
+
+    String httpBaseUrl() {
+        return externalBackend() ? baseUrl : "http://localhost:" + port;
+    }
+
+    long auctionDurationSeconds() {
+        // steady 는 측정이 끝날 때까지 경매가 닫히지 않도록 여유를 둔다
+        return setupSeconds + durationSeconds + (sniping() ? 0 : 30);
+    }
+
+    private static String randomSecret() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
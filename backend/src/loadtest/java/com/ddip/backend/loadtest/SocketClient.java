@@ -0,0 +1,167 @@
+package com.ddip.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 경매 방에 입장한 웹소켓 클라이언트 한 개 (입찰자 또는 관전자)
+ * - 입찰자는 한 번에 하나의 입찰만 보내고, 자신의 bid:placed 또는 bid:failed 를 받을 때까지 기다린다
+ */
+final class SocketClient implements WebSocket.Listener {
+
+    static final String ACCEPTED = "ACCEPTED";
+    static final String TIMEOUT = "TIMEOUT";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final long userId;
+    private final AuctionView auction;
+    private final LoadTestMetrics metrics;
+    private final StringBuilder partial = new StringBuilder();
+    private final CompletableFuture<Void> joined = new CompletableFuture<>();
+    private final ReentrantLock sendLock = new ReentrantLock();
+
+    private volatile WebSocket webSocket;
+    private volatile CompletableFuture<String> pending;
+    private volatile long pendingAmount;
+
+    SocketClient(long userId, AuctionView auction, LoadTestMetrics metrics) {
+        this.userId = userId;
+        this.auction = auction;
+        this.metrics = metrics;
+    }
+
+    AuctionView getAuction() {
+        return auction;
+    }
+
+    void connect(HttpClient httpClient, URI uri, String token, Duration timeout) throws Exception {
+        webSocket = httpClient.newWebSocketBuilder()
+                .header("Authorization", "Bearer " + token)
+                .connectTimeout(timeout)
+                .buildAsync(uri, this)
+                .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        send("{\"type\":\"auction:join\",\"auctionId\":" + auction.getAuctionId() + ",\"lastSequence\":0}");
+        joined.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 입찰 후 결과 코드 반환 (ACCEPTED / 실패 코드 / TIMEOUT)
+     */
+    String bid(long amount, long timeoutMs) throws InterruptedException {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        pendingAmount = amount;
+        pending = result;
+
+        metrics.markSent(auction.getAuctionId(), userId, amount);
+        send("{\"type\":\"bid:place\",\"auctionId\":" + auction.getAuctionId() + ",\"amount\":" + amount + "}");
+
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return TIMEOUT;
+        } catch (Exception e) {
+            return e.getClass().getSimpleName();
+        } finally {
+            pending = null;
+        }
+    }
+
+    void close() {
+        WebSocket socket = webSocket;
+        if (socket != null) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "done").orTimeout(5, TimeUnit.SECONDS).exceptionally(e -> null);
+        }
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        if (last) {
+            String message = partial.toString();
+            partial.setLength(0);
+            handle(message);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        joined.completeExceptionally(error);
+        CompletableFuture<String> current = pending;
+        if (current != null) {
+            current.complete(error.getClass().getSimpleName());
+        }
+    }
+
+    private void handle(String message) {
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(message);
+        } catch (Exception e) {
+            return;
+        }
+
+        String type = node.path("type").asText();
+        JsonNode payload = node.path("payload");
+
+        switch (type) {
+            case "bid:placed" -> {
+                long bidderId = payload.path("bidder").path("id").asLong();
+                long amount = payload.path("amount").asLong();
+                boolean own = bidderId == userId;
+
+                auction.onPrice(payload.path("currentPrice").asLong());
+                metrics.onBroadcast(auction.getAuctionId(), bidderId, amount, own);
+
+                CompletableFuture<String> current = pending;
+                if (own && current != null && amount == pendingAmount) {
+                    current.complete(ACCEPTED);
+                }
+            }
+            case "bid:failed" -> {
+                CompletableFuture<String> current = pending;
+                if (current != null) {
+                    current.complete(payload.path("code").asText("UNKNOWN"));
+                }
+            }
+            case "auction:ended" -> auction.markEnded();
+            case "auction:sync" -> {
+                JsonNode snapshot = payload.path("snapshot");
+                if (!snapshot.isMissingNode() && !snapshot.isNull() && snapshot.path("bidCount").asLong() > 0) {
+                    auction.onPrice(snapshot.path("currentPrice").asLong());
+                }
+                for (JsonNode event : payload.path("events")) {
+                    if ("bid:placed".equals(event.path("type").asText())) {
+                        auction.onPrice(event.path("payload").path("currentPrice").asLong());
+                    }
+                }
+                joined.complete(null);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void send(String text) {
+        // java.net.http.WebSocket 은 동시에 하나의 전송만 허용한다 (가상 스레드 고정을 피하려고 synchronized 대신 Lock)
+        sendLock.lock();
+        try {
+            webSocket.sendText(text, true).join();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.ddip.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간/메모리 비교
+ * - ./gradlew startupBenchmark -PfastStartup : cdsArchive 가 풀어 둔 jar 를 jvm / aot / aot-cds 로 띄운다 (--cds=true)
+ * - ./gradlew nativeStartupBenchmark -Pnative : 같은 소스의 boot jar(jvm) 와 native 바이너리를 비교한다 (--native-binary)
+ * - 프로세스 시작부터 첫 HTTP 응답(상태 코드 무관)까지를 잰다. 응답이 왔다는 건 필터 체인과 디스패처까지 준비됐다는 뜻
+ * - 첫 응답 직후의 RSS(/proc/{pid}/status 의 VmRSS, 리눅스에서만)를 함께 남긴다
+ * - MySQL/Redis 는 docker compose 로 떠 있어야 한다
+ */
+public class StartupBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_INTERVAL_MS = 20;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Path appDir = Path.of(required(options, "app-dir"));
+        String jar = required(options, "jar");
+        String java = options.getOrDefault("java", ProcessHandle.current().info().command().orElse("java"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18090"));
+        String path = options.getOrDefault("path", "/api/crowd/1");
+        Path reportFile = Path.of(options.getOrDefault("report-file", "build/reports/startup/report.json"));
+
+        boolean cds = Boolean.parseBoolean(options.getOrDefault("cds", "false"));
+        String nativeBinary = options.get("native-binary");
+
+        List<String> appArgs = List.of("--server.port=" + port, "--management.server.port=0");
+        List<String> fastStartupArgs = List.of("--spring.profiles.active=fast-startup");
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("jvm", concat(List.of(java, "-jar", jar), appArgs));
+        if (cds) {
+            variants.put("aot", concat(List.of(java, "-Dspring.aot.enabled=true", "-jar", jar), appArgs, fastStartupArgs));
+            variants.put("aot-cds", concat(List.of(java, "-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true",
+                    "-jar", jar), appArgs, fastStartupArgs));
+        }
+        if (nativeBinary != null) {
+            variants.put("native", concat(List.of(nativeBinary), appArgs));
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        URI target = URI.create("http://localhost:" + port + path);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            // 첫 회는 OS 페이지 캐시를 데우는 용도로 버린다
+            measure(variant.getValue(), appDir, httpClient, target);
+            List<Long> startups = new ArrayList<>();
+            List<Long> rssKbs = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                Sample sample = measure(variant.getValue(), appDir, httpClient, target);
+                startups.add(sample.startupMs());
+                rssKbs.add(sample.rssKb());
+            }
+            startups.sort(null);
+            rssKbs.sort(null);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("runs", runs);
+            summary.put("minMs", startups.get(0));
+            summary.put("medianMs", median(startups));
+            summary.put("maxMs", startups.get(startups.size() - 1));
+            summary.put("medianRssMb", median(rssKbs) < 0 ? null : median(rssKbs) / 1024);
+            report.put(variant.getKey(), summary);
+            System.out.printf("%-8s median %5d ms (min %d, max %d), rss %s MB%n", variant.getKey(), median(startups),
+                    startups.get(0), startups.get(startups.size() - 1), summary.get("medianRssMb"));
+        }
+
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(reportFile.toFile(), report);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+    }
+
+    private static Sample measure(List<String> command, Path appDir, HttpClient httpClient, URI target) throws Exception {
+        Path log = appDir.resolve("startup-benchmark.log");
+        long started = System.nanoTime();
+        Process backend = new ProcessBuilder(command)
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(5)).GET().build();
+            long deadline = started + STARTUP_TIMEOUT.toNanos();
+            while (true) {
+                try {
+                    httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    return new Sample(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), rssKb(backend.pid()));
+                } catch (IOException notYetListening) {
+                    if (!backend.isAlive()) {
+                        throw new IllegalStateException("Backend exited with code " + backend.exitValue() + ", see " + log);
+                    }
+                    if (System.nanoTime() > deadline) {
+                        throw new IllegalStateException("Timed out waiting for " + target + ", see " + log);
+                    }
+                    Thread.sleep(POLL_INTERVAL_MS);
+                }
+            }
+        } finally {
+            backend.destroy();
+            if (!backend.waitFor(20, TimeUnit.SECONDS)) {
+                backend.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static long rssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 리눅스가 아니면 RSS 는 비워 둔다
+        }
+        return -1;
+    }
+
+    private static long median(List<Long> sorted) {
+        return sorted.get(sorted.size() / 2);
+    }
+
+    @SafeVarargs
+    private static List<String> concat(List<String>... parts) {
+        List<String> command = new ArrayList<>();
+        for (List<String> part : parts) {
+            command.addAll(part);
+        }
+        return command;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return values;
+    }
+
+    private static String required(Map<String, String> options, String key) {
+        String value = options.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("--" + key + " is required");
+        }
+        return value;
+    }
+
+    private record Sample(long startupMs, long rssKb) {
+    }
+}
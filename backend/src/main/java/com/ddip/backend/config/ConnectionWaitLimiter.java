@@ -0,0 +1,53 @@
+package com.ddip.backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 커넥션 획득 대기 인원 제한
+ * - 가상 스레드는 요청 수만큼 생기므로 풀이 바닥나면 수천 개가 Hikari 대기열에서 connection-timeout 까지 기다린다
+ * - getConnection 에 들어와 있는 스레드 수를 maxWaiters 로 제한하고, 넘치면 기다리지 않고 바로 실패시킨다
+ * - 커넥션을 쥔 스레드 수는 maximum-pool-size 가 제한하므로 여기서는 획득 구간만 센다
+ */
+class ConnectionWaitLimiter extends DelegatingDataSource {
+
+    private final int maxWaiters;
+    private final Semaphore waiters;
+
+    ConnectionWaitLimiter(DataSource target, int maxWaiters) {
+        super(target);
+        this.maxWaiters = maxWaiters;
+        this.waiters = new Semaphore(maxWaiters);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        enter();
+        try {
+            return super.getConnection();
+        } finally {
+            waiters.release();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        enter();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            waiters.release();
+        }
+    }
+
+    private void enter() throws SQLTransientConnectionException {
+        if (!waiters.tryAcquire()) {
+            throw new SQLTransientConnectionException("Too many threads waiting for a connection (max " + maxWaiters + ")");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.ddip.backend.config;
+
+import com.ddip.backend.datasource.ReadWriteRoutingDataSource;
+import com.ddip.backend.datasource.ReadYourWritesTracker;
+import com.ddip.backend.datasource.Replica;
+import com.ddip.backend.datasource.ReplicaLagMonitor;
+import com.ddip.backend.security.auth.CustomUserDetails;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary + 읽기 복제본 라우팅 (datasource.routing.enabled=true)
+ * - 풀은 모두 spring.datasource.hikari 설정을 같이 쓰고, 복제본 풀은 읽기 전용 커넥션을 만든다
+ * - 풀 지표는 hikaricp.*{pool=primary|replica-N} 로 나온다
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig implements DisposableBean {
+
+    private final Environment environment;
+    private final DataSourceProperties dataSourceProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private List<Replica> replicas;
+
+    @Value("${datasource.replica-urls:}")
+    private String[] replicaUrls;
+
+    @Value("${datasource.replica-username:}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica-password:}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica-max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Value("${datasource.read-your-writes-margin-ms:1000}")
+    private long readYourWritesMarginMs;
+
+    @Value("${datasource.max-waiters:200}")
+    private int maxWaiters;
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor() {
+        return new ReplicaLagMonitor(replicas(), maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate redisTemplate) {
+        return new ReadYourWritesTracker(redisTemplate, Duration.ofSeconds(maxLagSeconds).plusMillis(readYourWritesMarginMs));
+    }
+
+    @Bean
+    public DataSource dataSource(ReadYourWritesTracker readYourWritesTracker) {
+        DataSource primary = pool(ReadWriteRoutingDataSource.PRIMARY, dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(), false);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicas(), readYourWritesTracker,
+                DataSourceRoutingConfig::currentUserId, meterRegistry, readYourWritesMarginMs);
+        // 커넥션을 첫 쿼리까지 미뤄야 readOnly 여부를 보고 대상을 고를 수 있다
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private List<Replica> replicas() {
+        if (replicas != null) {
+            return replicas;
+        }
+        String username = replicaUsername.isBlank() ? dataSourceProperties.determineUsername() : replicaUsername;
+        String password = replicaPassword.isBlank() ? dataSourceProperties.determinePassword() : replicaPassword;
+
+        List<Replica> created = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (created.size() + 1);
+            created.add(new Replica(name, pool(name, url.trim(), username, password, true)));
+        }
+        replicas = created;
+        return created;
+    }
+
+    private DataSource pool(String name, String url, String username, String password, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        config.setReadOnly(readOnly);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        // Boot 기본 풀처럼 첫 getConnection 에서 연결한다 (복제본이 내려가 있어도 기동은 된다)
+        HikariDataSource pool = new HikariDataSource();
+        config.copyStateTo(pool);
+        pools.add(pool);
+        // 직접 만든 풀은 VirtualThreadConfig 의 후처리를 거치지 않으므로 여기서 감싼다
+        return Threading.VIRTUAL.isActive(environment) ? new ConnectionWaitLimiter(pool, maxWaiters) : pool;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                ? userDetails.getUser().getId()
+                : null;
+    }
+}
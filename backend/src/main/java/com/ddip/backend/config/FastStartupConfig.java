@@ -0,0 +1,29 @@
+package com.ddip.backend.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * fast-startup 프로필 전용 설정.
+ * 첫 요청 경로에 없는 빈(startup.lazy-beans)은 처음 쓰일 때 만든다. 주입받는 쪽은 ObjectProvider 로 받아야 실제로 미뤄진다.
+ * AOT 빌드(-PfastStartup)도 같은 프로필로 돌기 때문에 지연 여부가 생성 코드에 그대로 들어간다.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        String[] names = environment.getProperty("startup.lazy-beans", String[].class, new String[0]);
+        return beanFactory -> {
+            for (String name : names) {
+                if (beanFactory.containsBeanDefinition(name)) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.ddip.backend.config;
+
+import com.ddip.backend.service.auction.cluster.AuctionCommand;
+import com.ddip.backend.service.auction.cluster.AuctionCommandReply;
+import com.ddip.backend.service.user.CachedUserProfile;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * native-image 빌드(-Pnative)에 필요한 리플렉션/리소스 힌트.
+ * 컨트롤러 시그니처와 JPA 엔티티는 Spring AOT 가 알아서 등록하므로, 여기에는 그 밖에서 쓰이는 것만 둔다.
+ * 힌트는 빌드 시점(JVM)에 계산되므로 패키지 스캔을 써도 런타임 비용이 없다.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final MemberCategory[] ALL_DECLARED = {
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS
+        };
+
+        // jjwt 0.11 은 구현체를 이름으로 찾아 생성하고, 직렬화기는 ServiceLoader 로 찾는다
+        private static final List<String> JJWT_TYPES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+                "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        );
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // ObjectMapper 로 직접 읽고 쓰는 타입 (Redis 값, 웹소켓/클러스터 메시지, 미리 직렬화하는 응답). Lombok 생성자/접근자 포함
+            scan("com.ddip.backend.dto", classLoader, type -> bindingRegistrar.registerReflectionHints(hints.reflection(), type));
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    CachedUserProfile.class, AuctionCommand.class, AuctionCommandReply.class);
+            hints.reflection().registerType(
+                    TypeReference.of("com.ddip.backend.service.auction.cluster.RedisClusterTransport$ClusterEvent"), ALL_DECLARED);
+
+            // Querydsl Q 타입은 엔티티 경로를 만들 때 필드/생성자를 리플렉션으로 따라간다
+            scan("com.ddip.backend.entity", classLoader, type -> hints.reflection().registerType(type, ALL_DECLARED));
+
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            // Solapi SDK(Kotlin) 는 도달성 메타데이터를 제공하지 않아 모델/서비스 패키지를 통째로 연다
+            scan("com.solapi.sdk", classLoader, type -> hints.reflection().registerType(type, ALL_DECLARED));
+
+            hints.resources().registerPattern("ehcache.xml");
+        }
+
+        private static void scan(String basePackage, ClassLoader classLoader, Consumer<Class<?>> registrar) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return true;
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                registrar.accept(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ddip.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러/@Async 실행기는 Boot 자동 설정을 쓴다. spring.threads.virtual.enabled 에 따라 가상 스레드로 바뀐다.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class SchedulingConfig {
+}
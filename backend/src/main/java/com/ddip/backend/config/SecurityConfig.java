@@ -9,6 +9,7 @@ import com.ddip.backend.security.auth.JwtUtils;
 import com.ddip.backend.security.oauth2.CustomOAuth2UserService;
 import com.ddip.backend.service.TokenBlackListService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,7 +26,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final CustomOAuth2UserService customOAuth2UserService;
+    // fast-startup 프로필에서는 첫 소셜 로그인 때 만들어지도록 지연 조회한다
+    private final ObjectProvider<CustomOAuth2UserService> customOAuth2UserService;
     private final TokenBlackListService tokenBlackListService;
     private final JwtUtils jwtUtils;
     private final CustomAccessDeniedHandler  accessDeniedHandler;
@@ -49,12 +51,14 @@ public class SecurityConfig {
                                 , "/login/oauth2/code/**", "/oauth2/callback/**").permitAll()
                         .requestMatchers("/api/users/refresh-token", "api/users/update-profile",
                                 "/api/users/register").permitAll()
+                        // 관리 포트(management.server.port)로만 노출되므로 인증 없이 스크레이프
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
 
                 .oauth2Login(oauth2 -> oauth2
                         .userInfoEndpoint(userInfo -> userInfo
-                                .userService(customOAuth2UserService))
+                                .userService(request -> customOAuth2UserService.getObject().loadUser(request)))
                         .successHandler(oAuth2SuccessHandler)
                 )
 
@@ -3,10 +3,12 @@ package com.ddip.backend.config;
 import com.solapi.sdk.SolapiClient;
 import com.solapi.sdk.message.service.DefaultMessageService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@ConditionalOnProperty(name = "sms.provider", havingValue = "solapi", matchIfMissing = true)
 public class SolapiConfig {
 
     @Value("${solapi.api-key}")
@@ -0,0 +1,35 @@
+package com.ddip.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * spring.threads.virtual.enabled=true 일 때만 적용되는 설정.
+ * Tomcat 요청 처리, applicationTaskExecutor(@Async), taskScheduler(@Scheduled) 는 Boot 가 가상 스레드로 바꾸고,
+ * 직접 만든 워커 풀은 WorkerThreads 가 같은 값을 따른다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // 요청 스레드 수가 더 이상 DB 동시성을 막아주지 않으므로 커넥션 대기 인원을 직접 제한한다
+    @Bean
+    public static BeanPostProcessor connectionWaitLimiterPostProcessor(Environment environment) {
+        int maxWaiters = environment.getProperty("datasource.max-waiters", Integer.class, 200);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 풀마다 따로 센다
+                if (bean instanceof HikariDataSource pool) {
+                    return new ConnectionWaitLimiter(pool, maxWaiters);
+                }
+                return bean;
+            }
+        };
+    }
+}
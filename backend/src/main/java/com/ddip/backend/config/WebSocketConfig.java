@@ -0,0 +1,26 @@
+package com.ddip.backend.config;
+
+import com.ddip.backend.handler.AuctionWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final AuctionWebSocketHandler auctionWebSocketHandler;
+
+    @Value("${auction.socket.allowed-origins:http://localhost:3000}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(auctionWebSocketHandler, "/ws/auctions")
+                .setAllowedOriginPatterns(allowedOrigins);
+    }
+}
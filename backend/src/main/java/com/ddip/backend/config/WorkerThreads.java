@@ -0,0 +1,24 @@
+package com.ddip.backend.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 백그라운드 워커 풀 생성 (spring.threads.virtual.enabled 에 맞춘다)
+ * - 플랫폼 스레드: 고정 크기 풀, 스레드 수가 곧 동시 실행 상한
+ * - 가상 스레드: 작업마다 새 스레드를 만들고 풀링하지 않으므로, 동시 실행 상한은 호출 측이 Semaphore 등으로 건다
+ */
+public final class WorkerThreads {
+
+    public static final String VIRTUAL_ENABLED = "${spring.threads.virtual.enabled:false}";
+
+    private WorkerThreads() {
+    }
+
+    public static ExecutorService newPool(String name, int threads, boolean virtual) {
+        if (virtual) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().name(name + "-", 0).factory());
+    }
+}
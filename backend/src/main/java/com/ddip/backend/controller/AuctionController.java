@@ -0,0 +1,67 @@
+package com.ddip.backend.controller;
+
+import com.ddip.backend.dto.auction.AuctionListingPageDto;
+import com.ddip.backend.dto.auction.AuctionSyncResponseDto;
+import com.ddip.backend.dto.auction.BidRequestDto;
+import com.ddip.backend.dto.auction.BidResultDto;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.ddip.backend.security.auth.CustomUserDetails;
+import com.ddip.backend.service.auction.cluster.AuctionRouter;
+import com.ddip.backend.service.auction.index.AuctionListingIndex;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auctions")
+public class AuctionController {
+
+    private final AuctionRouter auctionRouter;
+    private final AuctionListingIndex auctionListingIndex;
+
+    /**
+     * 마감 임박 경매 (기본 1시간 이내, 마감 순)
+     */
+    @GetMapping("/ending-soon")
+    public ResponseEntity<AuctionListingPageDto> getEndingSoon(@RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auctionListingIndex.getEndingSoon(page, size));
+    }
+
+    /**
+     * 인기 경매 (최근 10분 입찰 수 순)
+     */
+    @GetMapping("/hot")
+    public ResponseEntity<AuctionListingPageDto> getHot(@RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auctionListingIndex.getHot(page, size));
+    }
+
+    /**
+     * 입찰
+     */
+    @PostMapping("/{auctionId}/bids")
+    public ResponseEntity<?> placeBid(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                      @PathVariable Long auctionId,
+                                      @Valid @RequestBody BidRequestDto requestDto) {
+        UserResponseDto bidder = UserResponseDto.summaryOf(customUserDetails.getUser());
+        BidResultDto result = auctionRouter.placeBid(auctionId, bidder, requestDto.getAmount());
+
+        if (!result.isAccepted()) {
+            return ResponseEntity.badRequest().body(result.getFailure());
+        }
+        return ResponseEntity.ok(result.getEvent());
+    }
+
+    /**
+     * 재접속 동기화 (lastSequence 이후 누락 이벤트, 간격이 크면 스냅샷)
+     */
+    @GetMapping("/{auctionId}/sync")
+    public ResponseEntity<AuctionSyncResponseDto> sync(@PathVariable Long auctionId,
+                                                       @RequestParam(defaultValue = "0") long lastSequence) {
+        return ResponseEntity.ok(auctionRouter.sync(auctionId, lastSequence));
+    }
+}
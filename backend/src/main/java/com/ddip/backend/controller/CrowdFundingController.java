@@ -1,16 +1,30 @@
 package com.ddip.backend.controller;
 
 import com.ddip.backend.dto.crowd.ProjectRequestDto;
-import com.ddip.backend.dto.crowd.ProjectResponseDto;
 import com.ddip.backend.dto.crowd.ProjectUpdateRequestDto;
+import com.ddip.backend.dto.crowd.RecommendedProjectDto;
+import com.ddip.backend.dto.crowd.SimilarProjectDto;
+import com.ddip.backend.repository.ProjectRepository.ProjectVersion;
 import com.ddip.backend.security.auth.CustomUserDetails;
 import com.ddip.backend.service.CrowdFundingService;
+import com.ddip.backend.service.crowd.ProjectResponseCache;
+import com.ddip.backend.service.crowd.ProjectResponseCache.EncodedResponse;
+import com.ddip.backend.service.recommend.ProjectRecommendationService;
+import com.ddip.backend.service.recommend.SimilarProjectIndex;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -19,6 +33,9 @@ import org.springframework.web.bind.annotation.*;
 public class CrowdFundingController {
 
     private final CrowdFundingService crowdFundingService;
+    private final ProjectRecommendationService projectRecommendationService;
+    private final SimilarProjectIndex similarProjectIndex;
+    private final ProjectResponseCache projectResponseCache;
 
     @PostMapping
     public ResponseEntity<?> createCrowdFunding(@AuthenticationPrincipal CustomUserDetails customUserDetails,
@@ -28,12 +45,59 @@ public class CrowdFundingController {
         return ResponseEntity.ok(projectId);
     }
 
-    @GetMapping("/{projectId}")
-    public ResponseEntity<ProjectResponseDto> getCrowdFunding(@PathVariable Long projectId ){
-        ProjectResponseDto response = crowdFundingService.getProject(projectId);
+    /**
+     * 성향(설문)과 후원 이력 기반 추천 피드
+     */
+    @GetMapping("/recommendations")
+    public ResponseEntity<List<RecommendedProjectDto>> getRecommendations(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                                          @RequestParam(defaultValue = "20") int size) {
+        List<RecommendedProjectDto> response = projectRecommendationService.recommend(
+                customUserDetails.getUserId(), customUserDetails.getUser().getUserType(), size);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 프로젝트 상세 (조건부 GET)
+     * - 수정 시각/모금액만 먼저 읽어 If-None-Match 가 같으면 본문을 읽지도 직렬화하지도 않고 304
+     * - 사용자별 내용이 없으므로 공유 캐시(CDN)에도 저장을 허용하되, 매번 재검증하게 한다
+     * - 본문은 버전별로 미리 직렬화/압축해 둔 바이트를 그대로 쓴다 (ObjectMapper 를 거치지 않음)
+     */
+    @GetMapping("/{projectId}")
+    public ResponseEntity<byte[]> getCrowdFunding(@PathVariable Long projectId, WebRequest request) {
+        ProjectVersion version = crowdFundingService.getProjectVersion(projectId);
+        String etag = version.etag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        EncodedResponse encoded = projectResponseCache.get(projectId, etag,
+                () -> crowdFundingService.getProject(projectId, version));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        // 모금액 변경은 수정 시각에 잡히지 않을 수 있어 검증은 ETag 로만 하고 Last-Modified 는 참고용으로 싣는다
+        if (version.getModifiedDate() != null) {
+            builder.lastModified(version.getModifiedDate().atZone(ZoneId.systemDefault()));
+        }
+
+        // 약한 ETag 라 압축본과 원본이 같은 값을 공유해도 된다
+        if (encoded.hasGzip() && ProjectResponseCache.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return builder.body(encoded.identity());
+    }
+
+    /**
+     * 비슷한 프로젝트 (태그/카테고리 MinHash)
+     */
+    @GetMapping("/{projectId}/similar")
+    public ResponseEntity<List<SimilarProjectDto>> getSimilarProjects(@PathVariable Long projectId,
+                                                                      @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(similarProjectIndex.findSimilar(projectId, Math.min(size, 50)));
+    }
+
 //    @PatchMapping("/{projectId}")
 //    public ResponseEntity<?> updateCrowdFunding( @AuthenticationPrincipal CustomUserDetails customUserDetails,
 //                                                    @PathVariable Long projectId,
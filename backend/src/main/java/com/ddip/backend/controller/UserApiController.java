@@ -3,17 +3,21 @@ package com.ddip.backend.controller;
 import com.ddip.backend.dto.user.*;
 import com.ddip.backend.security.auth.CustomUserDetails;
 import com.ddip.backend.security.auth.JwtUtils;
-import com.ddip.backend.service.SmsService;
 import com.ddip.backend.service.TokenBlackListService;
 import com.ddip.backend.service.UserService;
+import com.ddip.backend.service.user.CachedUserProfile;
+import com.ddip.backend.service.user.UserProfileReadModel;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Arrays;
 
@@ -23,9 +27,9 @@ import java.util.Arrays;
 public class UserApiController {
 
     private final UserService userService;
-    private final SmsService smsService;
     private final JwtUtils jwtUtils;
     private final TokenBlackListService tokenBlackListService;
+    private final UserProfileReadModel userProfileReadModel;
 
     /**
      * 로그아웃
@@ -44,6 +48,25 @@ public class UserApiController {
         return ResponseEntity.ok().body("로그아웃 완료");
     }
 
+    /**
+     * 내 정보 (읽기 모델 캐시)
+     * - If-None-Match 가 현재 ETag 와 같으면 본문 없이 304
+     */
+    @GetMapping("/me")
+    public ResponseEntity<UserProfileDto> getMe(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                WebRequest request) {
+
+        CachedUserProfile cached = userProfileReadModel.get(customUserDetails.getUserId());
+        if (request.checkNotModified(cached.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.getEtag()).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(cached.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(cached.getProfile());
+    }
+
     /**
      * 회원가입
      */
@@ -82,10 +105,8 @@ public class UserApiController {
     @PostMapping("/find-password")
     public ResponseEntity<Object> resetPassword(@RequestBody FindPasswordRequestDto dto) {
 
-        UserResponseDto userResponse = userService.findUserForPasswordReset(dto);
         String temporaryPassword = PasswordGenerator.generatePassword(10);
-        userService.updatePassword(userResponse.getId(), temporaryPassword);
-        smsService.sendSms(userResponse, temporaryPassword);
+        userService.resetPassword(dto, temporaryPassword);
         FindPasswordResponse response = new FindPasswordResponse("임시 비밀번호는" + temporaryPassword + "입니다.");
 
         return ResponseEntity.ok(response);
@@ -103,6 +124,18 @@ public class UserApiController {
         return ResponseEntity.ok(userResponseDto);
     }
 
+    /**
+     * 성향 설문 결과 저장 (추천 가중치에 사용)
+     */
+    @PostMapping("/survey")
+    public ResponseEntity<Void> saveSurvey(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                           @Valid @RequestBody SurveyRequestDto dto) {
+
+        userService.updateUserType(customUserDetails.getUserId(), dto.getUserType());
+
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * accessToken 재발급
      */
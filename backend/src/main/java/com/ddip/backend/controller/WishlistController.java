@@ -0,0 +1,53 @@
+package com.ddip.backend.controller;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.dto.wishlist.WishlistStatusDto;
+import com.ddip.backend.security.auth.CustomUserDetails;
+import com.ddip.backend.service.wishlist.WishlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/wishlist")
+public class WishlistController {
+
+    private final WishlistService wishlistService;
+
+    /**
+     * 내 찜 목록 (대상 id)
+     */
+    @GetMapping("/{type}")
+    public ResponseEntity<long[]> getWishlist(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                              @PathVariable String type) {
+        return ResponseEntity.ok(wishlistService.getTargetIds(customUserDetails.getUserId(), WishlistTargetType.from(type)));
+    }
+
+    /**
+     * 카드 목록 한 페이지의 찜 여부/찜 수 일괄 조회 (?ids=1,2,3)
+     */
+    @GetMapping("/{type}/check")
+    public ResponseEntity<List<WishlistStatusDto>> check(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                         @PathVariable String type,
+                                                         @RequestParam List<Long> ids) {
+        return ResponseEntity.ok(wishlistService.check(customUserDetails.getUserId(), WishlistTargetType.from(type), ids));
+    }
+
+    @PutMapping("/{type}/{targetId}")
+    public ResponseEntity<WishlistStatusDto> add(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                 @PathVariable String type,
+                                                 @PathVariable Long targetId) {
+        return ResponseEntity.ok(wishlistService.add(customUserDetails.getUserId(), WishlistTargetType.from(type), targetId));
+    }
+
+    @DeleteMapping("/{type}/{targetId}")
+    public ResponseEntity<WishlistStatusDto> remove(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                    @PathVariable String type,
+                                                    @PathVariable Long targetId) {
+        return ResponseEntity.ok(wishlistService.remove(customUserDetails.getUserId(), WishlistTargetType.from(type), targetId));
+    }
+}
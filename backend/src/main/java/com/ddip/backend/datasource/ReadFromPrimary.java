@@ -0,0 +1,15 @@
+package com.ddip.backend.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 읽기 전용 트랜잭션이라도 primary 에서 읽는다.
+ * 방금 기록한 상태를 이어받는 작업(경매 적재, 발송/정리 작업 임대)처럼 복제 지연을 허용할 수 없는 조회에 붙인다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromPrimary {
+}
@@ -0,0 +1,35 @@
+package com.ddip.backend.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ReadFromPrimary 구간 표시. 커넥션은 첫 쿼리에서 잡히므로 트랜잭션 어드바이스와의 순서는 상관없다.
+ */
+@Aspect
+@Component
+public class ReadFromPrimaryAspect {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    static boolean isForced() {
+        return Boolean.TRUE.equals(FORCED.get());
+    }
+
+    @Around("@within(com.ddip.backend.datasource.ReadFromPrimary) || @annotation(com.ddip.backend.datasource.ReadFromPrimary)")
+    public Object forcePrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+}
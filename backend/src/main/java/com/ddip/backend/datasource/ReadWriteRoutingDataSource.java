@@ -0,0 +1,101 @@
+package com.ddip.backend.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션을 복제본으로 보내는 DataSource. LazyConnectionDataSourceProxy 뒤에 두어야
+ * 트랜잭션 속성이 정해진 뒤(첫 쿼리 시점)에 대상을 고른다.
+ * - 쓰기 트랜잭션 / @ReadFromPrimary: primary. 로그인 사용자의 쓰기는 커밋 후 시각을 남긴다
+ * - 읽기: 사용할 수 있는 복제본을 돌아가며 고른다. 단 마지막 쓰기 이후 지난 시간이 (복제 지연 + 여유) 보다
+ *   짧으면 그 복제본은 건너뛰고, 남는 복제본이 없으면 primary 에서 읽는다 (read-your-writes)
+ * - ddip.datasource.route{target, reason}: 어디로 왜 보냈는지
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final Supplier<Long> currentUserId;
+    private final MeterRegistry meterRegistry;
+    private final long marginMillis;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas, ReadYourWritesTracker tracker,
+                                      Supplier<Long> currentUserId, MeterRegistry meterRegistry, long marginMillis) {
+        this.replicas = replicas;
+        this.tracker = tracker;
+        this.currentUserId = currentUserId;
+        this.meterRegistry = meterRegistry;
+        this.marginMillis = marginMillis;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Long userId = currentUserId.get();
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tracker.recordWrite(userId);
+                    }
+                });
+            }
+            return route(PRIMARY, "write");
+        }
+        if (ReadFromPrimaryAspect.isForced()) {
+            return route(PRIMARY, "forced");
+        }
+
+        Long userId = currentUserId.get();
+        long sinceWrite = userId == null ? Long.MAX_VALUE : tracker.millisSinceWrite(userId);
+
+        boolean anyAvailable = false;
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            anyAvailable = true;
+            if (replica.getLagMillis() + marginMillis < sinceWrite) {
+                return route(replica.getName(), "read");
+            }
+        }
+        return route(PRIMARY, anyAvailable ? "read-your-writes" : "replica-unavailable");
+    }
+
+    private String route(String target, String reason) {
+        counters.computeIfAbsent(target + ':' + reason, key -> Counter.builder("ddip.datasource.route")
+                        .description("Connections handed out by the read/write routing data source")
+                        .tag("target", target)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+        return target;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ddip.backend.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 마지막 쓰기 시각. 노드가 여러 대라도 같은 값을 보도록 Redis 에 둔다.
+ * - 보관 기간은 허용 복제 지연 + 여유. 그보다 오래된 쓰기는 어떤 복제본에서 읽어도 보인다
+ * - Redis 를 못 읽으면 방금 썼다고 보고 primary 에서 읽는다
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "db:last-write:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration retention;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+    }
+
+    public void recordWrite(Long userId) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, Long.toString(System.currentTimeMillis()), retention);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record last write. userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 마지막 쓰기 이후 지난 시간, 기록이 없으면 Long.MAX_VALUE
+     */
+    public long millisSinceWrite(Long userId) {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read last write. userId={}", userId, e);
+            return 0L;
+        }
+        return value == null ? Long.MAX_VALUE : Math.max(0L, System.currentTimeMillis() - Long.parseLong(value));
+    }
+}
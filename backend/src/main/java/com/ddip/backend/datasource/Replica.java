@@ -0,0 +1,30 @@
+package com.ddip.backend.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 하나와 마지막 점검 결과. 점검 전에는 쓰지 않는다.
+ */
+@Getter
+public class Replica {
+
+    public static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean available;
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void update(boolean available, long lagMillis) {
+        this.available = available;
+        this.lagMillis = lagMillis;
+    }
+}
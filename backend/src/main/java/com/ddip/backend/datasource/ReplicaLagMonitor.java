@@ -0,0 +1,77 @@
+package com.ddip.backend.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 복제본 상태 점검 (SHOW REPLICA STATUS, MySQL 8.0.22+)
+ * - 복제가 멈췄거나(Seconds_Behind_Source 가 NULL) 지연이 maxLagSeconds 를 넘으면 읽기 대상에서 뺀다
+ * - 복제 설정이 없는 단독 인스턴스는 지연 0 으로 본다 (로컬에서 DB 두 개로 라우팅만 확인할 때)
+ * - ddip.datasource.replica.lag{replica}: 마지막으로 잰 지연(초), 모르면 NaN
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+
+    public ReplicaLagMonitor(List<Replica> replicas, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+
+        for (Replica replica : replicas) {
+            Gauge.builder("ddip.datasource.replica.lag", replica,
+                            r -> r.getLagMillis() == Replica.UNKNOWN_LAG ? Double.NaN : r.getLagMillis() / 1000.0)
+                    .description("Replication lag measured by the last replica check")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("ddip.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("Whether the replica is currently used for read-only transactions")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica-check-interval-ms:2000}")
+    public void check() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.isAvailable();
+            long lagSeconds = measureLagSeconds(replica);
+            boolean available = lagSeconds != Replica.UNKNOWN_LAG && lagSeconds <= maxLagSeconds;
+            replica.update(available, lagSeconds == Replica.UNKNOWN_LAG ? Replica.UNKNOWN_LAG : lagSeconds * 1000);
+
+            if (wasAvailable != available) {
+                log.warn("Replica {} is now {}. lagSeconds={}", replica.getName(),
+                        available ? "available" : "unavailable", lagSeconds == Replica.UNKNOWN_LAG ? "unknown" : lagSeconds);
+            }
+        }
+    }
+
+    private long measureLagSeconds(Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    return 0L;
+                }
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? Replica.UNKNOWN_LAG : lag;
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Replica check failed. replica={}", replica.getName(), e);
+            return Replica.UNKNOWN_LAG;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ddip.backend.dto.auction;
+
+import com.ddip.backend.dto.enums.AuctionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionEndedEvent {
+
+    private Long auctionId;
+    private AuctionStatus status;
+    // 입찰 없이 종료되면 null
+    private Long winnerId;
+    private Long finalPrice;
+    // 즉시구매로 종료되었는지
+    private boolean buyout;
+    private LocalDateTime endedAt;
+
+}
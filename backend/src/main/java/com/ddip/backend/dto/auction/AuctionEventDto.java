@@ -0,0 +1,23 @@
+package com.ddip.backend.dto.auction;
+
+import com.ddip.backend.dto.enums.AuctionEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경매방으로 전파되는 이벤트 (경매별 순번 포함)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionEventDto {
+
+    private Long auctionId;
+    private long sequence;
+    private AuctionEventType type;
+    private Object payload;
+
+}
@@ -0,0 +1,26 @@
+package com.ddip.backend.dto.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 목록 카드 (마감 임박 / 인기 경매)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionListingDto {
+
+    private Long auctionId;
+    private String title;
+    private Long currentPrice;
+    private long bidCount;
+    private LocalDateTime endAt;
+    // 최근 윈도우(기본 10분) 내 입찰 수
+    private long recentBidCount;
+}
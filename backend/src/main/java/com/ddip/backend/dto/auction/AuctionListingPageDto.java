@@ -0,0 +1,18 @@
+package com.ddip.backend.dto.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionListingPageDto {
+
+    private List<AuctionListingDto> items;
+    private int page;
+    private int size;
+    private long totalElements;
+}
@@ -0,0 +1,29 @@
+package com.ddip.backend.dto.auction;
+
+import com.ddip.backend.dto.enums.AuctionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재접속 시 누락 이벤트가 너무 많을 때 내려주는 경매 요약 상태
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionSnapshotDto {
+
+    private Long auctionId;
+    private long sequence;
+    private Long currentPrice;
+    private Long highestBidderId;
+    private long bidCount;
+    private LocalDateTime endAt;
+    private boolean ended;
+    private AuctionStatus status;
+
+}
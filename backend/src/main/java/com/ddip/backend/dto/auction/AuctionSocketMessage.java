@@ -0,0 +1,23 @@
+package com.ddip.backend.dto.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클라이언트 → 서버 웹소켓 메시지
+ * - auction:join  { auctionId, lastSequence }
+ * - auction:leave { auctionId }
+ * - bid:place     { auctionId, amount }
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionSocketMessage {
+
+    private String type;
+    private Long auctionId;
+    private Long lastSequence;
+    private Long amount;
+
+}
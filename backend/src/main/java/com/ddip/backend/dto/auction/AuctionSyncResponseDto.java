@@ -0,0 +1,25 @@
+package com.ddip.backend.dto.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재접속 동기화 응답
+ * - 버퍼 범위 안이면 events 에 누락분만, 벗어나면 snapshot 으로 대체
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionSyncResponseDto {
+
+    private Long auctionId;
+    private long lastSequence;
+    private List<AuctionEventDto> events;
+    private AuctionSnapshotDto snapshot;
+
+}
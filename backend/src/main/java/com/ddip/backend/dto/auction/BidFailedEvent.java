@@ -0,0 +1,22 @@
+package com.ddip.backend.dto.auction;
+
+import com.ddip.backend.dto.enums.BidFailureCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidFailedEvent {
+
+    private Long auctionId;
+    private String reason;
+    private BidFailureCode code;
+
+    public static BidFailedEvent of(Long auctionId, BidFailureCode code, String reason) {
+        return new BidFailedEvent(auctionId, reason, code);
+    }
+}
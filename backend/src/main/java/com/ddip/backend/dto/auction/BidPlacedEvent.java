@@ -0,0 +1,24 @@
+package com.ddip.backend.dto.auction;
+
+import com.ddip.backend.dto.user.UserResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidPlacedEvent {
+
+    private Long auctionId;
+    private Long bidId;
+    private Long amount;
+    private UserResponseDto bidder;
+    private Long currentPrice;
+    private LocalDateTime createdAt;
+
+}
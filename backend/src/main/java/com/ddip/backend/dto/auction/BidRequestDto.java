@@ -0,0 +1,18 @@
+package com.ddip.backend.dto.auction;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidRequestDto {
+
+    @NotNull
+    @Min(1)
+    private Long amount;
+
+}
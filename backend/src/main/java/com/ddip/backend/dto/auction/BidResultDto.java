@@ -0,0 +1,31 @@
+package com.ddip.backend.dto.auction;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입찰 처리 결과 (성공 시 event, 실패 시 failure 만 채워짐)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidResultDto {
+
+    private AuctionEventDto event;
+    private BidFailedEvent failure;
+
+    public static BidResultDto accepted(AuctionEventDto event) {
+        return new BidResultDto(event, null);
+    }
+
+    public static BidResultDto rejected(BidFailedEvent failure) {
+        return new BidResultDto(null, failure);
+    }
+
+    @JsonIgnore
+    public boolean isAccepted() {
+        return event != null;
+    }
+}
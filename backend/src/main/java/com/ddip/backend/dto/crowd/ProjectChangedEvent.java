@@ -0,0 +1,39 @@
+package com.ddip.backend.dto.crowd;
+
+import com.ddip.backend.entity.Project;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 프로젝트 생성/수정/취소 알림. 커밋 이후 인메모리 인덱스가 DB 를 다시 읽지 않도록 필요한 필드를 싣는다
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProjectChangedEvent {
+
+    private final Long projectId;
+    private final boolean removed;
+    private final String title;
+    private final String thumbnailUrl;
+    private final String categoryPath;
+    private final String tags;
+
+    public static ProjectChangedEvent of(Project project) {
+        return ProjectChangedEvent.builder()
+                .projectId(project.getId())
+                .title(project.getTitle())
+                .thumbnailUrl(project.getThumbnailUrl())
+                .categoryPath(project.getCategoryPath())
+                .tags(project.getTags())
+                .build();
+    }
+
+    public static ProjectChangedEvent removed(Long projectId) {
+        return ProjectChangedEvent.builder()
+                .projectId(projectId)
+                .removed(true)
+                .build();
+    }
+}
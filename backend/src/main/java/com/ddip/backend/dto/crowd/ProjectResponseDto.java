@@ -30,12 +30,16 @@ public class ProjectResponseDto {
     private List<RewardTierResponseDto> rewardTiers;
 
     public static ProjectResponseDto from(Project project){
+        return from(project, project.getCurrentAmount());
+    }
+
+    public static ProjectResponseDto from(Project project, Long currentAmount){
         return ProjectResponseDto.builder()
                 .id(project.getId())
                 .title(project.getTitle())
                 .description(project.getDescription())
                 .targetAmount(project.getTargetAmount())
-                .currentAmount(project.getCurrentAmount())
+                .currentAmount(currentAmount)
                 .status(project.getStatus())
                 .startAt(project.getStartAt())
                 .endAt(project.getEndAt())
@@ -0,0 +1,24 @@
+package com.ddip.backend.dto.crowd;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedProjectDto {
+
+    private Long id;
+    private String title;
+    private String summary;
+    private String thumbnailUrl;
+    private String categoryPath;
+    private int fundingRate;      // 달성률(%)
+    private Long minRewardPrice;  // 리워드가 없으면 null
+    private LocalDateTime endAt;
+}
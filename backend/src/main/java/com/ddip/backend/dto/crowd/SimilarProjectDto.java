@@ -0,0 +1,19 @@
+package com.ddip.backend.dto.crowd;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarProjectDto {
+
+    private Long id;
+    private String title;
+    private String thumbnailUrl;
+    private String categoryPath;
+    private double similarity;  // MinHash 로 추정한 Jaccard 유사도 (0 ~ 1)
+}
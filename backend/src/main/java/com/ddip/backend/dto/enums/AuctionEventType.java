@@ -0,0 +1,24 @@
+package com.ddip.backend.dto.enums;
+
+import com.ddip.backend.dto.auction.AuctionEndedEvent;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuctionEventType {
+
+    BID_PLACED("bid:placed", BidPlacedEvent.class),
+    AUCTION_UPDATED("auction:updated", Map.class),
+    AUCTION_ENDED("auction:ended", AuctionEndedEvent.class);
+
+    @JsonValue
+    private final String value;
+
+    // 노드 간 전달 시 payload 복원용 타입
+    private final Class<?> payloadType;
+}
@@ -0,0 +1,17 @@
+package com.ddip.backend.dto.enums;
+
+public enum AuctionStatus {
+    SCHEDULED, RUNNING, ENDED, CANCELED;
+
+    public boolean isTerminal() {
+        return this == ENDED || this == CANCELED;
+    }
+
+    public boolean canTransitionTo(AuctionStatus next) {
+        return switch (this) {
+            case SCHEDULED -> next == RUNNING || next == CANCELED;
+            case RUNNING -> next == ENDED || next == CANCELED;
+            case ENDED, CANCELED -> false;
+        };
+    }
+}
@@ -0,0 +1,5 @@
+package com.ddip.backend.dto.enums;
+
+public enum BidFailureCode {
+    INSUFFICIENT_BID, AUCTION_ENDED, INVALID_BID, SERVER_ERROR
+}
@@ -0,0 +1,25 @@
+package com.ddip.backend.dto.enums;
+
+/**
+ * 일괄 알림 종류. 종류별로 수신 대상(후원자/입찰자)과 문구가 정해진다.
+ */
+public enum NotificationType {
+    PROJECT_TARGET_REACHED("%s님, 후원하신 '%s' 프로젝트가 목표 금액을 달성했습니다."),
+    PROJECT_SUCCEEDED("%s님, 후원하신 '%s' 프로젝트의 펀딩이 성공적으로 마감되었습니다."),
+    PROJECT_FAILED("%s님, 후원하신 '%s' 프로젝트가 목표 금액에 도달하지 못해 마감되었습니다."),
+    AUCTION_ENDED("%s님, 참여하신 '%s' 경매가 종료되었습니다.");
+
+    private final String template;
+
+    NotificationType(String template) {
+        this.template = template;
+    }
+
+    public String format(String nickname, String subject) {
+        return String.format(template, nickname, subject);
+    }
+
+    public boolean isAuction() {
+        return this == AUCTION_ENDED;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ddip.backend.dto.enums;
+
+/**
+ * 탈퇴 회원 정리 단계. FK 순서대로 진행하며, 각 단계는 더 처리할 행이 없을 때 다음으로 넘어간다.
+ */
+public enum PurgeStage {
+    ADDRESSES,
+    WISHLISTS,
+    BIDS,
+    WON_AUCTIONS,
+    PLEDGES,
+    PROJECT_PLEDGES,
+    REWARD_TIERS,
+    PROJECTS,
+    AUCTION_BIDS,
+    AUCTIONS,
+    USER,
+    DONE;
+
+    public PurgeStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
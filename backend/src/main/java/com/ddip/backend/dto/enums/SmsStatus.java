@@ -0,0 +1,11 @@
+package com.ddip.backend.dto.enums;
+
+/**
+ * SMS 아웃박스 상태. SENDING 은 디스패처가 잡아 둔 상태이며, 임대 시간이 지나면 다시 잡힐 수 있다.
+ */
+public enum SmsStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
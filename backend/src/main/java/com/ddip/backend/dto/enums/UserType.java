@@ -0,0 +1,8 @@
+package com.ddip.backend.dto.enums;
+
+/**
+ * 설문으로 정해지는 사용자 성향 (추천 가중치 선택에 사용)
+ */
+public enum UserType {
+    VALUE_ORIENTED, PRACTICAL_ORIENTED, TREND_ORIENTED
+}
@@ -0,0 +1,16 @@
+package com.ddip.backend.dto.enums;
+
+import java.util.Locale;
+
+public enum WishlistTargetType {
+    PROJECT, AUCTION;
+
+    // 프론트는 "project" / "auction" 소문자로 보낸다
+    public static WishlistTargetType from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 위시리스트 대상입니다: " + value);
+        }
+    }
+}
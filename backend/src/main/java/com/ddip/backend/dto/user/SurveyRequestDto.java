@@ -0,0 +1,16 @@
+package com.ddip.backend.dto.user;
+
+import com.ddip.backend.dto.enums.UserType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyRequestDto {
+
+    @NotNull
+    private UserType userType;
+}
@@ -0,0 +1,14 @@
+package com.ddip.backend.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 정보나 활동 집계가 바뀌었음을 알리는 이벤트 (캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final Long userId;
+}
@@ -0,0 +1,56 @@
+package com.ddip.backend.dto.user;
+
+import com.ddip.backend.dto.enums.BankType;
+import com.ddip.backend.dto.enums.Role;
+import com.ddip.backend.dto.enums.UserType;
+import com.ddip.backend.entity.User;
+import com.ddip.backend.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * /api/users/me 읽기 모델
+ * - 프로필 필드와 활동 집계(프로젝트/후원/경매 수)를 한 번에 담아 캐시에 그대로 저장한다
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileDto {
+
+    private Long id;
+    private String email;
+    private String name;
+    private String nickname;
+    private String phoneNumber;
+    private String account;
+    private String accountHolder;
+    private Role role;
+    private BankType bankType;
+    private UserType userType;
+    private Boolean isActive;
+    private long projectCount;
+    private long pledgeCount;
+    private long auctionCount;
+
+    public static UserProfileDto of(User user, UserRepository.ActivityCounts counts) {
+        return UserProfileDto.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getUsername())
+                .nickname(user.getNickname())
+                .phoneNumber(user.getPhoneNumber())
+                .account(user.getAccount())
+                .accountHolder(user.getAccountHolder())
+                .role(user.getRole())
+                .bankType(user.getBankType())
+                .userType(user.getUserType())
+                .isActive(user.getIsActive())
+                .projectCount(counts.getProjectCount())
+                .pledgeCount(counts.getPledgeCount())
+                .auctionCount(counts.getAuctionCount())
+                .build();
+    }
+}
@@ -39,4 +39,15 @@ public class UserResponseDto {
                 .isActive(user.getIsActive())
                 .build();
     }
+
+    // 다른 사용자에게 노출되는 최소 정보 (실시간 입찰자 표시용)
+    public static UserResponseDto summaryOf(User user) {
+        return UserResponseDto.builder()
+                .id(user.getId())
+                .name(user.getNickname())
+                .nickname(user.getNickname())
+                .role(user.getRole())
+                .isActive(user.getIsActive())
+                .build();
+    }
 }
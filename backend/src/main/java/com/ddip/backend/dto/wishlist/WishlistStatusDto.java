@@ -0,0 +1,19 @@
+package com.ddip.backend.dto.wishlist;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WishlistStatusDto {
+
+    private WishlistTargetType type;
+    private Long targetId;
+    private boolean wishlisted;
+    private long wishCount;
+}
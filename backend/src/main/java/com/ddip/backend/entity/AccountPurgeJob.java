@@ -0,0 +1,79 @@
+package com.ddip.backend.entity;
+
+import com.ddip.backend.dto.enums.PurgeStage;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴 회원 하위 데이터 정리 작업. stage/processedRows 가 배치마다 같은 트랜잭션으로 갱신되는 체크포인트다.
+ * user 행은 마지막 단계에서 삭제되므로 FK 가 아닌 값으로 들고 있는다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "account_purge_jobs", indexes = @Index(name = "idx_account_purge_jobs_stage", columnList = "stage"))
+public class AccountPurgeJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, nullable = false)
+    private PurgeStage stage;
+
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // 여러 노드가 같은 작업을 잡아도 체크포인트는 한쪽만 반영된다
+    @Version
+    private Long version;
+
+    public static AccountPurgeJob of(Long userId) {
+        return AccountPurgeJob.builder()
+                .userId(userId)
+                .stage(PurgeStage.ADDRESSES)
+                .build();
+    }
+
+    public void recordBatch(int affectedRows, boolean stageFinished) {
+        this.processedRows += affectedRows;
+        this.attempts = 0;
+        this.lastError = null;
+
+        if (stageFinished) {
+            this.stage = stage.next();
+            if (stage == PurgeStage.DONE) {
+                this.completedAt = LocalDateTime.now();
+            }
+        }
+    }
+
+    public void fail(String error) {
+        this.attempts++;
+        this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+    }
+
+    public boolean isDone() {
+        return stage == PurgeStage.DONE;
+    }
+}
@@ -1,17 +1,20 @@
 package com.ddip.backend.entity;
 
+import com.ddip.backend.dto.enums.AuctionStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "auction")
+@Table(name = "auction", indexes = @Index(name = "idx_auction_status_end_at", columnList = "status, end_at"))
 public class Auction extends BaseTimeEntity{
 
     @Id
@@ -27,4 +30,32 @@ public class Auction extends BaseTimeEntity{
     @JoinColumn(name = "winner_user_id")
     private User winner;
 
+    @Column(length = 200, nullable = false)
+    private String title;
+
+    @Column(name = "start_price", nullable = false)
+    private Long startPrice;
+
+    // 캐시(실제 근거는 bids 최고가)
+    @Column(name = "current_price", nullable = false)
+    private Long currentPrice;
+
+    @Column(name = "bid_step", nullable = false)
+    private Long bidStep;
+
+    // null이면 즉시구매 불가
+    @Column(name = "buyout_price")
+    private Long buyoutPrice;
+
+    // 전이는 AuctionEngine 의 CAS 로 결정되고, 여기에는 조건부 update 로만 기록된다
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private AuctionStatus status;
+
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at")
+    private LocalDateTime endAt;
+
 }
@@ -0,0 +1,42 @@
+package com.ddip.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "bids",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bids_auction_sequence", columnNames = {"auction_id", "sequence"}),
+        indexes = {
+                @Index(name = "idx_bids_auction_bidder", columnList = "auction_id, bidder_id"),
+                @Index(name = "idx_bids_auction_created", columnList = "auction_id, created_date")
+        })
+public class Bid extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "auction_id", nullable = false)
+    private Auction auction;
+
+    // 탈퇴 회원의 입찰은 경매 기록 보존을 위해 삭제 대신 익명화(null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bidder_id")
+    private User bidder;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    // 경매별 이벤트 순번 (실시간 재접속 동기화 기준)
+    @Column(nullable = false)
+    private Long sequence;
+
+}
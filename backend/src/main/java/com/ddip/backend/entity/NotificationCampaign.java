@@ -0,0 +1,69 @@
+package com.ddip.backend.entity;
+
+import com.ddip.backend.dto.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트/경매 하나에 대한 일괄 알림 작업. (type, source_id) 당 한 번만 만들어진다.
+ * lastRecipientId 는 수신자 user id 기준 keyset 커서이며, 페이지 발송이 끝날 때마다 갱신되는 체크포인트다.
+ * 상태 변경은 모두 leaseToken 조건부 update 로 하므로, 임대를 잃은 노드의 기록은 반영되지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_campaigns",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_campaigns_source", columnNames = {"type", "source_id"}),
+        indexes = @Index(name = "idx_notification_campaigns_pending", columnList = "completed_at"))
+public class NotificationCampaign extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, nullable = false)
+    private NotificationType type;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    // 생성 시점의 프로젝트/경매 제목
+    @Column(length = 200, nullable = false)
+    private String subject;
+
+    @Column(length = 20, nullable = false)
+    private String channel;
+
+    @Column(name = "last_recipient_id", nullable = false)
+    private long lastRecipientId;
+
+    @Column(name = "sent_count", nullable = false)
+    private long sentCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    // 임대 만료 시각. 실패 후에는 다음 재시도 가능 시각으로 쓴다
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -12,7 +12,11 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "pledge")
+// 알림 수신자를 프로젝트별 user id 순으로 훑는다
+@Table(name = "pledge", indexes = {
+        @Index(name = "idx_pledge_project_user", columnList = "project_id, user_id"),
+        @Index(name = "idx_pledge_user", columnList = "user_id")
+})
 public class Pledge extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
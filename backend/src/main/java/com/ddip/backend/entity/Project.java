@@ -8,17 +8,28 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 2차 캐시 대상 (region: project). currentAmount 는 후원마다 바뀌는 값이라 캐시된 상태를 그대로 내보내지 않는다.
+ * 조회 응답은 ProjectRepository.findVersion 의 값으로 덮어쓰고, 마감 판정은 잠금 조회(findByIdForUpdate)로 DB 값을 쓴다.
+ */
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_status_end_at", columnList = "status, end_at"),
+        @Index(name = "idx_projects_creator_status", columnList = "creator_id, status")
+})
 public class Project extends BaseTimeEntity {
 
     @Id
@@ -69,6 +80,7 @@ public class Project extends BaseTimeEntity {
     private String summary;
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project.reward-tiers")
     @Builder.Default
     private List<RewardTier> rewardTiers = new ArrayList<>();
 
@@ -112,4 +124,12 @@ public class Project extends BaseTimeEntity {
     public void cancel() {
         this.status = ProjectStatus.CANCELED;
     }
+
+    /**
+     * 마감: 목표 금액 달성 여부로 SUCCESS/FAILED
+     */
+    public ProjectStatus close() {
+        this.status = currentAmount >= targetAmount ? ProjectStatus.SUCCESS : ProjectStatus.FAILED;
+        return status;
+    }
 }
\ No newline at end of file
@@ -5,15 +5,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 2차 캐시 대상 (region: reward-tier). soldQuantity 는 집계 쿼리(findFeatureRowsAfter)로만 읽고 캐시된 값은 쓰지 않는다.
+ */
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reward-tier")
 @Table(name = "reward_tiers")
 public class RewardTier extends BaseTimeEntity{
 
@@ -0,0 +1,88 @@
+package com.ddip.backend.entity;
+
+import com.ddip.backend.dto.enums.SmsStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 SMS. 업무 데이터와 같은 트랜잭션으로 저장되고, 커밋 이후 SmsOutboxDispatcher 가 묶어서 보낸다.
+ * SENDING 상태에서 next_attempt_at 은 임대 만료 시각이다. 발송 도중 노드가 죽으면 만료 후 다시 잡힌다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "sms_outbox", indexes = {
+        @Index(name = "idx_sms_outbox_claim", columnList = "provider, status, next_attempt_at"),
+        @Index(name = "idx_sms_outbox_claim_token", columnList = "claim_token")
+})
+public class SmsOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 20, nullable = false)
+    private String provider;
+
+    @Column(length = 20, nullable = false)
+    private String recipient;
+
+    @Column(length = 1000, nullable = false)
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private SmsStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static SmsOutbox of(String provider, String recipient, String text) {
+        return SmsOutbox.builder()
+                .provider(provider)
+                .recipient(recipient)
+                .text(text)
+                .status(SmsStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void retryAt(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.status = SmsStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.claimToken = null;
+        this.lastError = truncate(error);
+    }
+
+    public void giveUp(String error) {
+        this.attempts++;
+        this.status = SmsStatus.FAILED;
+        this.text = "";
+        this.claimToken = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        return error == null ? null : error.substring(0, Math.min(error.length(), 500));
+    }
+}
@@ -2,6 +2,7 @@ package com.ddip.backend.entity;
 
 import com.ddip.backend.dto.enums.BankType;
 import com.ddip.backend.dto.enums.Role;
+import com.ddip.backend.dto.enums.UserType;
 import com.ddip.backend.dto.oauth2.SocialUserRequestDto;
 import com.ddip.backend.dto.user.ProfileRequestDto;
 import com.ddip.backend.dto.user.UserRequestDto;
@@ -11,15 +12,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// 프로젝트 작성자 등 연관으로 자주 다시 읽히므로 2차 캐시에 둔다 (region: user). 컬렉션은 캐시하지 않는다
 @Entity
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "user")
 public class User extends BaseTimeEntity{
 
@@ -63,19 +70,29 @@ public class User extends BaseTimeEntity{
     @Column(name = "is_active", nullable = false)
     private Boolean isActive;
 
-    @OneToMany(mappedBy = "creator", orphanRemoval = true, cascade = CascadeType.ALL)
+    // 설문 결과 성향. 설문 전에는 null
+    @Column(name = "user_type", length = 30)
+    @Enumerated(EnumType.STRING)
+    private UserType userType;
+
+    // 탈퇴 시각. 하위 데이터 정리는 AccountPurgeJob 이 비동기로 하고 마지막에 행을 삭제한다
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // 회원 삭제 시 연쇄 삭제하지 않는다. 정리는 AccountPurgeBatchService 가 배치로 한다
+    @OneToMany(mappedBy = "creator")
     private List<Project> projects = new ArrayList<>();
 
-    @OneToMany(mappedBy = "user", orphanRemoval = true, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "user")
     private List<Pledge> pledges = new ArrayList<>();
 
-    @OneToMany(mappedBy = "user", orphanRemoval = true, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "user")
     private List<UserAddress> addresses = new ArrayList<>();
 
-    @OneToMany(mappedBy = "winner", orphanRemoval = true, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "winner")
     private List<Auction> wonAuctions = new ArrayList<>();
 
-    @OneToMany(mappedBy = "seller", orphanRemoval = true, cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "seller")
     private List<Auction> sellerAuctions = new ArrayList<>();
 
     public static User from(UserRequestDto dto) {
@@ -98,6 +115,7 @@ public class User extends BaseTimeEntity{
         return User.builder()
                 .email(dto.getEmail())
                 .username("TMP")
+                .provider(dto.getProvider())
                 .nickname(dto.getNickname())
                 .phoneNumber("TMP")
                 .role(dto.getRole())
@@ -125,7 +143,25 @@ public class User extends BaseTimeEntity{
         this.bankType = updateRequest.getBankType();
     }
 
+    public void updateUserType(UserType userType) {
+        this.userType = userType;
+    }
+
     public void updatePassword(String password) {
         this.password = password;
     }
-}
\ No newline at end of file
+
+    /**
+     * 탈퇴 처리: 로그인/재가입에 쓰이는 식별 정보만 즉시 지우고 비활성화한다
+     */
+    public void markDeleted() {
+        this.email = null;
+        this.password = null;
+        this.isActive = false;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ddip.backend.entity;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위시리스트 항목. 프로젝트와 경매를 함께 담으므로 대상은 FK 없이 (type, id) 로 가리킨다.
+ * 추가/삭제는 WishlistCustomRepository 의 단일 SQL 로만 하며 projects/auctions 행은 건드리지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "wishlists",
+        uniqueConstraints = @UniqueConstraint(name = "uk_wishlists_user_target",
+                columnNames = {"user_id", "target_type", "target_id"}),
+        indexes = @Index(name = "idx_wishlists_target", columnList = "target_type, target_id"))
+public class Wishlist extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 20, nullable = false)
+    private WishlistTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+}
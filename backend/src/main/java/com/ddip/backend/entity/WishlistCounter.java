@@ -0,0 +1,37 @@
+package com.ddip.backend.entity;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대상별 찜 수. projects 행의 잠금을 피하려고 별도 테이블에 두고,
+ * 메모리에 모인 증감분을 WishlistCounters 가 주기적으로 upsert 한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "wishlist_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_wishlist_counters_target",
+                columnNames = {"target_type", "target_id"}))
+public class WishlistCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 20, nullable = false)
+    private WishlistTargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "wish_count", nullable = false)
+    private long wishCount;
+}
@@ -0,0 +1,192 @@
+package com.ddip.backend.handler;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionSocketMessage;
+import com.ddip.backend.dto.auction.AuctionSyncResponseDto;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.dto.auction.BidResultDto;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.ddip.backend.handler.codec.AuctionBinaryCodec;
+import com.ddip.backend.handler.codec.AuctionSocketSession;
+import com.ddip.backend.security.auth.CustomUserDetails;
+import com.ddip.backend.service.auction.cluster.AuctionRouter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 경매 웹소켓
+ * - 입장 시 lastSequence 를 보내면 누락 이벤트(또는 스냅샷)를 auction:sync 로 먼저 내려준다
+ * - 입장과 동기화 사이에 발생한 이벤트는 중복될 수 있으므로 클라이언트는 sequence 로 걸러낸다
+ * - 접속 시 서브프로토콜 ddip.cbor.v1 을 요청하면 JSON 대신 CBOR 바이너리 프레임을 사용한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionWebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
+
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int SEND_BUFFER_LIMIT = 512 * 1024;
+
+    private final AuctionRouter auctionRouter;
+    private final ObjectMapper objectMapper;
+    private final AuctionBinaryCodec binaryCodec;
+
+    private final Map<String, AuctionSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> rooms = new ConcurrentHashMap<>();
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(AuctionBinaryCodec.SUBPROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        boolean binary = AuctionBinaryCodec.SUBPROTOCOL.equals(session.getAcceptedProtocol());
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT);
+        sessions.put(session.getId(), new AuctionSocketSession(decorated, binary));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        handle(session, objectMapper.readValue(message.getPayload(), AuctionSocketMessage.class));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        handle(session, binaryCodec.decode(message.getPayload()));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+        rooms.values().forEach(members -> members.remove(session.getId()));
+    }
+
+    @EventListener
+    public void onAuctionEvent(AuctionEventDto event) {
+        Set<String> members = rooms.get(event.getAuctionId());
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        // 포맷별로 방 인원 수와 관계없이 한 번만 인코딩
+        TextMessage text = null;
+        BinaryMessage binary = null;
+        UserResponseDto bidder = event.getPayload() instanceof BidPlacedEvent bid ? bid.getBidder() : null;
+
+        for (String sessionId : members) {
+            AuctionSocketSession session = sessions.get(sessionId);
+            if (session == null || !session.isOpen()) {
+                members.remove(sessionId);
+                continue;
+            }
+
+            if (session.isBinary()) {
+                if (binary == null) {
+                    binary = new BinaryMessage(binaryCodec.encodeEvent(event));
+                }
+                if (bidder != null && session.registerBidder(bidder.getId())) {
+                    send(session, new BinaryMessage(binaryCodec.encodeBidder(bidder)));
+                }
+                send(session, binary);
+            } else {
+                if (text == null) {
+                    text = toTextMessage(event);
+                }
+                send(session, text);
+            }
+        }
+    }
+
+    private void handle(WebSocketSession rawSession, AuctionSocketMessage request) {
+        AuctionSocketSession session = sessions.get(rawSession.getId());
+
+        if (session == null || request.getType() == null || request.getAuctionId() == null) {
+            log.info("Invalid socket message. sessionId={}", rawSession.getId());
+            return;
+        }
+
+        switch (request.getType()) {
+            case "auction:join" -> join(session, request);
+            case "auction:leave" -> leave(session.getId(), request.getAuctionId());
+            case "bid:place" -> placeBid(session, request);
+            default -> log.info("Unknown socket message type: {}", request.getType());
+        }
+    }
+
+    private void join(AuctionSocketSession session, AuctionSocketMessage request) {
+        rooms.computeIfAbsent(request.getAuctionId(), id -> ConcurrentHashMap.newKeySet()).add(session.getId());
+
+        long lastSequence = request.getLastSequence() == null ? 0L : request.getLastSequence();
+        AuctionSyncResponseDto sync = auctionRouter.sync(request.getAuctionId(), lastSequence);
+        sendTyped(session, "auction:sync", sync);
+    }
+
+    private void leave(String sessionId, Long auctionId) {
+        Set<String> members = rooms.get(auctionId);
+        if (members != null) {
+            members.remove(sessionId);
+        }
+    }
+
+    private void placeBid(AuctionSocketSession session, AuctionSocketMessage request) {
+        long amount = request.getAmount() == null ? 0L : request.getAmount();
+        BidResultDto result = auctionRouter.placeBid(request.getAuctionId(), currentBidder(session.getSession()), amount);
+
+        // 성공 이벤트는 방 전체로 전파되므로 실패만 요청자에게 회신
+        if (!result.isAccepted()) {
+            sendTyped(session, "bid:failed", result.getFailure());
+        }
+    }
+
+    private UserResponseDto currentBidder(WebSocketSession session) {
+        if (session.getPrincipal() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return UserResponseDto.summaryOf(userDetails.getUser());
+        }
+        return null;
+    }
+
+    private void sendTyped(AuctionSocketSession session, String type, Object payload) {
+        if (session.isBinary()) {
+            send(session, new BinaryMessage(binaryCodec.encodeGeneric(type, payload)));
+        } else {
+            send(session, toTextMessage(Map.of("type", type, "payload", payload)));
+        }
+    }
+
+    private TextMessage toTextMessage(Object payload) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("웹소켓 메시지 직렬화 실패", e);
+        }
+    }
+
+    private void send(AuctionSocketSession session, WebSocketMessage<?> message) {
+        try {
+            session.getSession().sendMessage(message);
+        } catch (IOException | IllegalStateException e) {
+            log.info("Failed to send socket message. sessionId={}", session.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ddip.backend.handler.codec;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionSocketMessage;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 실시간 경매 바이너리(CBOR) 프레임 인코더/디코더
+ *
+ * 입찰 프레임은 필드명 없이 배열로 인코딩하고, 입찰자는 userId 참조만 싣는다.
+ * 입찰자 정보는 세션당 한 번 bidder 프레임으로 따로 보낸다.
+ * - bidder     : [0, userId, nickname]
+ * - bid:placed : [1, auctionId, sequence, bidId, amount, bidderId, currentPrice, createdAtEpochMillis]
+ * - 그 외      : { type, payload } 형태의 CBOR 맵
+ */
+@Component
+public class AuctionBinaryCodec {
+
+    public static final String SUBPROTOCOL = "ddip.cbor.v1";
+
+    static final int FRAME_BIDDER = 0;
+    static final int FRAME_BID_PLACED = 1;
+
+    // 가상 스레드에서는 스레드별 버퍼 재사용이 되지 않으므로 작은 공용 풀에서 빌려 쓰고 돌려준다
+    // - 풀이 비면 새로 만들고, 가득 차 있거나 큰 프레임으로 늘어난 버퍼는 버린다
+    private static final int INITIAL_BUFFER_SIZE = 128;
+    private static final int MAX_POOLED_BUFFER_SIZE = 8 * 1024;
+    private static final int BUFFER_POOL_SIZE = 64;
+
+    private final BlockingQueue<ByteArrayBuilder> bufferPool = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final ObjectMapper cborMapper = CBORMapper.builder().findAndAddModules().build();
+
+    public byte[] encodeEvent(AuctionEventDto event) {
+        if (event.getPayload() instanceof BidPlacedEvent bid) {
+            return encodeBidPlaced(event.getSequence(), bid);
+        }
+        return encodeGeneric(event.getType().getValue(), event);
+    }
+
+    public byte[] encodeBidPlaced(long sequence, BidPlacedEvent bid) {
+        ByteArrayBuilder buffer = borrowBuffer();
+
+        try (CBORGenerator generator = cborFactory.createGenerator(buffer)) {
+            generator.writeStartArray(bid, 8);
+            generator.writeNumber(FRAME_BID_PLACED);
+            generator.writeNumber(bid.getAuctionId());
+            generator.writeNumber(sequence);
+            writeNullableNumber(generator, bid.getBidId());
+            generator.writeNumber(bid.getAmount());
+            writeNullableNumber(generator, bid.getBidder() == null ? null : bid.getBidder().getId());
+            generator.writeNumber(bid.getCurrentPrice());
+            writeNullableNumber(generator, bid.getCreatedAt() == null ? null
+                    : bid.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR 인코딩 실패", e);
+        }
+        return release(buffer);
+    }
+
+    public byte[] encodeBidder(UserResponseDto bidder) {
+        ByteArrayBuilder buffer = borrowBuffer();
+
+        try (CBORGenerator generator = cborFactory.createGenerator(buffer)) {
+            generator.writeStartArray(bidder, 3);
+            generator.writeNumber(FRAME_BIDDER);
+            generator.writeNumber(bidder.getId());
+            generator.writeString(bidder.getNickname());
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR 인코딩 실패", e);
+        }
+        return release(buffer);
+    }
+
+    public byte[] encodeGeneric(String type, Object payload) {
+        ByteArrayBuilder buffer = borrowBuffer();
+
+        try {
+            cborMapper.writeValue(buffer, Map.of("type", type, "payload", payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR 인코딩 실패", e);
+        }
+        return release(buffer);
+    }
+
+    public AuctionSocketMessage decode(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        try {
+            return cborMapper.readValue(bytes, AuctionSocketMessage.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR 디코딩 실패", e);
+        }
+    }
+
+    private ByteArrayBuilder borrowBuffer() {
+        ByteArrayBuilder buffer = bufferPool.poll();
+        return buffer != null ? buffer : new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+    }
+
+    /**
+     * 내용을 복사해 돌려주고 버퍼는 비워서 풀에 반납
+     * (toByteArray 는 블록이 하나뿐이면 비우지 않으므로 reset 을 직접 부른다)
+     */
+    private byte[] release(ByteArrayBuilder buffer) {
+        boolean reusable = buffer.size() <= MAX_POOLED_BUFFER_SIZE;
+        byte[] bytes = buffer.toByteArray();
+        if (reusable) {
+            buffer.reset();
+            bufferPool.offer(buffer);
+        }
+        return bytes;
+    }
+
+    int pooledBuffers() {
+        return bufferPool.size();
+    }
+
+    private void writeNullableNumber(CBORGenerator generator, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+}
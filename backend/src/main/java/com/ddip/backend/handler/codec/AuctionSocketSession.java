@@ -0,0 +1,49 @@
+package com.ddip.backend.handler.codec;
+
+import lombok.Getter;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 웹소켓 세션 + 협상된 전송 포맷 + 이미 전송한 입찰자 목록
+ */
+@Getter
+public class AuctionSocketSession {
+
+    private static final int MAX_KNOWN_BIDDERS = 1_024;
+
+    private final WebSocketSession session;
+    private final boolean binary;
+
+    // 오래된 입찰자는 밀어내고, 다시 나오면 bidder 프레임을 재전송한다
+    private final Map<Long, Boolean> knownBidders = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > MAX_KNOWN_BIDDERS;
+        }
+    };
+
+    public AuctionSocketSession(WebSocketSession session, boolean binary) {
+        this.session = session;
+        this.binary = binary;
+    }
+
+    /**
+     * 처음 보는 입찰자면 true (호출과 동시에 등록)
+     */
+    public boolean registerBidder(Long bidderId) {
+        synchronized (knownBidders) {
+            return knownBidders.put(bidderId, Boolean.TRUE) == null;
+        }
+    }
+
+    public String getId() {
+        return session.getId();
+    }
+
+    public boolean isOpen() {
+        return session.isOpen();
+    }
+}
@@ -0,0 +1,38 @@
+package com.ddip.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 직접 만든 로컬/Redis 캐시의 적중 기록. Micrometer 캐시 바인더와 같은 cache.gets{cache, result} 로 남겨
+ * 적중률을 hit / (hit + miss) 로 같은 대시보드에서 본다. cache 이름은 코드에 고정된 값만 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> hits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> misses = new ConcurrentHashMap<>();
+
+    public void hit(String cache) {
+        hits.computeIfAbsent(cache, name -> counter(name, "hit")).increment();
+    }
+
+    public void miss(String cache) {
+        misses.computeIfAbsent(cache, name -> counter(name, "miss")).increment();
+    }
+
+    private Counter counter(String cache, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ddip.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 닫힌 스코프의 SQL 수를 미터로 남기고, 예산 초과와 N+1 후보를 경고한다
+ * - ddip.{type}.statements: 스코프별 SQL 수 분포
+ * - ddip.query.n_plus_one: 같은 모양의 SQL 이 nPlusOneThreshold 번 이상 반복된 스코프 수
+ * 태그는 uri 패턴 / 클래스·메서드 이름만 쓰고, SQL 모양은 로그로만 남긴다 (카디널리티)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryScopeReporter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${query-guard.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${query-guard.warn-statements:50}")
+    private int warnStatements;
+
+    public void reportRequest(StatementCounter.Scope scope, String method, String uri) {
+        DistributionSummary.builder("ddip.http.server.statements")
+                .description("Hibernate statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getTotal());
+        inspect("request", method + " " + uri, scope);
+    }
+
+    public void reportService(StatementCounter.Scope scope, String className, String methodName) {
+        DistributionSummary.builder("ddip.service.statements")
+                .description("Hibernate statements executed per transactional service call")
+                .baseUnit("statements")
+                .tag("class", className)
+                .tag("method", methodName)
+                .register(meterRegistry)
+                .record(scope.getTotal());
+        inspect("service", className + "." + methodName, scope);
+    }
+
+    private void inspect(String type, String name, StatementCounter.Scope scope) {
+        if (warnStatements > 0 && scope.getTotal() > warnStatements) {
+            log.warn("Statement budget exceeded. {}={}, statements={}, budget={}", type, name, scope.getTotal(), warnStatements);
+        }
+
+        Map<String, Integer> repeated = scope.repeated(nPlusOneThreshold);
+        if (repeated.isEmpty()) {
+            return;
+        }
+        Counter.builder("ddip.query.n_plus_one")
+                .description("Scopes that repeated the same statement shape")
+                .tag("type", type)
+                .tag("scope", name)
+                .register(meterRegistry)
+                .increment();
+        repeated.forEach((shape, count) ->
+                log.warn("Possible N+1. {}={}, executions={}, sql={}", type, name, count, shape));
+    }
+}
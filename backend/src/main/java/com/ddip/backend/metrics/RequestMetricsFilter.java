@@ -0,0 +1,45 @@
+package com.ddip.backend.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 SQL 스코프. 수와 N+1 후보는 QueryScopeReporter 가 기록한다.
+ * 시큐리티 필터에서 실행되는 사용자 조회까지 세도록 가장 바깥에 둔다.
+ * uri 태그는 http.server.requests 와 같이 매핑 패턴(/api/crowd/{projectId})을 써서 카디널리티를 묶어 둔다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final StatementCounter statementCounter;
+    private final QueryScopeReporter queryScopeReporter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter.Scope scope = statementCounter.open("request");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementCounter.close(scope);
+            queryScopeReporter.reportRequest(scope, request.getMethod(), uri(request));
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ddip.backend.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Transactional 서비스 호출마다 SQL 스코프를 연다. 서비스 안에서 다른 서비스를 부르면 각자 따로 집계된다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceQueryScopeAspect {
+
+    private final StatementCounter statementCounter;
+    private final QueryScopeReporter queryScopeReporter;
+
+    @Around("within(com.ddip.backend.service..*) && "
+            + "(@within(org.springframework.transaction.annotation.Transactional) "
+            + "|| @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+
+        StatementCounter.Scope scope = statementCounter.open(className + "." + methodName);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            statementCounter.close(scope);
+            queryScopeReporter.reportService(scope, className, methodName);
+        }
+    }
+}
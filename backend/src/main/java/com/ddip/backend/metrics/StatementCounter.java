@@ -0,0 +1,109 @@
+package com.ddip.backend.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Hibernate 가 준비하는 SQL 을 스레드별 스코프 단위로 센다 (hibernate.session_factory.statement_inspector 로 등록)
+ * - 스코프는 HTTP 요청(RequestMetricsFilter), 트랜잭션 서비스 호출(ServiceQueryScopeAspect), 테스트(QueryBudgetExtension)가 연다
+ * - 스코프는 중첩되며, SQL 하나는 열려 있는 모든 스코프에 함께 집계된다
+ * - IN 목록 길이만 다른 SQL 은 같은 모양으로 보고, 같은 모양이 반복되면 N+1 후보다
+ * - 스코프 밖(스케줄러 등)과 JdbcTemplate 로 직접 실행한 SQL 은 세지 않는다
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ThreadLocal<Deque<Scope>> scopes = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Deque<Scope> active = scopes.get();
+        if (active != null && !active.isEmpty()) {
+            String shape = shapeOf(sql);
+            for (Scope scope : active) {
+                scope.record(shape);
+            }
+        }
+        return sql;
+    }
+
+    public Scope open(String name) {
+        Deque<Scope> active = scopes.get();
+        if (active == null) {
+            active = new ArrayDeque<>();
+            scopes.set(active);
+        }
+        Scope scope = new Scope(name);
+        active.push(scope);
+        return scope;
+    }
+
+    /**
+     * 안쪽 스코프가 예외로 닫히지 않았어도 scope 까지 함께 닫는다
+     */
+    public Scope close(Scope scope) {
+        Deque<Scope> active = scopes.get();
+        if (active != null) {
+            Scope top;
+            do {
+                top = active.poll();
+            } while (top != null && top != scope);
+
+            if (active.isEmpty()) {
+                scopes.remove();
+            }
+        }
+        return scope;
+    }
+
+    static String shapeOf(String sql) {
+        String collapsed = IN_LIST.matcher(sql).replaceAll("(?..)");
+        return WHITESPACE.matcher(collapsed).replaceAll(" ").trim();
+    }
+
+    public static final class Scope {
+
+        private final String name;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int total;
+
+        private Scope(String name) {
+            this.name = name;
+        }
+
+        private void record(String shape) {
+            total++;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * threshold 번 이상 실행된 모양 (많이 실행된 순)
+         */
+        public Map<String, Integer> repeated(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+    }
+}
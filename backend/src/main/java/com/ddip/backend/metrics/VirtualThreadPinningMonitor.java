@@ -0,0 +1,87 @@
+package com.ddip.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감시. JFR jdk.VirtualThreadPinned 를 프로세스 안에서 스트리밍한다.
+ * - synchronized 안에서 블로킹(드라이버 I/O, 락 대기)하면 가상 스레드가 캐리어를 놓지 못해 처리량이 캐리어 수로 묶인다
+ * - ddip.jvm.virtual_threads.pinned{frame}: 고정 시간. frame 은 스택에서 처음 만나는 우리 코드(클래스.메서드)
+ * - 같은 frame 은 처음 한 번만 스택 전체를 경고로 남긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.ddip.";
+    private static final int LOGGED_FRAMES = 20;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    @Value("${virtual-threads.pinned-threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stream.close();
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String frame = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName())
+                .filter(name -> name.startsWith(APP_PACKAGE))
+                .findFirst()
+                .orElse("external");
+
+        Timer.builder("ddip.jvm.virtual_threads.pinned")
+                .description("Time a virtual thread blocked while pinned to its carrier")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reported.add(frame)) {
+            String stack = frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(f -> "\tat " + f.getMethod().getType().getName() + "." + f.getMethod().getName()
+                            + ":" + f.getLineNumber())
+                    .collect(Collectors.joining("\n"));
+            log.warn("Virtual thread pinned for {} ms. frame={}\n{}", event.getDuration().toMillis(), frame, stack);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ddip.backend.repository;
+
+import com.ddip.backend.dto.enums.PurgeStage;
+import com.ddip.backend.entity.AccountPurgeJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AccountPurgeJobRepository extends JpaRepository<AccountPurgeJob, Long> {
+
+    List<AccountPurgeJob> findTop20ByStageNotAndAttemptsLessThanOrderByIdAsc(PurgeStage stage, int attempts);
+}
@@ -0,0 +1,44 @@
+package com.ddip.backend.repository;
+
+import com.ddip.backend.dto.enums.AuctionStatus;
+import com.ddip.backend.entity.Auction;
+import com.ddip.backend.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AuctionRepository extends JpaRepository<Auction, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Auction a set a.currentPrice = :price where a.id = :auctionId and a.currentPrice < :price")
+    int raiseCurrentPrice(@Param("auctionId") Long auctionId, @Param("price") Long price);
+
+    @Query("select a from Auction a where a.status in :statuses and a.endAt > :now " +
+            "and (a.startAt is null or a.startAt <= :now)")
+    List<Auction> findLive(@Param("now") LocalDateTime now, @Param("statuses") Collection<AuctionStatus> statuses);
+
+    @Query("select a.id from Auction a where a.status in :statuses and a.endAt <= :now")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, @Param("statuses") Collection<AuctionStatus> statuses);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Auction a set a.status = :status where a.id = :auctionId and a.status in :expected")
+    int updateStatus(@Param("auctionId") Long auctionId,
+                     @Param("expected") Collection<AuctionStatus> expected,
+                     @Param("status") AuctionStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Auction a set a.status = :status, a.winner = :winner, a.currentPrice = :finalPrice " +
+            "where a.id = :auctionId and a.status in :expected")
+    int close(@Param("auctionId") Long auctionId,
+              @Param("expected") Collection<AuctionStatus> expected,
+              @Param("status") AuctionStatus status,
+              @Param("winner") User winner,
+              @Param("finalPrice") Long finalPrice);
+}
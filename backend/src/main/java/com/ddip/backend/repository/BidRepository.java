@@ -0,0 +1,31 @@
+package com.ddip.backend.repository;
+
+import com.ddip.backend.entity.Bid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BidRepository extends JpaRepository<Bid, Long> {
+
+    long countByAuctionId(Long auctionId);
+
+    Optional<Bid> findTopByAuctionIdOrderByAmountDesc(Long auctionId);
+
+    @Query("select coalesce(max(b.sequence), 0) from Bid b where b.auction.id = :auctionId")
+    long findLastSequence(@Param("auctionId") Long auctionId);
+
+    /**
+     * [auctionId, 전체 입찰 수, since 이후 입찰 수]
+     */
+    @Query("select b.auction.id, count(b), sum(case when b.createTime >= :since then 1 else 0 end) " +
+            "from Bid b where b.auction.id in :auctionIds group by b.auction.id")
+    List<Object[]> countBidsByAuction(@Param("auctionIds") Collection<Long> auctionIds,
+                                      @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,92 @@
+package com.ddip.backend.repository;
+
+import com.ddip.backend.entity.NotificationCampaign;
+import com.ddip.backend.repository.custom.NotificationCampaignCustomRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationCampaignRepository extends JpaRepository<NotificationCampaign, Long>, NotificationCampaignCustomRepository {
+
+    @Query("""
+            select c.id from NotificationCampaign c
+            where c.completedAt is null and c.attempts < :maxAttempts
+              and (c.leaseUntil is null or c.leaseUntil < :now)
+            order by c.id
+            """)
+    List<Long> findRunnableIds(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            update NotificationCampaign c set c.leaseToken = :token, c.leaseUntil = :leaseUntil
+            where c.id = :id and c.completedAt is null and (c.leaseUntil is null or c.leaseUntil < :now)
+            """)
+    int acquire(@Param("id") Long id, @Param("token") String token,
+                @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update NotificationCampaign c
+            set c.lastRecipientId = :lastRecipientId, c.sentCount = c.sentCount + :sent,
+                c.failedCount = c.failedCount + :failed, c.attempts = 0, c.lastError = null, c.leaseUntil = :leaseUntil
+            where c.id = :id and c.leaseToken = :token
+            """)
+    int checkpoint(@Param("id") Long id, @Param("token") String token, @Param("lastRecipientId") long lastRecipientId,
+                   @Param("sent") long sent, @Param("failed") long failed, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("""
+            update NotificationCampaign c set c.completedAt = :now, c.leaseToken = null, c.leaseUntil = null
+            where c.id = :id and c.leaseToken = :token
+            """)
+    int complete(@Param("id") Long id, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update NotificationCampaign c
+            set c.attempts = c.attempts + 1, c.lastError = :error, c.leaseToken = null, c.leaseUntil = :retryAt
+            where c.id = :id and c.leaseToken = :token
+            """)
+    int fail(@Param("id") Long id, @Param("token") String token, @Param("error") String error,
+             @Param("retryAt") LocalDateTime retryAt);
+
+    /**
+     * 프로젝트 후원자 (취소 제외, 탈퇴/번호 없는 회원 제외). 여러 번 후원해도 한 번만, user id 순
+     */
+    @Query("""
+            select distinct u.id as userId, u.phoneNumber as phoneNumber, u.nickname as nickname
+            from Pledge pl join pl.user u
+            where pl.project.id = :projectId and u.id > :afterUserId
+              and pl.status <> com.ddip.backend.dto.enums.PledgeStatus.CANCELED
+              and u.deletedAt is null and u.phoneNumber is not null
+            order by u.id
+            """)
+    List<RecipientRow> findBackersAfter(@Param("projectId") Long projectId, @Param("afterUserId") long afterUserId,
+                                        Pageable pageable);
+
+    /**
+     * 경매 입찰자. 여러 번 입찰해도 한 번만, user id 순
+     */
+    @Query("""
+            select distinct u.id as userId, u.phoneNumber as phoneNumber, u.nickname as nickname
+            from Bid b join b.bidder u
+            where b.auction.id = :auctionId and u.id > :afterUserId
+              and u.deletedAt is null and u.phoneNumber is not null
+            order by u.id
+            """)
+    List<RecipientRow> findBiddersAfter(@Param("auctionId") Long auctionId, @Param("afterUserId") long afterUserId,
+                                        Pageable pageable);
+
+    interface RecipientRow {
+        Long getUserId();
+        String getPhoneNumber();
+        String getNickname();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ddip.backend.repository;
+
+import com.ddip.backend.entity.Pledge;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PledgeRepository extends JpaRepository<Pledge, Long> {
+
+    /**
+     * 최근 후원한 프로젝트와 후원 금액 (취소 제외, 최신순)
+     * - 추천 인덱스에서 빠진(마감, 취소) 프로젝트도 취향에 반영하도록 프로젝트 행을 함께 읽는다
+     */
+    @Query("""
+            select p.id as projectId, p.categoryPath as categoryPath, p.tags as tags, pl.amount as amount
+            from Pledge pl
+            join pl.project p
+            where pl.user.id = :userId
+              and pl.status <> com.ddip.backend.dto.enums.PledgeStatus.CANCELED
+            order by pl.id desc
+            """)
+    List<PledgedProjectRow> findRecentPledgedProjects(@Param("userId") Long userId, Pageable pageable);
+
+    interface PledgedProjectRow {
+        Long getProjectId();
+        String getCategoryPath();
+        String getTags();
+        Long getAmount();
+    }
+}
@@ -1,13 +1,131 @@
 package com.ddip.backend.repository;
 
+import com.ddip.backend.dto.enums.ProjectStatus;
 import com.ddip.backend.entity.Project;
 import com.ddip.backend.repository.custom.ProjectCustomRepository;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectCustomRepository {
     Optional<Project> findById(Long id);
+
+    /**
+     * 2차 캐시를 거치지 않고 DB 값을 읽는다 (마감 판정처럼 currentAmount 가 정확해야 할 때)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Project p where p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 조건부 GET 용 버전. 본문 없이 PK 로 두 컬럼만 읽는다 (모금액은 캐시된 엔티티 대신 이 값을 응답에 쓴다)
+     */
+    @Query("select p.modifiedDate as modifiedDate, p.currentAmount as currentAmount from Project p where p.id = :id")
+    Optional<ProjectVersion> findVersion(@Param("id") Long id);
+
+    /**
+     * 추천 인덱스 적재용 keyset 페이지. 리워드 가격 분포는 group by 로 함께 집계한다
+     */
+    @Query("""
+            select p.id as id, p.title as title, p.summary as summary, p.thumbnailUrl as thumbnailUrl,
+                   p.categoryPath as categoryPath, p.tags as tags,
+                   p.currentAmount as currentAmount, p.targetAmount as targetAmount,
+                   p.startAt as startAt, p.endAt as endAt,
+                   min(rt.price) as minPrice, max(rt.price) as maxPrice, avg(rt.price) as avgPrice,
+                   count(rt) as tierCount, coalesce(sum(rt.soldQuantity), 0) as soldCount
+            from Project p
+            left join p.rewardTiers rt
+            where p.id > :afterId
+              and p.status in :statuses
+              and (p.endAt is null or p.endAt > :now)
+            group by p.id
+            order by p.id
+            """)
+    List<ProjectFeatureRow> findFeatureRowsAfter(@Param("afterId") Long afterId,
+                                                 @Param("statuses") Collection<ProjectStatus> statuses,
+                                                 @Param("now") LocalDateTime now,
+                                                 Pageable pageable);
+
+    /**
+     * 유사 프로젝트 인덱스 적재용 keyset 페이지 (태그/카테고리만)
+     */
+    @Query("""
+            select p.id as id, p.title as title, p.thumbnailUrl as thumbnailUrl,
+                   p.categoryPath as categoryPath, p.tags as tags
+            from Project p
+            where p.id > :afterId
+              and p.status <> com.ddip.backend.dto.enums.ProjectStatus.CANCELED
+            order by p.id
+            """)
+    List<ProjectTagRow> findTagRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 모집 중인데 마감 시각이 지난 프로젝트
+     */
+    @Query("select p.id from Project p where p.status in :statuses and p.endAt < :now order by p.endAt")
+    List<Long> findExpiredIds(@Param("statuses") Collection<ProjectStatus> statuses,
+                              @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 모집 중 목표 금액에 도달했지만 달성 알림 작업이 아직 없는 프로젝트
+     */
+    @Query("""
+            select p.id from Project p
+            where p.status in :statuses and p.currentAmount >= p.targetAmount
+              and not exists (
+                  select c.id from NotificationCampaign c
+                  where c.type = com.ddip.backend.dto.enums.NotificationType.PROJECT_TARGET_REACHED and c.sourceId = p.id)
+            order by p.id
+            """)
+    List<Long> findTargetReachedWithoutNotice(@Param("statuses") Collection<ProjectStatus> statuses, Pageable pageable);
+
+    interface ProjectVersion {
+        LocalDateTime getModifiedDate();
+        Long getCurrentAmount();
+
+        /**
+         * 수정 시각 + 모금액. 후원은 modified_date 를 바꾸지 않을 수 있으므로 모금액도 넣는다
+         */
+        default String etag() {
+            long modified = getModifiedDate() == null ? 0L : getModifiedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return "W/\"" + Long.toString(modified, 36) + "-" + getCurrentAmount() + "\"";
+        }
+    }
+
+    interface ProjectTagRow {
+        Long getId();
+        String getTitle();
+        String getThumbnailUrl();
+        String getCategoryPath();
+        String getTags();
+    }
+
+    interface ProjectFeatureRow {
+        Long getId();
+        String getTitle();
+        String getSummary();
+        String getThumbnailUrl();
+        String getCategoryPath();
+        String getTags();
+        Long getCurrentAmount();
+        Long getTargetAmount();
+        LocalDateTime getStartAt();
+        LocalDateTime getEndAt();
+        Long getMinPrice();
+        Long getMaxPrice();
+        Double getAvgPrice();
+        Long getTierCount();
+        Long getSoldCount();
+    }
 }
@@ -0,0 +1,30 @@
+package com.ddip.backend.repository;
+
+import com.ddip.backend.entity.SmsOutbox;
+import com.ddip.backend.repository.custom.SmsOutboxCustomRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SmsOutboxRepository extends JpaRepository<SmsOutbox, Long>, SmsOutboxCustomRepository {
+
+    List<SmsOutbox> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    // 발송된 본문(임시 비밀번호)은 남기지 않는다
+    // 임대가 만료돼 다른 노드가 다시 잡은 행은 claimToken 이 달라 건드리지 않는다
+    @Modifying
+    @Query("""
+            update SmsOutbox o
+            set o.status = com.ddip.backend.dto.enums.SmsStatus.SENT, o.sentAt = :sentAt, o.claimToken = null, o.text = '',
+                o.attempts = o.attempts + 1, o.lastError = null
+            where o.id in :ids and o.claimToken = :claimToken
+            """)
+    int markSent(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken, @Param("sentAt") LocalDateTime sentAt);
+}
@@ -1,14 +1,52 @@
 package com.ddip.backend.repository;
 
 import com.ddip.backend.entity.User;
+import com.ddip.backend.repository.custom.UserCustomRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserCustomRepository {
     Optional<User> findByEmailAndUsername(String email, String username);
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /**
+     * 프로필 읽기 모델용 활동 집계 (취소된 프로젝트/후원 제외), 한 번의 쿼리로 조회
+     */
+    @Query("""
+            select (select count(p) from Project p
+                        where p.creator.id = :userId
+                          and p.status <> com.ddip.backend.dto.enums.ProjectStatus.CANCELED) as projectCount,
+                   (select count(pl) from Pledge pl
+                        where pl.user.id = :userId
+                          and pl.status <> com.ddip.backend.dto.enums.PledgeStatus.CANCELED) as pledgeCount,
+                   (select count(a) from Auction a where a.seller.id = :userId) as auctionCount
+            from User u
+            where u.id = :userId
+            """)
+    Optional<ActivityCounts> countActivities(@Param("userId") Long userId);
+
+    /**
+     * 이메일 Bloom filter 시딩용 keyset 페이지 (엔티티를 올리지 않고 id, email 만 조회)
+     */
+    @Query("select u.id as id, u.email as email from User u where u.id > :afterId and u.email is not null order by u.id")
+    List<EmailRow> findEmailsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface ActivityCounts {
+        long getProjectCount();
+        long getPledgeCount();
+        long getAuctionCount();
+    }
+
+    interface EmailRow {
+        Long getId();
+        String getEmail();
+    }
 }
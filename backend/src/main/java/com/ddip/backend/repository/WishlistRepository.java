@@ -0,0 +1,35 @@
+package com.ddip.backend.repository;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.entity.Wishlist;
+import com.ddip.backend.repository.custom.WishlistCustomRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WishlistRepository extends JpaRepository<Wishlist, Long>, WishlistCustomRepository {
+
+    @Query("select w.targetType as targetType, w.targetId as targetId from Wishlist w where w.userId = :userId")
+    List<TargetRow> findTargetsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            select c.targetId as targetId, c.wishCount as wishCount from WishlistCounter c
+            where c.targetType = :type and c.targetId in :targetIds
+            """)
+    List<CountRow> findCounts(@Param("type") WishlistTargetType type, @Param("targetIds") Collection<Long> targetIds);
+
+    interface TargetRow {
+        WishlistTargetType getTargetType();
+        Long getTargetId();
+    }
+
+    interface CountRow {
+        Long getTargetId();
+        long getWishCount();
+    }
+}
@@ -0,0 +1,11 @@
+package com.ddip.backend.repository.custom;
+
+import com.ddip.backend.dto.enums.NotificationType;
+
+public interface NotificationCampaignCustomRepository {
+
+    /**
+     * 대상 프로젝트/경매의 제목을 함께 복사해 작업을 만든다. 이미 있으면 아무것도 하지 않는다. 실제로 만들었으면 true
+     */
+    boolean insertIfAbsent(NotificationType type, Long sourceId, String channel);
+}
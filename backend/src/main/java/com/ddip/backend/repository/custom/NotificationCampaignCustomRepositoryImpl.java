@@ -0,0 +1,28 @@
+package com.ddip.backend.repository.custom;
+
+import com.ddip.backend.dto.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class NotificationCampaignCustomRepositoryImpl implements NotificationCampaignCustomRepository {
+
+    // 유니크 키(type, source_id) 충돌이면 0 행
+    private static final String INSERT_FROM = """
+            INSERT IGNORE INTO notification_campaigns
+                (type, source_id, subject, channel, last_recipient_id, sent_count, failed_count, attempts,
+                 created_date, modified_date)
+            SELECT ?, s.id, s.title, ?, 0, 0, 0, 0, NOW(), NOW() FROM %s s WHERE s.id = ?
+            """;
+
+    private static final String INSERT_FROM_PROJECT = INSERT_FROM.formatted("projects");
+    private static final String INSERT_FROM_AUCTION = INSERT_FROM.formatted("auction");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(NotificationType type, Long sourceId, String channel) {
+        String sql = type.isAuction() ? INSERT_FROM_AUCTION : INSERT_FROM_PROJECT;
+        return jdbcTemplate.update(sql, type.name(), channel, sourceId) == 1;
+    }
+}
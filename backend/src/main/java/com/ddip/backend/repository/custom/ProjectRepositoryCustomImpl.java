@@ -5,14 +5,21 @@ import com.ddip.backend.entity.QProject;
 import com.ddip.backend.entity.QRewardTier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.Optional;
 
 @RequiredArgsConstructor
 public class ProjectRepositoryCustomImpl implements ProjectCustomRepository {
 
+    public static final String QUERY_CACHE_REGION = "project-queries";
+
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 쿼리 캐시에는 id 만 남고 프로젝트/리워드는 엔티티·컬렉션 캐시에서 채운다.
+     * projects, reward_tiers 에 Hibernate 로 쓰기가 있으면 쿼리 캐시 결과는 자동으로 무효화된다.
+     */
     @Override
     public Optional<Project> findByIdWithRewardTiers(Long projectId) {
         Project result = queryFactory
@@ -20,6 +27,8 @@ public class ProjectRepositoryCustomImpl implements ProjectCustomRepository {
                 .leftJoin(QProject.project.rewardTiers, QRewardTier.rewardTier).fetchJoin()
                 .where(QProject.project.id.eq(projectId))
                 .distinct()
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, QUERY_CACHE_REGION)
                 .fetchOne();
 
         return Optional.ofNullable(result);
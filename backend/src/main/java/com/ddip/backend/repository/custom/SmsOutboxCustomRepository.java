@@ -0,0 +1,12 @@
+package com.ddip.backend.repository.custom;
+
+import java.time.LocalDateTime;
+
+public interface SmsOutboxCustomRepository {
+
+    /**
+     * 발송 가능한 행(PENDING 이거나 임대가 만료된 SENDING)을 최대 limit 개 SENDING 으로 바꾸고 claimToken 을 남긴다.
+     * 잡은 행 수를 반환하며, 잡힌 행은 claimToken 으로 다시 읽는다.
+     */
+    int claim(String provider, String claimToken, LocalDateTime leaseUntil, int limit);
+}
@@ -0,0 +1,27 @@
+package com.ddip.backend.repository.custom;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class SmsOutboxCustomRepositoryImpl implements SmsOutboxCustomRepository {
+
+    // 한 문장으로 고르고 표시하므로 여러 노드가 동시에 돌아도 같은 행을 두 번 잡지 않는다
+    private static final String CLAIM = """
+            UPDATE sms_outbox
+            SET status = 'SENDING', claim_token = ?, next_attempt_at = ?, modified_date = NOW()
+            WHERE provider = ? AND status IN ('PENDING', 'SENDING') AND next_attempt_at <= NOW()
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int claim(String provider, String claimToken, LocalDateTime leaseUntil, int limit) {
+        return jdbcTemplate.update(CLAIM, claimToken, Timestamp.valueOf(leaseUntil), provider, limit);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ddip.backend.repository.custom;
+
+import com.ddip.backend.entity.User;
+
+public interface UserCustomRepository {
+
+    /**
+     * 소셜 로그인 사용자를 한 번의 왕복으로 저장하고, 새로 넣었든 이미 있었든 저장된 id 를 돌려준다
+     */
+    long upsertSocialUser(User user);
+}
@@ -0,0 +1,47 @@
+package com.ddip.backend.repository.custom;
+
+import com.ddip.backend.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+@RequiredArgsConstructor
+public class UserCustomRepositoryImpl implements UserCustomRepository {
+
+    // 이미 있는 이메일이면 아무것도 바꾸지 않고 LAST_INSERT_ID 에 기존 id 를 실어 generated key 로 돌려받는다
+    // JPA 감사(@CreatedDate/@LastModifiedDate)를 거치지 않으므로 생성/수정 시각을 직접 넣는다
+    private static final String UPSERT_SOCIAL_USER = """
+            INSERT INTO `user` (email, name, provider, nickname, phone_number, role, is_active, created_date, modified_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long upsertSocialUser(User user) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_SOCIAL_USER, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, user.getEmail());
+            ps.setString(2, user.getUsername());
+            ps.setString(3, user.getProvider());
+            ps.setString(4, user.getNickname());
+            ps.setString(5, user.getPhoneNumber());
+            ps.setString(6, user.getRole().name());
+            ps.setBoolean(7, user.getIsActive());
+            return ps;
+        }, keyHolder);
+
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new IllegalStateException("소셜 사용자 저장 후 id 를 받지 못했습니다: " + user.getEmail());
+        }
+        return key.longValue();
+    }
+}
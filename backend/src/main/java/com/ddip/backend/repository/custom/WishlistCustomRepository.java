@@ -0,0 +1,23 @@
+package com.ddip.backend.repository.custom;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+
+import java.util.Map;
+
+public interface WishlistCustomRepository {
+
+    /**
+     * 이미 있으면 아무것도 하지 않는다. 실제로 추가됐으면 true
+     */
+    boolean insertIfAbsent(Long userId, WishlistTargetType type, Long targetId);
+
+    /**
+     * 실제로 삭제됐으면 true
+     */
+    boolean deleteTarget(Long userId, WishlistTargetType type, Long targetId);
+
+    /**
+     * 대상별 찜 수 증감분(targetId -> delta)을 한 트랜잭션의 배치로 반영 (실패하면 하나도 반영되지 않는다)
+     */
+    void applyCounterDeltas(WishlistTargetType type, Map<Long, Long> deltas);
+}
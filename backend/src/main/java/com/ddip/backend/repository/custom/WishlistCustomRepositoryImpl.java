@@ -0,0 +1,52 @@
+package com.ddip.backend.repository.custom;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class WishlistCustomRepositoryImpl implements WishlistCustomRepository {
+
+    // 유니크 키(user_id, target_type, target_id) 충돌이면 0 행
+    private static final String INSERT_IF_ABSENT = """
+            INSERT IGNORE INTO wishlists (user_id, target_type, target_id, created_date, modified_date)
+            VALUES (?, ?, ?, NOW(), NOW())
+            """;
+
+    private static final String DELETE_TARGET = """
+            DELETE FROM wishlists WHERE user_id = ? AND target_type = ? AND target_id = ?
+            """;
+
+    private static final String UPSERT_COUNTER = """
+            INSERT INTO wishlist_counters (target_type, target_id, wish_count)
+            VALUES (?, ?, GREATEST(0, ?))
+            ON DUPLICATE KEY UPDATE wish_count = GREATEST(0, wish_count + ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public boolean insertIfAbsent(Long userId, WishlistTargetType type, Long targetId) {
+        return jdbcTemplate.update(INSERT_IF_ABSENT, userId, type.name(), targetId) == 1;
+    }
+
+    @Override
+    public boolean deleteTarget(Long userId, WishlistTargetType type, Long targetId) {
+        return jdbcTemplate.update(DELETE_TARGET, userId, type.name(), targetId) == 1;
+    }
+
+    @Override
+    public void applyCounterDeltas(WishlistTargetType type, Map<Long, Long> deltas) {
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((targetId, delta) -> batch.add(new Object[]{type.name(), targetId, delta, delta}));
+
+        // 자동 커밋이면 중간에 실패해도 앞쪽 행은 반영된 채로 남아 재시도 때 이중 집계된다
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_COUNTER, batch));
+    }
+}
@@ -70,4 +70,8 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
     public Long getUserId(){
         return user.getId();
     }
+
+    public User getUser() {
+        return user;
+    }
 }
@@ -3,6 +3,8 @@ package com.ddip.backend.security.auth;
 import com.ddip.backend.dto.exception.security.ProfileIncompleteDeniedException;
 import com.ddip.backend.dto.exception.security.TokenExpiredException;
 import com.ddip.backend.service.TokenBlackListService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
@@ -25,6 +28,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
     private final TokenBlackListService tokenBlackListService;
     private final CustomUserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -39,12 +43,12 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         String token = header.substring(7);
 
-        if (tokenBlackListService.isBlackListed(token)) {
+        if (timeStage("blacklist", () -> tokenBlackListService.isBlackListed(token))) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String username = jwtUtils.extractUserEmail(token);
+        String username = timeStage("parse", () -> jwtUtils.extractUserEmail(token));
 
         if (username == null) {
             log.info("Invalid token, Incorrect username");
@@ -58,9 +62,10 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             return;
         }
 
-        CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(username);
+        CustomUserDetails userDetails = timeStage("load-user",
+                () -> (CustomUserDetails) userDetailsService.loadUserByUsername(username));
 
-        if (!jwtUtils.isValidToken(token, userDetails.getEmail())) {
+        if (!timeStage("validate", () -> jwtUtils.isValidToken(token, userDetails.getEmail()))) {
             throw new TokenExpiredException("invalid token or Expired");
         }
 
@@ -74,6 +79,17 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 필터 단계별 소요 시간 (ddip.security.filter.stage{filter, stage})
+     */
+    private <T> T timeStage(String stage, Supplier<T> action) {
+        return Timer.builder("ddip.security.filter.stage")
+                .tag("filter", "jwt")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(action);
+    }
+
     private void setAuthentication(CustomUserDetails customUserDetails, HttpServletRequest request) {
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
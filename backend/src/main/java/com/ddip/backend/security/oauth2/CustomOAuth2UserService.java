@@ -4,6 +4,7 @@ import com.ddip.backend.dto.oauth2.SocialUserRequestDto;
 import com.ddip.backend.entity.User;
 import com.ddip.backend.repository.UserRepository;
 import com.ddip.backend.security.auth.CustomUserDetails;
+import com.ddip.backend.service.user.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -20,6 +21,7 @@ import java.util.Map;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final EmailBloomFilter emailBloomFilter;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -31,11 +33,11 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         User user = createUserFromOauth(oauth2UserInfo);
 
-        if (!userRepository.existsByEmail(user.getEmail())){
-            userRepository.save(user);
-        }
-        
-        return new CustomUserDetails(user, oAuth2UserAttributes);
+        // 존재 확인 + 저장을 upsert 한 번으로 처리하고, 기존 사용자여도 저장된 id 를 받는다
+        long userId = userRepository.upsertSocialUser(user);
+        emailBloomFilter.put(user.getEmail());
+
+        return new CustomUserDetails(user.toBuilder().id(userId).build(), oAuth2UserAttributes);
     }
 
     private Oauth2UserInfo getOauth2UserInfo(String registrationId, Map<String, Object> userAttributes) {
@@ -0,0 +1,163 @@
+package com.ddip.backend.service;
+
+import com.ddip.backend.datasource.ReadFromPrimary;
+import com.ddip.backend.dto.auction.AuctionListingDto;
+import com.ddip.backend.dto.enums.AuctionStatus;
+import com.ddip.backend.dto.enums.NotificationType;
+import com.ddip.backend.entity.Auction;
+import com.ddip.backend.entity.Bid;
+import com.ddip.backend.entity.User;
+import com.ddip.backend.repository.AuctionRepository;
+import com.ddip.backend.repository.BidRepository;
+import com.ddip.backend.repository.UserRepository;
+import com.ddip.backend.service.auction.LiveAuction;
+import com.ddip.backend.service.notification.NotificationCampaignService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class AuctionService {
+
+    private static final EnumSet<AuctionStatus> OPEN_STATUSES = EnumSet.of(AuctionStatus.SCHEDULED, AuctionStatus.RUNNING);
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final UserRepository userRepository;
+    private final NotificationCampaignService notificationCampaignService;
+
+    @Transactional(readOnly = true)
+    public Auction getAuction(Long auctionId) {
+        return auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new IllegalArgumentException("Auction not found: " + auctionId));
+    }
+
+    // 메모리 상태의 출발점이므로 복제 지연이 있으면 안 된다 (순번 충돌)
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public LiveAuction loadLiveAuction(Long auctionId, int bufferSize) {
+        Auction auction = getAuction(auctionId);
+
+        Long highestBidderId = bidRepository.findTopByAuctionIdOrderByAmountDesc(auctionId)
+                .map(Bid::getBidder)
+                .map(User::getId)
+                .orElse(null);
+
+        return LiveAuction.builder()
+                .auctionId(auction.getId())
+                .startPrice(auction.getStartPrice())
+                .currentPrice(auction.getCurrentPrice())
+                .bidStep(auction.getBidStep())
+                .buyoutPrice(auction.getBuyoutPrice())
+                .startAt(auction.getStartAt())
+                .endAt(auction.getEndAt())
+                .status(auction.getStatus())
+                .highestBidderId(highestBidderId)
+                .bidCount(bidRepository.countByAuctionId(auctionId))
+                .lastSequence(bidRepository.findLastSequence(auctionId))
+                .bufferSize(bufferSize)
+                .build();
+    }
+
+    /**
+     * 목록 인덱스 재구성용 진행 중 경매 카드 (경매 1회 + 입찰 집계 1회 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<AuctionListingDto> findLiveListings(LocalDateTime now, LocalDateTime recentSince) {
+        List<Auction> auctions = auctionRepository.findLive(now, OPEN_STATUSES);
+        if (auctions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, long[]> counts = new HashMap<>();
+        for (Object[] row : bidRepository.countBidsByAuction(auctions.stream().map(Auction::getId).toList(), recentSince)) {
+            counts.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+
+        return auctions.stream()
+                .map(auction -> {
+                    long[] count = counts.getOrDefault(auction.getId(), new long[2]);
+                    return AuctionListingDto.builder()
+                            .auctionId(auction.getId())
+                            .title(auction.getTitle())
+                            .currentPrice(auction.getCurrentPrice())
+                            .bidCount(count[0])
+                            .endAt(auction.getEndAt())
+                            .recentBidCount(count[1])
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 마감 시각이 지났는데 아직 종료 기록이 없는 경매 (메모리에 한 번도 올라오지 않은 경매 포함)
+     */
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public List<Long> findExpiredOpenAuctionIds(LocalDateTime now) {
+        return auctionRepository.findExpiredIds(now, OPEN_STATUSES);
+    }
+
+    public Long recordBid(Long auctionId, Long bidderId, long amount, long sequence) {
+        Bid bid = Bid.builder()
+                .auction(auctionRepository.getReferenceById(auctionId))
+                .bidder(userRepository.getReferenceById(bidderId))
+                .amount(amount)
+                .sequence(sequence)
+                .build();
+
+        bidRepository.save(bid);
+        auctionRepository.raiseCurrentPrice(auctionId, amount);
+
+        return bid.getId();
+    }
+
+    /**
+     * 즉시구매: 입찰 기록과 종료 기록을 한 트랜잭션으로 남긴다.
+     * DB 상 이미 종료된 경매(다른 노드가 먼저 종료)면 예외로 입찰까지 롤백한다.
+     */
+    public Long recordBuyout(Long auctionId, Long bidderId, long price, long sequence) {
+        Long bidId = recordBid(auctionId, bidderId, price, sequence);
+
+        if (!recordClose(auctionId, bidderId, price)) {
+            throw new IllegalStateException("Auction already closed: " + auctionId);
+        }
+        return bidId;
+    }
+
+    /**
+     * SCHEDULED -> RUNNING, 이미 전이된 경우 false
+     */
+    public boolean recordStart(Long auctionId) {
+        return auctionRepository.updateStatus(auctionId, EnumSet.of(AuctionStatus.SCHEDULED), AuctionStatus.RUNNING) > 0;
+    }
+
+    /**
+     * SCHEDULED/RUNNING -> ENDED, 이미 종료된 경우 false
+     * 입찰자 알림 작업도 같은 트랜잭션으로 만든다
+     */
+    public boolean recordClose(Long auctionId, Long winnerId, long finalPrice) {
+        boolean closed = auctionRepository.close(
+                auctionId,
+                OPEN_STATUSES,
+                AuctionStatus.ENDED,
+                winnerId == null ? null : userRepository.getReferenceById(winnerId),
+                finalPrice
+        ) > 0;
+
+        if (closed) {
+            notificationCampaignService.start(NotificationType.AUCTION_ENDED, auctionId);
+        }
+        return closed;
+    }
+}
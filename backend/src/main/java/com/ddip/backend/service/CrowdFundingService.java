@@ -1,26 +1,46 @@
 package com.ddip.backend.service;
 
+import com.ddip.backend.dto.crowd.ProjectChangedEvent;
 import com.ddip.backend.dto.crowd.ProjectRequestDto;
 import com.ddip.backend.dto.crowd.ProjectResponseDto;
 import com.ddip.backend.dto.crowd.ProjectUpdateRequestDto;
 import com.ddip.backend.dto.crowd.RewardTierRequestDto;
+import com.ddip.backend.dto.enums.NotificationType;
+import com.ddip.backend.dto.enums.ProjectStatus;
+import com.ddip.backend.dto.user.UserChangedEvent;
 import com.ddip.backend.entity.Project;
 import com.ddip.backend.entity.RewardTier;
 import com.ddip.backend.entity.User;
 import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.ProjectRepository.ProjectVersion;
+import com.ddip.backend.service.notification.NotificationCampaignService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
 @Slf4j
 @Service
+@Timed("ddip.service")
 @Transactional
 @RequiredArgsConstructor
 public class CrowdFundingService {
 
+    // DRAFT -> OPEN 전환 경로가 아직 없어 DRAFT 도 모집 중으로 본다
+    public static final Set<ProjectStatus> FUNDING_STATUSES = EnumSet.of(ProjectStatus.DRAFT, ProjectStatus.OPEN);
+
     private final ProjectRepository projectRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationCampaignService notificationCampaignService;
+    private final EntityManager entityManager;
 
     public long createProject(ProjectRequestDto requestDto, Long userId) {
 
@@ -44,16 +64,40 @@ public class CrowdFundingService {
         }
 
         projectRepository.save(project);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+        eventPublisher.publishEvent(ProjectChangedEvent.of(project));
         return project.getId();
     }
 
 
+    /**
+     * 조건부 GET 판단용. 304 면 프로젝트 본문은 읽지 않는다
+     */
+    @Transactional(readOnly = true)
+    public ProjectVersion getProjectVersion(Long projectId) {
+        return projectRepository.findVersion(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+    }
+
     @Transactional(readOnly = true)
     public ProjectResponseDto getProject(Long projectId) {
+        return getProject(projectId, getProjectVersion(projectId));
+    }
+
+    /**
+     * 응답 본문이 version 의 ETag 보다 옛 상태가 되지 않도록 맞춘다
+     * - 모금액은 version 값을 쓴다 (2차 캐시의 값은 내보내지 않는다)
+     * - 다른 노드에서 수정되어 이 노드의 2차 캐시가 옛 값이면 DB 에서 다시 읽는다
+     */
+    @Transactional(readOnly = true)
+    public ProjectResponseDto getProject(Long projectId, ProjectVersion version) {
         Project project = projectRepository.findByIdWithRewardTiers(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
 
-        return ProjectResponseDto.from(project);
+        if (!Objects.equals(project.getModifiedDate(), version.getModifiedDate())) {
+            entityManager.refresh(project);
+        }
+        return ProjectResponseDto.from(project, version.getCurrentAmount());
     }
 
 
@@ -69,6 +113,26 @@ public class CrowdFundingService {
         }
 
         project.cancel();
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+        eventPublisher.publishEvent(ProjectChangedEvent.removed(projectId));
+    }
+
+    /**
+     * 마감 시각이 지난 프로젝트를 SUCCESS/FAILED 로 닫고, 후원자 알림 작업을 같은 트랜잭션으로 만든다
+     */
+    public void closeProject(Long projectId) {
+        // 캐시된 모금액으로 성공/실패를 정하지 않도록 잠금 조회로 DB 값을 읽는다 (동시 후원과도 직렬화된다)
+        Project project = projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+        if (!FUNDING_STATUSES.contains(project.getStatus())) {
+            return;
+        }
+
+        ProjectStatus status = project.close();
+        notificationCampaignService.start(
+                status == ProjectStatus.SUCCESS ? NotificationType.PROJECT_SUCCEEDED : NotificationType.PROJECT_FAILED,
+                projectId);
+        eventPublisher.publishEvent(ProjectChangedEvent.of(project));
     }
 
    /* public void updateProject(Long projectId, Long userId, ProjectUpdateRequestDto requestDto) {
@@ -2,36 +2,30 @@ package com.ddip.backend.service;
 
 import com.ddip.backend.dto.user.MessageDto;
 import com.ddip.backend.dto.user.UserResponseDto;
-import com.solapi.sdk.message.exception.SolapiMessageNotReceivedException;
-import com.solapi.sdk.message.model.Message;
-import com.solapi.sdk.message.service.DefaultMessageService;
+import com.ddip.backend.entity.SmsOutbox;
+import com.ddip.backend.repository.SmsOutboxRepository;
+import com.ddip.backend.service.sms.SmsProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * SMS 는 바로 보내지 않고 호출한 트랜잭션 안에서 sms_outbox 에 적재한다.
+ * 업무 데이터가 롤백되면 문자도 나가지 않고, 실제 발송은 SmsOutboxDispatcher 가 커밋 이후에 한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class SmsService {
 
-    private final DefaultMessageService messageService;
-
-    @Value("${solapi.from}")
-    private String from;
+    private final SmsOutboxRepository smsOutboxRepository;
+    private final SmsProvider smsProvider;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendSms(UserResponseDto dto, String password) {
 
         MessageDto messageDto = MessageDto.from(dto, password);
 
-        Message message = new Message();
-        message.setFrom(from);
-        message.setTo(dto.getPhoneNumber());
-        message.setText(messageDto.getMessage());
-        try {
-            messageService.send(message);
-        } catch (SolapiMessageNotReceivedException e) {
-            throw new IllegalStateException("SMS 발송 실패: " + e.getMessage(), e);
-        } catch (Exception e) {
-            throw new IllegalStateException("SMS 발송 중 예외: " + e.getMessage(), e);
-        }
+        smsOutboxRepository.save(SmsOutbox.of(smsProvider.name(), dto.getPhoneNumber(), messageDto.getMessage()));
     }
 }
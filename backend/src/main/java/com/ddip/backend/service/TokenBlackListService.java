@@ -1,5 +1,6 @@
 package com.ddip.backend.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Service;
 import java.util.concurrent.TimeUnit;
 
 @Service
+@Timed("ddip.service")
 @RequiredArgsConstructor
 public class TokenBlackListService {
 
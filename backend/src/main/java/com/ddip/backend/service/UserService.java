@@ -1,28 +1,48 @@
 package com.ddip.backend.service;
 
+import com.ddip.backend.datasource.ReadFromPrimary;
+import com.ddip.backend.dto.enums.UserType;
 import com.ddip.backend.dto.user.*;
+import com.ddip.backend.entity.AccountPurgeJob;
 import com.ddip.backend.entity.User;
+import com.ddip.backend.repository.AccountPurgeJobRepository;
 import com.ddip.backend.repository.UserRepository;
+import com.ddip.backend.service.user.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final String DUPLICATE_EMAIL = "이미 존재하는 이메일 입니다.";
+
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final AccountPurgeJobRepository accountPurgeJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailBloomFilter emailBloomFilter;
+    private final SmsService smsService;
 
     public UserResponseDto createUser(UserRequestDto request) {
+        if (emailBloomFilter.mightContain(request.getEmail()) && userRepository.existsByEmail(request.getEmail())) {
+            throw new IllegalArgumentException(DUPLICATE_EMAIL);
+        }
+
         request.setPassword(bCryptPasswordEncoder.encode(request.getPassword()));
 
         User user = User.from(request);
-        userRepository.save(user);
+        saveChecked(() -> userRepository.save(user));
+        emailBloomFilter.put(user.getEmail());
 
         log.info("User created: {}", user.getEmail());
 
@@ -37,18 +57,50 @@ public class UserService {
         return user;
     }
 
+    /**
+     * /me 읽기 모델 적재용. 캐시가 비었을 때만 호출된다 (UserProfileReadModel)
+     */
+    // 캐시를 채우는 조회라 복제본의 옛 값이 들어가면 TTL 동안 남는다
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public UserProfileDto loadProfile(Long id) {
+        User user = userRepository.findById(id)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        UserRepository.ActivityCounts counts = userRepository.countActivities(id)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        return UserProfileDto.of(user, counts);
+    }
+
+    /**
+     * 탈퇴: 즉시 비활성화만 하고, 하위 데이터 정리와 행 삭제는 AccountPurgeJobRunner 가 배치로 처리
+     */
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        userRepository.delete(user);
+        user.markDeleted();
+        emailBloomFilter.markStale();
+        accountPurgeJobRepository.save(AccountPurgeJob.of(user.getId()));
+        eventPublisher.publishEvent(new UserChangedEvent(id));
+
+        log.info("User marked deleted, purge scheduled: {}", id);
     }
 
     public UserResponseDto updateUser(Long id, UserUpdateRequestDto updateRequest) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
+        String previousEmail = user.getEmail();
         user.update(updateRequest);
+        if (!Objects.equals(previousEmail, user.getEmail())) {
+            saveChecked(userRepository::flush);
+            emailBloomFilter.put(user.getEmail());
+            emailBloomFilter.markStale();
+        }
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         return UserResponseDto.from(user);
     }
 
@@ -57,14 +109,27 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         user.updatePassword(newPassword);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 
-    @Transactional(readOnly = true)
-    public UserResponseDto findUserForPasswordReset(FindPasswordRequestDto dto) {
+    public void updateUserType(Long id, UserType userType) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        user.updateUserType(userType);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
+    }
+
+    /**
+     * 임시 비밀번호 변경과 안내 문자 적재를 한 트랜잭션으로 묶는다. 실제 발송은 커밋 이후 비동기로 진행된다.
+     */
+    public void resetPassword(FindPasswordRequestDto dto, String temporaryPassword) {
         User user = userRepository.findByEmailAndUsername(dto.getEmail(), dto.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        return UserResponseDto.from(user);
+        user.updatePassword(temporaryPassword);
+        smsService.sendSms(UserResponseDto.from(user), temporaryPassword);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     }
 
     public UserResponseDto putProfile(Long id, ProfileRequestDto requestDto) {
@@ -73,7 +138,20 @@ public class UserService {
 
         user.updateProfile(requestDto);
         user.setIsActive();
+        eventPublisher.publishEvent(new UserChangedEvent(id));
 
         return UserResponseDto.from(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * 다른 노드의 Bloom filter 가 아직 새 이메일을 모르면 사전 확인을 건너뛰므로 유니크 키 위반으로 들어온다.
+     * user 테이블의 유니크 키는 email 뿐이라 중복 이메일 오류로 돌려준다
+     */
+    private void saveChecked(Runnable write) {
+        try {
+            write.run();
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(DUPLICATE_EMAIL, e);
+        }
+    }
+}
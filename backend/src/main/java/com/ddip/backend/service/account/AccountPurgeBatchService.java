@@ -0,0 +1,205 @@
+package com.ddip.backend.service.account;
+
+import com.ddip.backend.datasource.ReadFromPrimary;
+import com.ddip.backend.dto.crowd.ProjectChangedEvent;
+import com.ddip.backend.dto.enums.PurgeStage;
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.entity.AccountPurgeJob;
+import com.ddip.backend.repository.AccountPurgeJobRepository;
+import com.ddip.backend.service.wishlist.WishlistCounters;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 탈퇴 회원 정리 배치 한 번 = 트랜잭션 한 번
+ * - 대상 id 를 batchSize 만큼 고른 뒤 id 목록으로 벌크 delete/update 한다 (JPQL 벌크 연산은 LIMIT 을 지원하지 않으므로)
+ * - 처리 결과와 단계 이동을 같은 트랜잭션에서 작업 행에 기록하므로, 중간에 죽어도 마지막 배치부터 이어서 한다
+ * - 다른 회원의 경매 기록(입찰, 낙찰)은 삭제하지 않고 회원 참조만 null 로 익명화한다
+ * - 회원의 프로젝트/경매를 지울 때 그것을 가리키는 다른 회원의 찜과 찜 수 행도 함께 지운다
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class AccountPurgeBatchService {
+
+    private final AccountPurgeJobRepository accountPurgeJobRepository;
+    private final EntityManager entityManager;
+    private final WishlistCounters wishlistCounters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public List<Long> findRunnableJobIds(int maxAttempts) {
+        return accountPurgeJobRepository.findTop20ByStageNotAndAttemptsLessThanOrderByIdAsc(PurgeStage.DONE, maxAttempts)
+                .stream()
+                .map(AccountPurgeJob::getId)
+                .toList();
+    }
+
+    /**
+     * 현재 단계의 배치 하나를 처리. 작업이 끝났으면 false
+     */
+    public boolean processNextBatch(Long jobId, int batchSize) {
+        AccountPurgeJob job = accountPurgeJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Purge job not found: " + jobId));
+        if (job.isDone()) {
+            return false;
+        }
+
+        int affected = purge(job.getStage(), job.getUserId(), batchSize);
+        job.recordBatch(affected, affected < batchSize);
+
+        if (job.isDone()) {
+            log.info("Account purge completed. userId={}, rows={}", job.getUserId(), job.getProcessedRows());
+        }
+        return !job.isDone();
+    }
+
+    public void recordFailure(Long jobId, RuntimeException e) {
+        accountPurgeJobRepository.findById(jobId).ifPresent(job -> job.fail(e.getMessage()));
+    }
+
+    private int purge(PurgeStage stage, Long userId, int batchSize) {
+        return switch (stage) {
+            case ADDRESSES -> deleteBatch(
+                    "select a.id from UserAddress a where a.user.id = :userId",
+                    "delete from UserAddress a where a.id in :ids", userId, batchSize);
+            case WISHLISTS -> deleteWishlists(userId, batchSize);
+            case BIDS -> deleteBatch(
+                    "select b.id from Bid b where b.bidder.id = :userId",
+                    "update Bid b set b.bidder = null where b.id in :ids", userId, batchSize);
+            case WON_AUCTIONS -> deleteBatch(
+                    "select a.id from Auction a where a.winner.id = :userId",
+                    "update Auction a set a.winner = null where a.id in :ids", userId, batchSize);
+            case PLEDGES -> deleteBatch(
+                    "select p.id from Pledge p where p.user.id = :userId",
+                    "delete from Pledge p where p.id in :ids", userId, batchSize);
+            case PROJECT_PLEDGES -> deleteBatch(
+                    "select p.id from Pledge p where p.project.creator.id = :userId",
+                    "delete from Pledge p where p.id in :ids", userId, batchSize);
+            case REWARD_TIERS -> deleteBatch(
+                    "select r.id from RewardTier r where r.project.creator.id = :userId",
+                    "delete from RewardTier r where r.id in :ids", userId, batchSize);
+            case PROJECTS -> deleteProjects(userId, batchSize);
+            case AUCTION_BIDS -> deleteBatch(
+                    "select b.id from Bid b where b.auction.seller.id = :userId",
+                    "delete from Bid b where b.id in :ids", userId, batchSize);
+            case AUCTIONS -> deleteAuctions(userId, batchSize);
+            case USER -> entityManager.createQuery("delete from User u where u.id = :userId and u.deletedAt is not null")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+            case DONE -> 0;
+        };
+    }
+
+    private int deleteBatch(String selectIds, String bulkUpdate, Long userId, int batchSize) {
+        List<Long> ids = entityManager.createQuery(selectIds, Long.class)
+                .setParameter("userId", userId)
+                .setMaxResults(batchSize)
+                .getResultList();
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createQuery(bulkUpdate)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    /**
+     * 벌크 delete 는 엔티티를 거치지 않으므로 프로젝트 삭제 이벤트를 직접 발행한다
+     * (비슷한 프로젝트 인덱스, 응답 캐시는 커밋 뒤에 이 이벤트로 정리된다)
+     */
+    private int deleteProjects(Long userId, int batchSize) {
+        List<Long> ids = entityManager.createQuery("select p.id from Project p where p.creator.id = :userId", Long.class)
+                .setParameter("userId", userId)
+                .setMaxResults(batchSize)
+                .getResultList();
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        deleteWishlistTargets(WishlistTargetType.PROJECT, ids);
+        int deleted = entityManager.createQuery("delete from Project p where p.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        ids.forEach(id -> eventPublisher.publishEvent(ProjectChangedEvent.removed(id)));
+        return deleted;
+    }
+
+    private int deleteAuctions(Long userId, int batchSize) {
+        List<Long> ids = entityManager.createQuery("select a.id from Auction a where a.seller.id = :userId", Long.class)
+                .setParameter("userId", userId)
+                .setMaxResults(batchSize)
+                .getResultList();
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        deleteWishlistTargets(WishlistTargetType.AUCTION, ids);
+        return entityManager.createQuery("delete from Auction a where a.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    /**
+     * 지워지는 대상의 찜(다른 회원 것 포함)과 찜 수 행을 지우고,
+     * 커밋 뒤에는 이 노드의 미반영 증감분도 버려서 flush 가 카운터 행을 다시 만들지 않게 한다
+     */
+    private void deleteWishlistTargets(WishlistTargetType type, List<Long> targetIds) {
+        entityManager.createQuery("delete from Wishlist w where w.targetType = :type and w.targetId in :ids")
+                .setParameter("type", type)
+                .setParameter("ids", targetIds)
+                .executeUpdate();
+        entityManager.createQuery("delete from WishlistCounter c where c.targetType = :type and c.targetId in :ids")
+                .setParameter("type", type)
+                .setParameter("ids", targetIds)
+                .executeUpdate();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wishlistCounters.discard(type, targetIds);
+            }
+        });
+    }
+
+    /**
+     * 찜 삭제는 대상별 찜 수도 줄여야 하므로 커밋된 뒤에만 카운터에 반영한다
+     */
+    private int deleteWishlists(Long userId, int batchSize) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select w.id, w.targetType, w.targetId from Wishlist w where w.userId = :userId", Object[].class)
+                .setParameter("userId", userId)
+                .setMaxResults(batchSize)
+                .getResultList();
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+        int deleted = entityManager.createQuery("delete from Wishlist w where w.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rows.forEach(row -> wishlistCounters.add((WishlistTargetType) row[1], (Long) row[2], -1L));
+            }
+        });
+        return deleted;
+    }
+}
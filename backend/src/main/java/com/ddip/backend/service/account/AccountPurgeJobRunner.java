@@ -0,0 +1,51 @@
+package com.ddip.backend.service.account;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴 회원 정리 작업 실행기
+ * - 배치마다 트랜잭션을 끊어 한 번에 오래 락을 잡지 않는다
+ * - 한 주기에 작업당 maxBatchesPerRun 까지만 처리하고 나머지는 다음 주기로 넘긴다
+ * - 실패한 작업은 다음 주기에 마지막 체크포인트부터 재시도하고, maxAttempts 를 넘기면 더 잡지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountPurgeJobRunner {
+
+    private final AccountPurgeBatchService accountPurgeBatchService;
+
+    @Value("${account.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${account.purge.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    @Value("${account.purge.max-attempts:5}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${account.purge.interval-ms:10000}")
+    public void run() {
+        for (Long jobId : accountPurgeBatchService.findRunnableJobIds(maxAttempts)) {
+            runJob(jobId);
+        }
+    }
+
+    private void runJob(Long jobId) {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            try {
+                if (!accountPurgeBatchService.processNextBatch(jobId, batchSize)) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.error("Account purge batch failed. jobId={}", jobId, e);
+                accountPurgeBatchService.recordFailure(jobId, e);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.ddip.backend.service.auction;
+
+import com.ddip.backend.dto.auction.AuctionEndedEvent;
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionSyncResponseDto;
+import com.ddip.backend.dto.auction.BidFailedEvent;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.dto.auction.BidResultDto;
+import com.ddip.backend.dto.enums.AuctionEventType;
+import com.ddip.backend.dto.enums.AuctionStatus;
+import com.ddip.backend.dto.enums.BidFailureCode;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.ddip.backend.service.AuctionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 진행 중 경매의 입찰을 경매 단위로 직렬화해 처리하고,
+ * 모든 이벤트에 경매별 순번을 매겨 링 버퍼에 보관/전파한다.
+ * 진행 상태 전이(시작/종료/즉시구매)는 LiveAuction 상태의 CAS 로 결정하고 DB 에는 조건부 update 로 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionEngine {
+
+    // 종료된 경매를 재접속 동기화용으로 메모리에 남겨두는 기간
+    private static final Duration ENDED_RETENTION = Duration.ofMinutes(10);
+
+    private final AuctionService auctionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, LiveAuction> liveAuctions = new ConcurrentHashMap<>();
+
+    @Value("${auction.event-buffer-size:256}")
+    private int eventBufferSize;
+
+    public BidResultDto placeBid(Long auctionId, UserResponseDto bidder, long amount) {
+        LiveAuction live = getLiveAuction(auctionId);
+        Long bidderId = bidder == null ? null : bidder.getId();
+
+        live.lock();
+        try {
+            if (live.isRetired()) {
+                return placeBid(auctionId, bidder, amount);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            startIfDue(live, now);
+
+            AuctionState current = live.getState();
+            BidFailedEvent failure = live.validateBid(current, bidderId, amount, now);
+            if (failure != null) {
+                return BidResultDto.rejected(failure);
+            }
+
+            // 종료 타이머와의 경합 지점: 예약 CAS 에 성공한 입찰만 기록/확정된다
+            AuctionState reserved = live.tryReserveBid(current);
+            if (reserved == null) {
+                return BidResultDto.rejected(BidFailedEvent.of(auctionId, BidFailureCode.AUCTION_ENDED, "해당 경매는 종료 되었습니다."));
+            }
+
+            boolean buyout = live.isBuyout(amount);
+            long price = buyout ? live.getBuyoutPrice() : amount;
+            long sequence = live.nextSequence();
+            Long bidId;
+            try {
+                bidId = buyout
+                        ? auctionService.recordBuyout(auctionId, bidderId, price, sequence)
+                        : auctionService.recordBid(auctionId, bidderId, price, sequence);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 순번이 이미 기록됨 = 다른 노드가 먼저 받은 입찰이 있다. 상태를 다시 읽도록 내린다
+                log.warn("Stale auction state, evicting. auctionId={}, sequence={}", auctionId, sequence);
+                live.releaseBid(reserved);
+                evict(auctionId, live);
+                return BidResultDto.rejected(BidFailedEvent.of(auctionId, BidFailureCode.SERVER_ERROR, "잠시 후 다시 시도해 주십시오."));
+            } catch (IllegalStateException e) {
+                // DB 에는 이미 종료로 기록됨 (다른 노드가 먼저 종료)
+                log.warn("Auction already closed in storage, evicting. auctionId={}", auctionId);
+                live.releaseBid(reserved);
+                evict(auctionId, live);
+                return BidResultDto.rejected(BidFailedEvent.of(auctionId, BidFailureCode.AUCTION_ENDED, "해당 경매는 종료 되었습니다."));
+            } catch (RuntimeException e) {
+                log.error("Failed to record bid. auctionId={}, bidderId={}", auctionId, bidderId, e);
+                live.releaseBid(reserved);
+                return BidResultDto.rejected(BidFailedEvent.of(auctionId, BidFailureCode.SERVER_ERROR, "입찰 처리 중 오류가 발생했습니다."));
+            }
+
+            BidPlacedEvent payload = BidPlacedEvent.builder()
+                    .auctionId(auctionId)
+                    .bidId(bidId)
+                    .amount(price)
+                    .bidder(bidder)
+                    .currentPrice(price)
+                    .createdAt(now)
+                    .build();
+
+            AuctionEventDto event = AuctionEventDto.builder()
+                    .auctionId(auctionId)
+                    .sequence(sequence)
+                    .type(AuctionEventType.BID_PLACED)
+                    .payload(payload)
+                    .build();
+
+            live.commitBid(reserved, event, bidderId, price, buyout);
+            // 순번 순서대로 전파되도록 락 안에서 발행
+            eventPublisher.publishEvent(event);
+            if (buyout) {
+                publishEnded(live, bidderId, price, true, now);
+            }
+
+            return BidResultDto.accepted(event);
+        } finally {
+            live.unlock();
+        }
+    }
+
+    /**
+     * 마감 시각이 지난 경매 종료 (메모리에 없으면 DB 에서 올린다)
+     */
+    public boolean close(Long auctionId) {
+        LiveAuction live = getLiveAuction(auctionId);
+        LocalDateTime now = LocalDateTime.now();
+
+        startIfDue(live, now);
+        return closeIfDue(live, now);
+    }
+
+    /**
+     * 메모리에 올라간 경매의 시작/종료 타이머
+     * - 종료 기록에 실패한 경매는 다시 기록하고, 종료 후 보관 기간이 지나면 내린다
+     */
+    @Scheduled(fixedDelayString = "${auction.close-check-interval-ms:500}")
+    public void closeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+
+        liveAuctions.forEach((auctionId, live) -> {
+            startIfDue(live, now);
+            closeIfDue(live, now);
+
+            AuctionState current = live.getState();
+            if (!current.getStatus().isTerminal()) {
+                return;
+            }
+            if (!live.isCloseRecorded()) {
+                recordClose(live, current);
+            } else if (live.getClosedAt() != null && live.getClosedAt().plus(ENDED_RETENTION).isBefore(now)) {
+                evict(auctionId, live);
+            }
+        });
+    }
+
+    /**
+     * lastSequence 이후 누락 이벤트 조회, 버퍼 범위를 벗어나면 스냅샷으로 대체
+     */
+    public AuctionSyncResponseDto sync(Long auctionId, long lastSequence) {
+        LiveAuction live = getLiveAuction(auctionId);
+
+        live.lock();
+        try {
+            if (live.isRetired()) {
+                return sync(auctionId, lastSequence);
+            }
+            return live.sync(lastSequence);
+        } finally {
+            live.unlock();
+        }
+    }
+
+    /**
+     * 담당이 바뀐 경매를 메모리에서 내린다. 진행 중인 입찰이 끝난 뒤(락 획득 후) 내려간다.
+     */
+    public void evictIf(Predicate<Long> condition) {
+        liveAuctions.forEach((auctionId, live) -> {
+            if (condition.test(auctionId)) {
+                evict(auctionId, live);
+            }
+        });
+    }
+
+    /**
+     * RUNNING -> ENDED 는 CAS 로만 결정된다. 기록 중인 입찰이 있으면 이번 주기는 건너뛴다.
+     * 즉시구매/마지막 입찰과 같은 순간에 겹쳐도 CAS 에 성공한 한쪽만 종료(승자)를 만든다.
+     */
+    private boolean closeIfDue(LiveAuction live, LocalDateTime now) {
+        if (!live.isPastEnd(now)) {
+            return false;
+        }
+
+        while (true) {
+            AuctionState current = live.getState();
+            if (current.getStatus() != AuctionStatus.RUNNING || current.isBidInFlight()) {
+                return false;
+            }
+
+            AuctionState ended = live.tryTransition(current, AuctionStatus.ENDED);
+            if (ended == null) {
+                continue;
+            }
+
+            recordClose(live, ended);
+            live.lock();
+            try {
+                if (!live.isRetired()) {
+                    publishEnded(live, ended.getHighestBidderId(), ended.getCurrentPrice(), false, now);
+                }
+            } finally {
+                live.unlock();
+            }
+            return true;
+        }
+    }
+
+    private void startIfDue(LiveAuction live, LocalDateTime now) {
+        AuctionState current = live.getState();
+        if (current.getStatus() != AuctionStatus.SCHEDULED || !live.isStartDue(now)) {
+            return;
+        }
+
+        if (live.tryTransition(current, AuctionStatus.RUNNING) != null) {
+            try {
+                auctionService.recordStart(live.getAuctionId());
+            } catch (RuntimeException e) {
+                // 종료 기록이 SCHEDULED 도 허용하므로 시작 기록 누락은 치명적이지 않다
+                log.warn("Failed to record auction start. auctionId={}", live.getAuctionId(), e);
+            }
+        }
+    }
+
+    private void recordClose(LiveAuction live, AuctionState ended) {
+        try {
+            if (!auctionService.recordClose(live.getAuctionId(), ended.getHighestBidderId(), ended.getCurrentPrice())) {
+                log.warn("Auction already closed in storage. auctionId={}", live.getAuctionId());
+            }
+            live.markClosed(true);
+        } catch (RuntimeException e) {
+            log.error("Failed to record auction close, will retry. auctionId={}", live.getAuctionId(), e);
+            live.markClosed(false);
+        }
+    }
+
+    /**
+     * 종료 이벤트 발행, 락 안에서 호출해야 한다
+     */
+    private void publishEnded(LiveAuction live, Long winnerId, long finalPrice, boolean buyout, LocalDateTime endedAt) {
+        AuctionEndedEvent payload = AuctionEndedEvent.builder()
+                .auctionId(live.getAuctionId())
+                .status(AuctionStatus.ENDED)
+                .winnerId(winnerId)
+                .finalPrice(finalPrice)
+                .buyout(buyout)
+                .endedAt(endedAt)
+                .build();
+
+        AuctionEventDto event = AuctionEventDto.builder()
+                .auctionId(live.getAuctionId())
+                .sequence(live.nextSequence())
+                .type(AuctionEventType.AUCTION_ENDED)
+                .payload(payload)
+                .build();
+
+        live.appendEvent(event);
+        eventPublisher.publishEvent(event);
+    }
+
+    private void evict(Long auctionId, LiveAuction live) {
+        live.lock();
+        try {
+            live.retire();
+            liveAuctions.remove(auctionId, live);
+        } finally {
+            live.unlock();
+        }
+    }
+
+    private LiveAuction getLiveAuction(Long auctionId) {
+        LiveAuction live = liveAuctions.get(auctionId);
+        if (live != null) {
+            return live;
+        }
+
+        LiveAuction loaded = auctionService.loadLiveAuction(auctionId, eventBufferSize);
+        LiveAuction existing = liveAuctions.putIfAbsent(auctionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ddip.backend.service.auction;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경매별 최근 이벤트 링 버퍼
+ * - 순번(sequence)은 1씩 증가해야 하며, 용량을 넘으면 가장 오래된 이벤트부터 덮어쓴다
+ * - 동기화는 호출 측(LiveAuction 락)에서 보장
+ */
+public class AuctionEventBuffer {
+
+    private final AuctionEventDto[] slots;
+    private long firstSequence;
+    private long lastSequence;
+
+    public AuctionEventBuffer(int capacity, long lastSequence) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new AuctionEventDto[capacity];
+        this.lastSequence = lastSequence;
+        this.firstSequence = lastSequence + 1;
+    }
+
+    public void append(AuctionEventDto event) {
+        if (event.getSequence() != lastSequence + 1) {
+            throw new IllegalStateException("Out of order sequence: " + event.getSequence() + ", last: " + lastSequence);
+        }
+        slots[index(event.getSequence())] = event;
+        lastSequence = event.getSequence();
+    }
+
+    /**
+     * after 이후의 이벤트 목록, 버퍼에서 이미 밀려난 구간이 있으면 null
+     */
+    public List<AuctionEventDto> since(long after) {
+        if (after >= lastSequence) {
+            return List.of();
+        }
+        if (after + 1 < oldestSequence()) {
+            return null;
+        }
+
+        List<AuctionEventDto> result = new ArrayList<>((int) (lastSequence - after));
+        for (long sequence = after + 1; sequence <= lastSequence; sequence++) {
+            result.add(slots[index(sequence)]);
+        }
+        return result;
+    }
+
+    public long oldestSequence() {
+        return Math.max(firstSequence, lastSequence - slots.length + 1);
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % slots.length);
+    }
+}
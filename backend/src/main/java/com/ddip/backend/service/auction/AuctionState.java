@@ -0,0 +1,40 @@
+package com.ddip.backend.service.auction;
+
+import com.ddip.backend.dto.enums.AuctionStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * LiveAuction 의 불변 상태 값. 모든 변경은 새 인스턴스를 만들어 CAS 로 교체한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class AuctionState {
+
+    private final AuctionStatus status;
+    private final long currentPrice;
+    private final Long highestBidderId;
+    private final long bidCount;
+    // 예약된 입찰이 DB 에 기록되는 중. 이 동안에는 종료 전이가 기다린다
+    private final boolean bidInFlight;
+
+    AuctionState reserveBid() {
+        return new AuctionState(status, currentPrice, highestBidderId, bidCount, true);
+    }
+
+    AuctionState releaseBid() {
+        return new AuctionState(status, currentPrice, highestBidderId, bidCount, false);
+    }
+
+    AuctionState withBid(Long bidderId, long amount) {
+        return new AuctionState(status, amount, bidderId, bidCount + 1, false);
+    }
+
+    AuctionState transitionTo(AuctionStatus next) {
+        if (!status.canTransitionTo(next)) {
+            throw new IllegalStateException("Invalid auction transition: " + status + " -> " + next);
+        }
+        return new AuctionState(next, currentPrice, highestBidderId, bidCount, bidInFlight);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ddip.backend.service.auction;
+
+import com.ddip.backend.dto.auction.BidFailedEvent;
+import com.ddip.backend.dto.enums.BidFailureCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (사용자, 경매) 단위 입찰 속도 제한
+ * - 노드 내부는 샤딩된 토큰 버킷으로 입찰마다 Redis 호출 없이 판단한다
+ * - 클러스터 전체 한도는 ClusterBidBudget 이 주기적으로 Redis 와 맞춘 결과를 참고한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidRateLimiter {
+
+    private static final int SHARD_COUNT = 16;
+
+    private final ClusterBidBudget clusterBidBudget;
+
+    @Value("${auction.rate-limit.burst:5}")
+    private long burst;
+
+    @Value("${auction.rate-limit.refill-per-second:2}")
+    private long refillPerSecond;
+
+    @Value("${auction.rate-limit.idle-eviction-ms:300000}")
+    private long idleEvictionMs;
+
+    @SuppressWarnings("unchecked")
+    private final Map<BucketKey, TokenBucket>[] shards = new Map[SHARD_COUNT];
+
+    @PostConstruct
+    public void init() {
+        if (burst < 1 || burst > TokenBucket.MAX_CAPACITY) {
+            throw new IllegalStateException("auction.rate-limit.burst must be between 1 and " + TokenBucket.MAX_CAPACITY);
+        }
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * 허용이면 null, 제한이면 INVALID_BID 실패 이벤트
+     */
+    public BidFailedEvent tryAcquire(Long userId, Long auctionId) {
+        if (userId == null || auctionId == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        if (clusterBidBudget.isThrottled(userId, now)) {
+            return BidFailedEvent.of(auctionId, BidFailureCode.INVALID_BID, "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해 주십시오.");
+        }
+
+        BucketKey key = new BucketKey(userId, auctionId);
+        TokenBucket bucket = shardOf(key).computeIfAbsent(key, k -> new TokenBucket(burst, now));
+
+        if (!bucket.tryAcquire(now, burst, refillPerSecond)) {
+            return BidFailedEvent.of(auctionId, BidFailureCode.INVALID_BID, "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해 주십시오.");
+        }
+
+        clusterBidBudget.record(userId);
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long threshold = System.currentTimeMillis() - idleEvictionMs;
+        int evicted = 0;
+
+        for (Map<BucketKey, TokenBucket> shard : shards) {
+            int before = shard.size();
+            shard.values().removeIf(bucket -> bucket.lastAccessMs() < threshold);
+            evicted += before - shard.size();
+        }
+
+        if (evicted > 0) {
+            log.debug("Evicted {} idle bid rate-limit buckets", evicted);
+        }
+    }
+
+    private Map<BucketKey, TokenBucket> shardOf(BucketKey key) {
+        return shards[(key.hashCode() & 0x7fffffff) % SHARD_COUNT];
+    }
+
+    private record BucketKey(long userId, long auctionId) {
+    }
+}
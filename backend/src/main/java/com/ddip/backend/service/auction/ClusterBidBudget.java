@@ -0,0 +1,86 @@
+package com.ddip.backend.service.auction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 클러스터 전체 입찰 한도 (고정 윈도우)
+ * - 노드는 통과시킨 입찰 수를 로컬에 모았다가 주기적으로 Redis HINCRBY 로 합산한다
+ * - 합계가 한도를 넘은 사용자는 해당 윈도우가 끝날 때까지 로컬에서 바로 거절한다
+ * - 동기화 주기만큼 한도를 넘길 수 있는 근사치이며, budget 이 0 이면 비활성화
+ * - 누적과 비우기는 모두 키 단위 원자 연산(merge/remove)이라 동기화 중에 들어온 입찰도 다음 주기로 넘어간다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterBidBudget {
+
+    private static final String KEY_PREFIX = "auction:bid-budget:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${auction.rate-limit.cluster-budget-per-window:0}")
+    private long budgetPerWindow;
+
+    @Value("${auction.rate-limit.window-ms:60000}")
+    private long windowMs;
+
+    private final Map<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+    private final Map<Long, Long> throttledUntil = new ConcurrentHashMap<>();
+
+    public boolean isThrottled(long userId, long nowMs) {
+        Long until = throttledUntil.get(userId);
+        return until != null && until > nowMs;
+    }
+
+    public void record(long userId) {
+        if (budgetPerWindow > 0) {
+            pendingCounts.merge(userId, 1L, Long::sum);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auction.rate-limit.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        long now = System.currentTimeMillis();
+        throttledUntil.values().removeIf(until -> until <= now);
+
+        if (budgetPerWindow <= 0 || pendingCounts.isEmpty()) {
+            return;
+        }
+
+        long window = now / windowMs;
+        String key = KEY_PREFIX + window;
+
+        for (Long userId : pendingCounts.keySet()) {
+            Long delta = pendingCounts.remove(userId);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                Long total = redisTemplate.opsForHash().increment(key, userId.toString(), delta);
+                if (total != null && total > budgetPerWindow) {
+                    throttledUntil.put(userId, (window + 1) * windowMs);
+                }
+            } catch (RuntimeException e) {
+                // 못 보낸 몫은 되돌려 다음 주기에 보낸다. Redis 장애 시에도 노드 단위 제한은 계속 동작한다
+                pendingCounts.merge(userId, delta, Long::sum);
+                log.warn("Failed to reconcile cluster bid budget", e);
+                return;
+            }
+        }
+
+        try {
+            redisTemplate.expire(key, Duration.ofMillis(windowMs * 2));
+        } catch (RuntimeException e) {
+            log.warn("Failed to set cluster bid budget expiry", e);
+        }
+    }
+}
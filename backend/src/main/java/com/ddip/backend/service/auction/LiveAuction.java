@@ -0,0 +1,199 @@
+package com.ddip.backend.service.auction;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionSnapshotDto;
+import com.ddip.backend.dto.auction.AuctionSyncResponseDto;
+import com.ddip.backend.dto.auction.BidFailedEvent;
+import com.ddip.backend.dto.enums.AuctionStatus;
+import com.ddip.backend.dto.enums.BidFailureCode;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리에 올라간 진행 중 경매 상태
+ * - 입찰/이벤트 버퍼 접근은 인스턴스 락(lock()/unlock()) 안에서 이루어진다.
+ *   락을 쥔 채 DB 에 기록하므로 synchronized 대신 ReentrantLock 을 써 가상 스레드가 캐리어를 붙잡지 않게 한다
+ * - 상태(가격/최고 입찰자/진행 상태)는 AtomicReference 로 두고, 입찰 예약과 상태 전이를 CAS 로 경합시킨다
+ *   (종료 타이머는 락 없이 CAS 만으로 종료를 결정한다)
+ */
+@Getter
+public class LiveAuction {
+
+    private final Long auctionId;
+    private final long startPrice;
+    private final long bidStep;
+    // null 이면 즉시구매 불가
+    private final Long buyoutPrice;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final AuctionEventBuffer events;
+
+    private final AtomicReference<AuctionState> state;
+
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 다른 노드로 인계되어 더 이상 사용하면 안 되는 상태
+    private boolean retired;
+    // 종료 전이가 DB 에 기록되었는지 (실패 시 종료 스윕이 다시 기록한다)
+    private volatile boolean closeRecorded;
+    private volatile LocalDateTime closedAt;
+
+    @Builder
+    public LiveAuction(Long auctionId, long startPrice, long currentPrice, long bidStep, Long buyoutPrice,
+                       LocalDateTime startAt, LocalDateTime endAt, AuctionStatus status,
+                       Long highestBidderId, long bidCount, long lastSequence, int bufferSize) {
+        this.auctionId = auctionId;
+        this.startPrice = startPrice;
+        this.bidStep = bidStep;
+        this.buyoutPrice = buyoutPrice;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.events = new AuctionEventBuffer(bufferSize, lastSequence);
+
+        AuctionStatus initial = status == null ? AuctionStatus.RUNNING : status;
+        this.state = new AtomicReference<>(new AuctionState(initial, currentPrice, highestBidderId, bidCount, false));
+        this.closeRecorded = initial.isTerminal();
+    }
+
+    public void lock() {
+        lock.lock();
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    public AuctionState getState() {
+        return state.get();
+    }
+
+    /**
+     * 입찰 가능 여부 검사, 가능하면 null
+     */
+    public BidFailedEvent validateBid(AuctionState current, Long bidderId, long amount, LocalDateTime now) {
+        if (current.getStatus() != AuctionStatus.RUNNING || isPastEnd(now)) {
+            return BidFailedEvent.of(auctionId, BidFailureCode.AUCTION_ENDED, "해당 경매는 종료 되었습니다.");
+        }
+        if (bidderId == null) {
+            return BidFailedEvent.of(auctionId, BidFailureCode.INVALID_BID, "인증이 필요합니다.");
+        }
+        if (amount < minimumBid(current)) {
+            return BidFailedEvent.of(auctionId, BidFailureCode.INSUFFICIENT_BID, "최소 입찰가는 " + minimumBid(current) + "원 입니다.");
+        }
+        return null;
+    }
+
+    public long minimumBid(AuctionState current) {
+        return current.getBidCount() == 0 ? startPrice : current.getCurrentPrice() + bidStep;
+    }
+
+    public boolean isBuyout(long amount) {
+        return buyoutPrice != null && amount >= buyoutPrice;
+    }
+
+    public long nextSequence() {
+        return events.getLastSequence() + 1;
+    }
+
+    /**
+     * 입찰 예약. 그 사이 상태가 바뀌었으면(= 종료/취소) null
+     */
+    public AuctionState tryReserveBid(AuctionState expected) {
+        AuctionState reserved = expected.reserveBid();
+        return state.compareAndSet(expected, reserved) ? reserved : null;
+    }
+
+    /**
+     * 예약한 입찰 확정. 예약 중에는 다른 전이가 일어나지 않으므로 CAS 는 항상 성공해야 한다.
+     */
+    public AuctionState commitBid(AuctionState reserved, AuctionEventDto event, Long bidderId, long amount, boolean buyout) {
+        AuctionState next = reserved.withBid(bidderId, amount);
+        if (buyout) {
+            next = next.transitionTo(AuctionStatus.ENDED);
+        }
+        if (!state.compareAndSet(reserved, next)) {
+            throw new IllegalStateException("Reserved auction state changed: " + auctionId);
+        }
+
+        events.append(event);
+        if (buyout) {
+            markClosed(true);
+        }
+        return next;
+    }
+
+    public void releaseBid(AuctionState reserved) {
+        state.compareAndSet(reserved, reserved.releaseBid());
+    }
+
+    /**
+     * 진행 상태 전이. 입찰이 기록 중이거나 그 사이 상태가 바뀌었으면 null
+     */
+    public AuctionState tryTransition(AuctionState expected, AuctionStatus next) {
+        if (expected.isBidInFlight() || !expected.getStatus().canTransitionTo(next)) {
+            return null;
+        }
+        AuctionState transitioned = expected.transitionTo(next);
+        return state.compareAndSet(expected, transitioned) ? transitioned : null;
+    }
+
+    public void appendEvent(AuctionEventDto event) {
+        events.append(event);
+    }
+
+    public void markClosed(boolean recorded) {
+        if (closedAt == null) {
+            closedAt = LocalDateTime.now();
+        }
+        closeRecorded = recorded;
+    }
+
+    public void retire() {
+        this.retired = true;
+    }
+
+    public boolean isPastEnd(LocalDateTime now) {
+        return endAt != null && !now.isBefore(endAt);
+    }
+
+    public boolean isStartDue(LocalDateTime now) {
+        return startAt == null || !now.isBefore(startAt);
+    }
+
+    public boolean isEnded(LocalDateTime now) {
+        return state.get().getStatus().isTerminal() || isPastEnd(now);
+    }
+
+    public AuctionSyncResponseDto sync(long lastSequence) {
+        List<AuctionEventDto> missing = lastSequence > events.getLastSequence() ? null : events.since(lastSequence);
+
+        return AuctionSyncResponseDto.builder()
+                .auctionId(auctionId)
+                .lastSequence(events.getLastSequence())
+                .events(missing == null ? List.of() : missing)
+                .snapshot(missing == null ? snapshot() : null)
+                .build();
+    }
+
+    public AuctionSnapshotDto snapshot() {
+        AuctionState current = state.get();
+
+        return AuctionSnapshotDto.builder()
+                .auctionId(auctionId)
+                .sequence(events.getLastSequence())
+                .currentPrice(current.getCurrentPrice())
+                .highestBidderId(current.getHighestBidderId())
+                .bidCount(current.getBidCount())
+                .endAt(endAt)
+                .ended(isEnded(LocalDateTime.now()))
+                .status(current.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ddip.backend.service.auction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CAS 기반 토큰 버킷
+ * - 상태를 long 하나에 (마지막 갱신 시각 ms << 20 | 밀리토큰) 으로 묶어 락 없이 갱신한다
+ * - 밀리토큰 단위이므로 초당 N 토큰 충전 = ms 당 N 밀리토큰 충전
+ */
+final class TokenBucket {
+
+    static final long SCALE = 1_000L;
+    static final long MAX_CAPACITY = ((1L << 20) - 1) / SCALE;
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    private final AtomicLong state;
+
+    TokenBucket(long capacity, long nowMs) {
+        this.state = new AtomicLong(pack(nowMs, capacity * SCALE));
+    }
+
+    boolean tryAcquire(long nowMs, long capacity, long refillPerSecond) {
+        long capacityMilli = capacity * SCALE;
+
+        while (true) {
+            long current = state.get();
+            long lastMs = current >>> TOKEN_BITS;
+            long tokens = current & TOKEN_MASK;
+            long elapsed = Math.max(0L, nowMs - lastMs);
+            long refilled = Math.min(capacityMilli, tokens + elapsed * refillPerSecond);
+
+            if (refilled < SCALE) {
+                // 거절이어도 시각은 갱신해 둔다 (계속 두드리는 버킷이 유휴로 오인되어 초기화되지 않도록)
+                state.compareAndSet(current, pack(Math.max(nowMs, lastMs), refilled));
+                return false;
+            }
+            if (state.compareAndSet(current, pack(Math.max(nowMs, lastMs), refilled - SCALE))) {
+                return true;
+            }
+        }
+    }
+
+    long lastAccessMs() {
+        return state.get() >>> TOKEN_BITS;
+    }
+
+    private static long pack(long timestampMs, long milliTokens) {
+        return (timestampMs << TOKEN_BITS) | milliTokens;
+    }
+}
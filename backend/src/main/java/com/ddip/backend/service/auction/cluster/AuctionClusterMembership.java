@@ -0,0 +1,21 @@
+package com.ddip.backend.service.auction.cluster;
+
+import java.util.List;
+
+/**
+ * 경매 엔진 노드 멤버십
+ */
+public interface AuctionClusterMembership {
+
+    String getLocalNodeId();
+
+    /**
+     * 자신의 생존 신호를 갱신한다
+     */
+    void heartbeat();
+
+    /**
+     * 현재 살아있는 노드 목록 (자신 포함)
+     */
+    List<String> getLiveNodes();
+}
@@ -0,0 +1,24 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 노드 간 요청 전달 / 이벤트 전파
+ */
+public interface AuctionClusterTransport {
+
+    CompletableFuture<AuctionCommandReply> send(String nodeId, AuctionCommand command);
+
+    /**
+     * 다른 모든 노드로 이벤트 전파 (자신에게는 다시 전달되지 않는다)
+     */
+    void publishEvent(AuctionEventDto event);
+
+    void onCommand(Function<AuctionCommand, AuctionCommandReply> handler);
+
+    void onEvent(Consumer<AuctionEventDto> handler);
+}
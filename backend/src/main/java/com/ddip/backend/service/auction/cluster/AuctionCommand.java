@@ -0,0 +1,55 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.dto.user.UserResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 담당 노드로 전달되는 경매 요청 (입찰 / 재접속 동기화)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionCommand {
+
+    public enum Kind { BID, SYNC }
+
+    private String correlationId;
+    private String replyTo;
+    private int hops;
+    private Kind kind;
+    private Long auctionId;
+    private UserResponseDto bidder;
+    private long amount;
+    private long lastSequence;
+
+    public static AuctionCommand bid(Long auctionId, UserResponseDto bidder, long amount) {
+        return AuctionCommand.builder()
+                .kind(Kind.BID)
+                .auctionId(auctionId)
+                .bidder(bidder)
+                .amount(amount)
+                .build();
+    }
+
+    public static AuctionCommand sync(Long auctionId, long lastSequence) {
+        return AuctionCommand.builder()
+                .kind(Kind.SYNC)
+                .auctionId(auctionId)
+                .lastSequence(lastSequence)
+                .build();
+    }
+
+    public AuctionCommand forwardedFrom(String nodeId) {
+        return toBuilder()
+                .correlationId(UUID.randomUUID().toString())
+                .replyTo(nodeId)
+                .hops(hops + 1)
+                .build();
+    }
+}
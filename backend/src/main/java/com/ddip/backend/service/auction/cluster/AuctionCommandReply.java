@@ -0,0 +1,21 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.dto.auction.AuctionSyncResponseDto;
+import com.ddip.backend.dto.auction.BidResultDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionCommandReply {
+
+    private String correlationId;
+    private BidResultDto bidResult;
+    private AuctionSyncResponseDto sync;
+
+    public AuctionCommandReply withCorrelationId(String correlationId) {
+        return new AuctionCommandReply(correlationId, bidResult, sync);
+    }
+}
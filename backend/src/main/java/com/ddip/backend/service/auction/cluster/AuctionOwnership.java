@@ -0,0 +1,62 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.service.auction.AuctionEngine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 경매별 담당 노드 결정
+ * - heartbeat 주기마다 멤버십을 다시 읽고, 노드 구성이 바뀌면 링을 교체한다
+ * - 더 이상 담당이 아닌 경매는 엔진에서 내린다 (새 담당 노드가 DB 에서 다시 읽는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionOwnership {
+
+    private final AuctionClusterMembership membership;
+    private final AuctionEngine auctionEngine;
+
+    @Value("${auction.cluster.virtual-nodes:128}")
+    private int virtualNodes;
+
+    private volatile ConsistentHashRing ring;
+
+    @PostConstruct
+    public void init() {
+        membership.heartbeat();
+        ring = new ConsistentHashRing(membership.getLiveNodes(), virtualNodes);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.cluster.heartbeat-interval-ms:2000}")
+    public void refresh() {
+        membership.heartbeat();
+
+        List<String> liveNodes = membership.getLiveNodes().stream().sorted().toList();
+        if (liveNodes.equals(ring.getNodes())) {
+            return;
+        }
+
+        log.info("Auction cluster changed. {} -> {}", ring.getNodes(), liveNodes);
+        ring = new ConsistentHashRing(liveNodes, virtualNodes);
+        auctionEngine.evictIf(auctionId -> !isLocal(auctionId));
+    }
+
+    public String ownerOf(Long auctionId) {
+        return ring.ownerOf(auctionId);
+    }
+
+    public boolean isLocal(Long auctionId) {
+        return getLocalNodeId().equals(ownerOf(auctionId));
+    }
+
+    public String getLocalNodeId() {
+        return membership.getLocalNodeId();
+    }
+}
@@ -0,0 +1,119 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionSyncResponseDto;
+import com.ddip.backend.dto.auction.BidFailedEvent;
+import com.ddip.backend.dto.auction.BidResultDto;
+import com.ddip.backend.dto.enums.BidFailureCode;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.ddip.backend.service.auction.AuctionEngine;
+import com.ddip.backend.service.auction.BidRateLimiter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 경매 요청 진입점
+ * - 담당 노드면 로컬 엔진에서 처리하고, 아니면 담당 노드로 전달한다
+ * - 로컬 엔진 이벤트는 다른 노드로 전파하고, 다른 노드 이벤트는 로컬 구독자에게 다시 발행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionRouter {
+
+    // 멤버십 변경이 전파되는 동안 노드 간 핑퐁을 막는다
+    private static final int MAX_HOPS = 2;
+
+    private final AuctionEngine auctionEngine;
+    private final AuctionOwnership ownership;
+    private final AuctionClusterTransport transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidRateLimiter bidRateLimiter;
+
+    private final ThreadLocal<Boolean> relaying = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    @Value("${auction.cluster.forward-timeout-ms:3000}")
+    private long forwardTimeoutMs;
+
+    @PostConstruct
+    public void init() {
+        transport.onCommand(this::route);
+        transport.onEvent(this::onRemoteEvent);
+    }
+
+    public BidResultDto placeBid(Long auctionId, UserResponseDto bidder, long amount) {
+        // 전달/검증 비용이 들기 전에 요청을 받은 노드에서 바로 거른다
+        BidFailedEvent limited = bidRateLimiter.tryAcquire(bidder == null ? null : bidder.getId(), auctionId);
+        if (limited != null) {
+            return BidResultDto.rejected(limited);
+        }
+
+        AuctionCommandReply reply = route(AuctionCommand.bid(auctionId, bidder, amount));
+
+        if (reply == null || reply.getBidResult() == null) {
+            return BidResultDto.rejected(BidFailedEvent.of(auctionId, BidFailureCode.SERVER_ERROR, "입찰 처리 중 오류가 발생했습니다."));
+        }
+        return reply.getBidResult();
+    }
+
+    public AuctionSyncResponseDto sync(Long auctionId, long lastSequence) {
+        AuctionCommandReply reply = route(AuctionCommand.sync(auctionId, lastSequence));
+
+        if (reply == null || reply.getSync() == null) {
+            throw new IllegalStateException("Auction sync failed: " + auctionId);
+        }
+        return reply.getSync();
+    }
+
+    @EventListener
+    public void onLocalEvent(AuctionEventDto event) {
+        if (!relaying.get()) {
+            transport.publishEvent(event);
+        }
+    }
+
+    private AuctionCommandReply route(AuctionCommand command) {
+        String owner = ownership.ownerOf(command.getAuctionId());
+
+        if (owner.equals(ownership.getLocalNodeId()) || command.getHops() >= MAX_HOPS) {
+            return execute(command);
+        }
+
+        try {
+            return transport.send(owner, command).get(forwardTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("Failed to forward auction command. auctionId={}, owner={}", command.getAuctionId(), owner, e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private AuctionCommandReply execute(AuctionCommand command) {
+        return switch (command.getKind()) {
+            case BID -> new AuctionCommandReply(command.getCorrelationId(),
+                    auctionEngine.placeBid(command.getAuctionId(), command.getBidder(), command.getAmount()), null);
+            case SYNC -> new AuctionCommandReply(command.getCorrelationId(), null,
+                    auctionEngine.sync(command.getAuctionId(), command.getLastSequence()));
+        };
+    }
+
+    private void onRemoteEvent(AuctionEventDto event) {
+        relaying.set(Boolean.TRUE);
+        try {
+            eventPublisher.publishEvent(event);
+        } finally {
+            relaying.remove();
+        }
+    }
+}
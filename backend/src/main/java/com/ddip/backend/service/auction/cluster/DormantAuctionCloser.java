@@ -0,0 +1,38 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.service.AuctionService;
+import com.ddip.backend.service.auction.AuctionEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입찰/접속이 없어 메모리에 올라오지 않은 경매의 종료 처리
+ * - 마감이 지난 미종료 경매 중 이 노드가 담당하는 것만 엔진에 올려 같은 CAS 경로로 종료한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DormantAuctionCloser {
+
+    private final AuctionService auctionService;
+    private final AuctionEngine auctionEngine;
+    private final AuctionOwnership ownership;
+
+    @Scheduled(fixedDelayString = "${auction.dormant-close-interval-ms:60000}")
+    public void closeDormant() {
+        for (Long auctionId : auctionService.findExpiredOpenAuctionIds(LocalDateTime.now())) {
+            if (!ownership.isLocal(auctionId)) {
+                continue;
+            }
+            try {
+                auctionEngine.close(auctionId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to close dormant auction. auctionId={}", auctionId, e);
+            }
+        }
+    }
+}
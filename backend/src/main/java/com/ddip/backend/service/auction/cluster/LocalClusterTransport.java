@@ -0,0 +1,34 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 클러스터 비활성화 시 : 전달할 다른 노드가 없다
+ */
+@Component
+@ConditionalOnProperty(name = "auction.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalClusterTransport implements AuctionClusterTransport {
+
+    @Override
+    public CompletableFuture<AuctionCommandReply> send(String nodeId, AuctionCommand command) {
+        return CompletableFuture.failedFuture(new IllegalStateException("Unknown auction node: " + nodeId));
+    }
+
+    @Override
+    public void publishEvent(AuctionEventDto event) {
+    }
+
+    @Override
+    public void onCommand(Function<AuctionCommand, AuctionCommandReply> handler) {
+    }
+
+    @Override
+    public void onEvent(Consumer<AuctionEventDto> handler) {
+    }
+}
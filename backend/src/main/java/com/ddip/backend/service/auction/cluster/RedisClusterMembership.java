@@ -0,0 +1,72 @@
+package com.ddip.backend.service.auction.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis ZSET(member = nodeId, score = 마지막 heartbeat 시각) 기반 멤버십
+ * - ttl 동안 heartbeat 가 없는 노드는 목록에서 제외된다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.cluster.enabled", havingValue = "true")
+public class RedisClusterMembership implements AuctionClusterMembership {
+
+    private static final String NODES_KEY = "auction:cluster:nodes";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String localNodeId;
+    private final long nodeTtlMs;
+
+    public RedisClusterMembership(StringRedisTemplate redisTemplate,
+                                  @Value("${auction.cluster.node-id:}") String nodeId,
+                                  @Value("${auction.cluster.node-ttl-ms:6000}") long nodeTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.localNodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.nodeTtlMs = nodeTtlMs;
+    }
+
+    @Override
+    public String getLocalNodeId() {
+        return localNodeId;
+    }
+
+    @Override
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(NODES_KEY, localNodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - nodeTtlMs);
+    }
+
+    @Override
+    public List<String> getLiveNodes() {
+        long now = System.currentTimeMillis();
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - nodeTtlMs, Double.MAX_VALUE);
+
+        List<String> nodes = new ArrayList<>(members == null ? Set.of() : members);
+        if (!nodes.contains(localNodeId)) {
+            nodes.add(localNodeId);
+        }
+        return nodes;
+    }
+
+    // 정상 종료 시 바로 빠져서 다른 노드가 ttl 을 기다리지 않고 인계받도록 한다
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(NODES_KEY, localNodeId);
+        } catch (RuntimeException e) {
+            log.info("Failed to leave auction cluster. nodeId={}", localNodeId, e);
+        }
+    }
+}
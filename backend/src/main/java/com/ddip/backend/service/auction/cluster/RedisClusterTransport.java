@@ -0,0 +1,179 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.config.WorkerThreads;
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Redis Pub/Sub 기반 노드 간 통신
+ * - auction:cluster:commands:{nodeId} : 담당 노드로 요청 전달
+ * - auction:cluster:replies:{nodeId}  : 요청 노드로 응답
+ * - auction:cluster:events            : 경매 이벤트 전파
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.cluster.enabled", havingValue = "true")
+public class RedisClusterTransport implements AuctionClusterTransport {
+
+    private static final String COMMAND_CHANNEL_PREFIX = "auction:cluster:commands:";
+    private static final String REPLY_CHANNEL_PREFIX = "auction:cluster:replies:";
+    private static final String EVENT_CHANNEL = "auction:cluster:events";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final AuctionClusterMembership membership;
+
+    private final Map<String, CompletableFuture<AuctionCommandReply>> pendingReplies = new ConcurrentHashMap<>();
+
+    @Value("${auction.cluster.command-threads:16}")
+    private int commandThreads;
+
+    @Value(WorkerThreads.VIRTUAL_ENABLED)
+    private boolean virtualThreads;
+
+    private ExecutorService commandExecutor;
+    private Semaphore commandPermits;
+    private volatile Function<AuctionCommand, AuctionCommandReply> commandHandler;
+    private volatile Consumer<AuctionEventDto> eventHandler;
+
+    @PostConstruct
+    public void subscribe() {
+        // 입찰 처리는 DB 쓰기를 포함하므로 리스너 스레드가 아닌 별도 풀에서 실행
+        // 가상 스레드 모드에서도 동시 처리 수는 commandThreads 로 제한한다 (DB 커넥션 대기열 보호)
+        commandExecutor = WorkerThreads.newPool("auction-command", commandThreads, virtualThreads);
+        commandPermits = new Semaphore(commandThreads);
+        String nodeId = membership.getLocalNodeId();
+
+        listenerContainer.addMessageListener((message, pattern) -> onCommandMessage(message.getBody()),
+                new ChannelTopic(COMMAND_CHANNEL_PREFIX + nodeId));
+        listenerContainer.addMessageListener((message, pattern) -> onReplyMessage(message.getBody()),
+                new ChannelTopic(REPLY_CHANNEL_PREFIX + nodeId));
+        listenerContainer.addMessageListener((message, pattern) -> onEventMessage(message.getBody()),
+                new ChannelTopic(EVENT_CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        commandExecutor.shutdown();
+        commandExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public CompletableFuture<AuctionCommandReply> send(String nodeId, AuctionCommand command) {
+        AuctionCommand forwarded = command.forwardedFrom(membership.getLocalNodeId());
+        CompletableFuture<AuctionCommandReply> future = new CompletableFuture<>();
+        pendingReplies.put(forwarded.getCorrelationId(), future);
+        future.whenComplete((reply, e) -> pendingReplies.remove(forwarded.getCorrelationId()));
+
+        redisTemplate.convertAndSend(COMMAND_CHANNEL_PREFIX + nodeId, write(forwarded));
+        return future;
+    }
+
+    @Override
+    public void publishEvent(AuctionEventDto event) {
+        redisTemplate.convertAndSend(EVENT_CHANNEL, write(new ClusterEvent(membership.getLocalNodeId(), event)));
+    }
+
+    @Override
+    public void onCommand(Function<AuctionCommand, AuctionCommandReply> handler) {
+        this.commandHandler = handler;
+    }
+
+    @Override
+    public void onEvent(Consumer<AuctionEventDto> handler) {
+        this.eventHandler = handler;
+    }
+
+    private void onCommandMessage(byte[] body) {
+        AuctionCommand command = read(body, AuctionCommand.class);
+        if (command == null || commandHandler == null) {
+            return;
+        }
+
+        commandExecutor.execute(() -> {
+            commandPermits.acquireUninterruptibly();
+            try {
+                AuctionCommandReply reply = commandHandler.apply(command).withCorrelationId(command.getCorrelationId());
+                redisTemplate.convertAndSend(REPLY_CHANNEL_PREFIX + command.getReplyTo(), write(reply));
+            } finally {
+                commandPermits.release();
+            }
+        });
+    }
+
+    private void onReplyMessage(byte[] body) {
+        AuctionCommandReply reply = read(body, AuctionCommandReply.class);
+        if (reply == null) {
+            return;
+        }
+
+        CompletableFuture<AuctionCommandReply> future = pendingReplies.get(reply.getCorrelationId());
+        if (future != null) {
+            future.complete(reply);
+        }
+    }
+
+    private void onEventMessage(byte[] body) {
+        ClusterEvent clusterEvent = read(body, ClusterEvent.class);
+        if (clusterEvent == null || eventHandler == null
+                || membership.getLocalNodeId().equals(clusterEvent.getOrigin())) {
+            return;
+        }
+
+        AuctionEventDto event = clusterEvent.getEvent();
+        // payload 는 역직렬화 시 Map 이 되므로 이벤트 타입에 맞게 복원
+        Object payload = objectMapper.convertValue(event.getPayload(), event.getType().getPayloadType());
+        eventHandler.accept(event.toBuilder().payload(payload).build());
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("클러스터 메시지 직렬화 실패", e);
+        }
+    }
+
+    private <T> T read(byte[] body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            log.info("Invalid cluster message. type={}", type.getSimpleName(), e);
+            return null;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class ClusterEvent {
+        private String origin;
+        private AuctionEventDto event;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ddip.backend.service.auction.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 클러스터 비활성화 시 : 자신이 모든 경매를 담당
+ */
+@Component
+@ConditionalOnProperty(name = "auction.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class SingleNodeMembership implements AuctionClusterMembership {
+
+    private static final String LOCAL_NODE_ID = "local";
+
+    @Override
+    public String getLocalNodeId() {
+        return LOCAL_NODE_ID;
+    }
+
+    @Override
+    public void heartbeat() {
+    }
+
+    @Override
+    public List<String> getLiveNodes() {
+        return List.of(LOCAL_NODE_ID);
+    }
+}
@@ -0,0 +1,223 @@
+package com.ddip.backend.service.auction.index;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionListingDto;
+import com.ddip.backend.dto.auction.AuctionListingPageDto;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.service.AuctionService;
+import com.ddip.backend.service.auction.cluster.AuctionOwnership;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중 경매의 "마감 임박" / "인기" 목록 인덱스
+ * - 메모리: 마감 시각 정렬 집합 + 주기적으로 다시 만드는 최근 입찰 수 순위
+ * - 입찰/종료 이벤트로 갱신 (클러스터에서는 원격 이벤트도 로컬로 재발행되므로 모든 노드가 받는다)
+ * - 주기적 재구성은 Redis 사본에서 읽고, DB 는 클러스터에서 한 노드만 주기당 한 번 읽는다
+ * - 사본에는 카드와 최근 입찰 수 분 버킷이 함께 있어, 담당 노드가 죽어도 다른 노드가 DB 없이 같은 순위로 이어받는다
+ * - 목록 요청은 메모리만 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionListingIndex {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<AuctionListingDto> HOT_ORDER = Comparator
+            .comparingLong(AuctionListingDto::getRecentBidCount).reversed()
+            .thenComparing(AuctionListingDto::getEndAt);
+
+    private final AuctionService auctionService;
+    private final AuctionListingMirror mirror;
+    private final AuctionOwnership ownership;
+
+    @Value("${auction.index.ending-soon-minutes:60}")
+    private long endingSoonMinutes;
+
+    @Value("${auction.index.hot-window-minutes:10}")
+    private int hotWindowMinutes;
+
+    @Value("${auction.index.reload-interval-ms:60000}")
+    private long reloadIntervalMs;
+
+    private final Map<Long, ListingEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<ListingEntry> byEndAt = new ConcurrentSkipListSet<>(ListingEntry.ENDING_ORDER);
+    private volatile List<AuctionListingDto> hotRanking = List.of();
+
+    public AuctionListingPageDto getEndingSoon(int page, int size) {
+        int pageSize = clampSize(size);
+        long from = (long) Math.max(page, 0) * pageSize;
+        long nowMs = System.currentTimeMillis();
+        long horizonMs = nowMs + TimeUnit.MINUTES.toMillis(endingSoonMinutes);
+        long epochMinute = TimeUnit.MILLISECONDS.toMinutes(nowMs);
+
+        List<AuctionListingDto> items = new ArrayList<>(pageSize);
+        long total = 0;
+        for (ListingEntry entry : byEndAt.tailSet(ListingEntry.probe(nowMs), false)) {
+            if (entry.getEndAtMs() > horizonMs) {
+                break;
+            }
+            if (total >= from && items.size() < pageSize) {
+                items.add(entry.toDto(epochMinute));
+            }
+            total++;
+        }
+
+        return new AuctionListingPageDto(items, Math.max(page, 0), pageSize, total);
+    }
+
+    public AuctionListingPageDto getHot(int page, int size) {
+        int pageSize = clampSize(size);
+        List<AuctionListingDto> ranking = hotRanking;
+        int from = (int) Math.min((long) Math.max(page, 0) * pageSize, ranking.size());
+        int to = Math.min(from + pageSize, ranking.size());
+
+        return new AuctionListingPageDto(ranking.subList(from, to), Math.max(page, 0), pageSize, ranking.size());
+    }
+
+    @EventListener
+    public void onAuctionEvent(AuctionEventDto event) {
+        switch (event.getType()) {
+            case BID_PLACED -> {
+                ListingEntry entry = entries.get(event.getAuctionId());
+                // 인덱스에 없는 경매(재구성 이후 생성)는 다음 재구성에서 들어온다
+                if (entry != null && event.getPayload() instanceof BidPlacedEvent bid) {
+                    entry.onBid(bid.getCurrentPrice(), TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis()));
+                }
+            }
+            case AUCTION_ENDED -> remove(event.getAuctionId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Redis 사본(또는 락을 잡은 경우 DB)으로 인덱스를 다시 맞춘다. 기동 직후 한 번 실행된다.
+     */
+    @Scheduled(fixedDelayString = "${auction.index.reload-interval-ms:60000}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AuctionListingDto> cards;
+        Map<Long, String> velocities;
+        boolean fromDb;
+
+        try {
+            // 새로 들어오는 경매의 분 버킷은 DB 에서 읽은 경우에도 사본 쪽이 정확하다
+            velocities = mirror.loadVelocities();
+            fromDb = mirror.tryAcquireReload(reloadIntervalMs);
+            cards = fromDb ? List.of() : mirror.loadCards();
+            if (cards.isEmpty()) {
+                cards = auctionService.findLiveListings(now, now.minusMinutes(hotWindowMinutes));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload auction listing index, keeping current entries", e);
+            return;
+        }
+
+        long epochMinute = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+        Set<Long> live = new HashSet<>();
+        for (AuctionListingDto card : cards) {
+            if (card.getAuctionId() == null || card.getEndAt() == null) {
+                continue;
+            }
+            live.add(card.getAuctionId());
+
+            ListingEntry existing = entries.get(card.getAuctionId());
+            if (existing != null) {
+                existing.merge(card);
+                continue;
+            }
+
+            ListingEntry entry = ListingEntry.from(card, hotWindowMinutes, epochMinute, velocities.get(card.getAuctionId()));
+            if (entries.putIfAbsent(entry.getAuctionId(), entry) == null) {
+                byEndAt.add(entry);
+            }
+        }
+
+        entries.keySet().stream()
+                .filter(auctionId -> !live.contains(auctionId))
+                .toList()
+                .forEach(this::removeLocal);
+
+        if (fromDb) {
+            try {
+                mirror.replace(List.copyOf(entries.values()), epochMinute);
+            } catch (RuntimeException e) {
+                log.warn("Failed to replace auction listing mirror", e);
+            }
+        }
+        refreshRanking();
+    }
+
+    /**
+     * 인기 순위 재계산 + 담당 경매의 변경분을 Redis 에 반영
+     */
+    @Scheduled(fixedDelayString = "${auction.index.hot-refresh-ms:5000}")
+    public void refreshRanking() {
+        long nowMs = System.currentTimeMillis();
+        long epochMinute = TimeUnit.MILLISECONDS.toMinutes(nowMs);
+
+        List<ListingEntry> ended = entries.values().stream()
+                .filter(entry -> entry.getEndAtMs() <= nowMs)
+                .toList();
+        ended.forEach(entry -> removeLocal(entry.getAuctionId()));
+
+        List<AuctionListingDto> ranking = new ArrayList<>();
+        List<ListingEntry> changed = new ArrayList<>();
+        for (ListingEntry entry : entries.values()) {
+            AuctionListingDto dto = entry.toDto(epochMinute);
+            if (dto.getRecentBidCount() > 0) {
+                ranking.add(dto);
+            }
+            if (entry.clearDirty() && ownership.isLocal(entry.getAuctionId())) {
+                changed.add(entry);
+            }
+        }
+        ranking.sort(HOT_ORDER);
+        hotRanking = List.copyOf(ranking);
+
+        try {
+            mirror.save(changed, epochMinute);
+        } catch (RuntimeException e) {
+            log.warn("Failed to mirror auction listing index", e);
+        }
+    }
+
+    private void remove(Long auctionId) {
+        removeLocal(auctionId);
+        if (ownership.isLocal(auctionId)) {
+            try {
+                mirror.remove(auctionId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to remove auction {} from listing mirror", auctionId, e);
+            }
+        }
+    }
+
+    private void removeLocal(Long auctionId) {
+        ListingEntry entry = entries.remove(auctionId);
+        if (entry != null) {
+            byEndAt.remove(entry);
+        }
+    }
+
+    private int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+}
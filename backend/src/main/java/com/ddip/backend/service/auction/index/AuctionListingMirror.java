@@ -0,0 +1,134 @@
+package com.ddip.backend.service.auction.index;
+
+import com.ddip.backend.dto.auction.AuctionListingDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목록 인덱스의 Redis 사본 (다른 노드가 DB 없이 그대로 이어받을 수 있는 상태)
+ * - auction:index:cards    : HASH auctionId -> 카드 JSON
+ * - auction:index:velocity : HASH auctionId -> 최근 입찰 수 분 버킷 "분:건수,분:건수"
+ * - 정렬은 각 노드의 메모리 인덱스가 맡으므로 재구성에 필요한 카드와 버킷만 보관한다
+ * 전체 교체는 임시 키에 쓴 뒤 RENAME 으로 바꿔 읽는 쪽이 빈 상태를 보지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionListingMirror {
+
+    private static final String CARDS_KEY = "auction:index:cards";
+    private static final String VELOCITY_KEY = "auction:index:velocity";
+    private static final String RELOAD_LOCK_KEY = "auction:index:reload-lock";
+    private static final String TEMP_SUFFIX = ":rebuilding";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 클러스터에서 한 노드만 주기마다 DB 를 읽도록 하는 락
+     */
+    public boolean tryAcquireReload(long ttlMs) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(RELOAD_LOCK_KEY, "1", Duration.ofMillis(ttlMs)));
+    }
+
+    public List<AuctionListingDto> loadCards() {
+        List<Object> values = redisTemplate.opsForHash().values(CARDS_KEY);
+        List<AuctionListingDto> cards = new ArrayList<>(values.size());
+
+        for (Object value : values) {
+            try {
+                cards.add(objectMapper.readValue((String) value, AuctionListingDto.class));
+            } catch (JsonProcessingException e) {
+                log.warn("Skipping malformed auction listing card: {}", value);
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * auctionId -> 분 버킷. 버킷은 절대 분이라 오래된 값은 읽는 쪽에서 윈도우 밖으로 걸러진다
+     */
+    public Map<Long, String> loadVelocities() {
+        Map<Object, Object> values = redisTemplate.opsForHash().entries(VELOCITY_KEY);
+        Map<Long, String> velocities = new HashMap<>(values.size());
+
+        values.forEach((auctionId, buckets) -> {
+            try {
+                velocities.put(Long.valueOf((String) auctionId), (String) buckets);
+            } catch (NumberFormatException e) {
+                log.warn("Skipping malformed auction velocity key: {}", auctionId);
+            }
+        });
+        return velocities;
+    }
+
+    void replace(Collection<ListingEntry> entries, long epochMinute) {
+        if (entries.isEmpty()) {
+            redisTemplate.delete(List.of(CARDS_KEY, VELOCITY_KEY));
+            return;
+        }
+
+        redisTemplate.opsForHash().putAll(CARDS_KEY + TEMP_SUFFIX, serialize(entries, epochMinute));
+        redisTemplate.rename(CARDS_KEY + TEMP_SUFFIX, CARDS_KEY);
+
+        Map<String, String> velocities = velocities(entries, epochMinute);
+        if (velocities.isEmpty()) {
+            redisTemplate.delete(VELOCITY_KEY);
+        } else {
+            redisTemplate.opsForHash().putAll(VELOCITY_KEY + TEMP_SUFFIX, velocities);
+            redisTemplate.rename(VELOCITY_KEY + TEMP_SUFFIX, VELOCITY_KEY);
+        }
+    }
+
+    void save(Collection<ListingEntry> entries, long epochMinute) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.opsForHash().putAll(CARDS_KEY, serialize(entries, epochMinute));
+        Map<String, String> velocities = velocities(entries, epochMinute);
+        if (!velocities.isEmpty()) {
+            redisTemplate.opsForHash().putAll(VELOCITY_KEY, velocities);
+        }
+    }
+
+    private Map<String, String> serialize(Collection<ListingEntry> entries, long epochMinute) {
+        Map<String, String> serialized = new HashMap<>();
+        for (ListingEntry entry : entries) {
+            try {
+                serialized.put(Long.toString(entry.getAuctionId()), objectMapper.writeValueAsString(entry.toDto(epochMinute)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize auction listing card", e);
+            }
+        }
+        return serialized;
+    }
+
+    private Map<String, String> velocities(Collection<ListingEntry> entries, long epochMinute) {
+        Map<String, String> velocities = new HashMap<>();
+        for (ListingEntry entry : entries) {
+            String buckets = entry.getVelocity().encode(epochMinute);
+            if (!buckets.isEmpty()) {
+                velocities.put(Long.toString(entry.getAuctionId()), buckets);
+            }
+        }
+        return velocities;
+    }
+
+    public void remove(Long auctionId) {
+        redisTemplate.opsForHash().delete(CARDS_KEY, auctionId.toString());
+        redisTemplate.opsForHash().delete(VELOCITY_KEY, auctionId.toString());
+    }
+}
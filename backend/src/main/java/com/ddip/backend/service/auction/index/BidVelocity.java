@@ -0,0 +1,87 @@
+package com.ddip.backend.service.auction.index;
+
+/**
+ * 분 단위 버킷으로 최근 N분 입찰 수를 센다.
+ * 한 경매의 입찰은 엔진에서 이미 직렬화되어 들어오므로 단순 동기화로 충분하다.
+ * 버킷은 "분:건수,분:건수" 로 직렬화해 Redis 사본에 두고, 다른 노드가 그대로 되살린다.
+ */
+final class BidVelocity {
+
+    private final long[] minutes;
+    private final long[] counts;
+
+    BidVelocity(int windowMinutes) {
+        this.minutes = new long[windowMinutes];
+        this.counts = new long[windowMinutes];
+    }
+
+    synchronized void record(long epochMinute, long count) {
+        int index = (int) (epochMinute % minutes.length);
+        if (minutes[index] != epochMinute) {
+            minutes[index] = epochMinute;
+            counts[index] = 0;
+        }
+        counts[index] += count;
+    }
+
+    synchronized long count(long epochMinute) {
+        long oldest = epochMinute - minutes.length;
+        long sum = 0;
+        for (int i = 0; i < minutes.length; i++) {
+            if (minutes[i] > oldest && minutes[i] <= epochMinute) {
+                sum += counts[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 분포를 모르는 합계(DB 집계)는 윈도우 전체에 고르게 나눠 넣는다.
+     * 현재 분에 몰아 넣으면 윈도우 길이 내내 전부 최근 입찰로 남아 과대평가된다.
+     */
+    synchronized void spread(long epochMinute, long total) {
+        long base = total / minutes.length;
+        long remainder = total % minutes.length;
+        for (int i = 0; i < minutes.length; i++) {
+            long count = base + (i < remainder ? 1 : 0);
+            if (count > 0) {
+                record(epochMinute - i, count);
+            }
+        }
+    }
+
+    /**
+     * 윈도우 안의 버킷만 직렬화. 없으면 빈 문자열
+     */
+    synchronized String encode(long epochMinute) {
+        long oldest = epochMinute - minutes.length;
+        StringBuilder encoded = new StringBuilder();
+        for (int i = 0; i < minutes.length; i++) {
+            if (counts[i] > 0 && minutes[i] > oldest && minutes[i] <= epochMinute) {
+                if (!encoded.isEmpty()) {
+                    encoded.append(',');
+                }
+                encoded.append(minutes[i]).append(':').append(counts[i]);
+            }
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * encode 결과를 되살린다. 형식이 깨진 버킷은 건너뛴다
+     */
+    synchronized void restore(String encoded) {
+        for (String bucket : encoded.split(",")) {
+            int separator = bucket.indexOf(':');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                record(Long.parseLong(bucket, 0, separator, 10),
+                        Long.parseLong(bucket, separator + 1, bucket.length(), 10));
+            } catch (NumberFormatException e) {
+                // 다음 버킷으로
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ddip.backend.service.auction.index;
+
+import com.ddip.backend.dto.auction.AuctionListingDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+
+/**
+ * 목록 인덱스의 경매 한 건. endAt 은 정렬 키이므로 변경하지 않는다.
+ */
+@Getter
+final class ListingEntry {
+
+    static final Comparator<ListingEntry> ENDING_ORDER = Comparator
+            .comparingLong(ListingEntry::getEndAtMs)
+            .thenComparingLong(ListingEntry::getAuctionId);
+
+    private final long auctionId;
+    private final String title;
+    private final LocalDateTime endAt;
+    private final long endAtMs;
+    private final BidVelocity velocity;
+
+    private volatile long currentPrice;
+    private volatile long bidCount;
+    // 마지막 Redis 반영 이후 변경 여부
+    private volatile boolean dirty;
+
+    private ListingEntry(long auctionId, String title, LocalDateTime endAt, long endAtMs, BidVelocity velocity) {
+        this.auctionId = auctionId;
+        this.title = title;
+        this.endAt = endAt;
+        this.endAtMs = endAtMs;
+        this.velocity = velocity;
+    }
+
+    /**
+     * @param buckets Redis 사본의 분 버킷. 없으면(DB 에서 읽은 카드) 최근 입찰 수를 윈도우에 고르게 나눈다
+     */
+    static ListingEntry from(AuctionListingDto card, int windowMinutes, long epochMinute, String buckets) {
+        ListingEntry entry = new ListingEntry(card.getAuctionId(), card.getTitle(), card.getEndAt(),
+                toEpochMs(card.getEndAt()), new BidVelocity(windowMinutes));
+        entry.currentPrice = card.getCurrentPrice() == null ? 0 : card.getCurrentPrice();
+        entry.bidCount = card.getBidCount();
+        if (buckets != null) {
+            entry.velocity.restore(buckets);
+        } else if (card.getRecentBidCount() > 0) {
+            entry.velocity.spread(epochMinute, card.getRecentBidCount());
+        }
+        return entry;
+    }
+
+    /**
+     * tailSet 탐색용 경계 값
+     */
+    static ListingEntry probe(long endAtMs) {
+        return new ListingEntry(Long.MIN_VALUE, null, null, endAtMs, null);
+    }
+
+    static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    void onBid(long price, long epochMinute) {
+        currentPrice = Math.max(currentPrice, price);
+        bidCount++;
+        velocity.record(epochMinute, 1);
+        dirty = true;
+    }
+
+    /**
+     * 다른 노드가 Redis 에 반영한 카드와 합친다. 가격/입찰 수는 단조 증가이므로 큰 쪽을 취한다.
+     */
+    void merge(AuctionListingDto card) {
+        if (card.getCurrentPrice() != null) {
+            currentPrice = Math.max(currentPrice, card.getCurrentPrice());
+        }
+        bidCount = Math.max(bidCount, card.getBidCount());
+    }
+
+    boolean clearDirty() {
+        boolean wasDirty = dirty;
+        dirty = false;
+        return wasDirty;
+    }
+
+    AuctionListingDto toDto(long epochMinute) {
+        return AuctionListingDto.builder()
+                .auctionId(auctionId)
+                .title(title)
+                .currentPrice(currentPrice)
+                .bidCount(bidCount)
+                .endAt(endAt)
+                .recentBidCount(velocity.count(epochMinute))
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ddip.backend.service.crowd;
+
+import com.ddip.backend.dto.crowd.ProjectChangedEvent;
+import com.ddip.backend.dto.crowd.ProjectResponseDto;
+import com.ddip.backend.metrics.CacheMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 프로젝트 상세 응답을 직렬화가 끝난 바이트로 들고 있는 로컬 캐시
+ * - 키는 프로젝트 id, 항목은 만들 때의 ETag 를 함께 보관해 버전이 다르면 다시 만든다
+ * - 다른 노드에서 바뀐 경우도 ETag 가 달라지므로 노드 간 전파 없이 맞춰진다. 변경 이벤트는 메모리를 빨리 돌려받는 용도
+ * - 일정 크기 이상이면 gzip 본문도 미리 만들어 두고, 요청이 허용하면 압축본을 그대로 내려보낸다
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectResponseCache {
+
+    private static final String CACHE_NAME = "project-response";
+
+    private final ObjectMapper objectMapper;
+    private final CacheMetrics cacheMetrics;
+
+    private final Map<Long, EncodedResponse> entries = new ConcurrentHashMap<>();
+
+    @Value("${crowd.response-cache.max-size:2000}")
+    private int maxSize;
+
+    @Value("${crowd.response-cache.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    public EncodedResponse get(Long projectId, String etag, Supplier<ProjectResponseDto> loader) {
+        EncodedResponse cached = entries.get(projectId);
+        if (cached != null && cached.etag().equals(etag)) {
+            cacheMetrics.hit(CACHE_NAME);
+            return cached;
+        }
+        cacheMetrics.miss(CACHE_NAME);
+
+        // 동시에 다른 버전이 올라가도 다음 요청의 ETag 비교에서 걸러지므로 덮어써도 된다
+        EncodedResponse encoded = encode(etag, loader.get());
+        if (entries.size() >= maxSize && !entries.containsKey(projectId)) {
+            evictHalf();
+        }
+        entries.put(projectId, encoded);
+        return encoded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        entries.remove(event.getProjectId());
+    }
+
+    /**
+     * Accept-Encoding 에 gzip 이 q=0 이 아닌 값으로 들어 있는지. 와일드카드(*)도 허용으로 본다
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=") && isZero(param.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality.trim()) == 0.0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private EncodedResponse encode(String etag, ProjectResponseDto response) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(response);
+            byte[] gzip = identity.length >= gzipMinBytes ? gzip(identity) : null;
+            return new EncodedResponse(etag, identity, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프로젝트 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private void evictHalf() {
+        Iterator<Long> keys = entries.keySet().iterator();
+        int excess = entries.size() - maxSize / 2;
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * gzip 은 압축 이득이 작은 작은 본문이면 null
+     */
+    public record EncodedResponse(String etag, byte[] identity, byte[] gzip) {
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ddip.backend.service.notification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 로컬/테스트용 채널 (notification.channel=fake). 외부로 보내지 않고 메모리에 쌓기만 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.channel", havingValue = FakeNotificationChannel.NAME)
+public class FakeNotificationChannel implements NotificationChannel {
+
+    public static final String NAME = "fake";
+
+    private final List<NotificationMessage> sent = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final Set<Long> failingUsers = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return 100;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return 2;
+    }
+
+    @Override
+    public int maxPerSecond() {
+        return 0;
+    }
+
+    @Override
+    public Map<Long, String> send(List<NotificationMessage> messages) {
+        batchSizes.add(messages.size());
+        Map<Long, String> failures = new HashMap<>();
+        for (NotificationMessage message : messages) {
+            if (failingUsers.contains(message.userId())) {
+                failures.put(message.userId(), "fake failure");
+            } else {
+                sent.add(message);
+            }
+        }
+        return failures;
+    }
+
+    public void failOn(Long userId) {
+        failingUsers.add(userId);
+    }
+
+    public List<NotificationMessage> getSent() {
+        return List.copyOf(sent);
+    }
+
+    public List<Integer> getBatchSizes() {
+        return List.copyOf(batchSizes);
+    }
+}
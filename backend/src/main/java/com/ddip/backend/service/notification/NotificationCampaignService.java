@@ -0,0 +1,87 @@
+package com.ddip.backend.service.notification;
+
+import com.ddip.backend.datasource.ReadFromPrimary;
+import com.ddip.backend.dto.enums.NotificationType;
+import com.ddip.backend.entity.NotificationCampaign;
+import com.ddip.backend.repository.NotificationCampaignRepository;
+import com.ddip.backend.repository.NotificationCampaignRepository.RecipientRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 알림 작업의 생성과 상태 전이. 각 메서드가 짧은 트랜잭션 하나이며, 외부 발송은 NotificationDispatcher 가 트랜잭션 밖에서 한다.
+ * 임대/커서를 방금 기록한 상태에서 이어 읽으므로 조회도 primary 에서 한다.
+ */
+@Slf4j
+@Service
+@Transactional
+@ReadFromPrimary
+@RequiredArgsConstructor
+public class NotificationCampaignService {
+
+    private final NotificationCampaignRepository notificationCampaignRepository;
+
+    @Value("${notification.channel:sms}")
+    private String channel;
+
+    /**
+     * 호출한 트랜잭션에 참여하므로 종료/마감 기록과 함께 커밋된다. 같은 대상으로 두 번 불려도 작업은 하나다.
+     */
+    public void start(NotificationType type, Long sourceId) {
+        if (notificationCampaignRepository.insertIfAbsent(type, sourceId, channel)) {
+            log.info("Notification campaign created. type={}, sourceId={}", type, sourceId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findRunnableIds(int maxAttempts, int limit) {
+        return notificationCampaignRepository.findRunnableIds(maxAttempts, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    public boolean acquire(Long campaignId, String token, long leaseSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        return notificationCampaignRepository.acquire(campaignId, token, now.plusSeconds(leaseSeconds), now) == 1;
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationCampaign get(Long campaignId) {
+        return notificationCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalArgumentException("Notification campaign not found: " + campaignId));
+    }
+
+    /**
+     * afterUserId 다음 수신자 페이지. 중복 제거와 순서는 쿼리가 보장한다
+     */
+    @Transactional(readOnly = true)
+    public List<RecipientRow> nextRecipients(NotificationCampaign campaign, long afterUserId, int pageSize) {
+        PageRequest page = PageRequest.of(0, pageSize);
+        if (campaign.getType().isAuction()) {
+            return notificationCampaignRepository.findBiddersAfter(campaign.getSourceId(), afterUserId, page);
+        }
+        return notificationCampaignRepository.findBackersAfter(campaign.getSourceId(), afterUserId, page);
+    }
+
+    /**
+     * 페이지 하나를 보낸 뒤 커서를 옮기고 임대를 연장한다. 임대를 잃었으면 false
+     */
+    public boolean checkpoint(Long campaignId, String token, long lastRecipientId, long sent, long failed, long leaseSeconds) {
+        return notificationCampaignRepository.checkpoint(campaignId, token, lastRecipientId, sent, failed,
+                LocalDateTime.now().plusSeconds(leaseSeconds)) == 1;
+    }
+
+    public void complete(Long campaignId, String token) {
+        notificationCampaignRepository.complete(campaignId, token, LocalDateTime.now());
+    }
+
+    public void fail(Long campaignId, String token, String error, long retryDelayMs) {
+        String message = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+        notificationCampaignRepository.fail(campaignId, token, message, LocalDateTime.now().plusNanos(retryDelayMs * 1_000_000L));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ddip.backend.service.notification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 알림 채널. 작업 행의 channel 컬럼 값(name)으로 찾는다.
+ */
+public interface NotificationChannel {
+
+    String name();
+
+    /**
+     * 한 번의 요청으로 보낼 수 있는 최대 건수
+     */
+    int maxBatchSize();
+
+    /**
+     * 모든 작업을 합쳐 동시에 진행할 수 있는 요청 수
+     */
+    int maxConcurrency();
+
+    /**
+     * 모든 작업을 합친 초당 최대 발송 건수. 0 이하면 제한 없음
+     */
+    int maxPerSecond();
+
+    /**
+     * 묶음 발송. 개별 실패는 userId -> 사유로 돌려주고, 묶음 전체가 실패하면 예외를 던진다.
+     */
+    Map<Long, String> send(List<NotificationMessage> messages);
+}
@@ -0,0 +1,175 @@
+package com.ddip.backend.service.notification;
+
+import com.ddip.backend.config.WorkerThreads;
+import com.ddip.backend.entity.NotificationCampaign;
+import com.ddip.backend.repository.NotificationCampaignRepository.RecipientRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 알림 발송기
+ * - 작업 하나는 워커 하나가 맡고, 수신자를 user id keyset 페이지로 읽어 채널 배치 크기로 나눠 보낸다
+ * - 채널마다 동시 요청 수(Semaphore)와 초당 건수(ThroughputCap)를 모든 작업이 나눠 쓴다
+ * - 페이지를 다 보낼 때마다 커서를 기록하므로, 노드가 죽으면 임대 만료 후 마지막 페이지부터 다시 보낸다 (최소 한 번)
+ * - 묶음 전체가 실패하면 작업을 백오프 후 재시도하고, maxAttempts 를 넘기면 더 잡지 않는다
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationCampaignService campaignService;
+    private final Map<String, NotificationChannel> channels;
+    private final Map<String, Semaphore> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, ThroughputCap> caps = new ConcurrentHashMap<>();
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    @Value("${notification.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${notification.page-size:1000}")
+    private int pageSize;
+
+    @Value("${notification.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${notification.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    @Value(WorkerThreads.VIRTUAL_ENABLED)
+    private boolean virtualThreads;
+
+    private ExecutorService workers;
+
+    public NotificationDispatcher(NotificationCampaignService campaignService, List<NotificationChannel> channels) {
+        this.campaignService = campaignService;
+        this.channels = channels.stream().collect(Collectors.toMap(NotificationChannel::name, Function.identity()));
+    }
+
+    @PostConstruct
+    public void start() {
+        // 동시 작업 수는 running 으로 workerThreads 까지만 잡는다
+        workers = WorkerThreads.newPool("notification", workerThreads, virtualThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdownNow();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.poll-interval-ms:2000}")
+    public void dispatch() {
+        int free = workerThreads - running.size();
+        if (free <= 0) {
+            return;
+        }
+
+        for (Long campaignId : campaignService.findRunnableIds(maxAttempts, free)) {
+            if (!running.add(campaignId)) {
+                continue;
+            }
+            String token = UUID.randomUUID().toString();
+            if (!campaignService.acquire(campaignId, token, leaseSeconds)) {
+                running.remove(campaignId);
+                continue;
+            }
+
+            try {
+                workers.execute(() -> {
+                    try {
+                        run(campaignId, token);
+                    } finally {
+                        running.remove(campaignId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중. 임대 만료 후 다른 노드가 이어서 한다
+                running.remove(campaignId);
+                return;
+            }
+        }
+    }
+
+    void run(Long campaignId, String token) {
+        NotificationCampaign campaign = campaignService.get(campaignId);
+        NotificationChannel channel = channels.get(campaign.getChannel());
+        if (channel == null) {
+            campaignService.fail(campaignId, token, "Unknown channel: " + campaign.getChannel(), retryDelayMs);
+            return;
+        }
+
+        long cursor = campaign.getLastRecipientId();
+        try {
+            while (true) {
+                List<RecipientRow> page = campaignService.nextRecipients(campaign, cursor, pageSize);
+                if (page.isEmpty()) {
+                    campaignService.complete(campaignId, token);
+                    log.info("Notification campaign completed. id={}, type={}, sourceId={}",
+                            campaignId, campaign.getType(), campaign.getSourceId());
+                    return;
+                }
+
+                int failed = sendPage(channel, campaign, page);
+                cursor = page.get(page.size() - 1).getUserId();
+                if (!campaignService.checkpoint(campaignId, token, cursor, page.size() - failed, failed, leaseSeconds)) {
+                    log.warn("Lost notification campaign lease. id={}", campaignId);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Notification campaign failed. id={}, cursor={}", campaignId, cursor, e);
+            campaignService.fail(campaignId, token, e.getMessage(), retryDelayMs << Math.min(campaign.getAttempts(), 10));
+        }
+    }
+
+    /**
+     * 페이지를 채널 배치 크기로 나눠 보낸다. 개별 실패 건수를 반환하며, 개별 실패는 재시도하지 않는다
+     */
+    private int sendPage(NotificationChannel channel, NotificationCampaign campaign, List<RecipientRow> page)
+            throws InterruptedException {
+        Semaphore permits = inFlight.computeIfAbsent(channel.name(), name -> new Semaphore(channel.maxConcurrency()));
+        ThroughputCap cap = caps.computeIfAbsent(channel.name(), name -> new ThroughputCap(channel.maxPerSecond()));
+        int batchSize = Math.max(1, channel.maxBatchSize());
+        int failed = 0;
+
+        for (int from = 0; from < page.size(); from += batchSize) {
+            List<RecipientRow> rows = page.subList(from, Math.min(page.size(), from + batchSize));
+            List<NotificationMessage> batch = new ArrayList<>(rows.size());
+            for (RecipientRow row : rows) {
+                batch.add(new NotificationMessage(row.getUserId(), row.getPhoneNumber(),
+                        campaign.getType().format(row.getNickname(), campaign.getSubject())));
+            }
+
+            permits.acquire();
+            try {
+                cap.acquire(batch.size());
+                failed += channel.send(batch).size();
+            } finally {
+                permits.release();
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,7 @@
+package com.ddip.backend.service.notification;
+
+/**
+ * 채널로 넘기는 발송 단위. 결과는 userId 로 되돌려 받는다.
+ */
+public record NotificationMessage(Long userId, String to, String text) {
+}
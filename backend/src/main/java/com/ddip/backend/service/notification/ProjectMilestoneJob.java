@@ -0,0 +1,48 @@
+package com.ddip.backend.service.notification;
+
+import com.ddip.backend.dto.enums.NotificationType;
+import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.service.CrowdFundingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 마일스톤 감지
+ * - 마감 시각이 지난 프로젝트를 닫는다 (닫으면서 SUCCESS/FAILED 알림 작업이 생긴다)
+ * - current_amount 가 목표에 닿은 프로젝트에 달성 알림 작업을 만든다. 작업이 (type, source_id) 당 하나라 여러 노드가 돌아도 한 번이다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectMilestoneJob {
+
+    private final ProjectRepository projectRepository;
+    private final CrowdFundingService crowdFundingService;
+    private final NotificationCampaignService notificationCampaignService;
+
+    @Value("${notification.milestone-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${notification.milestone-interval-ms:60000}")
+    public void run() {
+        PageRequest page = PageRequest.of(0, batchSize);
+
+        for (Long projectId : projectRepository.findTargetReachedWithoutNotice(CrowdFundingService.FUNDING_STATUSES, page)) {
+            notificationCampaignService.start(NotificationType.PROJECT_TARGET_REACHED, projectId);
+        }
+
+        for (Long projectId : projectRepository.findExpiredIds(CrowdFundingService.FUNDING_STATUSES, LocalDateTime.now(), page)) {
+            try {
+                crowdFundingService.closeProject(projectId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to close project. projectId={}", projectId, e);
+            }
+        }
+    }
+}
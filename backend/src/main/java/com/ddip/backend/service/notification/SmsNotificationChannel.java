@@ -0,0 +1,60 @@
+package com.ddip.backend.service.notification;
+
+import com.ddip.backend.service.sms.SmsMessage;
+import com.ddip.backend.service.sms.SmsProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 SMS 프로바이더의 다건 발송을 그대로 쓰는 채널.
+ * 수신자가 수만 명이어도 행을 만들 필요가 없으므로 sms_outbox 를 거치지 않고, 진행 상황은 작업 행의 커서로 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SmsNotificationChannel implements NotificationChannel {
+
+    public static final String NAME = "sms";
+
+    private final SmsProvider smsProvider;
+
+    @Value("${notification.sms.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${notification.sms.max-concurrency:2}")
+    private int maxConcurrency;
+
+    @Value("${notification.sms.max-per-second:200}")
+    private int maxPerSecond;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return Math.min(batchSize, smsProvider.maxBatchSize());
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public int maxPerSecond() {
+        return maxPerSecond;
+    }
+
+    @Override
+    public Map<Long, String> send(List<NotificationMessage> messages) {
+        List<SmsMessage> sms = messages.stream()
+                .map(message -> new SmsMessage(message.userId(), message.to(), message.text()))
+                .toList();
+        return smsProvider.send(sms);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ddip.backend.service.notification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채널별 초당 발송 건수 상한
+ * - 다음 발송 가능 시각(nanoTime)을 CAS 로 예약해, 여러 워커가 나눠 써도 합계가 상한을 넘지 않는다
+ * - 유휴 시간은 적립하지 않으므로 몰아서 보내는 버스트가 없다
+ */
+final class ThroughputCap {
+
+    private final long nanosPerMessage;
+    private final AtomicLong nextFreeNanos = new AtomicLong(System.nanoTime());
+
+    ThroughputCap(int perSecond) {
+        this.nanosPerMessage = perSecond <= 0 ? 0L : TimeUnit.SECONDS.toNanos(1) / perSecond;
+    }
+
+    /**
+     * count 건을 보내도 되는 시각까지 기다린다
+     */
+    void acquire(int count) throws InterruptedException {
+        if (nanosPerMessage == 0L) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long cost = nanosPerMessage * count;
+        long start = nextFreeNanos.getAndAccumulate(cost, (next, c) -> Math.max(next, now) + c);
+        long wait = Math.max(start, now) - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.ddip.backend.service.recommend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MinHash 시그니처 + LSH 밴드 버킷
+ * - 시그니처 96개를 3개씩 32 밴드로 나눈다. 밴드 하나라도 같으면 후보가 되며
+ *   후보가 될 확률은 1 - (1 - s^3)^32 : Jaccard 0.5 에서 98%, 0.2 에서 23%
+ * - 버킷은 불변 long[] 을 통째로 교체(copy-on-write)해 조회는 락 없이 get 한 번으로 끝난다
+ * - 버킷 크기에 상한을 둬서 조회 비용이 전체 프로젝트 수와 무관하게 밴드 수 x 상한 이내로 고정된다
+ *   (상한을 넘은 버킷은 "흔한 태그 조합"이라 변별력이 없으므로 더 넣지 않는다)
+ */
+final class MinHashLsh {
+
+    static final int HASHES = 96;
+    static final int BANDS = 32;
+    static final int ROWS = HASHES / BANDS;
+
+    private static final int[] SEEDS = new SplittableRandom(0x5EEDL).ints(HASHES).toArray();
+
+    private final int maxBucketSize;
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> buckets = new ConcurrentHashMap<>();
+
+    MinHashLsh(int maxBucketSize) {
+        this.maxBucketSize = maxBucketSize;
+    }
+
+    void put(long id, Collection<String> tokens) {
+        remove(id);
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        int[] signature = signature(tokens);
+        signatures.put(id, signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.compute(bandKey(band, signature), (key, members) -> {
+                if (members == null) {
+                    return new long[]{id};
+                }
+                if (members.length >= maxBucketSize) {
+                    return members;
+                }
+                long[] grown = Arrays.copyOf(members, members.length + 1);
+                grown[members.length] = id;
+                return grown;
+            });
+        }
+    }
+
+    void remove(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfPresent(bandKey(band, signature), (key, members) -> {
+                long[] remaining = Arrays.stream(members).filter(member -> member != id).toArray();
+                return remaining.length == 0 ? null : remaining;
+            });
+        }
+    }
+
+    boolean contains(long id) {
+        return signatures.containsKey(id);
+    }
+
+    int size() {
+        return signatures.size();
+    }
+
+    List<Match> query(long id, int limit) {
+        int[] signature = signatures.get(id);
+        if (signature == null) {
+            return List.of();
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<Match> matches = new ArrayList<>();
+        for (int band = 0; band < BANDS; band++) {
+            long[] members = buckets.get(bandKey(band, signature));
+            if (members == null) {
+                continue;
+            }
+            for (long candidate : members) {
+                if (candidate == id || !seen.add(candidate)) {
+                    continue;
+                }
+                int[] other = signatures.get(candidate);
+                if (other != null) {
+                    matches.add(new Match(candidate, estimate(signature, other)));
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed().thenComparingLong(Match::id));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    static int[] signature(Collection<String> tokens) {
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (String token : tokens) {
+            int base = token.hashCode();
+            for (int i = 0; i < HASHES; i++) {
+                int hash = mix(base ^ SEEDS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double estimate(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    private static long bandKey(int band, int[] signature) {
+        long hash = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = hash * 0x9E3779B97F4A7C15L + signature[row];
+        }
+        return hash;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x7feb352d;
+        h ^= h >>> 15;
+        h *= 0x846ca68b;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    record Match(long id, double similarity) {
+    }
+}
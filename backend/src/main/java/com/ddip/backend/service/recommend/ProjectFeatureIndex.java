@@ -0,0 +1,219 @@
+package com.ddip.backend.service.recommend;
+
+import com.ddip.backend.dto.crowd.RecommendedProjectDto;
+import com.ddip.backend.repository.ProjectRepository.ProjectFeatureRow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 추천 후보 프로젝트의 특징 벡터 스냅샷 (불변)
+ * - 점수 계산에 쓰는 값은 모두 원시 배열에 열 단위로 둔다: features[i * DIMENSIONS + d]
+ * - 카테고리는 최상위 경로를 정수로 사전 인코딩, 태그는 64비트 시그니처(태그 해시당 1비트)
+ * - ids 는 오름차순이라 id -> 위치는 이진 탐색으로 찾는다
+ */
+final class ProjectFeatureIndex {
+
+    static final int DIMENSIONS = 8;
+
+    static final int FUNDING_RATIO = 0;   // 달성률 (200% 에서 포화)
+    static final int AFFORDABILITY = 1;   // 최저 리워드 가격이 낮을수록 큼 (로그 스케일)
+    static final int PRICE_SPREAD = 2;    // 리워드 가격 폭 (max - min) / max
+    static final int TIER_RICHNESS = 3;   // 리워드 개수 (10개에서 포화)
+    static final int POPULARITY = 4;      // 판매 수량 (로그 스케일)
+    static final int FRESHNESS = 5;       // 시작 후 경과일, 2주 반감
+    static final int URGENCY = 6;         // 마감 7일 이내일수록 큼
+    static final int MOMENTUM = 7;        // 신선한데 달성률도 높은 프로젝트
+
+    static final int NO_CATEGORY = -1;
+
+    private static final double PRICE_CAP = 1_000_000d;
+    private static final double SOLD_CAP = 10_000d;
+
+    private static final ProjectFeatureIndex EMPTY = new ProjectFeatureIndex(
+            0L, new long[0], new float[0], new int[0], new long[0], new RecommendedProjectDto[0], Map.of());
+
+    private final long version;
+    private final long[] ids;
+    private final float[] features;
+    private final int[] categories;
+    private final long[] tagSignatures;
+    private final RecommendedProjectDto[] cards;
+    private final Map<String, Integer> categoryCodes;
+
+    private ProjectFeatureIndex(long version, long[] ids, float[] features, int[] categories, long[] tagSignatures,
+                                RecommendedProjectDto[] cards, Map<String, Integer> categoryCodes) {
+        this.version = version;
+        this.ids = ids;
+        this.features = features;
+        this.categories = categories;
+        this.tagSignatures = tagSignatures;
+        this.cards = cards;
+        this.categoryCodes = categoryCodes;
+    }
+
+    static ProjectFeatureIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * rows 는 id 오름차순이어야 한다 (keyset 적재 순서 그대로)
+     */
+    static ProjectFeatureIndex build(long version, List<ProjectFeatureRow> rows, LocalDateTime now) {
+        int size = rows.size();
+        long[] ids = new long[size];
+        float[] features = new float[size * DIMENSIONS];
+        int[] categories = new int[size];
+        long[] tagSignatures = new long[size];
+        RecommendedProjectDto[] cards = new RecommendedProjectDto[size];
+        Map<String, Integer> categoryCodes = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            ProjectFeatureRow row = rows.get(i);
+            ids[i] = row.getId();
+            categories[i] = encodeCategory(row.getCategoryPath(), categoryCodes);
+            tagSignatures[i] = tagSignature(row.getTags());
+            fillFeatures(features, i * DIMENSIONS, row, now);
+            cards[i] = toCard(row);
+        }
+
+        return new ProjectFeatureIndex(version, ids, features, categories, tagSignatures, cards, categoryCodes);
+    }
+
+    long version() {
+        return version;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    float[] features() {
+        return features;
+    }
+
+    int[] categories() {
+        return categories;
+    }
+
+    long tagSignature(int position) {
+        return tagSignatures[position];
+    }
+
+    int category(int position) {
+        return categories[position];
+    }
+
+    float feature(int position, int dimension) {
+        return features[position * DIMENSIONS + dimension];
+    }
+
+    RecommendedProjectDto card(int position) {
+        return cards[position];
+    }
+
+    /**
+     * 카테고리 경로의 코드. 인덱스에 없는 카테고리면 NO_CATEGORY
+     */
+    int categoryOf(String categoryPath) {
+        String key = topCategory(categoryPath);
+        return key == null ? NO_CATEGORY : categoryCodes.getOrDefault(key, NO_CATEGORY);
+    }
+
+    int positionOf(long projectId) {
+        int position = Arrays.binarySearch(ids, projectId);
+        return position >= 0 ? position : -1;
+    }
+
+    static long tagSignature(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return 0L;
+        }
+        long signature = 0L;
+        for (String tag : tags.split(",")) {
+            String normalized = tag.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.isEmpty()) {
+                signature |= 1L << (mix(normalized.hashCode()) & 63);
+            }
+        }
+        return signature;
+    }
+
+    static float affordability(double price) {
+        return (float) Math.max(0d, 1d - Math.log1p(Math.max(0d, price)) / Math.log1p(PRICE_CAP));
+    }
+
+    private static void fillFeatures(float[] features, int offset, ProjectFeatureRow row, LocalDateTime now) {
+        double target = row.getTargetAmount() == null || row.getTargetAmount() <= 0 ? 1d : row.getTargetAmount();
+        double current = row.getCurrentAmount() == null ? 0d : row.getCurrentAmount();
+        double fundingRatio = Math.min(current / target, 2d) / 2d;
+
+        double minPrice = row.getMinPrice() == null ? 0d : row.getMinPrice();
+        double maxPrice = row.getMaxPrice() == null ? 0d : row.getMaxPrice();
+        long tierCount = row.getTierCount() == null ? 0L : row.getTierCount();
+        long sold = row.getSoldCount() == null ? 0L : row.getSoldCount();
+
+        double freshness = row.getStartAt() == null ? 0.5d
+                : Math.exp(-Math.max(0d, hoursBetween(row.getStartAt(), now)) / (24d * 14d) * Math.log(2));
+        double urgency = 0d;
+        if (row.getEndAt() != null) {
+            double hoursLeft = hoursBetween(now, row.getEndAt());
+            urgency = hoursLeft < 0 || hoursLeft > 24d * 7d ? 0d : 1d - hoursLeft / (24d * 7d);
+        }
+
+        features[offset + FUNDING_RATIO] = (float) fundingRatio;
+        features[offset + AFFORDABILITY] = tierCount == 0 ? 0f : affordability(minPrice);
+        features[offset + PRICE_SPREAD] = maxPrice <= 0 ? 0f : (float) ((maxPrice - minPrice) / maxPrice);
+        features[offset + TIER_RICHNESS] = Math.min(tierCount, 10L) / 10f;
+        features[offset + POPULARITY] = (float) Math.min(1d, Math.log1p(sold) / Math.log1p(SOLD_CAP));
+        features[offset + FRESHNESS] = (float) freshness;
+        features[offset + URGENCY] = (float) urgency;
+        features[offset + MOMENTUM] = (float) (fundingRatio * freshness);
+    }
+
+    private static RecommendedProjectDto toCard(ProjectFeatureRow row) {
+        long target = row.getTargetAmount() == null || row.getTargetAmount() <= 0 ? 1L : row.getTargetAmount();
+        long current = row.getCurrentAmount() == null ? 0L : row.getCurrentAmount();
+
+        return RecommendedProjectDto.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .summary(row.getSummary())
+                .thumbnailUrl(row.getThumbnailUrl())
+                .categoryPath(row.getCategoryPath())
+                .fundingRate((int) Math.min(Integer.MAX_VALUE, current * 100 / target))
+                .minRewardPrice(row.getMinPrice())
+                .endAt(row.getEndAt())
+                .build();
+    }
+
+    private static int encodeCategory(String categoryPath, Map<String, Integer> codes) {
+        String key = topCategory(categoryPath);
+        return key == null ? NO_CATEGORY : codes.computeIfAbsent(key, k -> codes.size());
+    }
+
+    // "디지털/오디오" 나 "디지털 > 오디오" 모두 최상위 "디지털" 로 묶는다
+    private static String topCategory(String categoryPath) {
+        if (categoryPath == null || categoryPath.isBlank()) {
+            return null;
+        }
+        String top = categoryPath.split("[/>]", 2)[0].trim();
+        return top.isEmpty() ? null : top.toLowerCase(Locale.ROOT);
+    }
+
+    private static double hoursBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toMinutes() / 60d;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h;
+    }
+}
@@ -0,0 +1,306 @@
+package com.ddip.backend.service.recommend;
+
+import com.ddip.backend.dto.crowd.RecommendedProjectDto;
+import com.ddip.backend.dto.enums.ProjectStatus;
+import com.ddip.backend.dto.enums.UserType;
+import com.ddip.backend.repository.PledgeRepository;
+import com.ddip.backend.repository.PledgeRepository.PledgedProjectRow;
+import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.ProjectRepository.ProjectFeatureRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 개인화 프로젝트 추천
+ * 1) 세그먼트(성향 x 선호 카테고리) 점수: 특징 벡터와 성향 가중치의 내적을 전체 후보에 대해 병렬 top-K 스캔
+ *    - 결과는 인덱스 버전별로 캐시되어 같은 세그먼트 사용자는 스캔 없이 재사용한다
+ * 2) 사용자 재정렬: 세그먼트 상위 후보만 태그 겹침/가격대 유사도로 보정하고 이미 후원한 프로젝트는 제외
+ *    - 제외하고 나서 요청 수보다 모자라면 제외될 수 있는 만큼 더 깊게 한 번 더 스캔한다
+ * 인덱스는 주기적으로 DB 에서 keyset 페이지로 다시 만들고 통째로 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectRecommendationService {
+
+    // 공개 전환 흐름이 아직 없어 생성 직후 상태(DRAFT)도 노출 대상에 포함한다
+    private static final Set<ProjectStatus> RECOMMENDABLE = EnumSet.of(ProjectStatus.DRAFT, ProjectStatus.OPEN);
+
+    private static final int PARALLEL_THRESHOLD = 50_000;
+    private static final int CHUNK_SIZE = 16_384;
+    private static final int HISTORY_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final float CATEGORY_BOOST = 0.6f;
+    private static final float TAG_WEIGHT = 0.5f;
+    private static final float PRICE_WEIGHT = 0.3f;
+
+    private final ProjectRepository projectRepository;
+    private final PledgeRepository pledgeRepository;
+
+    @Value("${recommend.segment-depth:200}")
+    private int segmentDepth;
+
+    @Value("${recommend.load-page-size:5000}")
+    private int loadPageSize;
+
+    @Value("${recommend.taste-ttl-ms:300000}")
+    private long tasteTtlMs;
+
+    @Value("${recommend.taste-max-size:10000}")
+    private int tasteMaxSize;
+
+    @Value("${recommend.parallelism:0}")
+    private int parallelism;
+
+    private volatile ProjectFeatureIndex index = ProjectFeatureIndex.empty();
+    private final Map<Long, SegmentResult> segments = new ConcurrentHashMap<>();
+    private final Map<Long, UserTaste> tastes = new ConcurrentHashMap<>();
+
+    private ForkJoinPool scanPool;
+    private long nextVersion = 1L;
+
+    @PostConstruct
+    public void start() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        scanPool = new ForkJoinPool(threads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scanPool.shutdownNow();
+    }
+
+    public List<RecommendedProjectDto> recommend(Long userId, UserType userType, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ProjectFeatureIndex snapshot = index;
+        if (snapshot.size() == 0) {
+            return List.of();
+        }
+
+        UserTaste taste = userId == null ? UserTaste.NONE : tasteOf(userId, snapshot);
+        SegmentResult segment = segment(snapshot, userType, taste.preferredCategory);
+        TopK top = rerank(snapshot, segment, taste, limit);
+
+        // 후원한 프로젝트가 세그먼트 상위에 몰려 있으면 모자란다. 이 사용자만의 결과라 세그먼트 캐시에는 넣지 않는다
+        if (top.size() < limit && segment.positions.length < snapshot.size()) {
+            int depth = Math.min(snapshot.size(), segment.positions.length + taste.pledgedPositions.length + limit);
+            SegmentResult deeper = scan(snapshot, ScoringProfile.of(userType), taste.preferredCategory, depth);
+            top = rerank(snapshot, deeper, taste, limit);
+        }
+
+        int[] positions = top.sortedPositions();
+        List<RecommendedProjectDto> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(snapshot.card(position));
+        }
+        return result;
+    }
+
+    private static TopK rerank(ProjectFeatureIndex snapshot, SegmentResult segment, UserTaste taste, int limit) {
+        TopK top = new TopK(limit);
+        for (int i = 0; i < segment.positions.length; i++) {
+            int position = segment.positions[i];
+            if (!taste.hasPledged(position)) {
+                top.offer(position, segment.scores[i] + personalBonus(snapshot, position, taste));
+            }
+        }
+        return top;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${recommend.refresh-interval-ms:600000}")
+    public void refresh() {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        List<ProjectFeatureRow> rows = new ArrayList<>();
+
+        long lastId = 0L;
+        while (true) {
+            List<ProjectFeatureRow> page = projectRepository.findFeatureRowsAfter(
+                    lastId, RECOMMENDABLE, now, PageRequest.of(0, loadPageSize));
+            rows.addAll(page);
+            if (page.size() < loadPageSize) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getId();
+        }
+
+        index = ProjectFeatureIndex.build(nextVersion++, rows, now);
+        segments.clear();
+        tastes.clear();
+
+        log.info("Project recommendation index rebuilt. projects={}, elapsedMs={}",
+                rows.size(), System.currentTimeMillis() - started);
+    }
+
+    private SegmentResult segment(ProjectFeatureIndex snapshot, UserType userType, int preferredCategory) {
+        long key = (userType == null ? 0L : userType.ordinal() + 1L) << 32 | (preferredCategory + 1L);
+        SegmentResult cached = segments.get(key);
+        if (cached != null && cached.version == snapshot.version()) {
+            return cached;
+        }
+
+        SegmentResult computed = scan(snapshot, ScoringProfile.of(userType), preferredCategory,
+                Math.min(segmentDepth, snapshot.size()));
+        segments.put(key, computed);
+        return computed;
+    }
+
+    private SegmentResult scan(ProjectFeatureIndex snapshot, float[] weights, int preferredCategory, int depth) {
+        int size = snapshot.size();
+
+        TopK top;
+        if (size < PARALLEL_THRESHOLD) {
+            top = scanRange(snapshot, weights, preferredCategory, 0, size, depth);
+        } else {
+            int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            top = scanPool.submit(() -> IntStream.range(0, chunks).parallel()
+                            .mapToObj(chunk -> scanRange(snapshot, weights, preferredCategory,
+                                    chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE), depth))
+                            .reduce(TopK::merge)
+                            .orElseGet(() -> new TopK(depth)))
+                    .join();
+        }
+
+        int[] positions = top.sortedPositions();
+        float[] scores = new float[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            scores[i] = score(snapshot.features(), snapshot.categories(), weights, preferredCategory, positions[i]);
+        }
+        return new SegmentResult(snapshot.version(), positions, scores);
+    }
+
+    private static TopK scanRange(ProjectFeatureIndex snapshot, float[] weights, int preferredCategory,
+                                  int from, int to, int depth) {
+        float[] features = snapshot.features();
+        int[] categories = snapshot.categories();
+        TopK top = new TopK(depth);
+
+        for (int position = from; position < to; position++) {
+            top.offer(position, score(features, categories, weights, preferredCategory, position));
+        }
+        return top;
+    }
+
+    private static float score(float[] features, int[] categories, float[] weights, int preferredCategory, int position) {
+        int offset = position * ProjectFeatureIndex.DIMENSIONS;
+        float score = 0f;
+        for (int d = 0; d < ProjectFeatureIndex.DIMENSIONS; d++) {
+            score += features[offset + d] * weights[d];
+        }
+        if (preferredCategory != ProjectFeatureIndex.NO_CATEGORY && categories[position] == preferredCategory) {
+            score += CATEGORY_BOOST;
+        }
+        return score;
+    }
+
+    private static float personalBonus(ProjectFeatureIndex snapshot, int position, UserTaste taste) {
+        if (!taste.hasHistory) {
+            return 0f;
+        }
+        float bonus = 0f;
+        int tagBits = Long.bitCount(taste.tagSignature);
+        if (tagBits > 0) {
+            bonus += TAG_WEIGHT * Long.bitCount(taste.tagSignature & snapshot.tagSignature(position)) / tagBits;
+        }
+        float affordability = snapshot.feature(position, ProjectFeatureIndex.AFFORDABILITY);
+        bonus += PRICE_WEIGHT * (1f - Math.abs(affordability - taste.affordability));
+        return bonus;
+    }
+
+    private UserTaste tasteOf(Long userId, ProjectFeatureIndex snapshot) {
+        long now = System.currentTimeMillis();
+        UserTaste cached = tastes.get(userId);
+        if (cached != null && cached.version == snapshot.version() && cached.expiresAt > now) {
+            return cached;
+        }
+
+        List<PledgedProjectRow> history = pledgeRepository.findRecentPledgedProjects(userId, PageRequest.of(0, HISTORY_SIZE));
+        UserTaste taste = UserTaste.from(snapshot, history, now + tasteTtlMs);
+        if (tastes.size() >= tasteMaxSize) {
+            evictExpiredTastes(now);
+        }
+        tastes.put(userId, taste);
+        return taste;
+    }
+
+    private void evictExpiredTastes(long now) {
+        long version = index.version();
+        tastes.values().removeIf(taste -> taste.expiresAt <= now || taste.version != version);
+
+        // 만료 항목이 없을 만큼 가득 차 있으면 임의 항목을 절반 덜어낸다
+        Iterator<Long> keys = tastes.keySet().iterator();
+        int excess = tastes.size() - tasteMaxSize / 2;
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record SegmentResult(long version, int[] positions, float[] scores) {
+    }
+
+    /**
+     * 후원 이력에서 뽑은 취향: 가장 많이 후원한 카테고리, 태그 시그니처 합집합, 평균 후원 금액대
+     * - 취향은 프로젝트 행에서 바로 뽑으므로 마감/취소로 인덱스에서 빠진 프로젝트도 반영된다
+     * - pledgedPositions 는 추천에서 제외할 인덱스 위치라 인덱스에 있는 프로젝트만 담는다
+     */
+    private record UserTaste(long version, long expiresAt, boolean hasHistory, int preferredCategory, long tagSignature,
+                             float affordability, int[] pledgedPositions) {
+
+        static final UserTaste NONE = new UserTaste(0L, Long.MAX_VALUE, false, ProjectFeatureIndex.NO_CATEGORY, 0L, 0f, new int[0]);
+
+        static UserTaste from(ProjectFeatureIndex snapshot, List<PledgedProjectRow> history, long expiresAt) {
+            int[] positions = history.stream()
+                    .mapToInt(row -> snapshot.positionOf(row.getProjectId()))
+                    .filter(position -> position >= 0)
+                    .distinct()
+                    .sorted()
+                    .toArray();
+            if (history.isEmpty()) {
+                return new UserTaste(snapshot.version(), expiresAt, false, ProjectFeatureIndex.NO_CATEGORY, 0L, 0f, positions);
+            }
+
+            Map<Integer, Integer> categoryCounts = new HashMap<>();
+            long tags = 0L;
+            float affordability = 0f;
+            for (PledgedProjectRow row : history) {
+                int category = snapshot.categoryOf(row.getCategoryPath());
+                if (category != ProjectFeatureIndex.NO_CATEGORY) {
+                    categoryCounts.merge(category, 1, Integer::sum);
+                }
+                tags |= ProjectFeatureIndex.tagSignature(row.getTags());
+                affordability += ProjectFeatureIndex.affordability(row.getAmount() == null ? 0d : row.getAmount());
+            }
+
+            int preferred = categoryCounts.entrySet().stream()
+                    .max(Map.Entry.<Integer, Integer>comparingByValue().thenComparing(Map.Entry.<Integer, Integer>comparingByKey()))
+                    .map(Map.Entry::getKey)
+                    .orElse(ProjectFeatureIndex.NO_CATEGORY);
+            return new UserTaste(snapshot.version(), expiresAt, true, preferred, tags, affordability / history.size(), positions);
+        }
+
+        boolean hasPledged(int position) {
+            return Arrays.binarySearch(pledgedPositions, position) >= 0;
+        }
+    }
+}
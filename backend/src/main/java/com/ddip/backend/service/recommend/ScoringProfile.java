@@ -0,0 +1,48 @@
+package com.ddip.backend.service.recommend;
+
+import com.ddip.backend.dto.enums.UserType;
+
+import static com.ddip.backend.service.recommend.ProjectFeatureIndex.*;
+
+/**
+ * 성향별 특징 가중치
+ * - VALUE_ORIENTED     : 싼 진입 가격과 다양한 리워드 구성
+ * - PRACTICAL_ORIENTED : 이미 검증된(달성률/판매량 높은) 프로젝트, 가격 폭이 큰 건 감점
+ * - TREND_ORIENTED     : 새로 시작했거나 마감 임박, 빠르게 모이는 프로젝트
+ * 설문 전 사용자는 DEFAULT 를 쓴다.
+ */
+final class ScoringProfile {
+
+    private static final float[] DEFAULT = weights(0.5f, 0.3f, 0.0f, 0.2f, 0.6f, 0.3f, 0.2f, 0.3f);
+    private static final float[] VALUE = weights(0.2f, 1.0f, 0.3f, 0.6f, 0.2f, 0.1f, 0.1f, 0.1f);
+    private static final float[] PRACTICAL = weights(1.0f, 0.3f, -0.3f, 0.2f, 0.6f, 0.1f, 0.0f, 0.2f);
+    private static final float[] TREND = weights(0.3f, 0.0f, 0.0f, 0.1f, 0.5f, 1.0f, 0.6f, 0.8f);
+
+    private ScoringProfile() {
+    }
+
+    static float[] of(UserType userType) {
+        if (userType == null) {
+            return DEFAULT;
+        }
+        return switch (userType) {
+            case VALUE_ORIENTED -> VALUE;
+            case PRACTICAL_ORIENTED -> PRACTICAL;
+            case TREND_ORIENTED -> TREND;
+        };
+    }
+
+    private static float[] weights(float fundingRatio, float affordability, float priceSpread, float tierRichness,
+                                   float popularity, float freshness, float urgency, float momentum) {
+        float[] weights = new float[DIMENSIONS];
+        weights[FUNDING_RATIO] = fundingRatio;
+        weights[AFFORDABILITY] = affordability;
+        weights[PRICE_SPREAD] = priceSpread;
+        weights[TIER_RICHNESS] = tierRichness;
+        weights[POPULARITY] = popularity;
+        weights[FRESHNESS] = freshness;
+        weights[URGENCY] = urgency;
+        weights[MOMENTUM] = momentum;
+        return weights;
+    }
+}
@@ -0,0 +1,168 @@
+package com.ddip.backend.service.recommend;
+
+import com.ddip.backend.dto.crowd.ProjectChangedEvent;
+import com.ddip.backend.dto.crowd.SimilarProjectDto;
+import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.ProjectRepository.ProjectTagRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "비슷한 프로젝트"
+ * - 태그와 카테고리 경로(상위 경로 포함)를 토큰 집합으로 보고 MinHash/LSH 로 Jaccard 유사 후보를 찾는다
+ * - 기동 시 전체를 keyset 페이지로 적재하고, 이후에는 ProjectChangedEvent 로 한 건씩 갱신한다
+ * - 이벤트는 같은 JVM 에서 커밋된 변경만 받으므로 주기적으로 전체를 새로 만들어 통째로 교체한다
+ *   (다른 노드에서 바뀐 프로젝트도 재적재 주기 안에 반영된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarProjectIndex {
+
+    private final ProjectRepository projectRepository;
+
+    @Value("${recommend.similar.max-bucket-size:128}")
+    private int maxBucketSize;
+
+    @Value("${recommend.similar.load-page-size:5000}")
+    private int loadPageSize;
+
+    private volatile Snapshot current;
+    private volatile Snapshot building;
+
+    public List<SimilarProjectDto> findSimilar(Long projectId, int size) {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            return List.of();
+        }
+
+        List<SimilarProjectDto> result = new ArrayList<>();
+        for (MinHashLsh.Match match : snapshot.lsh().query(projectId, Math.max(1, size))) {
+            SimilarProjectDto card = snapshot.cards().get(match.id());
+            if (card != null) {
+                result.add(card.toBuilder().similarity(match.similarity()).build());
+            }
+        }
+        return result;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${recommend.similar.refresh-interval-ms:600000}")
+    public void refresh() {
+        long started = System.currentTimeMillis();
+        Snapshot next = new Snapshot(new MinHashLsh(maxBucketSize), new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+        building = next;
+
+        long lastId = 0L;
+        int loaded = 0;
+        try {
+            while (true) {
+                List<ProjectTagRow> page = projectRepository.findTagRowsAfter(lastId, PageRequest.of(0, loadPageSize));
+                for (ProjectTagRow row : page) {
+                    synchronized (next) {
+                        // 적재 중 이벤트로 들어온(삭제 포함) 프로젝트는 이벤트 쪽 값이 더 최신이다
+                        if (!next.touched().contains(row.getId())) {
+                            index(next, row.getId(), row.getTitle(), row.getThumbnailUrl(), row.getCategoryPath(), row.getTags());
+                        }
+                    }
+                    lastId = row.getId();
+                }
+                loaded += page.size();
+                if (page.size() < loadPageSize) {
+                    break;
+                }
+            }
+            current = next;
+        } finally {
+            building = null;
+        }
+
+        log.info("Similar project index built. projects={}, indexed={}, elapsedMs={}",
+                loaded, next.lsh().size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Snapshot next = building;
+        if (next != null) {
+            synchronized (next) {
+                next.touched().add(event.getProjectId());
+                apply(next, event);
+            }
+        }
+
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot != next) {
+            apply(snapshot, event);
+        }
+    }
+
+    private void apply(Snapshot target, ProjectChangedEvent event) {
+        if (event.isRemoved()) {
+            target.lsh().remove(event.getProjectId());
+            target.cards().remove(event.getProjectId());
+            return;
+        }
+        index(target, event.getProjectId(), event.getTitle(), event.getThumbnailUrl(), event.getCategoryPath(), event.getTags());
+    }
+
+    private void index(Snapshot target, Long id, String title, String thumbnailUrl, String categoryPath, String tags) {
+        target.cards().put(id, SimilarProjectDto.builder()
+                .id(id)
+                .title(title)
+                .thumbnailUrl(thumbnailUrl)
+                .categoryPath(categoryPath)
+                .build());
+        target.lsh().put(id, tokens(categoryPath, tags));
+    }
+
+    /**
+     * "디지털/오디오" + "이어폰,무선" -> {cat:디지털, cat:디지털/오디오, tag:이어폰, tag:무선}
+     */
+    static Set<String> tokens(String categoryPath, String tags) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (categoryPath != null && !categoryPath.isBlank()) {
+            StringBuilder prefix = new StringBuilder();
+            for (String part : categoryPath.split("[/>]")) {
+                String normalized = part.trim().toLowerCase(Locale.ROOT);
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                if (!prefix.isEmpty()) {
+                    prefix.append('/');
+                }
+                prefix.append(normalized);
+                tokens.add("cat:" + prefix);
+            }
+        }
+        if (tags != null) {
+            for (String tag : tags.split(",")) {
+                String normalized = tag.trim().toLowerCase(Locale.ROOT);
+                if (!normalized.isEmpty()) {
+                    tokens.add("tag:" + normalized);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * LSH 와 카드는 항상 같은 세대끼리 묶어서 교체한다
+     * - touched: 재적재 중 이벤트로 먼저 반영된 id (페이지 적재가 덮어쓰지 않도록)
+     */
+    private record Snapshot(MinHashLsh lsh, Map<Long, SimilarProjectDto> cards, Set<Long> touched) {
+    }
+}
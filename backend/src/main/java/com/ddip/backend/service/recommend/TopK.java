@@ -0,0 +1,103 @@
+package com.ddip.backend.service.recommend;
+
+import java.util.Arrays;
+
+/**
+ * 점수 상위 K 개를 고르는 원시 배열 min-heap (박싱/객체 할당 없음)
+ * - heap 루트가 현재 K 개 중 최저점이라 대부분의 후보는 비교 한 번으로 탈락한다
+ */
+final class TopK {
+
+    private final float[] scores;
+    private final int[] positions;
+    private int size;
+
+    TopK(int capacity) {
+        this.scores = new float[Math.max(1, capacity)];
+        this.positions = new int[Math.max(1, capacity)];
+    }
+
+    void offer(int position, float score) {
+        if (size < scores.length) {
+            scores[size] = score;
+            positions[size] = position;
+            siftUp(size++);
+        } else if (score > scores[0] || (score == scores[0] && position < positions[0])) {
+            scores[0] = score;
+            positions[0] = position;
+            siftDown(0);
+        }
+    }
+
+    TopK merge(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.positions[i], other.scores[i]);
+        }
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순 위치 (같은 점수면 앞선 위치 우선)
+     */
+    int[] sortedPositions() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byScore = Float.compare(scores[b], scores[a]);
+            return byScore != 0 ? byScore : Integer.compare(positions[a], positions[b]);
+        });
+
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = positions[order[i]];
+        }
+        return sorted;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(index, parent)) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && less(left + 1, left) ? left + 1 : left;
+            if (!less(smallest, index)) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    // 점수가 같으면 뒤쪽 위치를 먼저 내보내 결과가 실행마다 같게 한다
+    private boolean less(int a, int b) {
+        int byScore = Float.compare(scores[a], scores[b]);
+        return byScore != 0 ? byScore < 0 : positions[a] > positions[b];
+    }
+
+    private void swap(int a, int b) {
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int position = positions[a];
+        positions[a] = positions[b];
+        positions[b] = position;
+    }
+}
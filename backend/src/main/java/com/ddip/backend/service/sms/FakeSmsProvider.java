@@ -0,0 +1,66 @@
+package com.ddip.backend.service.sms;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 로컬/테스트용 프로바이더 (sms.provider=fake). 외부로 보내지 않고 메모리에 쌓기만 한다.
+ * failOn 에 등록한 번호는 개별 실패로 돌려주므로 재시도 흐름을 확인할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "sms.provider", havingValue = FakeSmsProvider.NAME)
+public class FakeSmsProvider implements SmsProvider {
+
+    public static final String NAME = "fake";
+
+    private final List<SmsMessage> sent = new CopyOnWriteArrayList<>();
+    private final Set<String> failingRecipients = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return 1_000;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return 2;
+    }
+
+    @Override
+    public Map<Long, String> send(List<SmsMessage> messages) {
+        Map<Long, String> failures = new HashMap<>();
+        for (SmsMessage message : messages) {
+            if (failingRecipients.contains(message.to())) {
+                failures.put(message.outboxId(), "fake failure");
+            } else {
+                sent.add(message);
+            }
+        }
+        return failures;
+    }
+
+    public void failOn(String recipient) {
+        failingRecipients.add(recipient);
+    }
+
+    public List<SmsMessage> getSent() {
+        return List.copyOf(sent);
+    }
+
+    public void clear() {
+        sent.clear();
+        failingRecipients.clear();
+    }
+}
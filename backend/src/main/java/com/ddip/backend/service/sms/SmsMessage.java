@@ -0,0 +1,7 @@
+package com.ddip.backend.service.sms;
+
+/**
+ * 프로바이더로 넘기는 발송 단위. outboxId 로 결과를 아웃박스 행에 되돌려 매핑한다.
+ */
+public record SmsMessage(Long outboxId, String to, String text) {
+}
@@ -0,0 +1,127 @@
+package com.ddip.backend.service.sms;
+
+import com.ddip.backend.config.WorkerThreads;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * sms_outbox 를 비우는 백그라운드 발송기
+ * - 주기마다 프로바이더별로 빈 슬롯(maxConcurrency) 수만큼 묶음을 잡아 워커에 넘기고, 스케줄러 스레드는 기다리지 않는다
+ * - 묶음 하나 = 프로바이더 다건 발송 요청 하나. 개별 실패와 묶음 전체 실패 모두 백오프 후 재시도한다
+ * - 결과 기록 전에 노드가 죽으면 임대가 만료된 뒤 다시 보내므로 최소 한 번 발송이다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmsOutboxDispatcher {
+
+    private final SmsOutboxStore smsOutboxStore;
+    private final List<SmsProvider> providers;
+
+    private final Map<String, Semaphore> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${sms.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${sms.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${sms.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${sms.outbox.backoff-base-ms:5000}")
+    private long backoffBaseMs;
+
+    @Value("${sms.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value(WorkerThreads.VIRTUAL_ENABLED)
+    private boolean virtualThreads;
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void start() {
+        int threads = Math.max(1, providers.stream().mapToInt(SmsProvider::maxConcurrency).sum());
+        workers = WorkerThreads.newPool("sms-outbox", threads, virtualThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${sms.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        for (SmsProvider provider : providers) {
+            Semaphore permits = inFlight.computeIfAbsent(provider.name(), name -> new Semaphore(provider.maxConcurrency()));
+            while (permits.tryAcquire()) {
+                if (!claimAndSubmit(provider, permits)) {
+                    permits.release();
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean claimAndSubmit(SmsProvider provider, Semaphore permits) {
+        SmsOutboxStore.Claim claim;
+        try {
+            claim = smsOutboxStore.claim(provider.name(), Math.min(batchSize, provider.maxBatchSize()), leaseSeconds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to claim sms outbox. provider={}", provider.name(), e);
+            return false;
+        }
+        if (claim.isEmpty()) {
+            return false;
+        }
+
+        try {
+            workers.execute(() -> {
+                try {
+                    deliver(provider, claim);
+                } finally {
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 종료 중. 잡아 둔 행은 임대 만료 후 다시 잡힌다
+            return false;
+        }
+    }
+
+    void deliver(SmsProvider provider, SmsOutboxStore.Claim claim) {
+        Map<Long, String> failures;
+        try {
+            failures = provider.send(claim.messages());
+        } catch (RuntimeException e) {
+            log.warn("SMS batch failed. provider={}, size={}", provider.name(), claim.messages().size(), e);
+            failures = new HashMap<>();
+            for (SmsMessage message : claim.messages()) {
+                failures.put(message.outboxId(), e.getMessage());
+            }
+        }
+
+        try {
+            smsOutboxStore.complete(claim, failures, maxAttempts, backoffBaseMs, backoffMaxMs);
+        } catch (RuntimeException e) {
+            log.error("Failed to record sms result. provider={}, claim={}", provider.name(), claim.token(), e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ddip.backend.service.sms;
+
+import com.ddip.backend.entity.SmsOutbox;
+import com.ddip.backend.repository.SmsOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 아웃박스 상태 전이. 잡기/결과 기록을 각각 짧은 트랜잭션으로 끊고, 외부 발송은 트랜잭션 밖에서 한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class SmsOutboxStore {
+
+    private final SmsOutboxRepository smsOutboxRepository;
+
+    /**
+     * 최대 limit 건을 leaseSeconds 동안 임대. 잡은 게 없으면 빈 목록
+     */
+    public Claim claim(String provider, int limit, long leaseSeconds) {
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = smsOutboxRepository.claim(provider, claimToken, LocalDateTime.now().plusSeconds(leaseSeconds), limit);
+        if (claimed == 0) {
+            return new Claim(claimToken, List.of());
+        }
+
+        List<SmsMessage> messages = smsOutboxRepository.findByClaimTokenOrderByIdAsc(claimToken).stream()
+                .map(outbox -> new SmsMessage(outbox.getId(), outbox.getRecipient(), outbox.getText()))
+                .toList();
+        return new Claim(claimToken, messages);
+    }
+
+    /**
+     * 성공 건은 SENT, 실패 건은 지수 백오프로 다시 PENDING. maxAttempts 에 도달하면 FAILED
+     */
+    public void complete(Claim claim, Map<Long, String> failures, int maxAttempts, long backoffBaseMs, long backoffMaxMs) {
+        List<Long> sentIds = claim.messages().stream()
+                .map(SmsMessage::outboxId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        if (!sentIds.isEmpty()) {
+            smsOutboxRepository.markSent(sentIds, claim.token(), LocalDateTime.now());
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        for (SmsOutbox outbox : smsOutboxRepository.findAllById(failures.keySet())) {
+            // 임대가 만료돼 다른 노드가 다시 잡았으면 그쪽 결과를 따른다
+            if (!claim.token().equals(outbox.getClaimToken())) {
+                continue;
+            }
+            String error = failures.get(outbox.getId());
+            if (outbox.getAttempts() + 1 >= maxAttempts) {
+                outbox.giveUp(error);
+            } else {
+                outbox.retryAt(error, LocalDateTime.now().plusNanos(backoff(outbox.getAttempts(), backoffBaseMs, backoffMaxMs) * 1_000_000L));
+            }
+        }
+    }
+
+    /**
+     * base * 2^attempts 를 max 로 자르고, 같은 시각에 몰리지 않도록 0.5~1 배 사이에서 흔든다
+     */
+    static long backoff(int attempts, long baseMs, long maxMs) {
+        long delay = attempts >= 30 ? maxMs : Math.min(maxMs, baseMs << attempts);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    public record Claim(String token, List<SmsMessage> messages) {
+
+        public boolean isEmpty() {
+            return messages.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ddip.backend.service.sms;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMS 발송 프로바이더. sms.provider 값으로 하나만 활성화된다.
+ */
+public interface SmsProvider {
+
+    /**
+     * 아웃박스 행의 provider 컬럼 값
+     */
+    String name();
+
+    /**
+     * 한 번의 요청으로 보낼 수 있는 최대 건수
+     */
+    int maxBatchSize();
+
+    /**
+     * 동시에 진행할 수 있는 발송 요청 수. 프로바이더 쪽 rate limit 에 맞춘다.
+     */
+    int maxConcurrency();
+
+    /**
+     * 묶음 발송. 개별 실패는 outboxId -> 사유로 돌려주고, 묶음 전체가 실패하면 예외를 던진다.
+     */
+    Map<Long, String> send(List<SmsMessage> messages);
+}
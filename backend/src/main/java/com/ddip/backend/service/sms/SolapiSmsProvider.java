@@ -0,0 +1,99 @@
+package com.ddip.backend.service.sms;
+
+import com.solapi.sdk.message.exception.SolapiMessageNotReceivedException;
+import com.solapi.sdk.message.model.Message;
+import com.solapi.sdk.message.service.DefaultMessageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Solapi 다건 발송. 요청 한 번에 여러 메시지를 보내고, 실패 목록은 수신 번호로 아웃박스 행에 매핑한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sms.provider", havingValue = "solapi", matchIfMissing = true)
+public class SolapiSmsProvider implements SmsProvider {
+
+    public static final String NAME = "solapi";
+
+    // Solapi 다건 발송 API 의 요청당 최대 건수
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    // SDK 클라이언트 생성 비용이 커서 fast-startup 프로필에서는 첫 발송 때 만든다
+    private final ObjectProvider<DefaultMessageService> messageService;
+
+    @Value("${solapi.from}")
+    private String from;
+
+    @Value("${sms.solapi.max-concurrency:2}")
+    private int maxConcurrency;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public Map<Long, String> send(List<SmsMessage> messages) {
+        List<Message> requests = new ArrayList<>(messages.size());
+        for (SmsMessage sms : messages) {
+            Message message = new Message();
+            message.setFrom(from);
+            message.setTo(sms.to());
+            message.setText(sms.text());
+            requests.add(message);
+        }
+
+        Map<String, String> reasons = new HashMap<>();
+        try {
+            var response = messageService.getObject().send(requests);
+            if (response.getFailedMessageList() != null) {
+                for (var failed : response.getFailedMessageList()) {
+                    reasons.put(digits(failed.getTo()), failed.getStatusCode() + " " + failed.getStatusMessage());
+                }
+            }
+        } catch (SolapiMessageNotReceivedException e) {
+            // 한 건도 접수되지 않은 경우
+            for (var failed : e.getFailedMessageList()) {
+                reasons.put(digits(failed.getTo()), failed.getStatusCode() + " " + failed.getStatusMessage());
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("SMS 발송 중 예외: " + e.getMessage(), e);
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        if (reasons.isEmpty()) {
+            return failures;
+        }
+        for (SmsMessage sms : messages) {
+            String reason = reasons.get(digits(sms.to()));
+            if (reason != null) {
+                failures.put(sms.outboxId(), reason);
+            }
+        }
+        return failures;
+    }
+
+    // Solapi 는 수신 번호의 하이픈을 제거해서 돌려준다
+    private static String digits(String phoneNumber) {
+        return phoneNumber == null ? "" : phoneNumber.replaceAll("\\D", "");
+    }
+}
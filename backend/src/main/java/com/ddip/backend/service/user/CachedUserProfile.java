@@ -0,0 +1,18 @@
+package com.ddip.backend.service.user;
+
+import com.ddip.backend.dto.user.UserProfileDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시에 저장되는 단위. ETag 는 직렬화된 본문으로 한 번만 계산해 함께 보관한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedUserProfile {
+
+    private String etag;
+    private UserProfileDto profile;
+}
@@ -0,0 +1,176 @@
+package com.ddip.backend.service.user;
+
+import com.ddip.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가입된 이메일의 Bloom filter
+ * - mightContain 이 false 면 "확실히 없는" 이메일이므로 existsByEmail 조회를 건너뛴다
+ * - true 는 "있을 수도 있음"이라 호출하는 쪽에서 DB 로 다시 확인한다
+ * - 시딩 전에는 항상 true 를 돌려 DB 조회로 대체한다
+ *
+ * Bloom filter 는 삭제를 지원하지 않으므로 탈퇴/이메일 변경은 stale 카운트만 올리고,
+ * stale 비율이나 적재량이 한도를 넘으면 DB 를 페이지 단위로 다시 읽어 새 필터로 교체한다.
+ * 교체 중에 들어온 추가는 새 필터에도 함께 기록한다.
+ * 필터는 노드마다 따로 있으므로 추가는 Redis 채널로 다른 노드에도 전파한다 (자기 메시지는 origin 으로 거른다).
+ * 전파가 늦거나 유실돼 필터가 잘못 "없음"을 답해도 user.email 유니크 제약이 마지막 방어선이다 (UserService 가 중복 이메일 오류로 바꾼다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailBloomFilter {
+
+    private static final String CHANNEL = "user:email-filter:put";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String origin = UUID.randomUUID().toString();
+
+    @Value("${user.email-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${user.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${user.email-filter.seed-page-size:5000}")
+    private int seedPageSize;
+
+    @Value("${user.email-filter.max-stale-ratio:0.2}")
+    private double maxStaleRatio;
+
+    private volatile BloomBits active;
+    private volatile BloomBits building;
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message.getBody()),
+                new ChannelTopic(CHANNEL));
+    }
+
+    public boolean mightContain(String email) {
+        if (email == null) {
+            return false;
+        }
+        BloomBits bits = active;
+        return bits == null || bits.mightContain(email);
+    }
+
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        putLocal(email);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, origin + "\n" + email);
+        } catch (DataAccessException e) {
+            log.warn("Failed to propagate email filter insertion", e);
+        }
+    }
+
+    private void onMessage(byte[] body) {
+        String payload = new String(body, StandardCharsets.UTF_8);
+        int separator = payload.indexOf('\n');
+        if (separator < 0) {
+            log.info("Malformed email filter message");
+            return;
+        }
+        if (!payload.substring(0, separator).equals(origin)) {
+            putLocal(payload.substring(separator + 1));
+        }
+    }
+
+    private void putLocal(String email) {
+        BloomBits bits = active;
+        if (bits != null) {
+            bits.put(email);
+        }
+        BloomBits next = building;
+        if (next != null) {
+            next.put(email);
+        }
+    }
+
+    /**
+     * 더 이상 쓰이지 않는 이메일 (탈퇴, 이메일 변경). 비트는 그대로 두고 재구성 시점만 앞당긴다
+     */
+    public void markStale() {
+        staleEntries.incrementAndGet();
+    }
+
+    public boolean isReady() {
+        return active != null;
+    }
+
+    /**
+     * 첫 실행에서 시딩하고, 이후에는 필터가 낡았을 때만 다시 만든다
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${user.email-filter.rebuild-check-interval-ms:600000}")
+    public void rebuildIfNeeded() {
+        BloomBits bits = active;
+        if (bits != null && !isDegraded(bits)) {
+            return;
+        }
+
+        try {
+            rebuild(bits == null ? 0 : bits.insertions());
+        } catch (RuntimeException e) {
+            building = null;
+            log.warn("Failed to build email bloom filter", e);
+        }
+    }
+
+    private boolean isDegraded(BloomBits bits) {
+        long insertions = bits.insertions();
+        return insertions > expectedInsertions
+                || staleEntries.get() > Math.max(1_000, (long) (insertions * maxStaleRatio));
+    }
+
+    private void rebuild(long previousInsertions) {
+        long started = System.currentTimeMillis();
+        long capacity = Math.max(expectedInsertions, previousInsertions * 2);
+        BloomBits next = BloomBits.create(capacity, falsePositiveRate);
+
+        // 스캔 전에 공개해야 스캔 중 가입한 이메일도 새 필터에 들어간다
+        building = next;
+        long staleBefore = staleEntries.get();
+
+        long lastId = 0L;
+        long loaded = 0L;
+        while (true) {
+            List<UserRepository.EmailRow> page = userRepository.findEmailsAfter(lastId, PageRequest.of(0, seedPageSize));
+            for (UserRepository.EmailRow row : page) {
+                next.put(row.getEmail());
+                lastId = row.getId();
+            }
+            loaded += page.size();
+            if (page.size() < seedPageSize) {
+                break;
+            }
+        }
+
+        active = next;
+        building = null;
+        staleEntries.addAndGet(-staleBefore);
+
+        log.info("Email bloom filter built. emails={}, capacity={}, elapsedMs={}",
+                loaded, capacity, System.currentTimeMillis() - started);
+    }
+}
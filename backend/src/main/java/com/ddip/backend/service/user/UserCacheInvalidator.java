@@ -0,0 +1,70 @@
+package com.ddip.backend.service.user;
+
+import com.ddip.backend.dto.user.UserChangedEvent;
+import com.ddip.backend.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자 캐시 무효화
+ * - 커밋 이후에 Redis 사본을 지우고, 채널로 모든 노드(자기 자신 포함)의 로컬 캐시를 비운다
+ * - 커밋 전에 지우면 다른 요청이 옛 값을 다시 적재할 수 있으므로 AFTER_COMMIT 에서만 처리
+ * - 로컬 캐시에는 Hibernate 2차 캐시의 user 영역도 포함된다. 다른 노드가 옛 엔티티로 프로필을 다시 적재하거나
+ *   옛 엔티티를 고쳐 저장(전체 컬럼 UPDATE)해 변경을 되돌리지 않도록 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator {
+
+    private static final String CHANNEL = "user:cache:invalidate";
+
+    private final UserProfileReadModel profileReadModel;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message.getBody()),
+                new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Long userId = event.getUserId();
+
+        // 채널 메시지가 늦거나 유실돼도 이 노드는 바로 최신 값을 보도록 먼저 비운다
+        evictLocal(userId);
+        try {
+            profileReadModel.evictShared(userId);
+            redisTemplate.convertAndSend(CHANNEL, userId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to propagate user cache invalidation. userId={}", userId, e);
+        }
+    }
+
+    private void onMessage(byte[] body) {
+        try {
+            evictLocal(Long.valueOf(new String(body, StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.info("Malformed user cache invalidation message");
+        }
+    }
+
+    private void evictLocal(Long userId) {
+        entityManagerFactory.getCache().evict(User.class, userId);
+        profileReadModel.evictLocal(userId);
+    }
+}
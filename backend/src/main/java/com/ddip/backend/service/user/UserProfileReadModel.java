@@ -0,0 +1,177 @@
+package com.ddip.backend.service.user;
+
+import com.ddip.backend.dto.user.UserProfileDto;
+import com.ddip.backend.metrics.CacheMetrics;
+import com.ddip.backend.service.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 프로필 읽기 모델
+ * - 조회 순서: 로컬 캐시 -> Redis(user:profile:{id}) -> DB
+ * - 무효화는 UserCacheInvalidator 가 커밋 이후 모든 노드에 전파한다
+ * - 무효화와 적재가 겹치면 적재 결과를 버려 오래된 값이 다시 올라가지 않게 한다
+ *   - 로컬: 노드 안의 무효화 횟수로 판단
+ *   - Redis: 무효화마다 user:profile:ver:{id} 를 INCR 하고, 적재 전에 읽은 버전과 같을 때만 Lua 로 SET 한다
+ *     (다른 노드의 무효화가 DB 조회와 Redis 쓰기 사이에 끼어도 옛 프로필이 공유 사본에 남지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileReadModel {
+
+    static final String KEY_PREFIX = "user:profile:";
+    private static final String LOCAL_CACHE_NAME = "user-profile-local";
+    private static final String REDIS_CACHE_NAME = "user-profile-redis";
+    static final String VERSION_KEY_PREFIX = "user:profile:ver:";
+    // 버전 키가 적재 도중 만료되어 1 부터 다시 세면 비교가 틀릴 수 있으므로 프로필 TTL 보다 훨씬 길게 둔다
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // KEYS[1] = 프로필, KEYS[2] = 버전 / ARGV[1] = 적재 전 버전, ARGV[2] = 값, ARGV[3] = TTL(ms)
+    private static final RedisScript<Long> WRITE_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0",
+            Long.class);
+
+    private final UserService userService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheMetrics cacheMetrics;
+
+    private final Map<Long, LocalEntry> localCache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${user.profile-cache.local-ttl-ms:60000}")
+    private long localTtlMs;
+
+    @Value("${user.profile-cache.local-max-size:10000}")
+    private int localMaxSize;
+
+    @Value("${user.profile-cache.redis-ttl-ms:600000}")
+    private long redisTtlMs;
+
+    public CachedUserProfile get(Long userId) {
+        long now = System.currentTimeMillis();
+        LocalEntry local = localCache.get(userId);
+        if (local != null && local.expiresAt > now) {
+            cacheMetrics.hit(LOCAL_CACHE_NAME);
+            return local.value;
+        }
+        cacheMetrics.miss(LOCAL_CACHE_NAME);
+
+        long generation = invalidations.get();
+        CachedUserProfile cached = readRedis(userId);
+        if (cached != null) {
+            cacheMetrics.hit(REDIS_CACHE_NAME);
+        } else {
+            cacheMetrics.miss(REDIS_CACHE_NAME);
+            String version = readVersion(userId);
+            cached = build(userService.loadProfile(userId));
+            if (version != null && generation == invalidations.get()) {
+                writeRedis(userId, cached, version);
+            }
+        }
+
+        if (generation == invalidations.get()) {
+            putLocal(userId, cached, now);
+        }
+        return cached;
+    }
+
+    /**
+     * 이 노드의 로컬 캐시만 비운다. Redis 삭제와 전파는 UserCacheInvalidator 가 담당
+     */
+    public void evictLocal(Long userId) {
+        invalidations.incrementAndGet();
+        localCache.remove(userId);
+    }
+
+    /**
+     * 버전을 먼저 올려 진행 중인 다른 노드의 적재가 쓰지 못하게 한 뒤 사본을 지운다
+     */
+    void evictShared(Long userId) {
+        String versionKey = VERSION_KEY_PREFIX + userId;
+        redisTemplate.opsForValue().increment(versionKey);
+        redisTemplate.expire(versionKey, VERSION_TTL);
+        redisTemplate.delete(KEY_PREFIX + userId);
+    }
+
+    private CachedUserProfile build(UserProfileDto profile) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(profile);
+            return new CachedUserProfile("\"" + DigestUtils.md5DigestAsHex(body) + "\"", profile);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프로필 직렬화 실패", e);
+        }
+    }
+
+    private void putLocal(Long userId, CachedUserProfile value, long now) {
+        if (localCache.size() >= localMaxSize) {
+            evictExpired(now);
+        }
+        localCache.put(userId, new LocalEntry(value, now + localTtlMs));
+    }
+
+    private void evictExpired(long now) {
+        localCache.values().removeIf(entry -> entry.expiresAt <= now);
+
+        // 만료 항목이 없을 만큼 가득 차 있으면 임의 항목을 절반 덜어낸다
+        Iterator<Long> keys = localCache.keySet().iterator();
+        int excess = localCache.size() - localMaxSize / 2;
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private CachedUserProfile readRedis(Long userId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            return json == null ? null : objectMapper.readValue(json, CachedUserProfile.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read cached profile. userId={}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 버전을 읽지 못하면 null. 이때는 Redis 에 쓰지 않는다
+     */
+    private String readVersion(Long userId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + userId);
+            return version == null ? "0" : version;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read profile version. userId={}", userId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long userId, CachedUserProfile value, String version) {
+        try {
+            redisTemplate.execute(WRITE_IF_UNCHANGED, List.of(KEY_PREFIX + userId, VERSION_KEY_PREFIX + userId),
+                    version, objectMapper.writeValueAsString(value), Long.toString(redisTtlMs));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to cache profile. userId={}", userId, e);
+        }
+    }
+
+    private record LocalEntry(CachedUserProfile value, long expiresAt) {
+    }
+}
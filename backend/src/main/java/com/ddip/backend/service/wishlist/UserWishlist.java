@@ -0,0 +1,44 @@
+package com.ddip.backend.service.wishlist;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 한 사용자의 찜 목록. 대상 종류별 압축 비트맵 (Roaring)
+ * 비트맵은 스레드 안전하지 않으므로 짧은 synchronized 구간에서만 접근한다
+ */
+final class UserWishlist {
+
+    private final Map<WishlistTargetType, Roaring64Bitmap> bitmaps = new EnumMap<>(WishlistTargetType.class);
+    private final long expiresAt;
+
+    UserWishlist(long expiresAt) {
+        this.expiresAt = expiresAt;
+        for (WishlistTargetType type : WishlistTargetType.values()) {
+            bitmaps.put(type, new Roaring64Bitmap());
+        }
+    }
+
+    boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    synchronized void add(WishlistTargetType type, long targetId) {
+        bitmaps.get(type).addLong(targetId);
+    }
+
+    synchronized void remove(WishlistTargetType type, long targetId) {
+        bitmaps.get(type).removeLong(targetId);
+    }
+
+    synchronized boolean contains(WishlistTargetType type, long targetId) {
+        return bitmaps.get(type).contains(targetId);
+    }
+
+    synchronized long[] targetIds(WishlistTargetType type) {
+        return bitmaps.get(type).toArray();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ddip.backend.service.wishlist;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.repository.WishlistRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대상별 찜 수 증감분을 메모리에 모았다가 주기적으로 wishlist_counters 에 upsert 한다
+ * - 토글마다 카운터 행을 UPDATE 하면 인기 프로젝트 한 행에 쓰기가 몰리므로 증감만 누적한다
+ * - 샤드마다 ConcurrentHashMap<대상 키, 증감분> 을 두고, 누적과 회수를 모두 compute 로 해서 유실이 없다
+ * - 타입별 배치는 한 트랜잭션이라 전부 반영되거나 전부 롤백되므로, 실패한 증감분은 그대로 샤드에 돌려놓고 다음 주기에 재시도한다
+ * 조회 값은 DB 값 + 이 노드의 미반영분이다. 다른 노드의 미반영분은 다음 flush 이후 보인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WishlistCounters {
+
+    private static final int SHARDS = 16;
+    private static final int TYPE_SHIFT = 56;
+    private static final long TARGET_MASK = (1L << TYPE_SHIFT) - 1;
+
+    private final WishlistRepository wishlistRepository;
+
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Long>[] shards = new Map[SHARDS];
+
+    {
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    public void add(WishlistTargetType type, Long targetId, long delta) {
+        long key = key(type, targetId);
+        shards[shardOf(key)].merge(key, delta, Long::sum);
+    }
+
+    /**
+     * 삭제된 대상의 미반영 증감분을 버린다 (flush 가 지워진 카운터 행을 다시 만들지 않도록)
+     */
+    public void discard(WishlistTargetType type, Collection<Long> targetIds) {
+        for (Long targetId : targetIds) {
+            long key = key(type, targetId);
+            shards[shardOf(key)].remove(key);
+        }
+    }
+
+    /**
+     * 페이지 단위 찜 수: DB 한 번 + 미반영 증감분
+     */
+    public Map<Long, Long> counts(WishlistTargetType type, Collection<Long> targetIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (targetIds.isEmpty()) {
+            return counts;
+        }
+
+        wishlistRepository.findCounts(type, targetIds)
+                .forEach(row -> counts.put(row.getTargetId(), row.getWishCount()));
+        for (Long targetId : targetIds) {
+            long key = key(type, targetId);
+            Long pending = shards[shardOf(key)].get(key);
+            long count = counts.getOrDefault(targetId, 0L) + (pending == null ? 0L : pending);
+            counts.put(targetId, Math.max(0L, count));
+        }
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${wishlist.counter-flush-interval-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        Map<WishlistTargetType, Map<Long, Long>> drained = new EnumMap<>(WishlistTargetType.class);
+        for (Map<Long, Long> shard : shards) {
+            for (Long key : shard.keySet()) {
+                shard.computeIfPresent(key, (k, delta) -> {
+                    if (delta != 0L) {
+                        drained.computeIfAbsent(typeOf(k), type -> new HashMap<>()).put(targetIdOf(k), delta);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        drained.forEach((type, deltas) -> {
+            try {
+                wishlistRepository.applyCounterDeltas(type, deltas);
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush wishlist counters. type={}, targets={}", type, deltas.size(), e);
+                deltas.forEach((targetId, delta) -> add(type, targetId, delta));
+            }
+        });
+    }
+
+    private static long key(WishlistTargetType type, Long targetId) {
+        return (long) type.ordinal() << TYPE_SHIFT | (targetId & TARGET_MASK);
+    }
+
+    private static WishlistTargetType typeOf(long key) {
+        return WishlistTargetType.values()[(int) (key >>> TYPE_SHIFT)];
+    }
+
+    private static long targetIdOf(long key) {
+        return key & TARGET_MASK;
+    }
+
+    private static int shardOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 60) & (SHARDS - 1);
+    }
+}
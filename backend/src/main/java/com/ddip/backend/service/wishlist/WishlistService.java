@@ -0,0 +1,195 @@
+package com.ddip.backend.service.wishlist;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.dto.wishlist.WishlistStatusDto;
+import com.ddip.backend.metrics.CacheMetrics;
+import com.ddip.backend.repository.AuctionRepository;
+import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.WishlistRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 서버 위시리스트
+ * - 추가/삭제는 wishlists 에 단일 INSERT IGNORE / DELETE 만 한다 (projects 행 잠금 없음)
+ * - 실제로 상태가 바뀐 경우에만 대상별 카운터(WishlistCounters)에 증감을 누적한다
+ * - 사용자별 찜 목록은 Roaring 비트맵으로 캐시해 카드 한 페이지의 "찜했나?" 를 DB 없이 답한다
+ * - 다른 기기(노드)에서 바뀌면 Redis 채널로 해당 사용자 캐시를 비운다
+ * - 변경/무효화마다 사용자 버전을 올리고, DB 적재 중 버전이 바뀌었으면 적재 결과를 캐시에 넣지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WishlistService {
+
+    private static final String CHANNEL = "wishlist:invalidate";
+    private static final int MAX_CHECK_SIZE = 200;
+    private static final String CACHE_NAME = "wishlist-bitmap";
+    // 사용자 버전은 userId 해시로 나눈 고정 개수 슬롯에 둔다 (같은 슬롯 사용자끼리는 적재를 한 번 더 할 뿐)
+    private static final int VERSION_SLOTS = 1024;
+
+    private final WishlistRepository wishlistRepository;
+    private final ProjectRepository projectRepository;
+    private final AuctionRepository auctionRepository;
+    private final WishlistCounters wishlistCounters;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final CacheMetrics cacheMetrics;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, UserWishlist> cache = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+
+    @Value("${wishlist.cache-ttl-ms:600000}")
+    private long cacheTtlMs;
+
+    @Value("${wishlist.cache-max-users:50000}")
+    private int cacheMaxUsers;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> onInvalidate(message.getBody()),
+                new ChannelTopic(CHANNEL));
+    }
+
+    public WishlistStatusDto add(Long userId, WishlistTargetType type, Long targetId) {
+        if (!targetExists(type, targetId)) {
+            throw new IllegalArgumentException("Wishlist target not found: " + type + " " + targetId);
+        }
+
+        if (wishlistRepository.insertIfAbsent(userId, type, targetId)) {
+            wishlistCounters.add(type, targetId, 1L);
+            applyLocal(userId, cached -> cached.add(type, targetId));
+            broadcast(userId);
+        }
+        return status(userId, type, targetId);
+    }
+
+    public WishlistStatusDto remove(Long userId, WishlistTargetType type, Long targetId) {
+        if (wishlistRepository.deleteTarget(userId, type, targetId)) {
+            wishlistCounters.add(type, targetId, -1L);
+            applyLocal(userId, cached -> cached.remove(type, targetId));
+            broadcast(userId);
+        }
+        return status(userId, type, targetId);
+    }
+
+    public long[] getTargetIds(Long userId, WishlistTargetType type) {
+        return wishlistOf(userId).targetIds(type);
+    }
+
+    /**
+     * 카드 한 페이지의 찜 여부 + 찜 수를 한 번에 (비트맵 조회 + 카운터 SELECT 한 번)
+     */
+    public List<WishlistStatusDto> check(Long userId, WishlistTargetType type, List<Long> targetIds) {
+        if (targetIds.size() > MAX_CHECK_SIZE) {
+            throw new IllegalArgumentException("한 번에 확인할 수 있는 대상은 최대 " + MAX_CHECK_SIZE + "개입니다.");
+        }
+
+        UserWishlist wishlist = userId == null ? null : wishlistOf(userId);
+        Map<Long, Long> counts = wishlistCounters.counts(type, targetIds);
+
+        List<WishlistStatusDto> result = new ArrayList<>(targetIds.size());
+        for (Long targetId : targetIds) {
+            result.add(WishlistStatusDto.builder()
+                    .type(type)
+                    .targetId(targetId)
+                    .wishlisted(wishlist != null && wishlist.contains(type, targetId))
+                    .wishCount(counts.getOrDefault(targetId, 0L))
+                    .build());
+        }
+        return result;
+    }
+
+    private WishlistStatusDto status(Long userId, WishlistTargetType type, Long targetId) {
+        return check(userId, type, List.of(targetId)).get(0);
+    }
+
+    private UserWishlist wishlistOf(Long userId) {
+        long now = System.currentTimeMillis();
+        UserWishlist cached = cache.get(userId);
+        if (cached != null && !cached.isExpired(now)) {
+            cacheMetrics.hit(CACHE_NAME);
+            return cached;
+        }
+        cacheMetrics.miss(CACHE_NAME);
+
+        // 적재 도중 들어온 변경이 오래된 적재 결과에 덮이지 않도록 버전 확인과 교체를 같은 compute 안에서 한다
+        long version = versions.get(slotOf(userId));
+        UserWishlist loaded = new UserWishlist(now + cacheTtlMs);
+        wishlistRepository.findTargetsByUserId(userId)
+                .forEach(row -> loaded.add(row.getTargetType(), row.getTargetId()));
+
+        if (cache.size() >= cacheMaxUsers) {
+            cache.values().removeIf(entry -> entry.isExpired(now));
+        }
+        if (cache.size() < cacheMaxUsers) {
+            cache.compute(userId, (id, existing) -> versions.get(slotOf(id)) == version ? loaded : existing);
+        }
+        return loaded;
+    }
+
+    /**
+     * 버전을 올리고 캐시된 목록이 있으면 그 자리에서 고친다. 진행 중인 적재는 버전이 달라져 버려진다.
+     */
+    private void applyLocal(Long userId, Consumer<UserWishlist> change) {
+        cache.compute(userId, (id, cached) -> {
+            versions.incrementAndGet(slotOf(id));
+            if (cached != null) {
+                change.accept(cached);
+            }
+            return cached;
+        });
+    }
+
+    private static int slotOf(Long userId) {
+        return (Long.hashCode(userId) & 0x7fffffff) % VERSION_SLOTS;
+    }
+
+    private boolean targetExists(WishlistTargetType type, Long targetId) {
+        return switch (type) {
+            case PROJECT -> projectRepository.existsById(targetId);
+            case AUCTION -> auctionRepository.existsById(targetId);
+        };
+    }
+
+    private void broadcast(Long userId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast wishlist change. userId={}", userId, e);
+        }
+    }
+
+    private void onInvalidate(byte[] body) {
+        String message = new String(body, StandardCharsets.UTF_8);
+        int separator = message.lastIndexOf(':');
+        if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            cache.compute(Long.valueOf(message.substring(separator + 1)), (id, cached) -> {
+                versions.incrementAndGet(slotOf(id));
+                return null;
+            });
+        } catch (NumberFormatException e) {
+            log.info("Malformed wishlist invalidation message");
+        }
+    }
+}
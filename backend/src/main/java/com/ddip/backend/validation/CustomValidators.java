@@ -3,6 +3,7 @@ package com.ddip.backend.validation;
 import com.ddip.backend.dto.user.UserUpdateRequestDto;
 import com.ddip.backend.repository.UserRepository;
 import com.ddip.backend.security.auth.CustomUserDetails;
+import com.ddip.backend.service.user.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,12 +26,16 @@ public class CustomValidators {
     public static class EmailValidator extends AbstractValidator<UserUpdateRequestDto> {
 
         private final UserRepository userRepository;
+        private final EmailBloomFilter emailBloomFilter;
 
         @Override
         protected void doValidate(UserUpdateRequestDto target, Errors errors) {
             String getCurrenUserEmail = getCurrentUserEmail();
 
-            if(!target.getEmail().equals(getCurrenUserEmail) && userRepository.existsByEmail(target.getEmail())) {
+            // Bloom filter 가 없다고 답하면 확실히 새 이메일이므로 DB 조회 생략
+            if(!target.getEmail().equals(getCurrenUserEmail)
+                    && emailBloomFilter.mightContain(target.getEmail())
+                    && userRepository.existsByEmail(target.getEmail())) {
                 errors.rejectValue("email", "email 중복 오류", "이미 존재하는 이메일 입니다.");
             }
         }
@@ -0,0 +1,98 @@
+-- ddl-auto: update 로 운영 DB 에 만들어져 있던 스키마(엔티티 7개)를 그대로 옮긴 기준선.
+-- 운영 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 건너뛰고 V2 부터 적용된다.
+-- 여기는 고치지 않는다. 스키마 변경은 항상 새 버전으로 추가한다.
+
+CREATE TABLE `user` (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    email          VARCHAR(255),
+    password       VARCHAR(255),
+    name           VARCHAR(255) NOT NULL,
+    provider       VARCHAR(255) NOT NULL,
+    nickname       VARCHAR(255) NOT NULL,
+    phone_number   VARCHAR(255) NOT NULL,
+    role           ENUM ('USER','ADMIN') NOT NULL,
+    bank_type      ENUM ('KAKAObank','NH','KB','SHINHAN','WOORI','SAEMAEUL','BUSAN','IBK','TOSS','etc'),
+    account        VARCHAR(255),
+    account_holder VARCHAR(255),
+    is_active      BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_addresses (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    user_id        BIGINT       NOT NULL,
+    label          VARCHAR(30),
+    recipient_name VARCHAR(100) NOT NULL,
+    phone          VARCHAR(20)  NOT NULL,
+    zip_code       VARCHAR(10)  NOT NULL,
+    address1       VARCHAR(255) NOT NULL,
+    address2       VARCHAR(255) NOT NULL,
+    is_default     BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_addresses_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE projects (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    creator_id     BIGINT       NOT NULL,
+    title          VARCHAR(200) NOT NULL,
+    description    LONGTEXT,
+    target_amount  BIGINT       NOT NULL,
+    current_amount BIGINT       NOT NULL,
+    status         ENUM ('DRAFT','OPEN','SUCCESS','FAILED','CANCELED') NOT NULL,
+    start_at       DATETIME(6),
+    end_at         DATETIME(6),
+    thumbnail_url  VARCHAR(500),
+    category_path  VARCHAR(100),
+    tags           VARCHAR(500),
+    summary        VARCHAR(200),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_projects_creator FOREIGN KEY (creator_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reward_tiers (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    project_id     BIGINT       NOT NULL,
+    title          VARCHAR(200) NOT NULL,
+    description    TEXT,
+    price          BIGINT       NOT NULL,
+    limit_quantity INTEGER,
+    sold_quantity  INTEGER      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reward_tiers_project FOREIGN KEY (project_id) REFERENCES projects (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE pledge (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    project_id     BIGINT       NOT NULL,
+    user_id        BIGINT       NOT NULL,
+    reward_tier_id BIGINT,
+    amount         BIGINT       NOT NULL,
+    status         ENUM ('PENDING','CONFIRMED','CANCELED') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pledge_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_pledge_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_pledge_reward_tier FOREIGN KEY (reward_tier_id) REFERENCES reward_tiers (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE auction (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    seller_id      BIGINT       NOT NULL,
+    winner_user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_auction_seller FOREIGN KEY (seller_id) REFERENCES `user` (id),
+    CONSTRAINT fk_auction_winner FOREIGN KEY (winner_user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,109 @@
+-- 기준선 이후 추가된 기능(경매 입찰/상태, 탈퇴 정리, 설문 성향, 찜, 문자 outbox, 알림 작업)의 테이블과 컬럼.
+-- 기존 경매 행은 새 NOT NULL 컬럼에 MySQL 암묵 기본값(0, '', 첫 enum 값)이 들어간다.
+
+ALTER TABLE `user`
+    ADD COLUMN user_type  ENUM ('VALUE_ORIENTED','PRACTICAL_ORIENTED','TREND_ORIENTED'),
+    ADD COLUMN deleted_at DATETIME(6);
+
+ALTER TABLE auction
+    ADD COLUMN title         VARCHAR(200) NOT NULL,
+    ADD COLUMN start_price   BIGINT       NOT NULL,
+    ADD COLUMN current_price BIGINT       NOT NULL,
+    ADD COLUMN bid_step      BIGINT       NOT NULL,
+    ADD COLUMN buyout_price  BIGINT,
+    ADD COLUMN status        ENUM ('SCHEDULED','RUNNING','ENDED','CANCELED') NOT NULL,
+    ADD COLUMN start_at      DATETIME(6),
+    ADD COLUMN end_at        DATETIME(6);
+
+CREATE INDEX idx_pledge_project_user ON pledge (project_id, user_id);
+
+CREATE TABLE bids (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    auction_id     BIGINT       NOT NULL,
+    bidder_id      BIGINT,
+    amount         BIGINT       NOT NULL,
+    sequence       BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_bids_auction_sequence UNIQUE (auction_id, sequence),
+    INDEX idx_bids_auction_bidder (auction_id, bidder_id),
+    CONSTRAINT fk_bids_auction FOREIGN KEY (auction_id) REFERENCES auction (id),
+    CONSTRAINT fk_bids_bidder FOREIGN KEY (bidder_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE wishlists (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    user_id        BIGINT       NOT NULL,
+    target_type    ENUM ('PROJECT','AUCTION') NOT NULL,
+    target_id      BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_wishlists_user_target UNIQUE (user_id, target_type, target_id),
+    INDEX idx_wishlists_target (target_type, target_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE wishlist_counters (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    target_type    ENUM ('PROJECT','AUCTION') NOT NULL,
+    target_id      BIGINT       NOT NULL,
+    wish_count     BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_wishlist_counters_target UNIQUE (target_type, target_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notification_campaigns (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date      DATETIME(6),
+    modified_date     DATETIME(6),
+    type              ENUM ('PROJECT_TARGET_REACHED','PROJECT_SUCCEEDED','PROJECT_FAILED','AUCTION_ENDED') NOT NULL,
+    source_id         BIGINT       NOT NULL,
+    subject           VARCHAR(200) NOT NULL,
+    channel           VARCHAR(20)  NOT NULL,
+    last_recipient_id BIGINT       NOT NULL,
+    sent_count        BIGINT       NOT NULL,
+    failed_count      BIGINT       NOT NULL,
+    attempts          INTEGER      NOT NULL,
+    last_error        VARCHAR(500),
+    lease_token       VARCHAR(36),
+    lease_until       DATETIME(6),
+    completed_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_notification_campaigns_source UNIQUE (type, source_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE sms_outbox (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    created_date    DATETIME(6),
+    modified_date   DATETIME(6),
+    provider        VARCHAR(20)   NOT NULL,
+    recipient       VARCHAR(20)   NOT NULL,
+    text            VARCHAR(1000) NOT NULL,
+    status          ENUM ('PENDING','SENDING','SENT','FAILED') NOT NULL,
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    claim_token     VARCHAR(36),
+    last_error      VARCHAR(500),
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_sms_outbox_claim (provider, status, next_attempt_at),
+    INDEX idx_sms_outbox_claim_token (claim_token)
+) ENGINE = InnoDB;
+
+CREATE TABLE account_purge_jobs (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    user_id        BIGINT       NOT NULL,
+    stage          ENUM ('ADDRESSES','WISHLISTS','BIDS','WON_AUCTIONS','PLEDGES','PROJECT_PLEDGES','REWARD_TIERS',
+                         'PROJECTS','AUCTION_BIDS','AUCTIONS','USER','DONE') NOT NULL,
+    processed_rows BIGINT       NOT NULL,
+    attempts       INTEGER      NOT NULL,
+    last_error     VARCHAR(500),
+    completed_at   DATETIME(6),
+    version        BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_account_purge_jobs_user UNIQUE (user_id)
+) ENGINE = InnoDB;
+
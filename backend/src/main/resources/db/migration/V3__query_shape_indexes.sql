@@ -0,0 +1,23 @@
+-- 리포지토리 쿼리 모양에 맞춘 인덱스. 쿼리를 바꾸면 QueryPlanTest 가 전체 스캔으로 떨어지는지 잡아 준다.
+-- 외래 키가 만든 단일 컬럼 인덱스(creator_id, user_id)는 같은 컬럼으로 시작하는 인덱스가 생기면 MySQL 이 대신 쓴다.
+
+-- 모집 중 마감 지난 프로젝트(findExpiredIds: status in, end_at <, order by end_at), 목표 달성 알림 후보
+CREATE INDEX idx_projects_status_end_at ON projects (status, end_at);
+
+-- 회원별 프로젝트 수(countActivities: creator_id =, status <>), 탈퇴 정리
+CREATE INDEX idx_projects_creator_status ON projects (creator_id, status);
+
+-- 최근 후원한 프로젝트(findRecentProjectIds: user_id =, order by id desc), 회원별 후원 수
+CREATE INDEX idx_pledge_user ON pledge (user_id);
+
+-- 진행 중 경매 적재(findLive)와 마감 대상(findExpiredIds): status in, end_at 범위
+CREATE INDEX idx_auction_status_end_at ON auction (status, end_at);
+
+-- 경매별 전체/최근 입찰 수(countBidsByAuction)를 인덱스만 읽고 센다
+CREATE INDEX idx_bids_auction_created ON bids (auction_id, created_date);
+
+-- 미완료 알림 작업(findRunnableIds: completed_at is null order by id). 완료된 행이 대부분이라 선택도가 높다
+CREATE INDEX idx_notification_campaigns_pending ON notification_campaigns (completed_at);
+
+-- 진행 중 탈퇴 정리 작업(stage <> DONE order by id)
+CREATE INDEX idx_account_purge_jobs_stage ON account_purge_jobs (stage);
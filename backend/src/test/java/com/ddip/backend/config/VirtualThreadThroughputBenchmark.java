@@ -0,0 +1,110 @@
+package com.ddip.backend.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청 처리 모델 비교 (./gradlew benchmark)
+ * - 요청 하나 = 외부 I/O 대기(REMOTE_MS) + 커넥션 풀(POOL_SIZE) 안에서 짧은 쿼리(QUERY_MS)
+ * - platform: Tomcat 기본값과 같은 200 스레드 고정 풀 / virtual: 요청마다 가상 스레드
+ * - 경매 락처럼 블로킹 구간을 감싸는 락이 synchronized 면 가상 스레드가 캐리어에 고정되는 것도 같이 본다
+ */
+@Tag("benchmark")
+class VirtualThreadThroughputBenchmark {
+
+    private static final int REQUESTS = 20_000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int POOL_SIZE = 20;
+    private static final long REMOTE_MS = 20;
+    private static final long QUERY_MS = 1;
+    private static final int LOCKS = 64;
+
+    @Test
+    void 블로킹_요청_처리량_비교() throws Exception {
+        double platform = measure(WorkerThreads.newPool("bench-platform", PLATFORM_THREADS, false), new Workload(false));
+        double virtual = measure(WorkerThreads.newPool("bench-virtual", PLATFORM_THREADS, true), new Workload(false));
+        double pinned = measure(WorkerThreads.newPool("bench-pinned", PLATFORM_THREADS, true), new Workload(true));
+
+        System.out.printf("platform(%d)           : %8.0f req/s%n", PLATFORM_THREADS, platform);
+        System.out.printf("virtual + ReentrantLock : %8.0f req/s%n", virtual);
+        System.out.printf("virtual + synchronized  : %8.0f req/s (carrier pinning)%n", pinned);
+
+        assertTrue(virtual > platform);
+    }
+
+    private double measure(ExecutorService executor, Workload workload) throws Exception {
+        try (executor) {
+            // 워밍업
+            run(executor, workload, REQUESTS / 10);
+
+            long start = System.nanoTime();
+            run(executor, workload, REQUESTS);
+            return REQUESTS / ((System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    private void run(ExecutorService executor, Workload workload, int requests) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int key = i % LOCKS;
+            futures.add(executor.submit(() -> {
+                workload.handle(key);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static class Workload {
+
+        private final boolean synchronizedLock;
+        private final Semaphore pool = new Semaphore(POOL_SIZE, true);
+        private final Object[] monitors = new Object[LOCKS];
+        private final ReentrantLock[] locks = new ReentrantLock[LOCKS];
+
+        Workload(boolean synchronizedLock) {
+            this.synchronizedLock = synchronizedLock;
+            for (int i = 0; i < LOCKS; i++) {
+                monitors[i] = new Object();
+                locks[i] = new ReentrantLock();
+            }
+        }
+
+        void handle(int key) throws InterruptedException {
+            Thread.sleep(REMOTE_MS);
+
+            if (synchronizedLock) {
+                synchronized (monitors[key]) {
+                    query();
+                }
+            } else {
+                locks[key].lock();
+                try {
+                    query();
+                } finally {
+                    locks[key].unlock();
+                }
+            }
+        }
+
+        private void query() throws InterruptedException {
+            pool.acquire();
+            try {
+                Thread.sleep(QUERY_MS);
+            } finally {
+                pool.release();
+            }
+        }
+    }
+}
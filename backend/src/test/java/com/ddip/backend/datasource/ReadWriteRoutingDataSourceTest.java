@@ -0,0 +1,122 @@
+package com.ddip.backend.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadYourWritesTracker tracker = mock(ReadYourWritesTracker.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+
+    private final Replica first = new Replica("replica-1", mock(DataSource.class));
+    private final Replica second = new Replica("replica-2", mock(DataSource.class));
+
+    private final ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+            mock(DataSource.class), List.of(first, second), tracker, currentUser::get, meterRegistry, 1_000L);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_primary_로_가고_커밋_후_쓰기_시각을_남긴다() {
+        // given
+        currentUser.set(7L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        Object target = routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, target);
+        verify(tracker).recordWrite(7L);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본을_돌아가며_쓴다() {
+        // given
+        first.update(true, 0L);
+        second.update(true, 0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object a = routing.determineCurrentLookupKey();
+        Object b = routing.determineCurrentLookupKey();
+
+        // then
+        assertNotEquals(a, b);
+        assertTrue(List.of("replica-1", "replica-2").containsAll(List.of(a, b)));
+        assertEquals(2.0, meterRegistry.find("ddip.datasource.route").tag("reason", "read").counters()
+                .stream().mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    void 방금_쓴_사용자는_따라온_복제본에서만_읽는다() {
+        // given
+        currentUser.set(7L);
+        first.update(true, 3_000L);
+        second.update(true, 0L);
+        when(tracker.millisSinceWrite(7L)).thenReturn(2_000L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object a = routing.determineCurrentLookupKey();
+        Object b = routing.determineCurrentLookupKey();
+
+        // then
+        assertEquals("replica-2", a);
+        assertEquals("replica-2", b);
+    }
+
+    @Test
+    void 모든_복제본이_뒤처져_있으면_primary_에서_읽는다() {
+        // given
+        currentUser.set(7L);
+        first.update(true, 3_000L);
+        second.update(false, Replica.UNKNOWN_LAG);
+        when(tracker.millisSinceWrite(7L)).thenReturn(500L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object target = routing.determineCurrentLookupKey();
+
+        // then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, target);
+        assertNotNull(meterRegistry.find("ddip.datasource.route").tag("reason", "read-your-writes").counter());
+    }
+
+    @Test
+    void ReadFromPrimary_구간은_읽기_전용이라도_primary() throws Throwable {
+        // given
+        first.update(true, 0L);
+        second.update(true, 0L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> routing.determineCurrentLookupKey());
+
+        // when
+        Object inside = new ReadFromPrimaryAspect().forcePrimary(joinPoint);
+        Object outside = routing.determineCurrentLookupKey();
+
+        // then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, inside);
+        assertNotEquals(ReadWriteRoutingDataSource.PRIMARY, outside);
+    }
+}
@@ -0,0 +1,133 @@
+package com.ddip.backend.handler;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionSyncResponseDto;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.dto.enums.AuctionEventType;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.ddip.backend.handler.codec.AuctionBinaryCodec;
+import com.ddip.backend.service.auction.cluster.AuctionRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionWebSocketHandlerTest {
+
+    private static final Long AUCTION_ID = 42L;
+
+    @Mock
+    private AuctionRouter auctionRouter;
+
+    @Mock
+    private WebSocketSession session;
+
+    private final ObjectMapper cborMapper = CBORMapper.builder().build();
+
+    private AuctionWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new AuctionWebSocketHandler(auctionRouter, JsonMapper.builder().findAndAddModules().build(),
+                new AuctionBinaryCodec());
+        when(session.getId()).thenReturn("s-1");
+        when(auctionRouter.sync(AUCTION_ID, 0L))
+                .thenReturn(AuctionSyncResponseDto.builder().auctionId(AUCTION_ID).events(List.of()).build());
+    }
+
+    @Test
+    void 서브프로토콜을_수락한_세션은_바이너리_프레임을_받는다() throws Exception {
+        // given
+        when(session.getAcceptedProtocol()).thenReturn(AuctionBinaryCodec.SUBPROTOCOL);
+
+        // when
+        handler.afterConnectionEstablished(session);
+        join();
+
+        // then
+        assertInstanceOf(BinaryMessage.class, sent().get(0));
+    }
+
+    @Test
+    void 서브프로토콜_없이_접속하면_JSON_텍스트_프레임을_받는다() throws Exception {
+        // given
+        when(session.getAcceptedProtocol()).thenReturn(null);
+
+        // when
+        handler.afterConnectionEstablished(session);
+        join();
+
+        // then
+        TextMessage sync = assertInstanceOf(TextMessage.class, sent().get(0));
+        assertTrue(sync.getPayload().contains("\"type\":\"auction:sync\""));
+    }
+
+    @Test
+    void 같은_입찰자의_bidder_프레임은_세션당_한_번만_보낸다() throws Exception {
+        // given
+        when(session.getAcceptedProtocol()).thenReturn(AuctionBinaryCodec.SUBPROTOCOL);
+        when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+        join();
+
+        // when
+        AuctionEventDto event = bidPlaced(7L);
+        handler.onAuctionEvent(event);
+        handler.onAuctionEvent(event);
+
+        // then : sync, bidder, bid:placed, bid:placed
+        List<WebSocketMessage<?>> messages = sent();
+        assertEquals(4, messages.size());
+        assertEquals(0, frameType(messages.get(1)));
+        assertEquals(1, frameType(messages.get(2)));
+        assertEquals(1, frameType(messages.get(3)));
+    }
+
+    private void join() throws Exception {
+        handler.handleMessage(session, new TextMessage("{\"type\":\"auction:join\",\"auctionId\":" + AUCTION_ID + "}"));
+    }
+
+    private List<WebSocketMessage<?>> sent() throws Exception {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<WebSocketMessage<?>> messages = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, atLeastOnce()).sendMessage(messages.capture());
+        return messages.getAllValues();
+    }
+
+    private int frameType(WebSocketMessage<?> message) throws Exception {
+        BinaryMessage binary = assertInstanceOf(BinaryMessage.class, message);
+        return cborMapper.readTree(binary.getPayload().array()).get(0).asInt();
+    }
+
+    private static AuctionEventDto bidPlaced(Long bidderId) {
+        BidPlacedEvent payload = BidPlacedEvent.builder()
+                .auctionId(AUCTION_ID)
+                .bidId(1L)
+                .amount(153_000L)
+                .bidder(UserResponseDto.builder().id(bidderId).nickname("입찰자").build())
+                .currentPrice(153_000L)
+                .build();
+
+        return AuctionEventDto.builder()
+                .auctionId(AUCTION_ID)
+                .sequence(1L)
+                .type(AuctionEventType.BID_PLACED)
+                .payload(payload)
+                .build();
+    }
+}
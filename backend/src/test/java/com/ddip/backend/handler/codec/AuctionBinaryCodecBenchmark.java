@@ -0,0 +1,102 @@
+package com.ddip.backend.handler.codec;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.dto.enums.AuctionEventType;
+import com.ddip.backend.dto.enums.BankType;
+import com.ddip.backend.dto.enums.Role;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.ddip.backend.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * bid:placed 메시지 JSON vs CBOR 비교 (./gradlew benchmark)
+ * - 양쪽 모두 실제 전송과 같은 입찰자 요약(UserResponseDto.summaryOf)을 싣는다
+ */
+@Tag("benchmark")
+class AuctionBinaryCodecBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final ObjectMapper jsonMapper = JsonMapper.builder().findAndAddModules().build();
+    private final AuctionBinaryCodec codec = new AuctionBinaryCodec();
+
+    @Test
+    void 메시지_크기와_인코딩_비용_비교() throws Exception {
+        AuctionEventDto event = bidPlaced();
+
+        int jsonBytes = jsonMapper.writeValueAsBytes(event).length;
+        int cborBytes = codec.encodeEvent(event).length;
+        int bidderBytes = codec.encodeBidder(((BidPlacedEvent) event.getPayload()).getBidder()).length;
+
+        long jsonNanos = measure(() -> jsonMapper.writeValueAsBytes(event));
+        long cborNanos = measure(() -> codec.encodeEvent(event));
+
+        System.out.printf("json : %4d bytes/msg, %6.1f ns/encode%n", jsonBytes, (double) jsonNanos / ITERATIONS);
+        System.out.printf("cbor : %4d bytes/msg, %6.1f ns/encode (+%d bytes bidder frame once per session)%n",
+                cborBytes, (double) cborNanos / ITERATIONS, bidderBytes);
+
+        assertTrue(cborBytes < jsonBytes);
+    }
+
+    private long measure(Encoder encoder) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += encoder.encode().length;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += encoder.encode().length;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(sink > 0);
+        return elapsed;
+    }
+
+    private AuctionEventDto bidPlaced() {
+        User user = User.builder()
+                .id(1234L)
+                .email("bidder@ddip.com")
+                .username("입찰자")
+                .nickname("입찰왕")
+                .phoneNumber("010-1234-5678")
+                .account("110-123-456789")
+                .accountHolder("입찰자")
+                .role(Role.USER)
+                .bankType(BankType.SHINHAN)
+                .isActive(true)
+                .build();
+        UserResponseDto bidder = UserResponseDto.summaryOf(user);
+
+        BidPlacedEvent payload = BidPlacedEvent.builder()
+                .auctionId(42L)
+                .bidId(987_654L)
+                .amount(153_000L)
+                .bidder(bidder)
+                .currentPrice(153_000L)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+
+        return AuctionEventDto.builder()
+                .auctionId(42L)
+                .sequence(5_321L)
+                .type(AuctionEventType.BID_PLACED)
+                .payload(payload)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        byte[] encode() throws Exception;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ddip.backend.handler.codec;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionSocketMessage;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.dto.enums.AuctionEventType;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionBinaryCodecTest {
+
+    private final AuctionBinaryCodec codec = new AuctionBinaryCodec();
+    private final ObjectMapper cborMapper = CBORMapper.builder().findAndAddModules().build();
+
+    @Test
+    void 입찰_이벤트는_필드명_없는_배열_프레임으로_인코딩한다() throws Exception {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        AuctionEventDto event = bidPlaced(7L, createdAt);
+
+        // when
+        JsonNode frame = cborMapper.readTree(codec.encodeEvent(event));
+
+        // then
+        assertTrue(frame.isArray());
+        assertEquals(8, frame.size());
+        assertEquals(AuctionBinaryCodec.FRAME_BID_PLACED, frame.get(0).asInt());
+        assertEquals(42L, frame.get(1).asLong());
+        assertEquals(5_321L, frame.get(2).asLong());
+        assertEquals(987_654L, frame.get(3).asLong());
+        assertEquals(153_000L, frame.get(4).asLong());
+        assertEquals(7L, frame.get(5).asLong());
+        assertEquals(153_000L, frame.get(6).asLong());
+        assertEquals(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), frame.get(7).asLong());
+    }
+
+    @Test
+    void 입찰자_프레임과_일반_프레임을_인코딩한다() throws Exception {
+        // when
+        JsonNode bidder = cborMapper.readTree(codec.encodeBidder(bidder(7L)));
+        JsonNode generic = cborMapper.readTree(codec.encodeGeneric("bid:failed", Map.of("reason", "LOW_AMOUNT")));
+
+        // then
+        assertEquals(AuctionBinaryCodec.FRAME_BIDDER, bidder.get(0).asInt());
+        assertEquals(7L, bidder.get(1).asLong());
+        assertEquals("입찰자7", bidder.get(2).asText());
+        assertEquals("bid:failed", generic.get("type").asText());
+        assertEquals("LOW_AMOUNT", generic.get("payload").get("reason").asText());
+    }
+
+    @Test
+    void 클라이언트_프레임을_디코딩한다() throws Exception {
+        // given
+        byte[] bytes = cborMapper.writeValueAsBytes(new AuctionSocketMessage("bid:place", 42L, null, 160_000L));
+
+        // when
+        AuctionSocketMessage message = codec.decode(ByteBuffer.wrap(bytes));
+
+        // then
+        assertEquals("bid:place", message.getType());
+        assertEquals(42L, message.getAuctionId());
+        assertNull(message.getLastSequence());
+        assertEquals(160_000L, message.getAmount());
+    }
+
+    @Test
+    void 버퍼는_풀로_돌아가고_재사용해도_이전_내용이_섞이지_않는다() {
+        // given
+        AuctionEventDto event = bidPlaced(7L, null);
+        byte[] first = codec.encodeEvent(event);
+
+        // when : 같은 버퍼로 다른 프레임을 쓴 뒤 다시 같은 이벤트를 인코딩
+        codec.encodeBidder(bidder(8L));
+        codec.encodeGeneric("auction:closed", Map.of("auctionId", 42L));
+        byte[] again = codec.encodeEvent(event);
+
+        // then
+        assertArrayEquals(first, again);
+        assertEquals(1, codec.pooledBuffers());
+    }
+
+    private static AuctionEventDto bidPlaced(Long bidderId, LocalDateTime createdAt) {
+        BidPlacedEvent payload = BidPlacedEvent.builder()
+                .auctionId(42L)
+                .bidId(987_654L)
+                .amount(153_000L)
+                .bidder(bidder(bidderId))
+                .currentPrice(153_000L)
+                .createdAt(createdAt)
+                .build();
+
+        return AuctionEventDto.builder()
+                .auctionId(42L)
+                .sequence(5_321L)
+                .type(AuctionEventType.BID_PLACED)
+                .payload(payload)
+                .build();
+    }
+
+    private static UserResponseDto bidder(Long id) {
+        return UserResponseDto.builder()
+                .id(id)
+                .nickname("입찰자" + id)
+                .build();
+    }
+}
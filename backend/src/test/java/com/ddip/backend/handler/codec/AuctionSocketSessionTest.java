@@ -0,0 +1,37 @@
+package com.ddip.backend.handler.codec;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AuctionSocketSessionTest {
+
+    @Test
+    void 입찰자는_세션당_한_번만_새로_등록된다() {
+        // given
+        AuctionSocketSession session = new AuctionSocketSession(mock(WebSocketSession.class), true);
+
+        // when & then
+        assertTrue(session.registerBidder(7L));
+        assertFalse(session.registerBidder(7L));
+        assertTrue(session.registerBidder(8L));
+    }
+
+    @Test
+    void 오래된_입찰자가_밀려나면_다시_등록된다() {
+        // given
+        AuctionSocketSession session = new AuctionSocketSession(mock(WebSocketSession.class), true);
+        session.registerBidder(1L);
+
+        // when : 상한(1,024명)을 넘겨 1번을 밀어낸다
+        for (long id = 2; id <= 1_025; id++) {
+            session.registerBidder(id);
+        }
+
+        // then
+        assertTrue(session.registerBidder(1L));
+        assertFalse(session.registerBidder(1_025L));
+    }
+}
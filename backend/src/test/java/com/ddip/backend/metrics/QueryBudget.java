@@ -0,0 +1,32 @@
+package com.ddip.backend.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행된 Hibernate SQL 수 상한. 클래스에 붙이면 모든 테스트에 적용된다.
+ * MockMvc 처럼 요청이 테스트 스레드에서 처리될 때 엔드포인트 하나의 예산을 검증하는 데 쓴다.
+ * <pre>
+ * &#64;QueryBudget(3)
+ * void 프로젝트_상세는_쿼리_3개_이내() { mockMvc.perform(get("/api/crowd/1")); }
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * 허용하는 최대 SQL 수
+     */
+    int value();
+
+    /**
+     * 같은 모양의 SQL 이 이 횟수 이상 반복되면 N+1 로 보고 실패. 0 이면 검사하지 않는다
+     */
+    int repeatThreshold() default 3;
+}
@@ -0,0 +1,79 @@
+package com.ddip.backend.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link QueryBudget} 검사기
+ * - 테스트 본문 전후로 StatementCounter 스코프를 열고 닫는다 (@BeforeEach 의 데이터 준비는 세지 않는다)
+ * - StatementCounter 는 테스트 인스턴스의 필드에서 먼저 찾고, 없으면 스프링 테스트 컨텍스트의 빈을 쓴다
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) throws Exception {
+        if (budgetOf(context) == null) {
+            return;
+        }
+        StatementCounter counter = counterOf(context);
+        context.getStore(NAMESPACE).put(StatementCounter.class, counter);
+        context.getStore(NAMESPACE).put(StatementCounter.Scope.class, counter.open("test:" + context.getDisplayName()));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryBudget budget = budgetOf(context);
+        StatementCounter.Scope scope = context.getStore(NAMESPACE).remove(StatementCounter.Scope.class, StatementCounter.Scope.class);
+        if (budget == null || scope == null) {
+            return;
+        }
+        context.getStore(NAMESPACE).remove(StatementCounter.class, StatementCounter.class).close(scope);
+
+        if (scope.getTotal() > budget.value()) {
+            throw new AssertionFailedError("SQL 예산 초과: " + scope.getTotal() + " > " + budget.value()
+                    + describe(scope.repeated(1)));
+        }
+        if (budget.repeatThreshold() > 0) {
+            Map<String, Integer> repeated = scope.repeated(budget.repeatThreshold());
+            if (!repeated.isEmpty()) {
+                throw new AssertionFailedError("N+1 의심: 같은 SQL 이 " + budget.repeatThreshold() + "번 이상 반복됨"
+                        + describe(repeated));
+            }
+        }
+    }
+
+    private static QueryBudget budgetOf(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElse(null);
+    }
+
+    private static StatementCounter counterOf(ExtensionContext context) throws IllegalAccessException {
+        Object instance = context.getRequiredTestInstance();
+        for (Class<?> type = instance.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (StatementCounter.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    return (StatementCounter) field.get(instance);
+                }
+            }
+        }
+        return SpringExtension.getApplicationContext(context).getBean(StatementCounter.class);
+    }
+
+    private static String describe(Map<String, Integer> shapes) {
+        return shapes.entrySet().stream()
+                .map(entry -> "\n  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,225 @@
+package com.ddip.backend.metrics;
+
+import com.ddip.backend.config.MetricsConfig;
+import com.ddip.backend.config.QuerydslConfig;
+import com.ddip.backend.controller.AuctionController;
+import com.ddip.backend.controller.CrowdFundingController;
+import com.ddip.backend.controller.UserApiController;
+import com.ddip.backend.security.auth.CustomUserDetailsService;
+import com.ddip.backend.security.auth.JwtTokenFilter;
+import com.ddip.backend.security.auth.JwtUtils;
+import com.ddip.backend.service.AuctionService;
+import com.ddip.backend.service.CrowdFundingService;
+import com.ddip.backend.service.SmsService;
+import com.ddip.backend.service.TokenBlackListService;
+import com.ddip.backend.service.UserService;
+import com.ddip.backend.service.auction.cluster.AuctionOwnership;
+import com.ddip.backend.service.auction.cluster.AuctionRouter;
+import com.ddip.backend.service.auction.index.AuctionListingIndex;
+import com.ddip.backend.service.auction.index.AuctionListingMirror;
+import com.ddip.backend.service.crowd.ProjectResponseCache;
+import com.ddip.backend.service.notification.NotificationCampaignService;
+import com.ddip.backend.service.recommend.ProjectRecommendationService;
+import com.ddip.backend.service.recommend.SimilarProjectIndex;
+import com.ddip.backend.service.user.EmailBloomFilter;
+import com.ddip.backend.service.user.UserProfileReadModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 수 예산 (RequestMetricsFilter 의 요청 스코프 기준)
+ * - 실제 컨트롤러/서비스/JwtTokenFilter 를 MockMvc 로 호출하고, QueryScopeReporter 가 받은 요청 스코프를 검사한다
+ * - 운영처럼 요청마다 트랜잭션이 새로 열리도록 테스트 트랜잭션을 쓰지 않으며, 데이터는 매 테스트 뒤 지운다
+ * - 2차 캐시와 Redis 사본은 비어 있는 것으로 두므로 캐시가 비었을 때의 최악 경로다
+ * - Docker 가 없으면 건너뛴다
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({QuerydslConfig.class, MetricsConfig.class, StatementCounter.class, QueryScopeReporter.class,
+        RequestMetricsFilter.class, SimpleMeterRegistry.class, CacheMetrics.class,
+        CustomUserDetailsService.class, JwtTokenFilter.class,
+        UserService.class, CrowdFundingService.class, AuctionService.class,
+        UserProfileReadModel.class, ProjectResponseCache.class, AuctionListingIndex.class,
+        UserApiController.class, CrowdFundingController.class, AuctionController.class})
+class RequestQueryBudgetTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final String TOKEN = "access-token";
+    private static final long USER_ID = 1L;
+    private static final long PROJECT_ID = 1L;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private RequestMetricsFilter requestMetricsFilter;
+    @Autowired private JwtTokenFilter jwtTokenFilter;
+    @Autowired private UserApiController userApiController;
+    @Autowired private CrowdFundingController crowdFundingController;
+    @Autowired private AuctionController auctionController;
+    @Autowired private AuctionListingIndex auctionListingIndex;
+
+    @MockitoSpyBean private QueryScopeReporter queryScopeReporter;
+
+    @MockitoBean private JwtUtils jwtUtils;
+    @MockitoBean private TokenBlackListService tokenBlackListService;
+    @MockitoBean private StringRedisTemplate redisTemplate;
+    @MockitoBean private AuctionListingMirror auctionListingMirror;
+    @MockitoBean private AuctionOwnership auctionOwnership;
+    @MockitoBean private AuctionRouter auctionRouter;
+    @MockitoBean private ProjectRecommendationService projectRecommendationService;
+    @MockitoBean private SimilarProjectIndex similarProjectIndex;
+    @MockitoBean private BCryptPasswordEncoder bCryptPasswordEncoder;
+    @MockitoBean private EmailBloomFilter emailBloomFilter;
+    @MockitoBean private SmsService smsService;
+    @MockitoBean private NotificationCampaignService notificationCampaignService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(userApiController, crowdFundingController, auctionController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .addFilters(requestMetricsFilter, jwtTokenFilter)
+                .build();
+
+        // 토큰 파싱은 SQL 과 무관하므로 고정값으로 두고, 사용자 조회는 실제 CustomUserDetailsService 로 한다
+        when(jwtUtils.extractUserEmail(TOKEN)).thenReturn("user1@ddip.com");
+        when(jwtUtils.isValidToken(TOKEN, "user1@ddip.com")).thenReturn(true);
+
+        // Redis 사본이 비어 있어 프로필은 DB 에서 적재된다
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        seed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        for (String table : new String[]{"bids", "auction", "pledge", "reward_tiers", "projects", "`user`"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void 내_프로필은_인증_사용자_조회와_프로필_적재로_끝난다() throws Exception {
+        // when
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("user1"));
+
+        // then : 필터의 회원 조회 1 + 회원 조회 1 + 활동 집계 1
+        assertRequestBudget("/api/users/me", 3);
+    }
+
+    @Test
+    void 프로젝트_상세는_버전_조회와_리워드_포함_본문_조회_한_번씩() throws Exception {
+        // when
+        mockMvc.perform(get("/api/crowd/{projectId}", PROJECT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(PROJECT_ID));
+
+        // then
+        assertRequestBudget("/api/crowd/{projectId}", 2);
+    }
+
+    @Test
+    void 경매_목록은_메모리_인덱스에서_SQL_없이_응답한다() throws Exception {
+        // given : 재적재는 스케줄러가 요청 밖에서 한다
+        auctionListingIndex.reload();
+
+        // when
+        mockMvc.perform(get("/api/auctions/ending-soon"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(5));
+
+        // then
+        assertRequestBudget("/api/auctions/ending-soon", 0);
+    }
+
+    private void assertRequestBudget(String uri, int budget) {
+        ArgumentCaptor<StatementCounter.Scope> captor = ArgumentCaptor.forClass(StatementCounter.Scope.class);
+        verify(queryScopeReporter).reportRequest(captor.capture(), eq("GET"), eq(uri));
+
+        StatementCounter.Scope scope = captor.getValue();
+        assertTrue(scope.getTotal() <= budget,
+                "SQL 예산 초과: " + scope.getTotal() + " > " + budget + " " + scope.repeated(1));
+        Map<String, Integer> repeated = scope.repeated(3);
+        assertTrue(repeated.isEmpty(), "N+1 의심: " + repeated);
+    }
+
+    private void seed() {
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO `user` (id, created_date, modified_date, email, password, name, provider, "
+                            + "nickname, phone_number, role, is_active) VALUES (?, NOW(), NOW(), ?, 'x', ?, 'local', ?, "
+                            + "'010-0000-0000', 'USER', 1)",
+                    id, "user" + id + "@ddip.com", "user" + id, "nick" + id);
+        }
+
+        jdbcTemplate.update("INSERT INTO projects (id, created_date, modified_date, creator_id, title, target_amount, "
+                + "current_amount, status, start_at, end_at, category_path, tags, summary) VALUES (?, NOW(), NOW(), ?, "
+                + "'project', 1000000, 30000, 'OPEN', NOW() - INTERVAL 1 DAY, NOW() + INTERVAL 30 DAY, "
+                + "'outdoor/camping', 'tent,light', 'summary')", PROJECT_ID, USER_ID);
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO reward_tiers (id, created_date, modified_date, project_id, title, price, "
+                    + "limit_quantity, sold_quantity) VALUES (?, NOW(), NOW(), ?, ?, 10000, 100, 1)", id, PROJECT_ID, "tier" + id);
+            jdbcTemplate.update("INSERT INTO pledge (id, created_date, modified_date, project_id, user_id, amount, status) "
+                    + "VALUES (?, NOW(), NOW(), ?, ?, 10000, 'CONFIRMED')", id, PROJECT_ID, id);
+        }
+
+        // 진행 중 경매 5개, 경매마다 입찰 4개
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO auction (id, created_date, modified_date, seller_id, title, start_price, "
+                    + "current_price, bid_step, status, start_at, end_at) VALUES (?, NOW(), NOW(), ?, ?, 1000, 1400, 100, "
+                    + "'RUNNING', NOW() - INTERVAL 1 HOUR, NOW() + INTERVAL ? MINUTE)", id, USER_ID, "auction" + id, id * 10);
+            for (long n = 1; n <= 4; n++) {
+                long bidId = id * 10 + n;
+                jdbcTemplate.update("INSERT INTO bids (id, created_date, modified_date, auction_id, bidder_id, amount, sequence) "
+                        + "VALUES (?, NOW(), NOW(), ?, ?, ?, ?)", bidId, id, 1 + n % 3, 1000 + n * 100, n);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ddip.backend.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCounterTest {
+
+    private final StatementCounter statementCounter = new StatementCounter();
+
+    @Test
+    void IN_목록_길이만_다른_SQL_은_같은_모양이다() {
+        // when
+        String one = StatementCounter.shapeOf("select * from pledge where id in (?)");
+        String three = StatementCounter.shapeOf("select *\n  from pledge where id in (?, ?,?)");
+
+        // then
+        assertEquals("select * from pledge where id in (?)", one);
+        assertEquals("select * from pledge where id in (?..)", three);
+    }
+
+    @Test
+    void 중첩_스코프는_바깥_스코프에도_함께_집계된다() {
+        // given
+        StatementCounter.Scope request = statementCounter.open("request");
+        statementCounter.inspect("select u from users u where u.email = ?");
+
+        // when
+        StatementCounter.Scope service = statementCounter.open("CrowdFundingService.getProject");
+        statementCounter.inspect("select p from projects p where p.id = ?");
+        statementCounter.close(service);
+        statementCounter.close(request);
+
+        // then
+        assertEquals(1, service.getTotal());
+        assertEquals(2, request.getTotal());
+    }
+
+    @Test
+    void 같은_모양이_반복되면_N_플러스_1_후보로_잡힌다() {
+        // given
+        StatementCounter.Scope scope = statementCounter.open("request");
+        statementCounter.inspect("select p from projects p");
+        for (int i = 0; i < 10; i++) {
+            statementCounter.inspect("select t from reward_tiers t where t.project_id = ?");
+        }
+        statementCounter.close(scope);
+
+        // when
+        Map<String, Integer> repeated = scope.repeated(5);
+
+        // then
+        assertEquals(Map.of("select t from reward_tiers t where t.project_id = ?", 10), repeated);
+    }
+
+    @Test
+    void 스코프_밖의_SQL_은_세지_않고_닫힌_뒤에도_남지_않는다() {
+        // given
+        StatementCounter.Scope outer = statementCounter.open("outer");
+        statementCounter.open("leaked");
+
+        // when
+        statementCounter.close(outer);
+        statementCounter.inspect("select 1");
+
+        // then
+        assertEquals(0, outer.getTotal());
+    }
+
+    @Test
+    @QueryBudget(value = 2, repeatThreshold = 2)
+    void 예산_안의_SQL_은_통과한다() {
+        statementCounter.inspect("select p from projects p where p.id = ?");
+        statementCounter.inspect("select t from reward_tiers t where t.project_id in (?, ?)");
+    }
+}
@@ -0,0 +1,138 @@
+package com.ddip.backend.repository;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 실행 계획 수집용 DataSource (테스트 전용)
+ * - capture 중에 실행되는 SELECT/UPDATE/DELETE 는 실행 직전에 같은 커넥션, 같은 바인딩 값으로 EXPLAIN 을 먼저 돌린다
+ * - Hibernate 와 JdbcTemplate 모두 PreparedStatement 로 실행하므로 둘 다 잡힌다
+ * - 같은 트랜잭션 안에서 돌기 때문에 EXPLAIN 이 실제 쿼리와 같은 데이터를 본다
+ */
+class ExplainingDataSource extends DelegatingDataSource {
+
+    private static final Pattern EXPLAINABLE = Pattern.compile("^\\s*(select|update|delete)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    private final List<Plan> plans = new CopyOnWriteArrayList<>();
+    private volatile boolean capturing;
+
+    ExplainingDataSource(DataSource target) {
+        super(target);
+    }
+
+    List<Plan> capture(Runnable action) {
+        plans.clear();
+        capturing = true;
+        try {
+            action.run();
+        } finally {
+            capturing = false;
+        }
+        return List.copyOf(plans);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                            && EXPLAINABLE.matcher((String) args[0]).find()) {
+                        return explaining(connection, statement, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement explaining(Connection connection, PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        bindings.add(new Binding(method, args));
+                    } else if (name.equals("clearParameters")) {
+                        bindings.clear();
+                    } else if (capturing && EXECUTE.contains(name) && (args == null || args.length == 0)) {
+                        plans.add(explain(connection, sql, bindings));
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Plan explain(Connection connection, String sql, List<Binding> bindings) throws Exception {
+        List<Row> rows = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Binding binding : bindings) {
+                binding.setter().invoke(explain, binding.args());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.add(new Row(resultSet.getString("table"), resultSet.getString("type"),
+                            resultSet.getString("key"), resultSet.getString("Extra")));
+                }
+            }
+        }
+        return new Plan(sql.strip(), rows);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record Binding(Method setter, Object[] args) {
+    }
+
+    record Plan(String sql, List<Row> rows) {
+
+        List<Row> fullScans() {
+            return rows.stream().filter(Row::isFullScan).toList();
+        }
+
+        @Override
+        public String toString() {
+            return sql + "\n" + rows.stream().map(Row::toString).collect(Collectors.joining("\n"));
+        }
+    }
+
+    record Row(String table, String type, String key, String extra) {
+
+        // ALL 은 테이블 전체, index 는 인덱스 전체를 읽는다. <derived2>, <subquery3> 같은 임시 테이블은 본 테이블 행에서 따로 판정된다
+        boolean isFullScan() {
+            return table != null && !table.startsWith("<") && ("ALL".equals(type) || "index".equals(type));
+        }
+
+        @Override
+        public String toString() {
+            return "  " + table + " type=" + type + " key=" + key + " extra=" + extra;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.ddip.backend.repository;
+
+import com.ddip.backend.config.QuerydslConfig;
+import com.ddip.backend.dto.enums.AuctionStatus;
+import com.ddip.backend.dto.enums.ProjectStatus;
+import com.ddip.backend.dto.enums.PurgeStage;
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.service.account.AccountPurgeBatchService;
+import com.ddip.backend.service.wishlist.WishlistCounters;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 리포지토리 쿼리가 인덱스를 타는지 EXPLAIN 으로 확인한다
+ * - Flyway 마이그레이션으로 만든 MySQL 스키마에 Hibernate validate 까지 통과해야 컨텍스트가 뜬다
+ * - 상태값 분포는 운영과 비슷하게 (모집/진행 중은 소수, 종료가 대부분) 깔고 ANALYZE 한 뒤 실제 바인딩 값으로 계획을 본다
+ * - 어느 테이블이든 type=ALL(테이블 전체) 이나 type=index(인덱스 전체) 가 나오면 실패
+ * - Docker 가 없으면 건너뛴다
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({QuerydslConfig.class, QueryPlanTest.ExplainConfig.class})
+class QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final int USERS = 5_000;
+    private static final int PROJECTS = 5_000;
+    private static final int AUCTIONS = 3_000;
+    private static final long USER_ID = 42L;
+    private static final long PROJECT_ID = 42L;
+    private static final long AUCTION_ID = 42L;
+    private static final long KEYSET_AFTER = 4_800L;
+
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManager entityManager;
+
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private PledgeRepository pledgeRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private AuctionRepository auctionRepository;
+    @Autowired private BidRepository bidRepository;
+    @Autowired private NotificationCampaignRepository notificationCampaignRepository;
+    @Autowired private SmsOutboxRepository smsOutboxRepository;
+    @Autowired private WishlistRepository wishlistRepository;
+    @Autowired private AccountPurgeJobRepository accountPurgeJobRepository;
+
+    // 컨텍스트와 컨테이너는 클래스 안에서 공유되므로 데이터도 한 번만 깐다
+    private static boolean seeded;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION cte_max_recursion_depth = 100000");
+                insert(statement, "`user`", USERS,
+                        "id, created_date, modified_date, email, password, name, provider, nickname, phone_number, role, is_active",
+                        "n, NOW(), NOW(), CONCAT('user', n, '@ddip.com'), 'x', CONCAT('user', n), 'local', CONCAT('nick', n), "
+                                + "'010-0000-0000', 'USER', 1");
+                // 모집 중 3%, 취소 2%, 나머지는 마감
+                insert(statement, "projects", PROJECTS,
+                        "id, created_date, modified_date, creator_id, title, target_amount, current_amount, status, start_at, end_at, "
+                                + "category_path, tags, summary",
+                        "n, NOW(), NOW(), 1 + n % " + USERS + ", CONCAT('project', n), 1000000, (n * 7919) % 1500000, "
+                                + "CASE WHEN n % 100 < 3 THEN 'OPEN' WHEN n % 100 < 5 THEN 'CANCELED' "
+                                + "WHEN n % 2 = 0 THEN 'SUCCESS' ELSE 'FAILED' END, "
+                                + "NOW() - INTERVAL 60 DAY, NOW() - INTERVAL 30 DAY + INTERVAL n % 60 DAY, 'outdoor/camping', 'tent,light', 'summary'");
+                insert(statement, "reward_tiers", PROJECTS * 2,
+                        "id, created_date, modified_date, project_id, title, price, limit_quantity, sold_quantity",
+                        "n, NOW(), NOW(), 1 + n % " + PROJECTS + ", CONCAT('tier', n), 10000 + n % 7 * 5000, 100, n % 100");
+                insert(statement, "pledge", 30_000,
+                        "id, created_date, modified_date, project_id, user_id, amount, status",
+                        "n, NOW(), NOW(), 1 + n % " + PROJECTS + ", 1 + (n * 7) % " + USERS + ", 10000, "
+                                + "IF(n % 10 = 0, 'CANCELED', 'CONFIRMED')");
+                // 진행 중 3%, 예정 1%, 취소 1%, 나머지는 종료
+                insert(statement, "auction", AUCTIONS,
+                        "id, created_date, modified_date, seller_id, title, start_price, current_price, bid_step, status, start_at, end_at",
+                        "n, NOW(), NOW(), 1 + n % " + USERS + ", CONCAT('auction', n), 1000, 1000, 100, "
+                                + "CASE WHEN n % 100 < 3 THEN 'RUNNING' WHEN n % 100 < 4 THEN 'SCHEDULED' "
+                                + "WHEN n % 100 < 5 THEN 'CANCELED' ELSE 'ENDED' END, "
+                                + "NOW() - INTERVAL 1 DAY, NOW() - INTERVAL 12 HOUR + INTERVAL n % 48 HOUR");
+                insert(statement, "bids", 30_000,
+                        "id, created_date, modified_date, auction_id, bidder_id, amount, sequence",
+                        "n, NOW() - INTERVAL n % 600 MINUTE, NOW(), 1 + n % " + AUCTIONS + ", 1 + (n * 13) % " + USERS + ", 1000 + n, n");
+                insert(statement, "wishlists", 10_000,
+                        "id, created_date, modified_date, user_id, target_type, target_id",
+                        "n, NOW(), NOW(), 1 + n % " + USERS + ", IF(n % 2 = 0, 'PROJECT', 'AUCTION'), n");
+                insert(statement, "wishlist_counters", 10_000,
+                        "id, target_type, target_id, wish_count",
+                        "n, IF(n % 2 = 0, 'PROJECT', 'AUCTION'), n, n % 50");
+                // 미완료 작업 1%
+                insert(statement, "notification_campaigns", 4_000,
+                        "id, created_date, modified_date, type, source_id, subject, channel, last_recipient_id, sent_count, "
+                                + "failed_count, attempts, lease_token, completed_at",
+                        "n, NOW(), NOW(), ELT(1 + n % 4, 'PROJECT_TARGET_REACHED', 'PROJECT_SUCCEEDED', 'PROJECT_FAILED', 'AUCTION_ENDED'), "
+                                + "n, 'subject', 'sms', 0, 0, 0, 0, CONCAT('lease-', n), IF(n % 100 = 0, NULL, NOW())");
+                // 발송 대기 1%
+                insert(statement, "sms_outbox", 10_000,
+                        "id, created_date, modified_date, provider, recipient, text, status, attempts, next_attempt_at, claim_token",
+                        "n, NOW(), NOW(), 'solapi', '01000000000', '', IF(n % 100 = 0, 'PENDING', 'SENT'), 1, "
+                                + "NOW() - INTERVAL 1 MINUTE, IF(n % 100 = 1, CONCAT('claim-', n % 1000), NULL)");
+                // 진행 중 탈퇴 정리 1%
+                insert(statement, "account_purge_jobs", USERS,
+                        "id, created_date, modified_date, user_id, stage, processed_rows, attempts, version",
+                        "n, NOW(), NOW(), n, IF(n % 100 = 0, 'PROJECTS', 'DONE'), 0, 0, 0");
+
+                statement.execute("ANALYZE TABLE `user`, projects, reward_tiers, pledge, auction, bids, wishlists, "
+                        + "wishlist_counters, notification_campaigns, sms_outbox, account_purge_jobs");
+            }
+            return null;
+        });
+        seeded = true;
+    }
+
+    @Test
+    void 프로젝트_쿼리는_인덱스를_탄다() {
+        List<ProjectStatus> open = List.of(ProjectStatus.OPEN);
+
+        assertAll(
+                indexed("findById", () -> projectRepository.findById(PROJECT_ID)),
+                indexed("findByIdForUpdate", () -> projectRepository.findByIdForUpdate(PROJECT_ID)),
+                indexed("findByIdWithRewardTiers", () -> projectRepository.findByIdWithRewardTiers(PROJECT_ID)),
+                indexed("findVersion", () -> projectRepository.findVersion(PROJECT_ID)),
+                indexed("findFeatureRowsAfter", () -> projectRepository.findFeatureRowsAfter(KEYSET_AFTER, open, now, PageRequest.of(0, 200))),
+                indexed("findTagRowsAfter", () -> projectRepository.findTagRowsAfter(KEYSET_AFTER, PageRequest.of(0, 200))),
+                indexed("findExpiredIds", () -> projectRepository.findExpiredIds(open, now, PageRequest.of(0, 100))),
+                indexed("findTargetReachedWithoutNotice", () -> projectRepository.findTargetReachedWithoutNotice(open, PageRequest.of(0, 100))),
+                indexed("findRecentPledgedProjects", () -> pledgeRepository.findRecentPledgedProjects(USER_ID, PageRequest.of(0, 20)))
+        );
+    }
+
+    @Test
+    void 회원_쿼리는_인덱스를_탄다() {
+        assertAll(
+                indexed("findByEmail", () -> userRepository.findByEmail("user42@ddip.com")),
+                indexed("findByEmailAndUsername", () -> userRepository.findByEmailAndUsername("user42@ddip.com", "user42")),
+                indexed("existsByEmail", () -> userRepository.existsByEmail("user42@ddip.com")),
+                indexed("countActivities", () -> userRepository.countActivities(USER_ID)),
+                indexed("findEmailsAfter", () -> userRepository.findEmailsAfter(KEYSET_AFTER, PageRequest.of(0, 200))),
+                indexed("findTargetsByUserId", () -> wishlistRepository.findTargetsByUserId(USER_ID)),
+                indexed("findCounts", () -> wishlistRepository.findCounts(WishlistTargetType.PROJECT, List.of(2L, 4L, 6L))),
+                indexed("deleteTarget", () -> wishlistRepository.deleteTarget(USER_ID, WishlistTargetType.PROJECT, 42L)),
+                indexed("findTop20ByStageNot", () -> accountPurgeJobRepository.findTop20ByStageNotAndAttemptsLessThanOrderByIdAsc(PurgeStage.DONE, 5))
+        );
+    }
+
+    @Test
+    void 경매_쿼리는_인덱스를_탄다() {
+        List<AuctionStatus> live = List.of(AuctionStatus.SCHEDULED, AuctionStatus.RUNNING);
+
+        assertAll(
+                indexed("findLive", () -> auctionRepository.findLive(now, live)),
+                indexed("findExpiredIds", () -> auctionRepository.findExpiredIds(now, live)),
+                indexed("raiseCurrentPrice", () -> auctionRepository.raiseCurrentPrice(AUCTION_ID, 5_000L)),
+                indexed("updateStatus", () -> auctionRepository.updateStatus(AUCTION_ID, live, AuctionStatus.ENDED)),
+                indexed("close", () -> auctionRepository.close(AUCTION_ID, live, AuctionStatus.ENDED,
+                        userRepository.getReferenceById(USER_ID), 5_000L)),
+                indexed("countByAuctionId", () -> bidRepository.countByAuctionId(AUCTION_ID)),
+                indexed("findTopByAuctionIdOrderByAmountDesc", () -> bidRepository.findTopByAuctionIdOrderByAmountDesc(AUCTION_ID)),
+                indexed("findLastSequence", () -> bidRepository.findLastSequence(AUCTION_ID)),
+                indexed("countBidsByAuction", () -> bidRepository.countBidsByAuction(List.of(1L, 2L, 3L), now.minusMinutes(10)))
+        );
+    }
+
+    @Test
+    void 알림_문자_쿼리는_인덱스를_탄다() {
+        assertAll(
+                indexed("findRunnableIds", () -> notificationCampaignRepository.findRunnableIds(5, now, PageRequest.of(0, 50))),
+                indexed("acquire", () -> notificationCampaignRepository.acquire(100L, "lease", now.plusMinutes(1), now)),
+                indexed("checkpoint", () -> notificationCampaignRepository.checkpoint(100L, "lease-100", 10L, 1L, 0L, now.plusMinutes(1))),
+                indexed("complete", () -> notificationCampaignRepository.complete(100L, "lease-100", now)),
+                indexed("fail", () -> notificationCampaignRepository.fail(100L, "lease-100", "error", now.plusMinutes(1))),
+                indexed("findBackersAfter", () -> notificationCampaignRepository.findBackersAfter(PROJECT_ID, 0L, PageRequest.of(0, 500))),
+                indexed("findBiddersAfter", () -> notificationCampaignRepository.findBiddersAfter(AUCTION_ID, 0L, PageRequest.of(0, 500))),
+                indexed("claim", () -> smsOutboxRepository.claim("solapi", "claim-test", now.plusMinutes(1), 50)),
+                indexed("findByClaimTokenOrderByIdAsc", () -> smsOutboxRepository.findByClaimTokenOrderByIdAsc("claim-1")),
+                indexed("markSent", () -> smsOutboxRepository.markSent(List.of(1L, 101L), "claim-1", now))
+        );
+    }
+
+    @Test
+    void 탈퇴_정리_쿼리는_인덱스를_탄다() {
+        // given: 서비스의 id 선택/벌크 쿼리를 그대로 쓰되 같은 트랜잭션에서 돌도록 프록시 없이 만든다
+        AccountPurgeBatchService purgeBatchService =
+                new AccountPurgeBatchService(accountPurgeJobRepository, entityManager,
+                        mock(WishlistCounters.class), mock(ApplicationEventPublisher.class));
+
+        // when / then: 한 회원의 작업을 ADDRESSES 부터 DONE 까지 모든 단계로 돌린다
+        // (p.project.creator.id, b.auction.seller.id 같은 조인 경로 선택 포함)
+        assertAll(indexed("AccountPurgeBatchService", () -> {
+            jdbcTemplate.update("UPDATE `user` SET deleted_at = NOW() WHERE id = ?", USER_ID);
+            jdbcTemplate.update("UPDATE account_purge_jobs SET stage = 'ADDRESSES' WHERE user_id = ?", USER_ID);
+            Long jobId = jdbcTemplate.queryForObject("SELECT id FROM account_purge_jobs WHERE user_id = ?", Long.class, USER_ID);
+
+            int batches = 0;
+            while (purgeBatchService.processNextBatch(jobId, 500)) {
+                assertTrue(++batches < PurgeStage.values().length * 2, "정리 작업이 끝나지 않는다");
+            }
+        }));
+    }
+
+    /**
+     * 쿼리를 롤백되는 트랜잭션 안에서 실행하며 나간 SQL 마다 계획을 검사한다
+     */
+    private Executable indexed(String label, Runnable query) {
+        return () -> {
+            List<ExplainingDataSource.Plan> plans = ((ExplainingDataSource) dataSource).capture(() ->
+                    transactionTemplate.executeWithoutResult(status -> {
+                        query.run();
+                        status.setRollbackOnly();
+                    }));
+
+            assertFalse(plans.isEmpty(), label + ": 실행된 SQL 이 없다");
+            for (ExplainingDataSource.Plan plan : plans) {
+                assertTrue(plan.fullScans().isEmpty(), () -> label + " 가 전체 스캔으로 떨어졌다\n" + plan);
+            }
+        };
+    }
+
+    private static void insert(Statement statement, String table, int rows, String columns, String values) throws SQLException {
+        statement.execute("INSERT INTO " + table + " (" + columns + ") "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + rows + ") "
+                + "SELECT " + values + " FROM seq");
+    }
+
+    @TestConfiguration
+    static class ExplainConfig {
+
+        @Bean
+        static BeanPostProcessor explainingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource target && !(bean instanceof ExplainingDataSource)
+                            ? new ExplainingDataSource(target) : bean;
+                }
+            };
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package com.ddip.backend.service;
 
+import com.ddip.backend.dto.crowd.ProjectChangedEvent;
 import com.ddip.backend.dto.crowd.ProjectRequestDto;
+import com.ddip.backend.dto.crowd.ProjectResponseDto;
+import com.ddip.backend.dto.enums.NotificationType;
+import com.ddip.backend.dto.enums.ProjectStatus;
+import com.ddip.backend.entity.Project;
 import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.ProjectRepository.ProjectVersion;
+import com.ddip.backend.service.notification.NotificationCampaignService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CrowdFundingServiceTest {
@@ -24,6 +37,15 @@ class CrowdFundingServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NotificationCampaignService notificationCampaignService;
+
+    @Mock
+    private EntityManager entityManager;
+
     @Test
     void 프로젝트_생성시_리워드가_없으면_예외() {
         // given
@@ -40,4 +62,69 @@ class CrowdFundingServiceTest {
                 () -> crowdFundingService.createProject(dto, 1L)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void 프로젝트_조회는_캐시된_모금액_대신_DB_모금액을_내려준다() {
+        // given
+        Project cached = Project.builder().id(1L).title("캠핑").targetAmount(10_000L).currentAmount(1_000L).status(ProjectStatus.OPEN).build();
+        when(projectRepository.findByIdWithRewardTiers(1L)).thenReturn(Optional.of(cached));
+        when(projectRepository.findVersion(1L)).thenReturn(Optional.of(version(null, 7_000L)));
+
+        // when
+        ProjectResponseDto response = crowdFundingService.getProject(1L);
+
+        // then
+        assertEquals(7_000L, response.getCurrentAmount());
+        assertEquals("캠핑", response.getTitle());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void 캐시된_프로젝트가_버전보다_오래됐으면_다시_읽는다() {
+        // given
+        Project cached = Project.builder().id(1L).title("캠핑").targetAmount(10_000L).currentAmount(1_000L).status(ProjectStatus.OPEN).build();
+        when(projectRepository.findByIdWithRewardTiers(1L)).thenReturn(Optional.of(cached));
+        ProjectVersion version = version(LocalDateTime.of(2025, 1, 1, 12, 0), 1_000L);
+
+        // when
+        crowdFundingService.getProject(1L, version);
+
+        // then
+        verify(entityManager).refresh(cached);
+    }
+
+    @Test
+    void 목표를_달성한_프로젝트를_마감하면_성공_알림_작업을_만든다() {
+        // given
+        Project project = Project.builder().id(1L).targetAmount(10_000L).currentAmount(12_000L).status(ProjectStatus.OPEN).build();
+        when(projectRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(project));
+
+        // when
+        crowdFundingService.closeProject(1L);
+
+        // then
+        assertEquals(ProjectStatus.SUCCESS, project.getStatus());
+        verify(notificationCampaignService).start(NotificationType.PROJECT_SUCCEEDED, 1L);
+        verify(eventPublisher).publishEvent(any(ProjectChangedEvent.class));
+    }
+
+    @Test
+    void 이미_마감된_프로젝트는_다시_닫지_않는다() {
+        // given
+        Project project = Project.builder().id(1L).targetAmount(10_000L).currentAmount(0L).status(ProjectStatus.FAILED).build();
+        when(projectRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(project));
+
+        // when
+        crowdFundingService.closeProject(1L);
+
+        // then
+        verifyNoInteractions(notificationCampaignService);
+    }
+
+    private ProjectVersion version(LocalDateTime modifiedDate, long currentAmount) {
+        ProjectVersion version = mock(ProjectVersion.class);
+        lenient().when(version.getModifiedDate()).thenReturn(modifiedDate);
+        lenient().when(version.getCurrentAmount()).thenReturn(currentAmount);
+        return version;
+    }
+}
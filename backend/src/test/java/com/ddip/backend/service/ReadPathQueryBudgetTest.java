@@ -0,0 +1,131 @@
+package com.ddip.backend.service;
+
+import com.ddip.backend.config.MetricsConfig;
+import com.ddip.backend.config.QuerydslConfig;
+import com.ddip.backend.dto.auction.AuctionListingDto;
+import com.ddip.backend.dto.crowd.ProjectResponseDto;
+import com.ddip.backend.dto.user.UserProfileDto;
+import com.ddip.backend.metrics.QueryBudget;
+import com.ddip.backend.metrics.StatementCounter;
+import com.ddip.backend.service.notification.NotificationCampaignService;
+import com.ddip.backend.service.user.EmailBloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주요 읽기 경로의 SQL 수 예산 (@QueryBudget)
+ * - 2차 캐시를 끈 상태에서 세므로 캐시가 비었을 때의 최악 경로다
+ * - 데이터는 JdbcTemplate 로 테스트 트랜잭션 안에 깔아 1차 캐시에 올라가지 않게 한다
+ * - Docker 가 없으면 건너뛴다
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({QuerydslConfig.class, MetricsConfig.class, StatementCounter.class,
+        UserService.class, CrowdFundingService.class, AuctionService.class})
+class ReadPathQueryBudgetTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final long USER_ID = 1L;
+    private static final long PROJECT_ID = 1L;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private StatementCounter statementCounter;
+
+    @Autowired private UserService userService;
+    @Autowired private CrowdFundingService crowdFundingService;
+    @Autowired private AuctionService auctionService;
+
+    @MockitoBean private BCryptPasswordEncoder bCryptPasswordEncoder;
+    @MockitoBean private EmailBloomFilter emailBloomFilter;
+    @MockitoBean private SmsService smsService;
+    @MockitoBean private NotificationCampaignService notificationCampaignService;
+
+    @BeforeEach
+    void seed() {
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO `user` (id, created_date, modified_date, email, password, name, provider, "
+                            + "nickname, phone_number, role, is_active) VALUES (?, NOW(), NOW(), ?, 'x', ?, 'local', ?, "
+                            + "'010-0000-0000', 'USER', 1)",
+                    id, "user" + id + "@ddip.com", "user" + id, "nick" + id);
+        }
+
+        jdbcTemplate.update("INSERT INTO projects (id, created_date, modified_date, creator_id, title, target_amount, "
+                + "current_amount, status, start_at, end_at, category_path, tags, summary) VALUES (?, NOW(), NOW(), ?, "
+                + "'project', 1000000, 30000, 'OPEN', NOW() - INTERVAL 1 DAY, NOW() + INTERVAL 30 DAY, "
+                + "'outdoor/camping', 'tent,light', 'summary')", PROJECT_ID, USER_ID);
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO reward_tiers (id, created_date, modified_date, project_id, title, price, "
+                    + "limit_quantity, sold_quantity) VALUES (?, NOW(), NOW(), ?, ?, 10000, 100, 1)", id, PROJECT_ID, "tier" + id);
+            jdbcTemplate.update("INSERT INTO pledge (id, created_date, modified_date, project_id, user_id, amount, status) "
+                    + "VALUES (?, NOW(), NOW(), ?, ?, 10000, 'CONFIRMED')", id, PROJECT_ID, id);
+        }
+
+        // 진행 중 경매 5개, 경매마다 입찰 4개
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO auction (id, created_date, modified_date, seller_id, title, start_price, "
+                    + "current_price, bid_step, status, start_at, end_at) VALUES (?, NOW(), NOW(), ?, ?, 1000, 1400, 100, "
+                    + "'RUNNING', NOW() - INTERVAL 1 HOUR, NOW() + INTERVAL ? MINUTE)", id, USER_ID, "auction" + id, id * 10);
+            for (long n = 1; n <= 4; n++) {
+                long bidId = id * 10 + n;
+                jdbcTemplate.update("INSERT INTO bids (id, created_date, modified_date, auction_id, bidder_id, amount, sequence) "
+                        + "VALUES (?, NOW(), NOW(), ?, ?, ?, ?)", bidId, id, 1 + n % 3, 1000 + n * 100, n);
+            }
+        }
+    }
+
+    @Test
+    @QueryBudget(2)
+    void 프로필_적재는_회원_조회와_활동_집계_한_번씩() {
+        // when
+        UserProfileDto profile = userService.loadProfile(USER_ID);
+
+        // then
+        assertEquals("user1", profile.getName());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void 프로젝트_상세는_버전_조회와_리워드_포함_본문_조회_한_번씩() {
+        // when
+        ProjectResponseDto project = crowdFundingService.getProject(PROJECT_ID);
+
+        // then
+        assertEquals(PROJECT_ID, project.getId());
+        assertEquals(30000L, project.getCurrentAmount());
+    }
+
+    @Test
+    @QueryBudget(2)
+    void 경매_목록_재구성은_경매_조회와_입찰_집계_한_번씩() {
+        // when
+        LocalDateTime now = LocalDateTime.now();
+        List<AuctionListingDto> listings = auctionService.findLiveListings(now, now.minusMinutes(10));
+
+        // then : 경매 수와 관계없이 SQL 수는 일정하다
+        assertEquals(5, listings.size());
+        assertTrue(listings.stream().allMatch(listing -> listing.getBidCount() == 4));
+    }
+}
@@ -0,0 +1,148 @@
+package com.ddip.backend.service;
+
+import com.ddip.backend.dto.enums.PurgeStage;
+import com.ddip.backend.dto.user.FindPasswordRequestDto;
+import com.ddip.backend.dto.user.UserChangedEvent;
+import com.ddip.backend.dto.user.UserRequestDto;
+import com.ddip.backend.entity.AccountPurgeJob;
+import com.ddip.backend.entity.User;
+import com.ddip.backend.repository.AccountPurgeJobRepository;
+import com.ddip.backend.repository.UserRepository;
+import com.ddip.backend.service.user.EmailBloomFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @InjectMocks
+    private UserService userService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    @Mock
+    private AccountPurgeJobRepository accountPurgeJobRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    @Mock
+    private SmsService smsService;
+
+    @Test
+    void 회원_삭제시_즉시_비활성화하고_정리_작업만_등록() {
+        // given
+        User user = User.builder().id(1L).email("user@ddip.com").password("encoded").isActive(true).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when
+        userService.deleteUser(1L);
+
+        // then
+        ArgumentCaptor<AccountPurgeJob> job = ArgumentCaptor.forClass(AccountPurgeJob.class);
+        verify(accountPurgeJobRepository).save(job.capture());
+        verify(userRepository, never()).delete(any());
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+        verify(emailBloomFilter).markStale();
+
+        assertTrue(user.isDeleted());
+        assertFalse(user.getIsActive());
+        assertNull(user.getEmail());
+        assertEquals(1L, job.getValue().getUserId());
+        assertEquals(PurgeStage.ADDRESSES, job.getValue().getStage());
+    }
+
+    @Test
+    void 이미_탈퇴한_회원은_다시_삭제할_수_없다() {
+        // given
+        User user = User.builder().id(1L).email("user@ddip.com").isActive(true).build();
+        user.markDeleted();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> userService.deleteUser(1L));
+        verify(accountPurgeJobRepository, never()).save(any());
+    }
+
+    @Test
+    void 필터가_없다고_답하면_이메일_중복_조회를_생략한다() {
+        // given
+        UserRequestDto request = UserRequestDto.builder().email("new@ddip.com").password("pw").build();
+        when(emailBloomFilter.mightContain("new@ddip.com")).thenReturn(false);
+        when(bCryptPasswordEncoder.encode("pw")).thenReturn("encoded");
+
+        // when
+        userService.createUser(request);
+
+        // then
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository).save(any(User.class));
+        verify(emailBloomFilter).put("new@ddip.com");
+    }
+
+    @Test
+    void 필터가_있을_수도_있다고_답하면_DB_로_중복을_확인한다() {
+        // given
+        UserRequestDto request = UserRequestDto.builder().email("dup@ddip.com").password("pw").build();
+        when(emailBloomFilter.mightContain("dup@ddip.com")).thenReturn(true);
+        when(userRepository.existsByEmail("dup@ddip.com")).thenReturn(true);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> userService.createUser(request));
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void 다른_노드에서_방금_가입한_이메일이_유니크_키에_걸리면_중복_이메일_오류로_바꾼다() {
+        // given
+        UserRequestDto request = UserRequestDto.builder().email("race@ddip.com").password("pw").build();
+        when(emailBloomFilter.mightContain("race@ddip.com")).thenReturn(false);
+        when(bCryptPasswordEncoder.encode("pw")).thenReturn("encoded");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // when
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> userService.createUser(request));
+
+        // then
+        assertEquals("이미 존재하는 이메일 입니다.", e.getMessage());
+        verify(emailBloomFilter, never()).put(any());
+    }
+
+    @Test
+    void 비밀번호_재설정은_문자를_보내지_않고_같은_트랜잭션에_적재만_한다() {
+        // given
+        FindPasswordRequestDto request = FindPasswordRequestDto.builder().email("user@ddip.com").username("user").build();
+        User user = User.builder().id(1L).email("user@ddip.com").password("old").phoneNumber("010-1234-5678").build();
+        when(userRepository.findByEmailAndUsername("user@ddip.com", "user")).thenReturn(Optional.of(user));
+
+        // when
+        userService.resetPassword(request, "temp1234");
+
+        // then
+        assertEquals("temp1234", user.getPassword());
+        verify(smsService).sendSms(argThat(dto -> "010-1234-5678".equals(dto.getPhoneNumber())), eq("temp1234"));
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+    }
+}
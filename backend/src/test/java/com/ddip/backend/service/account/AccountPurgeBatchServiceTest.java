@@ -0,0 +1,316 @@
+package com.ddip.backend.service.account;
+
+import com.ddip.backend.dto.crowd.ProjectChangedEvent;
+import com.ddip.backend.dto.enums.PurgeStage;
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.entity.AccountPurgeJob;
+import com.ddip.backend.repository.AccountPurgeJobRepository;
+import com.ddip.backend.service.wishlist.WishlistCounters;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountPurgeBatchServiceTest {
+
+    private static final Long JOB_ID = 1L;
+    private static final Long USER_ID = 42L;
+    private static final int BATCH_SIZE = 500;
+
+    @Mock
+    private AccountPurgeJobRepository accountPurgeJobRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private WishlistCounters wishlistCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TypedQuery<Long> idQuery;
+
+    @Mock
+    private TypedQuery<Object[]> rowQuery;
+
+    @Mock
+    private Query bulkQuery;
+
+    private AccountPurgeBatchService accountPurgeBatchService;
+
+    @BeforeEach
+    void setUp() {
+        accountPurgeBatchService = new AccountPurgeBatchService(accountPurgeJobRepository, entityManager, wishlistCounters, eventPublisher);
+    }
+
+    @Test
+    void 배치가_가득_차면_같은_단계에_머물고_처리_행수를_누적한다() {
+        // given
+        AccountPurgeJob job = job(PurgeStage.ADDRESSES, 100L);
+        selectIds(ids(BATCH_SIZE));
+        bulkUpdates(BATCH_SIZE);
+
+        // when
+        boolean more = accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+        // then
+        assertTrue(more);
+        assertEquals(PurgeStage.ADDRESSES, job.getStage());
+        assertEquals(600L, job.getProcessedRows());
+        verify(idQuery).setMaxResults(BATCH_SIZE);
+        verify(bulkQuery).setParameter("ids", ids(BATCH_SIZE));
+    }
+
+    @Test
+    void 배치가_덜_차면_다음_단계로_넘어간다() {
+        // given
+        AccountPurgeJob job = job(PurgeStage.BIDS, 0L);
+        selectIds(ids(3));
+        bulkUpdates(3);
+
+        // when
+        boolean more = accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+        // then : 입찰 기록은 지우지 않고 익명화한다
+        assertTrue(more);
+        assertEquals(PurgeStage.WON_AUCTIONS, job.getStage());
+        assertEquals(3L, job.getProcessedRows());
+        verify(entityManager).createQuery("update Bid b set b.bidder = null where b.id in :ids");
+    }
+
+    @Test
+    void 대상이_없으면_벌크_쿼리_없이_다음_단계로_넘어간다() {
+        // given
+        AccountPurgeJob job = job(PurgeStage.PLEDGES, 10L);
+        selectIds(List.of());
+
+        // when
+        accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+        // then
+        assertEquals(PurgeStage.PROJECT_PLEDGES, job.getStage());
+        assertEquals(10L, job.getProcessedRows());
+        verify(entityManager, never()).createQuery(anyString());
+    }
+
+    @Test
+    void 회원_행을_지우면_작업이_끝난다() {
+        // given
+        AccountPurgeJob job = job(PurgeStage.USER, 1_000L);
+        bulkUpdates(1);
+
+        // when
+        boolean more = accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+        // then
+        assertFalse(more);
+        assertTrue(job.isDone());
+        assertNotNull(job.getCompletedAt());
+        assertEquals(1_001L, job.getProcessedRows());
+        verify(bulkQuery).setParameter("userId", USER_ID);
+    }
+
+    @Test
+    void 끝난_작업은_아무것도_하지_않는다() {
+        // given
+        job(PurgeStage.DONE, 1_000L);
+
+        // when & then
+        assertFalse(accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE));
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void 실패는_시도_횟수를_늘리고_다음_성공이_초기화한다() {
+        // given
+        AccountPurgeJob job = job(PurgeStage.ADDRESSES, 0L);
+
+        // when
+        accountPurgeBatchService.recordFailure(JOB_ID, new IllegalStateException("lock wait timeout"));
+        accountPurgeBatchService.recordFailure(JOB_ID, new IllegalStateException("x".repeat(600)));
+
+        // then
+        assertEquals(2, job.getAttempts());
+        assertEquals(500, job.getLastError().length());
+
+        // when : 다음 배치가 성공하면 재시도 상태가 풀린다
+        selectIds(List.of());
+        accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+        // then
+        assertEquals(0, job.getAttempts());
+        assertNull(job.getLastError());
+    }
+
+    @Test
+    void 배치가_실패하면_체크포인트가_그대로이고_다음_호출이_같은_단계부터_이어간다() {
+        // given
+        AccountPurgeJob job = job(PurgeStage.PROJECTS, 2_000L);
+        selectIds(ids(BATCH_SIZE));
+        when(entityManager.createQuery(anyString())).thenReturn(bulkQuery);
+        when(bulkQuery.setParameter(anyString(), any())).thenReturn(bulkQuery);
+        when(bulkQuery.executeUpdate())
+                .thenThrow(new PersistenceException("deadlock"))
+                .thenReturn(BATCH_SIZE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            assertThrows(PersistenceException.class, () -> accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE));
+
+            // then
+            assertEquals(PurgeStage.PROJECTS, job.getStage());
+            assertEquals(2_000L, job.getProcessedRows());
+            verifyNoInteractions(eventPublisher);
+
+            // when
+            boolean more = accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+            // then
+            assertTrue(more);
+            assertEquals(PurgeStage.PROJECTS, job.getStage());
+            assertEquals(2_500L, job.getProcessedRows());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 프로젝트를_지우면_지운_id_마다_삭제_이벤트를_발행한다() {
+        // given
+        job(PurgeStage.PROJECTS, 0L);
+        selectIds(List.of(10L, 11L));
+        bulkUpdates(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+            // then : 벌크 delete 라 엔티티 이벤트가 없으므로 인덱스/캐시 정리용 이벤트를 직접 낸다
+            ArgumentCaptor<ProjectChangedEvent> events = ArgumentCaptor.forClass(ProjectChangedEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(events.capture());
+            assertEquals(List.of(10L, 11L), events.getAllValues().stream().map(ProjectChangedEvent::getProjectId).toList());
+            assertTrue(events.getAllValues().stream().allMatch(ProjectChangedEvent::isRemoved));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 경매를_지우면_그_경매를_가리키는_찜과_찜_수도_지운다() {
+        // given
+        AccountPurgeJob job = job(PurgeStage.AUCTIONS, 0L);
+        selectIds(List.of(20L, 21L));
+        bulkUpdates(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+            // then : 다른 회원의 찜까지 대상 기준으로 지우고, 처리 행 수는 경매 삭제 건수만 센다
+            assertEquals(PurgeStage.USER, job.getStage());
+            assertEquals(2L, job.getProcessedRows());
+            verify(entityManager).createQuery("delete from Wishlist w where w.targetType = :type and w.targetId in :ids");
+            verify(entityManager).createQuery("delete from WishlistCounter c where c.targetType = :type and c.targetId in :ids");
+            verify(entityManager).createQuery("delete from Auction a where a.id in :ids");
+            verify(bulkQuery, times(2)).setParameter("type", WishlistTargetType.AUCTION);
+            verifyNoInteractions(wishlistCounters);
+
+            // when : 커밋되면 이 노드의 미반영 증감분도 버린다
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            verify(wishlistCounters).discard(WishlistTargetType.AUCTION, List.of(20L, 21L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 찜_삭제분은_커밋된_뒤에만_찜_수에_반영한다() {
+        // given
+        AccountPurgeJob job = job(PurgeStage.WISHLISTS, 0L);
+        when(entityManager.createQuery(anyString(), eq(Object[].class))).thenReturn(rowQuery);
+        when(rowQuery.setParameter(anyString(), any())).thenReturn(rowQuery);
+        when(rowQuery.setMaxResults(anyInt())).thenReturn(rowQuery);
+        when(rowQuery.getResultList()).thenReturn(List.of(
+                new Object[]{7L, WishlistTargetType.PROJECT, 100L},
+                new Object[]{8L, WishlistTargetType.AUCTION, 200L}));
+        bulkUpdates(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE);
+
+            // then
+            assertEquals(PurgeStage.BIDS, job.getStage());
+            verifyNoInteractions(wishlistCounters);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(wishlistCounters).add(WishlistTargetType.PROJECT, 100L, -1L);
+            verify(wishlistCounters).add(WishlistTargetType.AUCTION, 200L, -1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 없는_작업이면_예외() {
+        // given
+        when(accountPurgeJobRepository.findById(JOB_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> accountPurgeBatchService.processNextBatch(JOB_ID, BATCH_SIZE));
+    }
+
+    private AccountPurgeJob job(PurgeStage stage, long processedRows) {
+        AccountPurgeJob job = AccountPurgeJob.builder()
+                .id(JOB_ID)
+                .userId(USER_ID)
+                .stage(stage)
+                .processedRows(processedRows)
+                .build();
+        when(accountPurgeJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        return job;
+    }
+
+    private void selectIds(List<Long> ids) {
+        when(entityManager.createQuery(anyString(), eq(Long.class))).thenReturn(idQuery);
+        when(idQuery.setParameter(anyString(), any())).thenReturn(idQuery);
+        when(idQuery.setMaxResults(anyInt())).thenReturn(idQuery);
+        when(idQuery.getResultList()).thenReturn(ids);
+    }
+
+    private void bulkUpdates(int affected) {
+        when(entityManager.createQuery(anyString())).thenReturn(bulkQuery);
+        when(bulkQuery.setParameter(anyString(), any())).thenReturn(bulkQuery);
+        when(bulkQuery.executeUpdate()).thenReturn(affected);
+    }
+
+    private static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.ddip.backend.service.account;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountPurgeJobRunnerTest {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 3;
+    private static final int MAX_ATTEMPTS = 5;
+
+    @InjectMocks
+    private AccountPurgeJobRunner accountPurgeJobRunner;
+
+    @Mock
+    private AccountPurgeBatchService accountPurgeBatchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accountPurgeJobRunner, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(accountPurgeJobRunner, "maxBatchesPerRun", MAX_BATCHES_PER_RUN);
+        ReflectionTestUtils.setField(accountPurgeJobRunner, "maxAttempts", MAX_ATTEMPTS);
+    }
+
+    @Test
+    void 작업이_끝날_때까지_배치를_반복한다() {
+        // given
+        when(accountPurgeBatchService.findRunnableJobIds(MAX_ATTEMPTS)).thenReturn(List.of(1L));
+        when(accountPurgeBatchService.processNextBatch(1L, BATCH_SIZE)).thenReturn(true, false);
+
+        // when
+        accountPurgeJobRunner.run();
+
+        // then
+        verify(accountPurgeBatchService, times(2)).processNextBatch(1L, BATCH_SIZE);
+        verify(accountPurgeBatchService, never()).recordFailure(anyLong(), any());
+    }
+
+    @Test
+    void 한_주기에_작업당_정해진_배치_수까지만_처리한다() {
+        // given
+        when(accountPurgeBatchService.findRunnableJobIds(MAX_ATTEMPTS)).thenReturn(List.of(1L, 2L));
+        when(accountPurgeBatchService.processNextBatch(anyLong(), eq(BATCH_SIZE))).thenReturn(true);
+
+        // when
+        accountPurgeJobRunner.run();
+
+        // then : 긴 작업 하나가 주기를 독차지하지 않는다
+        verify(accountPurgeBatchService, times(MAX_BATCHES_PER_RUN)).processNextBatch(1L, BATCH_SIZE);
+        verify(accountPurgeBatchService, times(MAX_BATCHES_PER_RUN)).processNextBatch(2L, BATCH_SIZE);
+    }
+
+    @Test
+    void 배치가_실패하면_실패를_기록하고_다음_작업으로_넘어간다() {
+        // given
+        IllegalStateException failure = new IllegalStateException("lock wait timeout");
+        when(accountPurgeBatchService.findRunnableJobIds(MAX_ATTEMPTS)).thenReturn(List.of(1L, 2L));
+        when(accountPurgeBatchService.processNextBatch(1L, BATCH_SIZE)).thenThrow(failure);
+        when(accountPurgeBatchService.processNextBatch(2L, BATCH_SIZE)).thenReturn(false);
+
+        // when
+        accountPurgeJobRunner.run();
+
+        // then
+        verify(accountPurgeBatchService, times(1)).processNextBatch(1L, BATCH_SIZE);
+        verify(accountPurgeBatchService).recordFailure(1L, failure);
+        verify(accountPurgeBatchService).processNextBatch(2L, BATCH_SIZE);
+    }
+
+    @Test
+    void 실패한_작업은_다음_주기에_다시_잡아_이어서_처리한다() {
+        // given
+        IllegalStateException failure = new IllegalStateException("deadlock");
+        when(accountPurgeBatchService.findRunnableJobIds(MAX_ATTEMPTS)).thenReturn(List.of(1L));
+        when(accountPurgeBatchService.processNextBatch(1L, BATCH_SIZE))
+                .thenThrow(failure)
+                .thenReturn(true, false);
+
+        // when
+        accountPurgeJobRunner.run();
+        accountPurgeJobRunner.run();
+
+        // then
+        verify(accountPurgeBatchService).recordFailure(1L, failure);
+        verify(accountPurgeBatchService, times(3)).processNextBatch(1L, BATCH_SIZE);
+        verify(accountPurgeBatchService, times(2)).findRunnableJobIds(MAX_ATTEMPTS);
+    }
+}
@@ -0,0 +1,215 @@
+package com.ddip.backend.service.auction;
+
+import com.ddip.backend.dto.auction.AuctionEndedEvent;
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.dto.auction.BidResultDto;
+import com.ddip.backend.dto.enums.AuctionEventType;
+import com.ddip.backend.dto.enums.AuctionStatus;
+import com.ddip.backend.dto.enums.BidFailureCode;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.ddip.backend.service.AuctionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * jcstress 방식의 경합 테스트
+ * - 매 회차 새 경매를 만들고, 일반 입찰자 / 즉시구매자 / 종료 타이머를 동시에 출발시킨다
+ * - 회차마다 결과가 허용된 결과(승자 하나, 종료 후 입찰 없음)인지 검사한다
+ */
+class AuctionCloseRaceTest {
+
+    private static final int ITERATIONS = 300;
+    private static final int BIDDERS = 4;
+    private static final long AUCTION_ID = 1L;
+    private static final long BUYOUT_PRICE = 1_000_000_000L;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(BIDDERS + 2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 즉시구매_마지막_입찰_종료_타이머가_겹쳐도_승자는_하나() throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            runIteration(i % 3 != 0);
+        }
+    }
+
+    private void runIteration(boolean withBuyout) throws Exception {
+        // given
+        FakeStorage storage = new FakeStorage();
+        List<AuctionEventDto> published = new CopyOnWriteArrayList<>();
+        AuctionEngine engine = newEngine(storage, published);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<BidResultDto>>> bidders = new ArrayList<>();
+
+        // when
+        for (int b = 0; b < BIDDERS; b++) {
+            UserResponseDto bidder = UserResponseDto.builder().id(100L + b).nickname("bidder" + b).build();
+            bidders.add(executor.submit(() -> {
+                start.await();
+                List<BidResultDto> results = new ArrayList<>();
+                while (true) {
+                    AuctionState state = storage.live.getState();
+                    BidResultDto result = engine.placeBid(AUCTION_ID, bidder, storage.live.minimumBid(state));
+                    results.add(result);
+                    if (!result.isAccepted() && result.getFailure().getCode() == BidFailureCode.AUCTION_ENDED) {
+                        return results;
+                    }
+                }
+            }));
+        }
+
+        Future<BidResultDto> buyer = executor.submit(() -> {
+            start.await();
+            if (!withBuyout) {
+                return null;
+            }
+            spin(ThreadLocalRandom.current().nextInt(3_000));
+            UserResponseDto bidder = UserResponseDto.builder().id(999L).nickname("buyer").build();
+            return engine.placeBid(AUCTION_ID, bidder, BUYOUT_PRICE);
+        });
+
+        Future<?> closer = executor.submit(() -> {
+            start.await();
+            while (!storage.live.getState().getStatus().isTerminal()) {
+                engine.close(AUCTION_ID);
+            }
+            return null;
+        });
+
+        start.countDown();
+        closer.get(5, TimeUnit.SECONDS);
+        BidResultDto buyout = buyer.get(5, TimeUnit.SECONDS);
+        long acceptedBids = 0;
+        for (Future<List<BidResultDto>> future : bidders) {
+            acceptedBids += future.get(5, TimeUnit.SECONDS).stream().filter(BidResultDto::isAccepted).count();
+        }
+        if (buyout != null && buyout.isAccepted()) {
+            acceptedBids++;
+        }
+
+        // then
+        List<AuctionEventDto> ended = published.stream()
+                .filter(event -> event.getType() == AuctionEventType.AUCTION_ENDED)
+                .toList();
+        assertEquals(1, ended.size(), "종료 이벤트는 정확히 한 번");
+        assertEquals(1, storage.closeCount.get(), "종료 기록은 정확히 한 번");
+
+        AuctionEventDto last = published.get(published.size() - 1);
+        assertSame(ended.get(0), last, "종료 이후 발행된 입찰이 없어야 한다");
+
+        List<AuctionEventDto> bids = published.subList(0, published.size() - 1);
+        assertEquals(acceptedBids, bids.size());
+        assertEquals(acceptedBids, storage.bidCount.get());
+        for (int i = 0; i < published.size(); i++) {
+            assertEquals(i + 1, published.get(i).getSequence());
+        }
+
+        AuctionEndedEvent result = (AuctionEndedEvent) last.getPayload();
+        AuctionState finalState = storage.live.getState();
+        assertEquals(AuctionStatus.ENDED, finalState.getStatus());
+        assertEquals(storage.winnerId, result.getWinnerId());
+        assertEquals(finalState.getHighestBidderId(), result.getWinnerId());
+        if (!bids.isEmpty()) {
+            BidPlacedEvent lastBid = (BidPlacedEvent) bids.get(bids.size() - 1).getPayload();
+            assertEquals(lastBid.getBidder().getId(), result.getWinnerId());
+            assertEquals(lastBid.getAmount(), result.getFinalPrice());
+        }
+        if (result.isBuyout()) {
+            assertEquals(999L, result.getWinnerId());
+            assertEquals(BUYOUT_PRICE, result.getFinalPrice());
+        }
+    }
+
+    private AuctionEngine newEngine(FakeStorage storage, List<AuctionEventDto> published) {
+        AuctionService auctionService = mock(AuctionService.class);
+        when(auctionService.loadLiveAuction(anyLong(), anyInt())).thenAnswer(invocation -> storage.live);
+        when(auctionService.recordBid(anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> storage.recordBid());
+        when(auctionService.recordBuyout(anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> storage.recordBuyout(invocation.getArgument(1)));
+        when(auctionService.recordClose(anyLong(), any(), anyLong()))
+                .thenAnswer(invocation -> storage.recordClose(invocation.getArgument(1)));
+
+        AuctionEngine engine = new AuctionEngine(auctionService, event -> published.add((AuctionEventDto) event));
+        ReflectionTestUtils.setField(engine, "eventBufferSize", 64);
+        return engine;
+    }
+
+    private static void spin(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 조건부 update 를 흉내 내는 저장소. 종료가 두 번 기록되면 closeCount 로 드러난다.
+     */
+    private static class FakeStorage {
+
+        private final LiveAuction live = LiveAuction.builder()
+                .auctionId(AUCTION_ID)
+                .startPrice(1_000L)
+                .currentPrice(1_000L)
+                .bidStep(100L)
+                .buyoutPrice(BUYOUT_PRICE)
+                .endAt(LocalDateTime.now().plusNanos(TimeUnit.MICROSECONDS.toNanos(ThreadLocalRandom.current().nextInt(200, 2_000))))
+                .status(AuctionStatus.RUNNING)
+                .bufferSize(64)
+                .build();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicInteger closeCount = new AtomicInteger();
+        private final AtomicLong bidCount = new AtomicLong();
+        private volatile Long winnerId;
+
+        Long recordBid() {
+            assertFalse(closed.get(), "종료 기록 이후 입찰이 기록됨");
+            return bidCount.incrementAndGet();
+        }
+
+        Long recordBuyout(Long bidderId) {
+            Long bidId = recordBid();
+            if (!recordClose(bidderId)) {
+                throw new IllegalStateException("already closed");
+            }
+            return bidId;
+        }
+
+        boolean recordClose(Long bidderId) {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            winnerId = bidderId;
+            closeCount.incrementAndGet();
+            return true;
+        }
+    }
+}
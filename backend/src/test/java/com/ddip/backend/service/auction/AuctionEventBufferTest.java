@@ -0,0 +1,70 @@
+package com.ddip.backend.service.auction;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.enums.AuctionEventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionEventBufferTest {
+
+    @Test
+    void 버퍼_범위_안이면_누락된_이벤트만_반환() {
+        // given
+        AuctionEventBuffer buffer = new AuctionEventBuffer(4, 0);
+        for (long sequence = 1; sequence <= 3; sequence++) {
+            buffer.append(event(sequence));
+        }
+
+        // when
+        List<AuctionEventDto> missing = buffer.since(1);
+
+        // then
+        assertEquals(2, missing.size());
+        assertEquals(2, missing.get(0).getSequence());
+        assertEquals(3, missing.get(1).getSequence());
+        assertTrue(buffer.since(3).isEmpty());
+    }
+
+    @Test
+    void 버퍼에서_밀려난_구간이면_null() {
+        // given
+        AuctionEventBuffer buffer = new AuctionEventBuffer(4, 0);
+        for (long sequence = 1; sequence <= 10; sequence++) {
+            buffer.append(event(sequence));
+        }
+
+        // when & then
+        assertEquals(7, buffer.oldestSequence());
+        assertNull(buffer.since(5));
+        assertEquals(4, buffer.since(6).size());
+    }
+
+    @Test
+    void 재시작_이후_이전_순번은_스냅샷_대상() {
+        // given : DB 에서 마지막 순번 20 으로 복구
+        AuctionEventBuffer buffer = new AuctionEventBuffer(4, 20);
+        buffer.append(event(21));
+
+        // when & then
+        assertNull(buffer.since(19));
+        assertEquals(1, buffer.since(20).size());
+    }
+
+    @Test
+    void 순번이_건너뛰면_예외() {
+        AuctionEventBuffer buffer = new AuctionEventBuffer(4, 0);
+
+        assertThrows(IllegalStateException.class, () -> buffer.append(event(2)));
+    }
+
+    private AuctionEventDto event(long sequence) {
+        return AuctionEventDto.builder()
+                .auctionId(1L)
+                .sequence(sequence)
+                .type(AuctionEventType.BID_PLACED)
+                .build();
+    }
+}
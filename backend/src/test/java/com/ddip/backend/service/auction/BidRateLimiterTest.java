@@ -0,0 +1,97 @@
+package com.ddip.backend.service.auction;
+
+import com.ddip.backend.dto.auction.BidFailedEvent;
+import com.ddip.backend.dto.enums.BidFailureCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidRateLimiterTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final long AUCTION_ID = 10L;
+    private static final long OTHER_AUCTION_ID = 20L;
+
+    @Mock
+    private ClusterBidBudget clusterBidBudget;
+
+    private BidRateLimiter bidRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 도중 충전되지 않도록 refill 은 0
+        bidRateLimiter = new BidRateLimiter(clusterBidBudget);
+        ReflectionTestUtils.setField(bidRateLimiter, "burst", 2L);
+        ReflectionTestUtils.setField(bidRateLimiter, "refillPerSecond", 0L);
+        ReflectionTestUtils.setField(bidRateLimiter, "idleEvictionMs", 300_000L);
+        bidRateLimiter.init();
+    }
+
+    @Test
+    void 같은_사용자_같은_경매는_burst_이후_거절() {
+        // when
+        BidFailedEvent first = bidRateLimiter.tryAcquire(USER_ID, AUCTION_ID);
+        BidFailedEvent second = bidRateLimiter.tryAcquire(USER_ID, AUCTION_ID);
+        BidFailedEvent third = bidRateLimiter.tryAcquire(USER_ID, AUCTION_ID);
+
+        // then
+        assertNull(first);
+        assertNull(second);
+        assertNotNull(third);
+        assertEquals(BidFailureCode.INVALID_BID, third.getCode());
+        verify(clusterBidBudget, times(2)).record(USER_ID);
+    }
+
+    @Test
+    void 버킷은_사용자와_경매_조합마다_따로다() {
+        // given : (USER, AUCTION) 버킷을 모두 소진
+        bidRateLimiter.tryAcquire(USER_ID, AUCTION_ID);
+        bidRateLimiter.tryAcquire(USER_ID, AUCTION_ID);
+        assertNotNull(bidRateLimiter.tryAcquire(USER_ID, AUCTION_ID));
+
+        // when & then : 같은 사용자의 다른 경매, 같은 경매의 다른 사용자는 영향이 없다
+        assertNull(bidRateLimiter.tryAcquire(USER_ID, OTHER_AUCTION_ID));
+        assertNull(bidRateLimiter.tryAcquire(OTHER_USER_ID, AUCTION_ID));
+    }
+
+    @Test
+    void 클러스터_한도를_넘긴_사용자는_버킷과_무관하게_거절() {
+        // given
+        when(clusterBidBudget.isThrottled(eq(USER_ID), anyLong())).thenReturn(true);
+
+        // when
+        BidFailedEvent result = bidRateLimiter.tryAcquire(USER_ID, AUCTION_ID);
+
+        // then
+        assertNotNull(result);
+        assertEquals(BidFailureCode.INVALID_BID, result.getCode());
+        verify(clusterBidBudget, never()).record(anyLong());
+    }
+
+    @Test
+    void 식별자가_없으면_제한하지_않는다() {
+        assertNull(bidRateLimiter.tryAcquire(null, AUCTION_ID));
+        assertNull(bidRateLimiter.tryAcquire(USER_ID, null));
+        verifyNoInteractions(clusterBidBudget);
+    }
+
+    @Test
+    void burst_가_범위를_벗어나면_기동_실패() {
+        // given
+        BidRateLimiter limiter = new BidRateLimiter(clusterBidBudget);
+        ReflectionTestUtils.setField(limiter, "burst", 0L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, limiter::init);
+    }
+}
@@ -0,0 +1,152 @@
+package com.ddip.backend.service.auction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterBidBudgetTest {
+
+    private static final long USER_ID = 1L;
+    private static final long WINDOW_MS = 60_000L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ClusterBidBudget clusterBidBudget;
+
+    @BeforeEach
+    void setUp() {
+        clusterBidBudget = new ClusterBidBudget(redisTemplate);
+        ReflectionTestUtils.setField(clusterBidBudget, "budgetPerWindow", 10L);
+        ReflectionTestUtils.setField(clusterBidBudget, "windowMs", WINDOW_MS);
+    }
+
+    @Test
+    void 모아둔_입찰_수를_한_번에_합산한다() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.increment(anyString(), eq("1"), eq(3L))).thenReturn(3L);
+        for (int i = 0; i < 3; i++) {
+            clusterBidBudget.record(USER_ID);
+        }
+
+        // when
+        clusterBidBudget.reconcile();
+        clusterBidBudget.reconcile();
+
+        // then : 두 번째 동기화에는 보낼 몫이 없다
+        verify(hashOperations, times(1)).increment(startsWith("auction:bid-budget:"), eq("1"), eq(3L));
+        verify(redisTemplate).expire(startsWith("auction:bid-budget:"), eq(Duration.ofMillis(WINDOW_MS * 2)));
+        assertFalse(clusterBidBudget.isThrottled(USER_ID, System.currentTimeMillis()));
+    }
+
+    @Test
+    void 합계가_한도를_넘으면_윈도우_끝까지_제한() {
+        // given : 다른 노드 몫까지 합쳐 11
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.increment(anyString(), eq("1"), eq(1L))).thenReturn(11L);
+        clusterBidBudget.record(USER_ID);
+
+        // when
+        long before = System.currentTimeMillis();
+        clusterBidBudget.reconcile();
+
+        // then
+        long windowEnd = (before / WINDOW_MS + 1) * WINDOW_MS;
+        assertTrue(clusterBidBudget.isThrottled(USER_ID, before));
+        assertFalse(clusterBidBudget.isThrottled(USER_ID, windowEnd + WINDOW_MS));
+        assertFalse(clusterBidBudget.isThrottled(2L, before));
+    }
+
+    @Test
+    void 한도가_0이면_기록도_동기화도_하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(clusterBidBudget, "budgetPerWindow", 0L);
+        clusterBidBudget.record(USER_ID);
+
+        // when
+        clusterBidBudget.reconcile();
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void Redis_장애로_못_보낸_몫은_다음_동기화에_보낸다() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.increment(anyString(), eq("1"), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(3L);
+        clusterBidBudget.record(USER_ID);
+        clusterBidBudget.record(USER_ID);
+
+        // when : 장애 중에 한 건 더 들어온다
+        clusterBidBudget.reconcile();
+        clusterBidBudget.record(USER_ID);
+        clusterBidBudget.reconcile();
+
+        // then
+        verify(hashOperations).increment(anyString(), eq("1"), eq(2L));
+        verify(hashOperations).increment(anyString(), eq("1"), eq(3L));
+    }
+
+    @Test
+    void 동기화_중에_기록된_입찰도_빠짐없이_합산된다() throws InterruptedException {
+        // given
+        AtomicLong sent = new AtomicLong();
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.increment(anyString(), anyString(), anyLong()))
+                .thenAnswer(invocation -> {
+                    sent.addAndGet(invocation.getArgument(2, Long.class));
+                    return 0L;
+                });
+
+        int threads = 8;
+        int recordsPerThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            long userId = t % 2;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < recordsPerThread; i++) {
+                    clusterBidBudget.record(userId);
+                }
+                return null;
+            });
+        }
+
+        // when : 기록하는 동안 계속 동기화한다
+        start.countDown();
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            clusterBidBudget.reconcile();
+        }
+        clusterBidBudget.reconcile();
+
+        // then
+        assertEquals((long) threads * recordsPerThread, sent.get());
+    }
+}
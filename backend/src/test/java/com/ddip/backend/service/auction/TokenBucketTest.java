@@ -0,0 +1,109 @@
+package com.ddip.backend.service.auction;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    void 용량만큼_통과한_뒤_거절() {
+        // given
+        TokenBucket bucket = new TokenBucket(3, 1_000);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(bucket.tryAcquire(1_000, 3, 2));
+        }
+        assertFalse(bucket.tryAcquire(1_000, 3, 2));
+    }
+
+    @Test
+    void 경과_시간만큼_충전된다() {
+        // given : 초당 2 토큰 = 500ms 당 1 토큰
+        TokenBucket bucket = new TokenBucket(1, 1_000);
+        assertTrue(bucket.tryAcquire(1_000, 1, 2));
+
+        // when & then
+        assertFalse(bucket.tryAcquire(1_499, 1, 2));
+        assertTrue(bucket.tryAcquire(1_500, 1, 2));
+    }
+
+    @Test
+    void 거절도_충전분을_이어간다() {
+        // given
+        TokenBucket bucket = new TokenBucket(1, 1_000);
+        assertTrue(bucket.tryAcquire(1_000, 1, 2));
+
+        // when : 250ms 에 거절되면서 0.5 토큰을 기록하고, 이후 250ms 가 더 지나면 1 토큰
+        assertFalse(bucket.tryAcquire(1_250, 1, 2));
+
+        // then
+        assertEquals(1_250, bucket.lastAccessMs());
+        assertTrue(bucket.tryAcquire(1_500, 1, 2));
+    }
+
+    @Test
+    void 오래_쉬어도_용량을_넘겨_충전되지_않는다() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 1_000);
+        assertTrue(bucket.tryAcquire(1_000, 2, 2));
+        assertTrue(bucket.tryAcquire(1_000, 2, 2));
+
+        // when : 한 시간 뒤
+        long later = 1_000 + 3_600_000;
+
+        // then
+        assertTrue(bucket.tryAcquire(later, 2, 2));
+        assertTrue(bucket.tryAcquire(later, 2, 2));
+        assertFalse(bucket.tryAcquire(later, 2, 2));
+    }
+
+    @Test
+    void 시계가_뒤로_가도_토큰이_늘지_않는다() {
+        // given
+        TokenBucket bucket = new TokenBucket(1, 2_000);
+        assertTrue(bucket.tryAcquire(2_000, 1, 2));
+
+        // when & then
+        assertFalse(bucket.tryAcquire(1_000, 1, 2));
+        assertEquals(2_000, bucket.lastAccessMs());
+    }
+
+    @Test
+    void 동시_요청에서도_용량_이상_통과하지_않는다() throws InterruptedException {
+        // given : 충전 없이 용량 100 을 32 스레드가 나눠 가진다
+        int capacity = 100;
+        int threads = 32;
+        int attemptsPerThread = 50;
+        TokenBucket bucket = new TokenBucket(capacity, 1_000);
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (bucket.tryAcquire(1_000, capacity, 0)) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(capacity, acquired.get());
+    }
+}
@@ -0,0 +1,261 @@
+package com.ddip.backend.service.auction.cluster;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.BidResultDto;
+import com.ddip.backend.dto.user.UserResponseDto;
+import com.ddip.backend.service.AuctionService;
+import com.ddip.backend.service.auction.AuctionEngine;
+import com.ddip.backend.service.auction.BidRateLimiter;
+import com.ddip.backend.service.auction.LiveAuction;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 한 JVM 안에서 여러 노드를 띄워 담당 노드 결정 / 전달 / 인계를 검증
+ */
+class AuctionClusterTest {
+
+    private static final UserResponseDto BIDDER = UserResponseDto.builder().id(7L).nickname("입찰자").build();
+
+    private final Set<String> liveNodes = ConcurrentHashMap.newKeySet();
+    private final Map<String, Function<AuctionCommand, AuctionCommandReply>> commandHandlers = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<AuctionEventDto>> eventHandlers = new ConcurrentHashMap<>();
+    private final FakeAuctionStore store = new FakeAuctionStore();
+
+    @Test
+    void 노드가_추가되면_새_노드_구간의_경매만_이동() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d"), 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // when & then
+        for (long auctionId = 1; auctionId <= 30_000; auctionId++) {
+            String owner = before.ownerOf(auctionId);
+            String newOwner = after.ownerOf(auctionId);
+            counts.merge(owner, 1, Integer::sum);
+
+            if (!owner.equals(newOwner)) {
+                assertEquals("d", newOwner);
+            }
+        }
+        counts.values().forEach(count -> assertTrue(count > 6_000 && count < 14_000, counts.toString()));
+    }
+
+    @Test
+    void 어느_노드로_들어온_입찰이든_담당_노드에서만_처리() {
+        // given
+        List<Node> nodes = List.of(new Node("a"), new Node("b"), new Node("c"));
+        nodes.forEach(Node::refresh);
+
+        // when
+        for (long auctionId = 1; auctionId <= 30; auctionId++) {
+            for (int i = 0; i < nodes.size(); i++) {
+                BidResultDto result = nodes.get(i).router.placeBid(auctionId, BIDDER, 1_000L + i * 100);
+                assertTrue(result.isAccepted());
+            }
+        }
+
+        // then
+        for (long auctionId = 1; auctionId <= 30; auctionId++) {
+            String owner = nodes.get(0).ownership.ownerOf(auctionId);
+            assertEquals(List.of(owner, owner, owner), store.recordedBy(auctionId));
+            assertEquals(3, store.lastSequence(auctionId));
+        }
+        // 모든 노드가 모든 이벤트를 받는다 (로컬 발행 + 다른 노드 전파)
+        nodes.forEach(node -> assertEquals(90, node.received.size()));
+    }
+
+    @Test
+    void 담당_노드가_빠지면_다른_노드가_이어받아_순번을_이어간다() {
+        // given
+        List<Node> nodes = new ArrayList<>(List.of(new Node("a"), new Node("b"), new Node("c")));
+        nodes.forEach(Node::refresh);
+        long auctionId = 42L;
+        nodes.get(0).router.placeBid(auctionId, BIDDER, 1_000L);
+        nodes.get(1).router.placeBid(auctionId, BIDDER, 1_100L);
+
+        // when : 담당 노드 이탈
+        Node leaving = nodes.stream().filter(node -> node.ownership.isLocal(auctionId)).findFirst().orElseThrow();
+        leaving.leave();
+        nodes.remove(leaving);
+        nodes.forEach(Node::refresh);
+
+        BidResultDto result = nodes.get(0).router.placeBid(auctionId, BIDDER, 1_200L);
+
+        // then
+        assertTrue(result.isAccepted());
+        assertEquals(3, result.getEvent().getSequence());
+        assertNotEquals(leaving.id, store.recordedBy(auctionId).get(2));
+    }
+
+    private class Node {
+
+        private final String id;
+        private final AuctionService auctionService = mock(AuctionService.class);
+        private final List<AuctionEventDto> received = new CopyOnWriteArrayList<>();
+        private final AuctionOwnership ownership;
+        private final AuctionRouter router;
+
+        private Node(String id) {
+            this.id = id;
+            liveNodes.add(id);
+
+            when(auctionService.loadLiveAuction(anyLong(), anyInt()))
+                    .thenAnswer(invocation -> store.load(invocation.getArgument(0)));
+            when(auctionService.recordBid(anyLong(), anyLong(), anyLong(), anyLong()))
+                    .thenAnswer(invocation -> store.record(id, invocation.getArgument(0), invocation.getArgument(2), invocation.getArgument(3)));
+
+            Holder<AuctionRouter> routerHolder = new Holder<>();
+            AuctionEngine engine = new AuctionEngine(auctionService, event -> {
+                received.add((AuctionEventDto) event);
+                routerHolder.value.onLocalEvent((AuctionEventDto) event);
+            });
+            ReflectionTestUtils.setField(engine, "eventBufferSize", 16);
+
+            ownership = new AuctionOwnership(new InMemoryMembership(id), engine);
+            ReflectionTestUtils.setField(ownership, "virtualNodes", 64);
+            ownership.init();
+
+            router = new AuctionRouter(engine, ownership, new InMemoryTransport(id),
+                    event -> received.add((AuctionEventDto) event), mock(BidRateLimiter.class));
+            ReflectionTestUtils.setField(router, "forwardTimeoutMs", 1_000L);
+            router.init();
+            routerHolder.value = router;
+        }
+
+        private void refresh() {
+            ownership.refresh();
+        }
+
+        private void leave() {
+            liveNodes.remove(id);
+            commandHandlers.remove(id);
+            eventHandlers.remove(id);
+        }
+    }
+
+    private class InMemoryMembership implements AuctionClusterMembership {
+
+        private final String id;
+
+        private InMemoryMembership(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getLocalNodeId() {
+            return id;
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public List<String> getLiveNodes() {
+            return new ArrayList<>(liveNodes);
+        }
+    }
+
+    private class InMemoryTransport implements AuctionClusterTransport {
+
+        private final String id;
+
+        private InMemoryTransport(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public CompletableFuture<AuctionCommandReply> send(String nodeId, AuctionCommand command) {
+            Function<AuctionCommand, AuctionCommandReply> handler = commandHandlers.get(nodeId);
+            if (handler == null) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Unknown node: " + nodeId));
+            }
+            return CompletableFuture.completedFuture(handler.apply(command.forwardedFrom(id)));
+        }
+
+        @Override
+        public void publishEvent(AuctionEventDto event) {
+            eventHandlers.forEach((nodeId, handler) -> {
+                if (!nodeId.equals(id)) {
+                    handler.accept(event);
+                }
+            });
+        }
+
+        @Override
+        public void onCommand(Function<AuctionCommand, AuctionCommandReply> handler) {
+            commandHandlers.put(id, handler);
+        }
+
+        @Override
+        public void onEvent(Consumer<AuctionEventDto> handler) {
+            eventHandlers.put(id, handler);
+        }
+    }
+
+    /**
+     * 노드들이 공유하는 DB 역할 : (경매, 순번) 중복 기록을 거부한다
+     */
+    private static class FakeAuctionStore {
+
+        private final Map<Long, List<String>> recorders = new LinkedHashMap<>();
+        private final Map<Long, Long> prices = new HashMap<>();
+
+        synchronized LiveAuction load(Long auctionId) {
+            long lastSequence = lastSequence(auctionId);
+            long price = prices.getOrDefault(auctionId, 1_000L);
+            return LiveAuction.builder()
+                    .auctionId(auctionId)
+                    .startPrice(1_000L)
+                    .currentPrice(price)
+                    .bidStep(100L)
+                    .highestBidderId(lastSequence == 0 ? null : 7L)
+                    .bidCount(lastSequence)
+                    .lastSequence(lastSequence)
+                    .bufferSize(16)
+                    .build();
+        }
+
+        synchronized Long record(String nodeId, Long auctionId, long amount, long sequence) {
+            if (sequence != lastSequence(auctionId) + 1) {
+                throw new DataIntegrityViolationException("duplicate sequence " + sequence);
+            }
+            recorders.computeIfAbsent(auctionId, id -> new ArrayList<>()).add(nodeId);
+            prices.put(auctionId, amount);
+            return auctionId * 1_000 + sequence;
+        }
+
+        synchronized long lastSequence(Long auctionId) {
+            return recorders.getOrDefault(auctionId, List.of()).size();
+        }
+
+        synchronized List<String> recordedBy(Long auctionId) {
+            return List.copyOf(recorders.getOrDefault(auctionId, List.of()));
+        }
+    }
+
+    private static class Holder<T> {
+        private T value;
+    }
+}
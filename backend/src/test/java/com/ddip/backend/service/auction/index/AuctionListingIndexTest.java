@@ -0,0 +1,235 @@
+package com.ddip.backend.service.auction.index;
+
+import com.ddip.backend.dto.auction.AuctionEventDto;
+import com.ddip.backend.dto.auction.AuctionListingDto;
+import com.ddip.backend.dto.auction.AuctionListingPageDto;
+import com.ddip.backend.dto.auction.BidPlacedEvent;
+import com.ddip.backend.dto.enums.AuctionEventType;
+import com.ddip.backend.service.AuctionService;
+import com.ddip.backend.service.auction.cluster.AuctionOwnership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionListingIndexTest {
+
+    @Mock
+    private AuctionService auctionService;
+
+    @Mock
+    private AuctionListingMirror mirror;
+
+    @Mock
+    private AuctionOwnership ownership;
+
+    private AuctionListingIndex index;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        index = new AuctionListingIndex(auctionService, mirror, ownership);
+        ReflectionTestUtils.setField(index, "endingSoonMinutes", 60L);
+        ReflectionTestUtils.setField(index, "hotWindowMinutes", 10);
+        ReflectionTestUtils.setField(index, "reloadIntervalMs", 60_000L);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void 마감_임박은_마감_순이고_기준_시간_밖은_뺀다() {
+        // given
+        reloadFromDb(List.of(
+                card(1L, 30, 0),
+                card(2L, 5, 0),
+                card(3L, 90, 0),
+                card(4L, 20, 0)));
+
+        // when
+        AuctionListingPageDto first = index.getEndingSoon(0, 2);
+        AuctionListingPageDto second = index.getEndingSoon(1, 2);
+
+        // then
+        assertEquals(List.of(2L, 4L), ids(first));
+        assertEquals(List.of(1L), ids(second));
+        assertEquals(3, first.getTotalElements());
+    }
+
+    @Test
+    void 인기는_최근_입찰_수_내림차순이고_같으면_먼저_끝나는_순() {
+        // given
+        reloadFromDb(List.of(
+                card(1L, 30, 3),
+                card(2L, 40, 7),
+                card(3L, 10, 3),
+                card(4L, 20, 0)));
+
+        // when
+        AuctionListingPageDto hot = index.getHot(0, 10);
+
+        // then : 최근 입찰이 없는 경매는 순위에 없다
+        assertEquals(List.of(2L, 3L, 1L), ids(hot));
+        assertEquals(3, hot.getTotalElements());
+    }
+
+    @Test
+    void 입찰_이벤트가_순위와_가격에_반영되고_담당_경매만_사본에_쓴다() {
+        // given
+        reloadFromDb(List.of(card(1L, 30, 1), card(2L, 40, 0)));
+        when(ownership.isLocal(2L)).thenReturn(true);
+
+        // when
+        index.onAuctionEvent(bid(2L, 12_000L));
+        index.onAuctionEvent(bid(2L, 13_000L));
+        index.refreshRanking();
+
+        // then
+        AuctionListingDto top = index.getHot(0, 10).getItems().get(0);
+        assertEquals(2L, top.getAuctionId());
+        assertEquals(13_000L, top.getCurrentPrice());
+        assertEquals(2, top.getRecentBidCount());
+        verify(mirror).save(argThat((Collection<ListingEntry> changed) ->
+                changed.size() == 1 && changed.iterator().next().getAuctionId() == 2L), anyLong());
+        verify(ownership, never()).isLocal(1L);
+    }
+
+    @Test
+    void 락을_못_잡으면_사본으로_재구성하고_사라진_경매는_뺀다() {
+        // given
+        reloadFromDb(List.of(card(1L, 30, 0), card(2L, 40, 0)));
+        when(mirror.tryAcquireReload(anyLong())).thenReturn(false);
+        when(mirror.loadCards()).thenReturn(List.of(card(1L, 30, 0)));
+
+        // when
+        index.reload();
+
+        // then
+        assertEquals(List.of(1L), ids(index.getEndingSoon(0, 10)));
+        verify(auctionService, times(1)).findLiveListings(any(), any());
+    }
+
+    @Test
+    void 재구성에_실패하면_기존_인덱스를_유지한다() {
+        // given
+        reloadFromDb(List.of(card(1L, 30, 0)));
+        when(mirror.tryAcquireReload(anyLong())).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        index.reload();
+
+        // then
+        assertEquals(List.of(1L), ids(index.getEndingSoon(0, 10)));
+    }
+
+    @Test
+    void 종료_이벤트면_인덱스와_사본에서_뺀다() {
+        // given
+        reloadFromDb(List.of(card(1L, 30, 2), card(2L, 40, 0)));
+        when(ownership.isLocal(1L)).thenReturn(true);
+
+        // when
+        index.onAuctionEvent(AuctionEventDto.builder().auctionId(1L).type(AuctionEventType.AUCTION_ENDED).build());
+        index.refreshRanking();
+
+        // then
+        assertEquals(List.of(2L), ids(index.getEndingSoon(0, 10)));
+        assertTrue(index.getHot(0, 10).getItems().isEmpty());
+        verify(mirror).remove(1L);
+    }
+
+    @Test
+    void 사본의_분_버킷으로_재구성하면_담당_노드와_같은_순위를_이어받는다() {
+        // given : 담당 노드가 입찰을 받아 사본에 쓴다
+        reloadFromDb(List.of(card(1L, 30, 0), card(2L, 40, 0)));
+        when(ownership.isLocal(anyLong())).thenReturn(true);
+        index.onAuctionEvent(bid(1L, 11_000L));
+        index.onAuctionEvent(bid(2L, 12_000L));
+        index.onAuctionEvent(bid(2L, 13_000L));
+        index.refreshRanking();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ListingEntry>> saved = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Long> minute = ArgumentCaptor.forClass(Long.class);
+        verify(mirror).save(saved.capture(), minute.capture());
+        List<AuctionListingDto> cards = saved.getValue().stream().map(entry -> entry.toDto(minute.getValue())).toList();
+        Map<Long, String> velocities = saved.getValue().stream()
+                .collect(Collectors.toMap(ListingEntry::getAuctionId, entry -> entry.getVelocity().encode(minute.getValue())));
+
+        // when : 다른 노드가 DB 없이 사본만으로 재구성한다
+        AuctionListingMirror standbyMirror = mock(AuctionListingMirror.class);
+        AuctionListingIndex standby = new AuctionListingIndex(auctionService, standbyMirror, ownership);
+        ReflectionTestUtils.setField(standby, "endingSoonMinutes", 60L);
+        ReflectionTestUtils.setField(standby, "hotWindowMinutes", 10);
+        ReflectionTestUtils.setField(standby, "reloadIntervalMs", 60_000L);
+        when(standbyMirror.tryAcquireReload(anyLong())).thenReturn(false);
+        when(standbyMirror.loadCards()).thenReturn(cards);
+        when(standbyMirror.loadVelocities()).thenReturn(velocities);
+        standby.reload();
+
+        // then
+        assertEquals(ids(index.getHot(0, 10)), ids(standby.getHot(0, 10)));
+        assertEquals(List.of(2L, 1L), ids(standby.getHot(0, 10)));
+        assertEquals(13_000L, standby.getHot(0, 10).getItems().get(0).getCurrentPrice());
+        verify(auctionService, times(1)).findLiveListings(any(), any());
+    }
+
+    @Test
+    void 사본의_분_버킷이_있으면_카드의_최근_입찰_수보다_버킷을_믿는다() {
+        // given : 카드에는 10분 전 값이 남아 있지만 버킷상 최근 입찰은 1건뿐이다
+        long minute = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+        when(mirror.tryAcquireReload(anyLong())).thenReturn(false);
+        when(mirror.loadCards()).thenReturn(List.of(card(1L, 30, 9)));
+        when(mirror.loadVelocities()).thenReturn(Map.of(1L, (minute - 20) + ":8," + minute + ":1"));
+
+        // when
+        index.reload();
+
+        // then
+        assertEquals(1, index.getHot(0, 10).getItems().get(0).getRecentBidCount());
+        verifyNoInteractions(auctionService);
+    }
+
+    private void reloadFromDb(List<AuctionListingDto> cards) {
+        when(mirror.tryAcquireReload(anyLong())).thenReturn(true);
+        when(auctionService.findLiveListings(any(), any())).thenReturn(cards);
+        index.reload();
+        verify(mirror).replace(argThat((Collection<ListingEntry> replaced) -> replaced.size() == cards.size()), anyLong());
+    }
+
+    private AuctionListingDto card(Long auctionId, long endsInMinutes, long recentBidCount) {
+        return AuctionListingDto.builder()
+                .auctionId(auctionId)
+                .title("경매 " + auctionId)
+                .currentPrice(10_000L)
+                .bidCount(recentBidCount)
+                .endAt(now.plusMinutes(endsInMinutes))
+                .recentBidCount(recentBidCount)
+                .build();
+    }
+
+    private AuctionEventDto bid(Long auctionId, Long currentPrice) {
+        return AuctionEventDto.builder()
+                .auctionId(auctionId)
+                .type(AuctionEventType.BID_PLACED)
+                .payload(BidPlacedEvent.builder().auctionId(auctionId).currentPrice(currentPrice).build())
+                .build();
+    }
+
+    private List<Long> ids(AuctionListingPageDto page) {
+        return page.getItems().stream().map(AuctionListingDto::getAuctionId).toList();
+    }
+}
@@ -0,0 +1,168 @@
+package com.ddip.backend.service.auction.index;
+
+import com.ddip.backend.dto.auction.AuctionListingDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionListingMirrorTest {
+
+    private static final String CARDS_KEY = "auction:index:cards";
+    private static final String TEMP_KEY = "auction:index:cards:rebuilding";
+    private static final String VELOCITY_KEY = "auction:index:velocity";
+    private static final String VELOCITY_TEMP_KEY = "auction:index:velocity:rebuilding";
+    private static final long MINUTE = 29_000_000L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Captor
+    private ArgumentCaptor<Map<String, String>> cardsCaptor;
+
+    @Captor
+    private ArgumentCaptor<Map<String, String>> velocityCaptor;
+
+    private AuctionListingMirror mirror;
+
+    @BeforeEach
+    void setUp() {
+        mirror = new AuctionListingMirror(redisTemplate, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void 전체_교체는_카드와_분_버킷을_각각_임시_키에_쓴_뒤_RENAME_한다() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // when
+        mirror.replace(List.of(entry(1L, 2), entry(2L, 0)), MINUTE);
+
+        // then : 읽는 쪽은 교체 전 키 또는 완성된 새 키만 본다
+        InOrder inOrder = inOrder(hashOperations, redisTemplate);
+        inOrder.verify(hashOperations).putAll(eq(TEMP_KEY), cardsCaptor.capture());
+        inOrder.verify(redisTemplate).rename(TEMP_KEY, CARDS_KEY);
+        inOrder.verify(hashOperations).putAll(eq(VELOCITY_TEMP_KEY), velocityCaptor.capture());
+        inOrder.verify(redisTemplate).rename(VELOCITY_TEMP_KEY, VELOCITY_KEY);
+        assertEquals(Set.of("1", "2"), cardsCaptor.getValue().keySet());
+        assertEquals(Set.of("1"), velocityCaptor.getValue().keySet(), "최근 입찰이 없는 경매는 버킷을 쓰지 않는다");
+        verify(hashOperations, never()).putAll(eq(CARDS_KEY), anyMap());
+    }
+
+    @Test
+    void 최근_입찰이_하나도_없으면_분_버킷_키는_지운다() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // when
+        mirror.replace(List.of(entry(1L, 0)), MINUTE);
+
+        // then
+        verify(redisTemplate).rename(TEMP_KEY, CARDS_KEY);
+        verify(redisTemplate).delete(VELOCITY_KEY);
+        verify(redisTemplate, never()).rename(eq(VELOCITY_TEMP_KEY), anyString());
+    }
+
+    @Test
+    void 진행_중_경매가_없으면_사본을_지운다() {
+        // when
+        mirror.replace(List.of(), MINUTE);
+
+        // then
+        verify(redisTemplate).delete(List.of(CARDS_KEY, VELOCITY_KEY));
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+    }
+
+    @Test
+    void 변경분은_교체_없이_현재_키에_덮어쓴다() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // when
+        mirror.save(List.of(entry(3L, 1)), MINUTE);
+        mirror.save(List.of(), MINUTE);
+
+        // then
+        verify(hashOperations, times(1)).putAll(eq(CARDS_KEY), cardsCaptor.capture());
+        verify(hashOperations, times(1)).putAll(eq(VELOCITY_KEY), velocityCaptor.capture());
+        assertTrue(cardsCaptor.getValue().containsKey("3"));
+        assertTrue(velocityCaptor.getValue().containsKey("3"));
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+    }
+
+    @Test
+    void 저장한_카드와_분_버킷을_그대로_읽고_깨진_값은_건너뛴다() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        ListingEntry saved = entry(4L, 2);
+        mirror.save(List.of(saved), MINUTE);
+        verify(hashOperations).putAll(eq(CARDS_KEY), cardsCaptor.capture());
+        verify(hashOperations).putAll(eq(VELOCITY_KEY), velocityCaptor.capture());
+
+        List<Object> storedCards = new ArrayList<>(cardsCaptor.getValue().values());
+        storedCards.add("{broken");
+        Map<Object, Object> storedVelocities = new HashMap<>(velocityCaptor.getValue());
+        storedVelocities.put("not-a-number", "1:1");
+        when(hashOperations.values(CARDS_KEY)).thenReturn(storedCards);
+        when(hashOperations.entries(VELOCITY_KEY)).thenReturn(storedVelocities);
+
+        // when
+        List<AuctionListingDto> loaded = mirror.loadCards();
+        Map<Long, String> velocities = mirror.loadVelocities();
+
+        // then
+        assertEquals(1, loaded.size());
+        assertEquals(saved.getAuctionId(), loaded.get(0).getAuctionId());
+        assertEquals(saved.getEndAt(), loaded.get(0).getEndAt());
+        assertEquals(2, loaded.get(0).getRecentBidCount());
+        assertEquals(Set.of(4L), velocities.keySet());
+        assertEquals(saved.getVelocity().encode(MINUTE), velocities.get(4L));
+    }
+
+    @Test
+    void 종료된_경매는_사본에서_뺀다() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // when
+        mirror.remove(5L);
+
+        // then
+        verify(hashOperations).delete(CARDS_KEY, "5");
+        verify(hashOperations).delete(VELOCITY_KEY, "5");
+    }
+
+    private ListingEntry entry(Long auctionId, long recentBidCount) {
+        AuctionListingDto card = AuctionListingDto.builder()
+                .auctionId(auctionId)
+                .title("경매 " + auctionId)
+                .currentPrice(10_000L)
+                .bidCount(3)
+                .endAt(LocalDateTime.of(2026, 1, 1, 12, 0))
+                .recentBidCount(recentBidCount)
+                .build();
+        return ListingEntry.from(card, 10, MINUTE, null);
+    }
+}
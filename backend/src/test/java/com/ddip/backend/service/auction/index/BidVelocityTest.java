@@ -0,0 +1,56 @@
+package com.ddip.backend.service.auction.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidVelocityTest {
+
+    private static final long MINUTE = 29_000_000L;
+
+    @Test
+    void 분포를_모르는_합계는_윈도우에_고르게_나눠_시간이_지나면_줄어든다() {
+        // given
+        BidVelocity velocity = new BidVelocity(10);
+
+        // when
+        velocity.spread(MINUTE, 23);
+
+        // then : 지금은 전부 최근이고, 5분 뒤에는 가장 최근 5분 몫만 남는다
+        assertEquals(23, velocity.count(MINUTE));
+        assertEquals(13, velocity.count(MINUTE + 5));
+        assertEquals(0, velocity.count(MINUTE + 10));
+    }
+
+    @Test
+    void 직렬화한_버킷을_되살리면_같은_값으로_줄어든다() {
+        // given
+        BidVelocity original = new BidVelocity(10);
+        original.record(MINUTE - 12, 4);
+        original.record(MINUTE - 7, 5);
+        original.record(MINUTE, 2);
+
+        // when
+        BidVelocity restored = new BidVelocity(10);
+        restored.restore(original.encode(MINUTE));
+
+        // then : 윈도우 밖 버킷은 직렬화하지 않는다
+        assertEquals(7, restored.count(MINUTE));
+        assertEquals(2, restored.count(MINUTE + 3));
+        assertEquals(original.encode(MINUTE), restored.encode(MINUTE));
+        assertFalse(original.encode(MINUTE).contains(Long.toString(MINUTE - 12)));
+    }
+
+    @Test
+    void 깨진_버킷은_건너뛴다() {
+        // given
+        BidVelocity velocity = new BidVelocity(10);
+
+        // when
+        velocity.restore("x:1,," + MINUTE + ":3,:2," + MINUTE + ":y");
+
+        // then
+        assertEquals(3, velocity.count(MINUTE));
+        assertEquals("", new BidVelocity(10).encode(MINUTE));
+    }
+}
@@ -0,0 +1,107 @@
+package com.ddip.backend.service.crowd;
+
+import com.ddip.backend.dto.crowd.ProjectChangedEvent;
+import com.ddip.backend.dto.crowd.ProjectResponseDto;
+import com.ddip.backend.metrics.CacheMetrics;
+import com.ddip.backend.service.crowd.ProjectResponseCache.EncodedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProjectResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProjectResponseCache(objectMapper, new CacheMetrics(meterRegistry));
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "gzipMinBytes", 1024);
+    }
+
+    @Test
+    void 같은_버전이면_다시_조회하거나_직렬화하지_않는다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ProjectResponseDto> loader = () -> {
+            loads.incrementAndGet();
+            return project("short");
+        };
+
+        // when
+        EncodedResponse first = cache.get(1L, "W/\"a-1\"", loader);
+        EncodedResponse second = cache.get(1L, "W/\"a-1\"", loader);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, cacheGets("hit"));
+        assertEquals(1.0, cacheGets("miss"));
+    }
+
+    @Test
+    void 버전이_바뀌거나_변경_이벤트가_오면_다시_만든다() {
+        // given
+        cache.get(1L, "W/\"a-1\"", () -> project("before"));
+
+        // when
+        EncodedResponse bumped = cache.get(1L, "W/\"a-2\"", () -> project("after"));
+        cache.onProjectChanged(ProjectChangedEvent.removed(1L));
+        EncodedResponse reloaded = cache.get(1L, "W/\"a-2\"", () -> project("reloaded"));
+
+        // then
+        assertTrue(new String(bumped.identity()).contains("after"));
+        assertTrue(new String(reloaded.identity()).contains("reloaded"));
+    }
+
+    @Test
+    void 큰_본문은_gzip_본을_함께_만들고_풀면_원본과_같다() throws Exception {
+        // when
+        EncodedResponse small = cache.get(1L, "W/\"a-1\"", () -> project("short"));
+        EncodedResponse large = cache.get(2L, "W/\"b-1\"", () -> project("긴 설명 ".repeat(500)));
+
+        // then
+        assertFalse(small.hasGzip());
+        assertTrue(large.hasGzip());
+        assertTrue(large.gzip().length < large.identity().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertArrayEquals(large.identity(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void Accept_Encoding_에서_gzip_허용_여부를_판단한다() {
+        assertTrue(ProjectResponseCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ProjectResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(ProjectResponseCache.acceptsGzip("*"));
+        assertFalse(ProjectResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ProjectResponseCache.acceptsGzip("br, identity"));
+        assertFalse(ProjectResponseCache.acceptsGzip(null));
+    }
+
+    private ProjectResponseDto project(String description) {
+        return ProjectResponseDto.builder()
+                .id(1L)
+                .title("프로젝트")
+                .description(description)
+                .targetAmount(1_000_000L)
+                .currentAmount(10_000L)
+                .build();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "project-response").tag("result", result).counter().count();
+    }
+}
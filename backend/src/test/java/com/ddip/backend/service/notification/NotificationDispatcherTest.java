@@ -0,0 +1,152 @@
+package com.ddip.backend.service.notification;
+
+import com.ddip.backend.dto.enums.NotificationType;
+import com.ddip.backend.entity.NotificationCampaign;
+import com.ddip.backend.repository.NotificationCampaignRepository.RecipientRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private static final String TOKEN = "token";
+
+    private final NotificationCampaignService campaignService = mock(NotificationCampaignService.class);
+    private final FakeNotificationChannel channel = new FakeNotificationChannel();
+    private final NotificationCampaign campaign = NotificationCampaign.builder()
+            .id(1L)
+            .type(NotificationType.PROJECT_SUCCEEDED)
+            .sourceId(10L)
+            .subject("초경량 텐트")
+            .channel(FakeNotificationChannel.NAME)
+            .build();
+
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void 수신자를_페이지로_읽어_채널_배치로_나눠_보내고_페이지마다_커서를_남긴다() {
+        // given
+        dispatcher = newDispatcher(channel);
+        channel.failOn(7L);
+        when(campaignService.get(1L)).thenReturn(campaign);
+        when(campaignService.nextRecipients(campaign, 0L, 200)).thenReturn(recipients(1, 200));
+        when(campaignService.nextRecipients(campaign, 200L, 200)).thenReturn(recipients(201, 250));
+        when(campaignService.nextRecipients(campaign, 250L, 200)).thenReturn(List.of());
+        when(campaignService.checkpoint(eq(1L), eq(TOKEN), anyLong(), anyLong(), anyLong(), anyLong())).thenReturn(true);
+
+        // when
+        dispatcher.run(1L, TOKEN);
+
+        // then
+        assertEquals(List.of(100, 100, 50), channel.getBatchSizes());
+        assertEquals(249, channel.getSent().size());
+        assertEquals("user1님, 후원하신 '초경량 텐트' 프로젝트의 펀딩이 성공적으로 마감되었습니다.", channel.getSent().get(0).text());
+        verify(campaignService).checkpoint(1L, TOKEN, 200L, 199L, 1L, 120L);
+        verify(campaignService).checkpoint(1L, TOKEN, 250L, 50L, 0L, 120L);
+        verify(campaignService).complete(1L, TOKEN);
+        verify(campaignService, never()).fail(anyLong(), anyString(), any(), anyLong());
+    }
+
+    @Test
+    void 임대를_잃으면_다음_페이지를_보내지_않는다() {
+        // given
+        dispatcher = newDispatcher(channel);
+        when(campaignService.get(1L)).thenReturn(campaign);
+        when(campaignService.nextRecipients(campaign, 0L, 200)).thenReturn(recipients(1, 200));
+        when(campaignService.checkpoint(eq(1L), eq(TOKEN), anyLong(), anyLong(), anyLong(), anyLong())).thenReturn(false);
+
+        // when
+        dispatcher.run(1L, TOKEN);
+
+        // then
+        verify(campaignService, times(1)).nextRecipients(any(), anyLong(), anyInt());
+        verify(campaignService, never()).complete(anyLong(), anyString());
+    }
+
+    @Test
+    void 묶음_발송이_실패하면_마지막_체크포인트부터_재시도하도록_실패를_기록한다() {
+        // given
+        NotificationChannel broken = mock(NotificationChannel.class);
+        when(broken.name()).thenReturn(FakeNotificationChannel.NAME);
+        when(broken.maxBatchSize()).thenReturn(100);
+        when(broken.maxConcurrency()).thenReturn(1);
+        when(broken.send(any())).thenThrow(new IllegalStateException("provider down"));
+        dispatcher = newDispatcher(broken);
+        when(campaignService.get(1L)).thenReturn(campaign);
+        when(campaignService.nextRecipients(campaign, 0L, 200)).thenReturn(recipients(1, 200));
+
+        // when
+        dispatcher.run(1L, TOKEN);
+
+        // then
+        verify(campaignService).fail(1L, TOKEN, "provider down", 30_000L);
+        verify(campaignService, never()).checkpoint(anyLong(), anyString(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void 빈_워커가_없으면_작업을_잡지_않는다() {
+        // given
+        dispatcher = newDispatcher(channel);
+        ReflectionTestUtils.setField(dispatcher, "workerThreads", 0);
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verifyNoInteractions(campaignService);
+    }
+
+    private NotificationDispatcher newDispatcher(NotificationChannel channel) {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(campaignService, List.of(channel));
+        ReflectionTestUtils.setField(dispatcher, "workerThreads", 2);
+        ReflectionTestUtils.setField(dispatcher, "pageSize", 200);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 120L);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 5);
+        ReflectionTestUtils.setField(dispatcher, "retryDelayMs", 30_000L);
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    private static List<RecipientRow> recipients(long fromUserId, long toUserId) {
+        List<RecipientRow> rows = new ArrayList<>();
+        for (long userId = fromUserId; userId <= toUserId; userId++) {
+            rows.add(recipient(userId));
+        }
+        return rows;
+    }
+
+    private static RecipientRow recipient(long userId) {
+        return new RecipientRow() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return "010-0000-" + userId;
+            }
+
+            @Override
+            public String getNickname() {
+                return "user" + userId;
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.ddip.backend.service.recommend;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinHashLshTest {
+
+    @Test
+    void 태그가_많이_겹치는_프로젝트를_먼저_돌려준다() {
+        // given
+        MinHashLsh lsh = new MinHashLsh(256);
+        lsh.put(1L, SimilarProjectIndex.tokens("캠핑/텐트", "캠핑,초경량,텐트,백패킹"));
+        lsh.put(2L, SimilarProjectIndex.tokens("캠핑/텐트", "캠핑,초경량,텐트"));
+        lsh.put(3L, SimilarProjectIndex.tokens("디지털/오디오", "이어폰,무선"));
+
+        // when
+        List<MinHashLsh.Match> matches = lsh.query(1L, 10);
+
+        // then
+        assertEquals(1, matches.size());
+        assertEquals(2L, matches.get(0).id());
+        assertTrue(matches.get(0).similarity() > 0.5);
+    }
+
+    @Test
+    void 삭제된_프로젝트는_후보에서_빠진다() {
+        // given
+        MinHashLsh lsh = new MinHashLsh(256);
+        lsh.put(1L, Set.of("tag:a", "tag:b"));
+        lsh.put(2L, Set.of("tag:a", "tag:b"));
+
+        // when
+        lsh.remove(2L);
+
+        // then
+        assertTrue(lsh.query(1L, 10).isEmpty());
+        assertFalse(lsh.contains(2L));
+    }
+}
@@ -0,0 +1,192 @@
+package com.ddip.backend.service.recommend;
+
+import com.ddip.backend.dto.enums.UserType;
+import com.ddip.backend.repository.PledgeRepository;
+import com.ddip.backend.repository.PledgeRepository.PledgedProjectRow;
+import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.ProjectRepository.ProjectFeatureRow;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 프로젝트 100만 건에서 추천 응답 지연 (./gradlew benchmark)
+ * - cold : 세그먼트(성향 x 선호 카테고리)의 첫 요청. 전체 후보 병렬 스캔을 포함한다
+ * - warm : 세그먼트 캐시 적중 후 사용자 재정렬만 하는 요청. 목표는 p99 10ms 미만
+ * 사용자 u 는 카테고리 (u % CATEGORIES) 프로젝트만 후원해 세그먼트가 고르게 채워지게 한다.
+ */
+@Tag("benchmark")
+class ProjectRecommendationBenchmark {
+
+    private static final int PROJECTS = 1_000_000;
+    private static final int CATEGORIES = 20;
+    private static final int USERS = 2_000;
+    private static final int HISTORY = 30;
+    private static final int WARM_REQUESTS = 20_000;
+    private static final int SIZE = 20;
+    private static final double TARGET_MS = 10d;
+
+    private static final UserType[] TYPES = {null, UserType.VALUE_ORIENTED, UserType.PRACTICAL_ORIENTED, UserType.TREND_ORIENTED};
+
+    @Test
+    void 프로젝트_100만건_추천_지연() {
+        ProjectRepository projectRepository = mock(ProjectRepository.class);
+        PledgeRepository pledgeRepository = mock(PledgeRepository.class);
+        when(projectRepository.findFeatureRowsAfter(anyLong(), anyCollection(), any(), any())).thenReturn(generate());
+        when(pledgeRepository.findRecentPledgedProjects(anyLong(), any()))
+                .thenAnswer(invocation -> history(invocation.getArgument(0, Long.class)));
+
+        ProjectRecommendationService service = new ProjectRecommendationService(projectRepository, pledgeRepository);
+        ReflectionTestUtils.setField(service, "segmentDepth", 200);
+        ReflectionTestUtils.setField(service, "loadPageSize", PROJECTS + 1);
+        ReflectionTestUtils.setField(service, "tasteTtlMs", 600_000L);
+        ReflectionTestUtils.setField(service, "tasteMaxSize", USERS);
+        service.start();
+
+        try {
+            long buildStart = System.nanoTime();
+            service.refresh();
+            long buildNanos = System.nanoTime() - buildStart;
+
+            // cold: 세그먼트마다 첫 요청 한 번씩 (사용자 0..CATEGORIES-1 이 카테고리 하나씩 대표)
+            long[] cold = new long[TYPES.length * CATEGORIES];
+            int c = 0;
+            for (UserType type : TYPES) {
+                for (long userId = 0; userId < CATEGORIES; userId++) {
+                    long start = System.nanoTime();
+                    assertEquals(SIZE, service.recommend(userId, type, SIZE).size());
+                    cold[c++] = System.nanoTime() - start;
+                }
+            }
+
+            // 사용자 취향도 미리 채워 warm 구간은 세그먼트/취향 캐시 적중만 잰다
+            Random random = new Random(11);
+            for (long userId = 0; userId < USERS; userId++) {
+                service.recommend(userId, TYPES[(int) (userId % TYPES.length)], SIZE);
+            }
+
+            long[] warm = new long[WARM_REQUESTS];
+            for (int i = 0; i < WARM_REQUESTS; i++) {
+                long userId = random.nextInt(USERS);
+                UserType type = TYPES[random.nextInt(TYPES.length)];
+                long start = System.nanoTime();
+                service.recommend(userId, type, SIZE);
+                warm[i] = System.nanoTime() - start;
+            }
+
+            System.out.printf("build : %d projects in %.1f ms%n", PROJECTS, buildNanos / 1e6);
+            report("cold ", cold);
+            report("warm ", warm);
+
+            double warmP99 = percentileMs(warm, 0.99);
+            assertTrue(warmP99 < TARGET_MS, "warm p99 = " + warmP99 + " ms");
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static void report(String label, long[] nanos) {
+        System.out.printf("%s: n=%d p50=%.2f ms p99=%.2f ms max=%.2f ms%n", label, nanos.length,
+                percentileMs(nanos, 0.5), percentileMs(nanos, 0.99), percentileMs(nanos, 1d));
+    }
+
+    private static double percentileMs(long[] nanos, double percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * 사용자 u 의 최근 후원: 카테고리 (u % CATEGORIES) 프로젝트 HISTORY 개
+     */
+    private static List<PledgedProjectRow> history(long userId) {
+        Random random = new Random(userId);
+        int category = (int) (userId % CATEGORIES);
+        String categoryPath = "카테고리" + category + "/세부" + (category % 5);
+        List<PledgedProjectRow> rows = new ArrayList<>(HISTORY);
+        for (int i = 0; i < HISTORY; i++) {
+            long slot = random.nextInt(PROJECTS / CATEGORIES);
+            rows.add(new Pledged(slot * CATEGORIES + category + 1, categoryPath, "태그" + random.nextInt(500),
+                    1_000L + random.nextInt(200_000)));
+        }
+        return rows;
+    }
+
+    /**
+     * 100만 행을 메모리에 올리므로 시각/문자열은 미리 만든 값을 돌려 쓴다
+     */
+    private static List<ProjectFeatureRow> generate() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime[] starts = new LocalDateTime[24 * 60];
+        LocalDateTime[] ends = new LocalDateTime[24 * 30];
+        for (int h = 0; h < starts.length; h++) {
+            starts[h] = now.minusHours(h);
+        }
+        for (int h = 0; h < ends.length; h++) {
+            ends[h] = now.plusHours(1 + h);
+        }
+        String[] categories = new String[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories[i] = "카테고리" + i + "/세부" + (i % 5);
+        }
+        String[] tags = new String[500];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = "태그" + i + ",태그" + (i * 7 % tags.length);
+        }
+
+        List<ProjectFeatureRow> rows = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            long id = i + 1L;
+            long minPrice = 1_000L + random.nextInt(200_000);
+            rows.add(new Row(id, categories[i % CATEGORIES], tags[random.nextInt(tags.length)],
+                    (long) random.nextInt(2_000_000), 1_000_000L,
+                    starts[random.nextInt(starts.length)], ends[random.nextInt(ends.length)],
+                    minPrice, minPrice + random.nextInt(300_000), 1L + random.nextInt(8), (long) random.nextInt(5_000)));
+        }
+        return rows;
+    }
+
+    private record Row(Long getId, String getCategoryPath, String getTags, Long getCurrentAmount,
+                       Long getTargetAmount, LocalDateTime getStartAt, LocalDateTime getEndAt,
+                       Long getMinPrice, Long getMaxPrice, Long getTierCount, Long getSoldCount)
+            implements ProjectFeatureRow {
+
+        @Override
+        public String getTitle() {
+            return "project-" + getId;
+        }
+
+        @Override
+        public String getSummary() {
+            return null;
+        }
+
+        @Override
+        public String getThumbnailUrl() {
+            return null;
+        }
+
+        @Override
+        public Double getAvgPrice() {
+            return (getMinPrice + getMaxPrice) / 2d;
+        }
+    }
+
+    private record Pledged(Long getProjectId, String getCategoryPath, String getTags, Long getAmount)
+            implements PledgedProjectRow {
+    }
+}
@@ -0,0 +1,213 @@
+package com.ddip.backend.service.recommend;
+
+import com.ddip.backend.dto.crowd.RecommendedProjectDto;
+import com.ddip.backend.dto.enums.UserType;
+import com.ddip.backend.repository.PledgeRepository;
+import com.ddip.backend.repository.PledgeRepository.PledgedProjectRow;
+import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.ProjectRepository.ProjectFeatureRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectRecommendationServiceTest {
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final PledgeRepository pledgeRepository = mock(PledgeRepository.class);
+    private ProjectRecommendationService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void 병렬_top_K_스캔은_전체_정렬_결과와_같다() {
+        // given
+        List<ProjectFeatureRow> rows = randomRows(60_000);
+        service = newService(rows);
+        ProjectFeatureIndex index = ProjectFeatureIndex.build(1L, rows, LocalDateTime.now());
+        float[] weights = ScoringProfile.of(UserType.TREND_ORIENTED);
+
+        List<Long> expected = IntStream.range(0, index.size()).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(position -> -dot(index, weights, position))
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(20)
+                .map(position -> index.card(position).getId())
+                .toList();
+
+        // when
+        List<Long> actual = service.recommend(null, UserType.TREND_ORIENTED, 20).stream()
+                .map(RecommendedProjectDto::getId)
+                .toList();
+
+        // then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void 후원한_프로젝트는_빼고_같은_카테고리를_우선한다() {
+        // given
+        List<ProjectFeatureRow> rows = new ArrayList<>();
+        rows.add(row(1L, "캠핑/텐트", "캠핑,초경량", 50_000L, 10L));
+        rows.add(row(2L, "캠핑/버너", "캠핑", 40_000L, 10L));
+        rows.add(row(3L, "디지털/오디오", "이어폰", 40_000L, 500L));
+        rows.add(row(4L, "디지털/오디오", "스피커", 40_000L, 500L));
+        service = newService(rows);
+        when(pledgeRepository.findRecentPledgedProjects(eq(7L), any()))
+                .thenReturn(List.of(new Pledged(1L, "캠핑/텐트", "캠핑,초경량", 50_000L)));
+
+        // when
+        List<Long> ids = service.recommend(7L, UserType.PRACTICAL_ORIENTED, 3).stream()
+                .map(RecommendedProjectDto::getId)
+                .toList();
+
+        // then
+        assertFalse(ids.contains(1L));
+        assertEquals(2L, ids.get(0));
+    }
+
+    @Test
+    void 인덱스에서_빠진_프로젝트의_후원_이력도_취향에_반영한다() {
+        // given : 9번은 마감돼서 인덱스에 없지만 디지털 카테고리 후원 이력이다
+        List<ProjectFeatureRow> rows = new ArrayList<>();
+        rows.add(row(1L, "캠핑/텐트", "캠핑", 40_000L, 500L));
+        rows.add(row(2L, "디지털/오디오", "이어폰", 40_000L, 10L));
+        service = newService(rows);
+        when(pledgeRepository.findRecentPledgedProjects(eq(7L), any()))
+                .thenReturn(List.of(new Pledged(9L, "디지털/카메라", "이어폰", 40_000L)));
+
+        // when
+        List<Long> ids = service.recommend(7L, UserType.PRACTICAL_ORIENTED, 2).stream()
+                .map(RecommendedProjectDto::getId)
+                .toList();
+
+        // then
+        assertEquals(List.of(2L, 1L), ids);
+    }
+
+    @Test
+    void 후원한_프로젝트를_빼고_모자라면_세그먼트보다_깊게_다시_찾는다() {
+        // given : 세그먼트 깊이 2 인데 상위 2개를 이미 후원했다
+        List<ProjectFeatureRow> rows = new ArrayList<>();
+        rows.add(row(1L, "캠핑/텐트", "캠핑", 40_000L, 5_000L));
+        rows.add(row(2L, "캠핑/텐트", "캠핑", 40_000L, 4_000L));
+        rows.add(row(3L, "캠핑/텐트", "캠핑", 40_000L, 30L));
+        rows.add(row(4L, "캠핑/텐트", "캠핑", 40_000L, 20L));
+        service = newService(rows);
+        ReflectionTestUtils.setField(service, "segmentDepth", 2);
+        when(pledgeRepository.findRecentPledgedProjects(eq(7L), any())).thenReturn(List.of(
+                new Pledged(1L, "캠핑/텐트", "캠핑", 40_000L),
+                new Pledged(2L, "캠핑/텐트", "캠핑", 40_000L)));
+
+        // when
+        List<Long> ids = service.recommend(7L, UserType.TREND_ORIENTED, 2).stream()
+                .map(RecommendedProjectDto::getId)
+                .toList();
+
+        // then
+        assertEquals(List.of(3L, 4L), ids);
+    }
+
+    @Test
+    void 취향_캐시는_상한을_넘지_않는다() {
+        // given
+        service = newService(List.of(row(1L, "캠핑/텐트", "캠핑", 40_000L, 10L)));
+        ReflectionTestUtils.setField(service, "tasteMaxSize", 4);
+        when(pledgeRepository.findRecentPledgedProjects(anyLong(), any())).thenReturn(List.of());
+
+        // when
+        for (long userId = 1; userId <= 20; userId++) {
+            service.recommend(userId, UserType.TREND_ORIENTED, 1);
+        }
+
+        // then
+        Map<?, ?> tastes = (Map<?, ?>) ReflectionTestUtils.getField(service, "tastes");
+        assertNotNull(tastes);
+        assertTrue(tastes.size() <= 4, "tastes = " + tastes.size());
+    }
+
+    private ProjectRecommendationService newService(List<ProjectFeatureRow> rows) {
+        when(projectRepository.findFeatureRowsAfter(anyLong(), anyCollection(), any(), any())).thenReturn(rows);
+
+        ProjectRecommendationService created = new ProjectRecommendationService(projectRepository, pledgeRepository);
+        ReflectionTestUtils.setField(created, "segmentDepth", 200);
+        ReflectionTestUtils.setField(created, "loadPageSize", rows.size() + 1);
+        ReflectionTestUtils.setField(created, "tasteTtlMs", 60_000L);
+        ReflectionTestUtils.setField(created, "tasteMaxSize", 1_000);
+        created.start();
+        created.refresh();
+        return created;
+    }
+
+    private static float dot(ProjectFeatureIndex index, float[] weights, int position) {
+        float score = 0f;
+        for (int d = 0; d < ProjectFeatureIndex.DIMENSIONS; d++) {
+            score += index.feature(position, d) * weights[d];
+        }
+        return score;
+    }
+
+    private static List<ProjectFeatureRow> randomRows(int count) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<ProjectFeatureRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long minPrice = 1_000L + random.nextInt(200_000);
+            rows.add(new Row((long) i + 1, "카테고리" + random.nextInt(20), "태그" + random.nextInt(100),
+                    (long) random.nextInt(2_000_000), 1_000_000L,
+                    now.minusHours(random.nextInt(24 * 60)), now.plusHours(1 + random.nextInt(24 * 30)),
+                    minPrice, minPrice + random.nextInt(300_000), 1L + random.nextInt(8), (long) random.nextInt(5_000)));
+        }
+        return rows;
+    }
+
+    private static ProjectFeatureRow row(long id, String category, String tags, long minPrice, long sold) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Row(id, category, tags, 500_000L, 1_000_000L, now.minusDays(3), now.plusDays(20),
+                minPrice, minPrice * 2, 3L, sold);
+    }
+
+    private record Row(Long getId, String getCategoryPath, String getTags, Long getCurrentAmount,
+                       Long getTargetAmount, LocalDateTime getStartAt, LocalDateTime getEndAt,
+                       Long getMinPrice, Long getMaxPrice, Long getTierCount, Long getSoldCount)
+            implements ProjectFeatureRow {
+
+        @Override
+        public String getTitle() {
+            return "project-" + getId;
+        }
+
+        @Override
+        public String getSummary() {
+            return null;
+        }
+
+        @Override
+        public String getThumbnailUrl() {
+            return null;
+        }
+
+        @Override
+        public Double getAvgPrice() {
+            return (getMinPrice + getMaxPrice) / 2d;
+        }
+    }
+
+    private record Pledged(Long getProjectId, String getCategoryPath, String getTags, Long getAmount)
+            implements PledgedProjectRow {
+    }
+}
@@ -0,0 +1,136 @@
+package com.ddip.backend.service.recommend;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MinHash/LSH 조회의 recall@K 와 지연을 정확한 Jaccard 전수 비교와 비교 (./gradlew benchmark)
+ * - 태그는 zipf 분포 어휘에서 뽑고, 일부 프로젝트는 기존 프로젝트를 살짝 바꾼 변형으로 만들어 유사 쌍을 심는다
+ * - recall 은 정확한 top-K 중 Jaccard 0.5 이상인 것만 대상으로 센다 (LSH 임계값 아래는 애초에 목표가 아님)
+ *   동점이 많으므로 K 번째 정확 유사도 이상인 결과를 적중으로 본다
+ */
+@Tag("benchmark")
+class SimilarProjectIndexBenchmark {
+
+    private static final int PROJECTS = 100_000;
+    private static final int QUERIES = 300;
+    private static final int K = 10;
+    private static final double THRESHOLD = 0.5;
+
+    @Test
+    void LSH_recall_과_조회_지연() {
+        Random random = new Random(7);
+        List<Set<String>> projects = generate(random);
+
+        MinHashLsh lsh = new MinHashLsh(128);
+        long buildStart = System.nanoTime();
+        for (int id = 0; id < projects.size(); id++) {
+            lsh.put(id, projects.get(id));
+        }
+        long buildNanos = System.nanoTime() - buildStart;
+
+        int relevant = 0;
+        int found = 0;
+        long lshNanos = 0;
+        long exactNanos = 0;
+
+        for (int q = 0; q < QUERIES; q++) {
+            int query = random.nextInt(PROJECTS);
+
+            long start = System.nanoTime();
+            double[] exact = exactTopK(projects, query);
+            exactNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<MinHashLsh.Match> matches = lsh.query(query, K);
+            lshNanos += System.nanoTime() - start;
+
+            if (exact.length == 0) {
+                continue;
+            }
+            // 같은 Jaccard 가 여럿이면 어느 쪽을 골라도 정답이므로 K 번째 정확 유사도 이상이면 적중으로 센다
+            double kth = exact[exact.length - 1];
+            long hits = matches.stream()
+                    .filter(match -> jaccard(projects.get(query), projects.get((int) match.id())) >= kth)
+                    .count();
+            relevant += exact.length;
+            found += (int) Math.min(hits, exact.length);
+        }
+
+        double recall = relevant == 0 ? 1d : (double) found / relevant;
+        System.out.printf("build : %d projects in %.1f ms%n", PROJECTS, buildNanos / 1e6);
+        System.out.printf("exact : %8.1f us/query%n", exactNanos / 1e3 / QUERIES);
+        System.out.printf("lsh   : %8.1f us/query, recall@%d (jaccard >= %.1f) = %.3f (%d/%d)%n",
+                lshNanos / 1e3 / QUERIES, K, THRESHOLD, recall, found, relevant);
+
+        assertTrue(recall > 0.8, "recall = " + recall);
+    }
+
+    /**
+     * 임계값 이상인 정확한 상위 K 개의 Jaccard (내림차순)
+     */
+    private double[] exactTopK(List<Set<String>> projects, int query) {
+        Set<String> target = projects.get(query);
+        return IntStream.range(0, projects.size())
+                .filter(id -> id != query)
+                .mapToDouble(id -> jaccard(target, projects.get(id)))
+                .filter(similarity -> similarity >= THRESHOLD)
+                .map(similarity -> -similarity)
+                .sorted()
+                .limit(K)
+                .map(similarity -> -similarity)
+                .toArray();
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        int intersection = 0;
+        for (String token : a) {
+            if (b.contains(token)) {
+                intersection++;
+            }
+        }
+        int union = a.size() + b.size() - intersection;
+        return union == 0 ? 0d : (double) intersection / union;
+    }
+
+    private static List<Set<String>> generate(Random random) {
+        List<Set<String>> projects = new ArrayList<>(PROJECTS);
+        for (int id = 0; id < PROJECTS; id++) {
+            if (id > 0 && random.nextInt(3) == 0) {
+                // 기존 프로젝트의 변형: 토큰 하나를 바꾸거나 하나 추가
+                Set<String> variant = new HashSet<>(projects.get(random.nextInt(id)));
+                if (random.nextBoolean() && variant.size() > 2) {
+                    variant.remove(variant.iterator().next());
+                }
+                variant.add("tag:" + zipf(random, 5_000));
+                projects.add(variant);
+                continue;
+            }
+
+            Set<String> tokens = new HashSet<>();
+            int top = zipf(random, 20);
+            tokens.add("cat:" + top);
+            tokens.add("cat:" + top + "/" + zipf(random, 10));
+            int tagCount = 2 + random.nextInt(5);
+            while (tokens.size() < tagCount + 2) {
+                tokens.add("tag:" + zipf(random, 5_000));
+            }
+            projects.add(tokens);
+        }
+        return projects;
+    }
+
+    private static int zipf(Random random, int size) {
+        // 대략적인 zipf: 지수 분포로 앞쪽 값이 자주 나오게 한다
+        return (int) Math.min(size - 1, Math.floor(Math.exp(random.nextDouble() * Math.log(size)) - 1));
+    }
+}
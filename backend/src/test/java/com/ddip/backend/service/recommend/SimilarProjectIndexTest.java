@@ -0,0 +1,119 @@
+package com.ddip.backend.service.recommend;
+
+import com.ddip.backend.dto.crowd.ProjectChangedEvent;
+import com.ddip.backend.dto.crowd.SimilarProjectDto;
+import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.ProjectRepository.ProjectTagRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SimilarProjectIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private SimilarProjectIndex similarProjectIndex;
+
+    @BeforeEach
+    void setUp() {
+        similarProjectIndex = new SimilarProjectIndex(projectRepository);
+        ReflectionTestUtils.setField(similarProjectIndex, "maxBucketSize", 256);
+        ReflectionTestUtils.setField(similarProjectIndex, "loadPageSize", 100);
+    }
+
+    @Test
+    void 삭제_이벤트를_받은_프로젝트는_결과에서_빠진다() {
+        // given
+        rows(row(1L), row(2L), row(3L));
+        similarProjectIndex.refresh();
+        assertEquals(List.of(2L, 3L), ids(similarProjectIndex.findSimilar(1L, 10)));
+
+        // when
+        similarProjectIndex.onProjectChanged(ProjectChangedEvent.removed(2L));
+
+        // then
+        assertEquals(List.of(3L), ids(similarProjectIndex.findSimilar(1L, 10)));
+    }
+
+    @Test
+    void 다른_노드에서_지워진_프로젝트는_재적재로_빠진다() {
+        // given : 이 노드는 삭제 이벤트를 받지 못했다
+        rows(row(1L), row(2L), row(3L));
+        similarProjectIndex.refresh();
+
+        // when
+        rows(row(1L), row(3L));
+        similarProjectIndex.refresh();
+
+        // then
+        assertEquals(List.of(3L), ids(similarProjectIndex.findSimilar(1L, 10)));
+    }
+
+    @Test
+    void 재적재_중_삭제된_프로젝트는_페이지에_남아_있어도_다시_넣지_않는다() {
+        // given : 페이지를 읽은 직후 삭제가 커밋됐다
+        when(projectRepository.findTagRowsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            similarProjectIndex.onProjectChanged(ProjectChangedEvent.removed(2L));
+            return List.of(row(1L), row(2L), row(3L));
+        });
+
+        // when
+        similarProjectIndex.refresh();
+
+        // then
+        assertEquals(List.of(3L), ids(similarProjectIndex.findSimilar(1L, 10)));
+    }
+
+    private void rows(ProjectTagRow... rows) {
+        when(projectRepository.findTagRowsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(rows));
+    }
+
+    private static List<Long> ids(List<SimilarProjectDto> cards) {
+        return cards.stream().map(SimilarProjectDto::getId).sorted().toList();
+    }
+
+    private static ProjectTagRow row(Long id) {
+        return new TagRow(id, "프로젝트 " + id, null, "캠핑/텐트", "캠핑,초경량,텐트");
+    }
+
+    private record TagRow(Long id, String title, String thumbnailUrl, String categoryPath, String tags)
+            implements ProjectTagRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getThumbnailUrl() {
+            return thumbnailUrl;
+        }
+
+        @Override
+        public String getCategoryPath() {
+            return categoryPath;
+        }
+
+        @Override
+        public String getTags() {
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ddip.backend.service.sms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SmsOutboxDispatcherTest {
+
+    private final SmsOutboxStore store = mock(SmsOutboxStore.class);
+    private SmsOutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void 개별_실패만_재시도_대상으로_넘긴다() {
+        // given
+        FakeSmsProvider provider = new FakeSmsProvider();
+        provider.failOn("010-0000-0002");
+        dispatcher = newDispatcher(provider);
+        SmsOutboxStore.Claim claim = claim(new SmsMessage(1L, "010-0000-0001", "a"), new SmsMessage(2L, "010-0000-0002", "b"));
+
+        // when
+        dispatcher.deliver(provider, claim);
+
+        // then
+        assertEquals(1, provider.getSent().size());
+        verify(store).complete(eq(claim), eq(Map.of(2L, "fake failure")), eq(5), eq(5_000L), eq(600_000L));
+    }
+
+    @Test
+    void 묶음_요청이_실패하면_모든_건을_실패로_기록한다() {
+        // given
+        SmsProvider provider = mock(SmsProvider.class);
+        when(provider.name()).thenReturn("mock");
+        when(provider.send(any())).thenThrow(new IllegalStateException("timeout"));
+        dispatcher = newDispatcher(provider);
+        SmsOutboxStore.Claim claim = claim(new SmsMessage(1L, "010-0000-0001", "a"), new SmsMessage(2L, "010-0000-0002", "b"));
+
+        // when
+        dispatcher.deliver(provider, claim);
+
+        // then
+        verify(store).complete(eq(claim), eq(Map.of(1L, "timeout", 2L, "timeout")), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    void 프로바이더_동시_발송_수를_넘겨_잡지_않는다() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        SmsProvider provider = mock(SmsProvider.class);
+        when(provider.name()).thenReturn("mock");
+        when(provider.maxBatchSize()).thenReturn(100);
+        when(provider.maxConcurrency()).thenReturn(2);
+        when(provider.send(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of();
+        });
+        when(store.claim(anyString(), anyInt(), anyLong()))
+                .thenAnswer(invocation -> claim(new SmsMessage(1L, "010-0000-0001", "a")));
+        dispatcher = newDispatcher(provider);
+
+        // when
+        dispatcher.dispatch();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch();
+
+        // then
+        verify(store, times(2)).claim(eq("mock"), eq(100), eq(60L));
+        release.countDown();
+        verify(store, timeout(5_000).times(2)).complete(any(), any(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    void 잡을_행이_없으면_슬롯을_돌려준다() {
+        // given
+        FakeSmsProvider provider = new FakeSmsProvider();
+        when(store.claim(anyString(), anyInt(), anyLong())).thenReturn(new SmsOutboxStore.Claim("token", List.of()));
+        dispatcher = newDispatcher(provider);
+
+        // when
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        // then
+        verify(store, times(2)).claim(eq(FakeSmsProvider.NAME), eq(500), eq(60L));
+        verify(store, never()).complete(any(), any(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    void 백오프는_최대값을_넘지_않고_지수로_늘어난다() {
+        for (int attempts = 0; attempts < 40; attempts++) {
+            long delay = SmsOutboxStore.backoff(attempts, 5_000L, 600_000L);
+            long ceiling = Math.min(600_000L, attempts >= 30 ? 600_000L : 5_000L << attempts);
+
+            assertTrue(delay >= ceiling / 2 && delay <= ceiling, "attempts=" + attempts + ", delay=" + delay);
+        }
+    }
+
+    private SmsOutboxDispatcher newDispatcher(SmsProvider provider) {
+        SmsOutboxDispatcher dispatcher = new SmsOutboxDispatcher(store, List.of(provider));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 500);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 5);
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMs", 5_000L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMs", 600_000L);
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    private static SmsOutboxStore.Claim claim(SmsMessage... messages) {
+        return new SmsOutboxStore.Claim("token", List.of(messages));
+    }
+}
@@ -0,0 +1,45 @@
+package com.ddip.backend.service.user;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomBitsTest {
+
+    @Test
+    void 넣은_이메일은_항상_있을_수도_있다고_답한다() {
+        // given
+        BloomBits bits = BloomBits.create(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            bits.put("user" + i + "@ddip.com");
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bits.mightContain("user" + i + "@ddip.com"));
+        }
+        assertTrue(bits.mightContain("  USER1@DDIP.COM "), "대소문자/공백은 정규화된다");
+    }
+
+    @Test
+    void 오탐률은_설정값_근처에_머문다() {
+        // given
+        BloomBits bits = BloomBits.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bits.put("user" + i + "@ddip.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bits.mightContain("other" + i + "@ddip.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives < 2_000, "false positives = " + falsePositives);
+    }
+}
@@ -0,0 +1,83 @@
+package com.ddip.backend.service.user;
+
+import com.ddip.backend.dto.user.UserChangedEvent;
+import com.ddip.backend.entity.User;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheInvalidatorTest {
+
+    @Mock
+    private UserProfileReadModel profileReadModel;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private UserCacheInvalidator invalidator;
+    private MessageListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+        invalidator = new UserCacheInvalidator(profileReadModel, redisTemplate,
+                listenerContainer, entityManagerFactory);
+        invalidator.subscribe();
+
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(captor.capture(), any(Topic.class));
+        listener = captor.getValue();
+    }
+
+    @Test
+    void 로컬_변경은_2차_캐시와_공유_사본을_비우고_다른_노드에_알린다() {
+        // when
+        invalidator.onUserChanged(new UserChangedEvent(1L));
+
+        // then
+        verify(secondLevelCache).evict(User.class, 1L);
+        verify(profileReadModel).evictLocal(1L);
+        verify(profileReadModel).evictShared(1L);
+        verify(redisTemplate).convertAndSend("user:cache:invalidate", "1");
+    }
+
+    @Test
+    void 다른_노드의_변경_메시지도_2차_캐시의_회원_엔티티를_비운다() {
+        // given
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn("2".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        listener.onMessage(message, null);
+
+        // then
+        verify(secondLevelCache).evict(User.class, 2L);
+        verify(profileReadModel).evictLocal(2L);
+        verify(profileReadModel, never()).evictShared(any());
+    }
+}
@@ -0,0 +1,165 @@
+package com.ddip.backend.service.user;
+
+import com.ddip.backend.dto.user.UserProfileDto;
+import com.ddip.backend.entity.User;
+import com.ddip.backend.metrics.CacheMetrics;
+import com.ddip.backend.repository.UserRepository;
+import com.ddip.backend.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserProfileReadModelTest {
+
+    private final UserService userService = mock(UserService.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserProfileReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        readModel = new UserProfileReadModel(userService, redisTemplate, new ObjectMapper(), new CacheMetrics(meterRegistry));
+        ReflectionTestUtils.setField(readModel, "localTtlMs", 60_000L);
+        ReflectionTestUtils.setField(readModel, "localMaxSize", 100);
+        ReflectionTestUtils.setField(readModel, "redisTtlMs", 600_000L);
+    }
+
+    @Test
+    void 로컬_캐시에_있으면_DB_와_Redis_를_다시_읽지_않는다() {
+        // given
+        when(userService.loadProfile(1L)).thenReturn(profile("before"));
+
+        // when
+        CachedUserProfile first = readModel.get(1L);
+        CachedUserProfile second = readModel.get(1L);
+
+        // then
+        assertSame(first, second);
+        verify(userService, times(1)).loadProfile(1L);
+        verify(valueOperations, times(1)).get("user:profile:1");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("user:profile:1", "user:profile:ver:1")),
+                eq("0"), anyString(), eq("600000"));
+        assertEquals(1.0, cacheGets("user-profile-local", "hit"));
+        assertEquals(1.0, cacheGets("user-profile-local", "miss"));
+        assertEquals(1.0, cacheGets("user-profile-redis", "miss"));
+    }
+
+    @Test
+    void 무효화_후에는_새_ETag_로_다시_적재한다() {
+        // given
+        when(userService.loadProfile(1L)).thenReturn(profile("before"), profile("after"));
+        CachedUserProfile before = readModel.get(1L);
+
+        // when
+        readModel.evictLocal(1L);
+        CachedUserProfile after = readModel.get(1L);
+
+        // then
+        assertEquals("after", after.getProfile().getNickname());
+        assertNotEquals(before.getEtag(), after.getEtag());
+    }
+
+    @Test
+    void Redis_사본이_있으면_ETag_를_그대로_사용한다() throws Exception {
+        // given
+        CachedUserProfile stored = new CachedUserProfile("\"abc\"", profile("cached"));
+        when(valueOperations.get("user:profile:1")).thenReturn(new ObjectMapper().writeValueAsString(stored));
+
+        // when
+        CachedUserProfile loaded = readModel.get(1L);
+
+        // then
+        assertEquals("\"abc\"", loaded.getEtag());
+        assertTrue(loaded.getProfile().getIsActive());
+        verify(userService, never()).loadProfile(any());
+    }
+
+    @Test
+    void 프로필의_이름과_닉네임은_각자의_컬럼에서_온다() throws Exception {
+        // given
+        User user = User.builder().id(1L).email("user@ddip.com").username("홍길동").nickname("gildong").isActive(true).build();
+        UserRepository.ActivityCounts counts = mock(UserRepository.ActivityCounts.class);
+        when(userService.loadProfile(1L)).thenReturn(UserProfileDto.of(user, counts));
+
+        // when
+        CachedUserProfile loaded = readModel.get(1L);
+        String json = new ObjectMapper().writeValueAsString(loaded);
+        UserProfileDto restored = new ObjectMapper().readValue(json, CachedUserProfile.class).getProfile();
+
+        // then
+        assertEquals("홍길동", loaded.getProfile().getName());
+        assertEquals("gildong", loaded.getProfile().getNickname());
+        assertEquals("홍길동", restored.getName());
+    }
+
+    @Test
+    void Redis_쓰기는_DB_조회_전에_읽은_버전이_그대로일_때만_한다() {
+        // given : 다른 노드가 이미 세 번 무효화했다
+        when(valueOperations.get("user:profile:ver:1")).thenReturn("3");
+        when(userService.loadProfile(1L)).thenReturn(profile("before"));
+
+        // when
+        readModel.get(1L);
+
+        // then : 조회 이후 버전이 4 가 되면 스크립트가 SET 하지 않는다
+        InOrder inOrder = inOrder(valueOperations, userService, redisTemplate);
+        inOrder.verify(valueOperations).get("user:profile:ver:1");
+        inOrder.verify(userService).loadProfile(1L);
+        inOrder.verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("3"), anyString(), anyString());
+    }
+
+    @Test
+    void 버전을_읽지_못하면_Redis_에_쓰지_않는다() {
+        // given
+        when(valueOperations.get("user:profile:ver:1")).thenThrow(new RedisConnectionFailureException("down"));
+        when(userService.loadProfile(1L)).thenReturn(profile("before"));
+
+        // when
+        CachedUserProfile loaded = readModel.get(1L);
+
+        // then
+        assertEquals("before", loaded.getProfile().getNickname());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 공유_사본_무효화는_버전을_먼저_올리고_지운다() {
+        // when
+        readModel.evictShared(1L);
+
+        // then
+        InOrder inOrder = inOrder(valueOperations, redisTemplate);
+        inOrder.verify(valueOperations).increment("user:profile:ver:1");
+        inOrder.verify(redisTemplate).expire("user:profile:ver:1", Duration.ofDays(1));
+        inOrder.verify(redisTemplate).delete("user:profile:1");
+    }
+
+    private UserProfileDto profile(String nickname) {
+        return UserProfileDto.builder().id(1L).nickname(nickname).isActive(true).projectCount(2L).build();
+    }
+
+    private double cacheGets(String cache, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", result).counter().count();
+    }
+}
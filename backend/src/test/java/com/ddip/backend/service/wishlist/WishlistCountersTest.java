@@ -0,0 +1,105 @@
+package com.ddip.backend.service.wishlist;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.repository.WishlistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WishlistCountersTest {
+
+    @InjectMocks
+    private WishlistCounters wishlistCounters;
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    @Test
+    void 동시에_누적한_증감분은_한_번의_flush_로_합쳐서_반영된다() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int n = 0; n < 1_000; n++) {
+                    wishlistCounters.add(WishlistTargetType.PROJECT, 1L, 1L);
+                    wishlistCounters.add(WishlistTargetType.PROJECT, 2L, n % 2 == 0 ? 1L : -1L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // when
+        wishlistCounters.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(wishlistRepository).applyCounterDeltas(eq(WishlistTargetType.PROJECT), deltas.capture());
+        assertEquals(Map.of(1L, 8_000L), deltas.getValue(), "증감이 0 인 대상은 쓰지 않는다");
+    }
+
+    @Test
+    void 반영에_실패한_증감분은_다음_flush_에서_재시도한다() {
+        // given
+        wishlistCounters.add(WishlistTargetType.AUCTION, 7L, 3L);
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(wishlistRepository).applyCounterDeltas(any(), anyMap());
+
+        // when
+        wishlistCounters.flush();
+        wishlistCounters.flush();
+
+        // then
+        verify(wishlistRepository, times(2)).applyCounterDeltas(WishlistTargetType.AUCTION, Map.of(7L, 3L));
+    }
+
+    @Test
+    void 조회_값은_DB_값과_미반영분의_합이다() {
+        // given
+        WishlistRepository.CountRow row = mock(WishlistRepository.CountRow.class);
+        when(row.getTargetId()).thenReturn(1L);
+        when(row.getWishCount()).thenReturn(10L);
+        when(wishlistRepository.findCounts(WishlistTargetType.PROJECT, List.of(1L, 2L))).thenReturn(List.of(row));
+        wishlistCounters.add(WishlistTargetType.PROJECT, 1L, -1L);
+        wishlistCounters.add(WishlistTargetType.PROJECT, 2L, 1L);
+
+        // when
+        Map<Long, Long> counts = wishlistCounters.counts(WishlistTargetType.PROJECT, List.of(1L, 2L));
+
+        // then
+        assertEquals(9L, counts.get(1L));
+        assertEquals(1L, counts.get(2L));
+    }
+
+    @Test
+    void 삭제된_대상의_미반영분은_버리고_나머지만_반영한다() {
+        // given
+        wishlistCounters.add(WishlistTargetType.AUCTION, 7L, 3L);
+        wishlistCounters.add(WishlistTargetType.AUCTION, 8L, 1L);
+        wishlistCounters.add(WishlistTargetType.PROJECT, 7L, 2L);
+
+        // when
+        wishlistCounters.discard(WishlistTargetType.AUCTION, List.of(7L));
+        wishlistCounters.flush();
+
+        // then : 타입이 다른 같은 id 는 남는다
+        verify(wishlistRepository).applyCounterDeltas(WishlistTargetType.AUCTION, Map.of(8L, 1L));
+        verify(wishlistRepository).applyCounterDeltas(WishlistTargetType.PROJECT, Map.of(7L, 2L));
+    }
+}
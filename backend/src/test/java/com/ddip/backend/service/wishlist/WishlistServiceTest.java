@@ -0,0 +1,136 @@
+package com.ddip.backend.service.wishlist;
+
+import com.ddip.backend.dto.enums.WishlistTargetType;
+import com.ddip.backend.metrics.CacheMetrics;
+import com.ddip.backend.repository.AuctionRepository;
+import com.ddip.backend.repository.ProjectRepository;
+import com.ddip.backend.repository.WishlistRepository;
+import com.ddip.backend.repository.WishlistRepository.TargetRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WishlistServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private WishlistCounters wishlistCounters;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private CacheMetrics cacheMetrics;
+
+    private WishlistService wishlistService;
+    private MessageListener listener;
+
+    @BeforeEach
+    void setUp() {
+        wishlistService = new WishlistService(wishlistRepository, projectRepository, auctionRepository,
+                wishlistCounters, redisTemplate, listenerContainer, cacheMetrics);
+        ReflectionTestUtils.setField(wishlistService, "cacheTtlMs", 600_000L);
+        ReflectionTestUtils.setField(wishlistService, "cacheMaxUsers", 100);
+        wishlistService.subscribe();
+
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(captor.capture(), any(Topic.class));
+        listener = captor.getValue();
+    }
+
+    @Test
+    void 적재_중에_다른_노드의_변경이_오면_오래된_적재_결과를_캐시하지_않는다() {
+        // given : 첫 적재가 DB 를 읽은 직후 다른 노드의 찜 추가 무효화가 도착한다
+        when(wishlistRepository.findTargetsByUserId(USER_ID))
+                .thenAnswer(invocation -> {
+                    listener.onMessage(message("other-node:" + USER_ID), null);
+                    return List.of();
+                })
+                .thenReturn(List.of(new Target(WishlistTargetType.PROJECT, 10L)));
+
+        // when
+        long[] stale = wishlistService.getTargetIds(USER_ID, WishlistTargetType.PROJECT);
+        long[] fresh = wishlistService.getTargetIds(USER_ID, WishlistTargetType.PROJECT);
+
+        // then
+        assertEquals(0, stale.length);
+        assertArrayEquals(new long[]{10L}, fresh);
+        verify(wishlistRepository, times(2)).findTargetsByUserId(USER_ID);
+    }
+
+    @Test
+    void 변경이_없으면_적재_결과를_캐시해_다시_읽지_않는다() {
+        // given
+        when(wishlistRepository.findTargetsByUserId(USER_ID))
+                .thenReturn(List.of(new Target(WishlistTargetType.PROJECT, 10L)));
+
+        // when
+        wishlistService.getTargetIds(USER_ID, WishlistTargetType.PROJECT);
+        long[] cached = wishlistService.getTargetIds(USER_ID, WishlistTargetType.PROJECT);
+
+        // then
+        assertArrayEquals(new long[]{10L}, cached);
+        verify(wishlistRepository, times(1)).findTargetsByUserId(USER_ID);
+    }
+
+    @Test
+    void 캐시된_목록은_찜_추가와_삭제를_그_자리에서_반영한다() {
+        // given
+        when(wishlistRepository.findTargetsByUserId(USER_ID))
+                .thenReturn(List.of(new Target(WishlistTargetType.PROJECT, 10L)));
+        when(projectRepository.existsById(20L)).thenReturn(true);
+        when(wishlistRepository.insertIfAbsent(USER_ID, WishlistTargetType.PROJECT, 20L)).thenReturn(true);
+        when(wishlistRepository.deleteTarget(USER_ID, WishlistTargetType.PROJECT, 10L)).thenReturn(true);
+        when(wishlistCounters.counts(eq(WishlistTargetType.PROJECT), anyList())).thenReturn(Map.of());
+        wishlistService.getTargetIds(USER_ID, WishlistTargetType.PROJECT);
+
+        // when
+        wishlistService.add(USER_ID, WishlistTargetType.PROJECT, 20L);
+        wishlistService.remove(USER_ID, WishlistTargetType.PROJECT, 10L);
+
+        // then
+        assertArrayEquals(new long[]{20L}, wishlistService.getTargetIds(USER_ID, WishlistTargetType.PROJECT));
+        verify(wishlistRepository, times(1)).findTargetsByUserId(USER_ID);
+        verify(redisTemplate, times(2)).convertAndSend(eq("wishlist:invalidate"), anyString());
+    }
+
+    private static Message message(String body) {
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+
+    private record Target(WishlistTargetType getTargetType, Long getTargetId) implements TargetRow {
+    }
+}
@@ -0,0 +1,198 @@
+package com.ddip.backend.smoke;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * native 바이너리 스모크 테스트 (./gradlew nativeSmokeTest -Pnative)
+ * - smoke.command 로 받은 실행 파일을 띄우고, 리플렉션/리소스 힌트가 빠지기 쉬운 경로를 한 번씩 지나간다
+ *   (Jackson 바인딩, JPA 저장/조회, BCrypt, jjwt 발급/검증, Redis 읽기 모델, 예외 응답)
+ * - 같은 테스트를 -Dsmoke.command="java -jar build/libs/..." 로 JVM 빌드에도 돌릴 수 있다
+ * - MySQL/Redis 는 docker compose 로 떠 있어야 한다
+ */
+@Tag("native-smoke")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeSmokeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private static final String EMAIL = "smoke-" + UUID.randomUUID().toString().substring(0, 8) + "@ddip.com";
+    private static final String PASSWORD = "smoke-password-1!";
+
+    private static Process backend;
+    private static Path log;
+    private static String baseUrl;
+    private static String managementUrl;
+    private static String accessToken;
+
+    @BeforeAll
+    static void startBackend() throws Exception {
+        String command = System.getProperty("smoke.command");
+        assertNotNull(command, "smoke.command 시스템 프로퍼티가 필요하다");
+        int port = Integer.getInteger("smoke.port", 18100);
+        baseUrl = "http://localhost:" + port;
+        managementUrl = "http://localhost:" + (port + 1);
+
+        List<String> args = new ArrayList<>(Arrays.asList(command.trim().split("\\s+")));
+        args.add("--server.port=" + port);
+        args.add("--management.server.port=" + (port + 1));
+
+        log = Files.createTempFile("native-smoke", ".log");
+        backend = new ProcessBuilder(args)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            try {
+                if (get(managementUrl + "/actuator/health", null).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notYetListening) {
+                // 아직 포트가 열리지 않음
+            }
+            if (!backend.isAlive() || System.nanoTime() > deadline) {
+                fail("백엔드가 뜨지 않았다. exit=" + (backend.isAlive() ? "running" : backend.exitValue())
+                        + "\n" + Files.readString(log));
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    @AfterAll
+    static void stopBackend() throws Exception {
+        if (backend != null) {
+            backend.destroy();
+            if (!backend.waitFor(20, TimeUnit.SECONDS)) {
+                backend.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    @Order(1)
+    void 헬스체크가_UP() throws Exception {
+        // when
+        HttpResponse<String> response = get(managementUrl + "/actuator/health", null);
+
+        // then
+        assertEquals("UP", OBJECT_MAPPER.readTree(response.body()).path("status").asText());
+    }
+
+    @Test
+    @Order(2)
+    void 회원가입() throws Exception {
+        // given
+        Map<String, Object> request = Map.of(
+                "email", EMAIL,
+                "password", PASSWORD,
+                "username", "스모크",
+                "nickname", "smoke" + EMAIL.hashCode(),
+                "phoneNumber", "010-0000-0000",
+                "account", "110-000-000000",
+                "accountHolder", "스모크",
+                "bankType", "SHINHAN");
+
+        // when
+        HttpResponse<String> response = post(baseUrl + "/api/users/register", request);
+
+        // then
+        assertEquals(201, response.statusCode(), response.body());
+        assertEquals(EMAIL, OBJECT_MAPPER.readTree(response.body()).path("email").asText());
+    }
+
+    @Test
+    @Order(3)
+    void 로그인하면_JWT_를_발급한다() throws Exception {
+        // when
+        HttpResponse<String> response = post(baseUrl + "/api/users/login", Map.of("username", EMAIL, "password", PASSWORD));
+
+        // then
+        assertEquals(200, response.statusCode(), response.body());
+        accessToken = OBJECT_MAPPER.readTree(response.body()).path("access_token").asText();
+        assertFalse(accessToken.isBlank());
+    }
+
+    @Test
+    @Order(4)
+    void 토큰으로_내_정보를_읽고_같은_ETag_면_304() throws Exception {
+        // when
+        HttpResponse<String> first = get(baseUrl + "/api/users/me", accessToken);
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+        HttpResponse<String> second = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/me"))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("If-None-Match", etag)
+                .GET());
+
+        // then
+        assertEquals(200, first.statusCode(), first.body());
+        JsonNode profile = OBJECT_MAPPER.readTree(first.body());
+        assertEquals(EMAIL, profile.path("email").asText());
+        assertEquals(304, second.statusCode());
+    }
+
+    @Test
+    @Order(5)
+    void 없는_프로젝트는_서버_오류가_아니다() throws Exception {
+        // when
+        HttpResponse<String> response = get(baseUrl + "/api/crowd/" + Long.MAX_VALUE, accessToken);
+
+        // then
+        assertTrue(response.statusCode() >= 400 && response.statusCode() < 500, response.statusCode() + " " + response.body());
+    }
+
+    @Test
+    @Order(6)
+    void 토큰이_없으면_거부한다() throws Exception {
+        // when
+        HttpResponse<String> response = get(baseUrl + "/api/users/me", null);
+
+        // then
+        assertTrue(response.statusCode() == 401 || response.statusCode() == 403, String.valueOf(response.statusCode()));
+    }
+
+    private static HttpResponse<String> get(String url, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> post(String url, Object body) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body))));
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return HTTP.send(request.timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}